@@ -0,0 +1,55 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+# The actions of the rules of an address filter.
+public type AddressFilterAction "ALLOW"|"DENY";
+
+# Configurations for filtering the datagrams received by a `udp:Listener` by the address of
+# the sender. The datagrams which are not accepted are dropped as soon as they are read,
+# before they are dispatched to the service or queued for the datagram stream.
+# A sender address is matched against the most specific block that contains it, and a `deny`
+# block takes precedence over an `allow` block of the same prefix length. An address which is
+# in no block is accepted only if there are no `allow` blocks.
+#
+# + allow - The CIDR blocks (e.g., `10.0.0.0/8` or `2001:db8::/32`) or the single IP addresses
+#           allowed to send datagrams to the listener
+# + deny - The CIDR blocks or the single IP addresses denied
+public type AddressFilterConfiguration record {|
+    string[] allow = [];
+    string[] deny = [];
+|};
+
+# Represents the hits of a rule of the address filter of a `udp:Listener`.
+#
+# + cidr - The CIDR block or the IP address of the rule as given
+# + action - Whether the rule allows or denies the datagrams
+# + hits - The number of datagrams which matched the rule
+public type AddressFilterRuleStats record {|
+    string cidr;
+    AddressFilterAction action;
+    int hits;
+|};
+
+# Represents the statistics of the address filter of a `udp:Listener`, counted since the
+# rules were last set.
+#
+# + accepted - The number of datagrams accepted
+# + dropped - The number of datagrams dropped
+# + rules - The statistics of the `allow` rules followed by the `deny` rules, in the given order
+public type AddressFilterStats record {|
+    int accepted;
+    int dropped;
+    AddressFilterRuleStats[] rules;
+|};
@@ -0,0 +1,35 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Represents the address of a remote host which a payload is broadcast to.
+#
+# + remoteHost - The hostname or the IP address of the remote host
+# + remotePort - The port number of the remote host
+public type Address record {|
+    string remoteHost;
+    int remotePort;
+|};
+
+# Represents a remote host which a broadcast payload couldn't be sent to.
+#
+# + remoteHost - The hostname or the IP address of the remote host
+# + remotePort - The port number of the remote host
+# + message - The reason why the payload couldn't be sent
+public type BroadcastFailure record {|
+    string remoteHost;
+    int remotePort;
+    string message;
+|};
@@ -37,6 +37,50 @@ public client class Caller {
     return externSendBytes(self, data);
   }
 
+  # Sends the given segments to the same remote host as a single datagram, e.g., a header
+  # followed by a body, without concatenating them first. The read-only segments are sent
+  # without being copied into an intermediate buffer.
+  #
+  # + segments - The segments of the datagram in the order they are sent
+  # + return - () or else a `udp:Error` if the given segments can't be sent
+  remote isolated function sendSegments(byte[]... segments) returns Error? {
+    return externSendSegments(self, segments);
+  }
+
+  # Sends the same data to each of the given remote hosts, e.g., to fan a reply out to the
+  # subscribers of a topic. The data is copied once and shared by the datagrams of all the
+  # remote hosts. The datagrams are written right away, without waiting for the replies of
+  # the listener to be flushed.
+  #
+  # + data - The data to be sent to the remote hosts
+  # + targets - The addresses of the remote hosts
+  # + return - A `udp:BroadcastFailure` for each remote host which the data couldn't be sent to,
+  #            which is empty if the data is sent to all of them
+  remote isolated function broadcastTo(byte[] data, Address[] targets) returns BroadcastFailure[] {
+    return externCallerBroadcastTo(self, data, targets);
+  }
+
+  # Returns the session the listener keeps for the remote host, starting a new session if the
+  # remote host has none. The session is refreshed by each datagram received from the remote host.
+  #
+  # + return - The `udp:Session` of the remote host or else a `udp:Error` if the `sessions` are
+  #            not configured for the listener
+  public isolated function getSession() returns Session|Error {
+    return externGetSession(self);
+  }
+
+  # Sends the content of the given file to the same remote host as a sequence of datagrams.
+  # The file is memory mapped and each chunk is sent from the mapped region without being
+  # copied into a `byte[]`. The chunks follow the `pacing` of the listener, and the progress
+  # is reported by the `getFileTransfers` function of the listener.
+  #
+  # + path - The path of the file to be sent
+  # + chunkSize - The maximum number of bytes sent in a single datagram
+  # + return - () once all the chunks are sent or else a `udp:Error` if the file can't be sent
+  remote isolated function sendFile(string path, int chunkSize = 8192) returns Error? {
+    return externCallerSendFile(self, path, chunkSize);
+  }
+
   # Sends the response as datagram to a remote destination as
   # specified in datagram.
   # 
@@ -53,6 +97,27 @@ isolated function externSendBytes(Caller caller, byte[] data) returns Error? = @
     name: "sendBytes"
 } external;
 
+isolated function externSendSegments(Caller caller, byte[][] segments) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Caller",
+    name: "sendSegments"
+} external;
+
+isolated function externCallerBroadcastTo(Caller caller, byte[] data, Address[] targets)
+        returns BroadcastFailure[] = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Caller",
+    name: "broadcastTo"
+} external;
+
+isolated function externGetSession(Caller caller) returns Session|Error = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Caller",
+    name: "getSession"
+} external;
+
+isolated function externCallerSendFile(Caller caller, string path, int chunkSize) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Caller",
+    name: "sendFile"
+} external;
+
 isolated function externSendDatagram(Caller caller, Datagram datagram) returns Error? = @java:Method {
     'class: "io.ballerina.stdlib.udp.nativelistener.Caller",
     name: "sendDatagram"
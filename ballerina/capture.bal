@@ -0,0 +1,48 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+# The file formats of a capture. `BINARY` is the compact format of this module, which
+# the replay driver of the module reads. `PCAP` can also be opened with the packet analyzers.
+public type CaptureFormat "BINARY"|"PCAP";
+
+# Configurations for capturing the datagrams received by a `udp:Listener`, along with the
+# time they were received and the address of the sender, so that the traffic can be replayed.
+# The datagrams are written to memory mapped files, which are rotated once they are full.
+# The next file is prepared ahead, so the rotation does not block the listener.
+#
+# + path - The path the files are named after. A zero padded sequence number and the
+#          extension of the format (`.ucap` or `.pcap`) are appended to it for each file. The
+#          sequence continues from the files of a previous capture, which are not overwritten
+# + format - The file format of the capture
+# + maxFileSize - The size of a file in bytes, at which the capture moves on to a new file
+# + maxFiles - The number of files kept. The oldest file is deleted once a new file is started
+public type CaptureConfiguration record {|
+    string path;
+    CaptureFormat format = "BINARY";
+    int maxFileSize = 67108864;
+    int maxFiles = 8;
+|};
+
+# Represents the statistics of the capture of a `udp:Listener`.
+#
+# + captured - The number of datagrams written to the capture
+# + dropped - The number of datagrams which could not be written because the next file could not be
+#             opened, or was not ready yet
+# + files - The number of files started so far, including the removed ones
+public type CaptureStats record {|
+    int captured;
+    int dropped;
+    int files;
+|};
@@ -0,0 +1,54 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+# Configurations for compressing the payloads of the datagrams with the deflate format.
+# Every datagram, compressed or not, starts with a one byte header, so the compression
+# should be configured on both the peers. The datagrams received with a corrupt payload
+# are dropped.
+#
+# + threshold - The smallest payload in bytes which is compressed. A payload is sent as it
+#               is if it is smaller or if it does not get smaller when compressed
+# + level - The deflate level from `1` (fastest) to `9` (smallest), `0` for no compression,
+#           or `-1` for the default level
+# + dictionary - The preset dictionary of at most 32768 bytes, e.g., the field names and the
+#                common values of the payloads. The peers should use the same dictionary
+public type CompressionConfiguration record {|
+    int threshold = 256;
+    int level = -1;
+    byte[] dictionary = [];
+|};
+
+# Represents the statistics of the payload compression of a client or a `udp:Listener`.
+#
+# + compressed - The number of datagrams sent compressed
+# + uncompressed - The number of datagrams sent as they are
+# + originalBytes - The size of the compressed payloads before the compression
+# + compressedBytes - The size of the compressed payloads after the compression
+# + ratio - The `compressedBytes` divided by the `originalBytes`
+# + compressionTime - The time in seconds spent compressing the payloads
+# + decompressed - The number of datagrams received compressed and decompressed
+# + decompressionTime - The time in seconds spent decompressing the payloads
+# + failures - The number of datagrams received with an unknown header or a corrupt payload
+public type CompressionStats record {|
+    int compressed;
+    int uncompressed;
+    int originalBytes;
+    int compressedBytes;
+    float ratio;
+    float compressionTime;
+    int decompressed;
+    float decompressionTime;
+    int failures;
+|};
@@ -38,12 +38,31 @@ public isolated client class ConnectClient {
     # udp:Error? result = socketClient->writeBytes("msg".toBytes());
     # ```
     #
+    # If the `asyncSend` mode is configured, this returns as soon as the data is
+    # handed over to the socket and the failures are recorded in the `udp:SendStats`.
+    #
     # + data - The data need to be sent to the connected remote host
     # + return - `()` or else a `udp:Error` if the given data can't be sent
     isolated remote function writeBytes(byte[] data) returns Error? {
         return externConnectClientWrite(self, data);
     }
 
+    # Sends the given segments to the connected remote host as a single datagram, e.g., a
+    # header followed by a body, without concatenating them first.
+    # ```ballerina
+    # udp:Error? result = socketClient->writeSegments(header, body);
+    # ```
+    #
+    # The read-only segments are sent without being copied into an intermediate buffer.
+    # The datagram is fragmented like the data given to `writeBytes` if it is larger than
+    # the `fragmentSize`.
+    #
+    # + segments - The segments of the datagram in the order they are sent
+    # + return - `()` or else a `udp:Error` if the given segments can't be sent
+    isolated remote function writeSegments(byte[]... segments) returns Error? {
+        return externConnectClientWriteSegments(self, segments);
+    }
+
     # Reads data only from the connected remote host. 
     # ```ballerina
     # readonly & byte[]|udp:Error result = socketClient->readBytes();
@@ -55,6 +74,110 @@ public isolated client class ConnectClient {
         return externConnectClientRead(self);
     }
 
+    # Reads the data which is already available from the connected remote host, up to the given
+    # number of datagrams. If none is available, waits until at least one arrives or the timeout expires.
+    # ```ballerina
+    # (readonly & byte[][])|udp:Error result = socketClient->readBytesBatch(32);
+    # ```
+    #
+    # + maxCount - The maximum number of datagrams to be returned
+    # + timeout - The time to wait for the first datagram in seconds. If this is not set,
+    #             the `timeout` of the client configuration is used
+    # + return - The data of each datagram in the order they are received or else a `udp:Error`
+    #            if no data can be read from the remote host
+    isolated remote function readBytesBatch(int maxCount, decimal? timeout = ())
+            returns (readonly & byte[][])|Error {
+        return externConnectClientReadBatch(self, maxCount, timeout);
+    }
+
+    # Sends the content of the given file to the connected remote host as a sequence of datagrams.
+    # ```ballerina
+    # udp:Error? result = socketClient->sendFile("data.bin");
+    # ```
+    #
+    # The file is memory mapped and each chunk is sent from the mapped region without being copied
+    # into a `byte[]`. The chunks follow the `pacing` of the client, and at most `chunkSize` or the
+    # `fragmentSize` of the client bytes are sent in a datagram. The progress is reported by the
+    # `getFileTransfers` function while the file is being sent.
+    #
+    # + path - The path of the file to be sent
+    # + chunkSize - The maximum number of bytes sent in a single datagram
+    # + return - `()` once all the chunks are sent or else a `udp:Error` if the file can't be sent
+    isolated remote function sendFile(string path, int chunkSize = 8192) returns Error? {
+        return externConnectClientSendFile(self, path, chunkSize);
+    }
+
+    # Returns the progress of the files which are being sent by the client.
+    # ```ballerina
+    # udp:FileTransferProgress[] transfers = socketClient.getFileTransfers();
+    # ```
+    #
+    # + return - A `udp:FileTransferProgress` for each file which is being sent
+    public isolated function getFileTransfers() returns FileTransferProgress[] {
+        return externGetConnectClientFileTransfers(self);
+    }
+
+    # Returns the statistics of the pacing stage of the client.
+    # ```ballerina
+    # udp:PacingStats? stats = socketClient.getPacingStats();
+    # ```
+    #
+    # + return - The `udp:PacingStats` or else `()` if the pacing is not configured
+    public isolated function getPacingStats() returns PacingStats? {
+        return externGetConnectClientPacingStats(self);
+    }
+
+    # Waits until all the pending sends of the client are completed.
+    # ```ballerina
+    # udp:Error? result = socketClient->flush();
+    # ```
+    #
+    # + return - `()` or else a `udp:Error` if the wait is interrupted
+    isolated remote function flush() returns Error? {
+        return externConnectClientFlush(self);
+    }
+
+    # Waits until all the pending sends of the client are completed or the timeout expires.
+    # ```ballerina
+    # udp:Error? result = socketClient->drain(5);
+    # ```
+    #
+    # + timeout - The maximum time to wait in seconds
+    # + return - `()` or else a `udp:Error` if the sends are still pending once the timeout expires
+    isolated remote function drain(decimal timeout) returns Error? {
+        return externConnectClientDrain(self, timeout);
+    }
+
+    # Returns the statistics of the payload compression of the client.
+    # ```ballerina
+    # udp:CompressionStats? stats = socketClient.getCompressionStats();
+    # ```
+    #
+    # + return - The `udp:CompressionStats` or else `()` if the `compression` is not configured
+    public isolated function getCompressionStats() returns CompressionStats? {
+        return externGetConnectClientCompressionStats(self);
+    }
+
+    # Returns the statistics of the path MTU discovery of the client.
+    # ```ballerina
+    # udp:PathMtuStats? stats = socketClient.getPathMtuStats();
+    # ```
+    #
+    # + return - The `udp:PathMtuStats` or else `()` if the `pathMtu` is not configured
+    public isolated function getPathMtuStats() returns PathMtuStats? {
+        return externGetConnectClientPathMtuStats(self);
+    }
+
+    # Returns the statistics of the sends of the client.
+    # ```ballerina
+    # udp:SendStats stats = socketClient.getSendStats();
+    # ```
+    #
+    # + return - The `udp:SendStats` of the client
+    public isolated function getSendStats() returns SendStats {
+        return externGetConnectClientSendStats(self);
+    }
+
     # Free up the occupied socket.
     # ```ballerina
     # udp:Error? closeResult = socketClient->close();
@@ -72,9 +195,32 @@ public isolated client class ConnectClient {
 # + timeout - The socket reading timeout value to be used 
 #             in seconds. If this is not set,the default value
 #             of 300 seconds (5 minutes) will be used
+# + multicastTtl - The time-to-live of the outgoing multicast datagrams.
+#                  If this is not set, the OS default (usually 1) will be used
+# + multicastLoopback - Whether the outgoing multicast datagrams are looped back
+#                       to the local host
+# + multicastInterface - The name of the network interface used to send multicast datagrams
+# + pacing - Paces the outgoing datagrams using a token bucket. If this is not set,
+#            the datagrams are sent as soon as they are written
+# + asyncSend - Makes the sends return without waiting for the datagrams to be written.
+#               If this is not set, the sends wait until the datagrams are written
+# + fragmentSize - The largest number of bytes sent in a single datagram. Larger data is
+#                  split into several datagrams of at most this size
+# + pathMtu - Derives the fragment size for each destination from the MTU of the path to it.
+#             If this is not set, the `fragmentSize` is used for all the destinations
+# + compression - Compresses the payloads of the outgoing datagrams and decompresses the
+#                 incoming ones. The peers should configure the same compression
 public type ConnectClientConfiguration record {
    decimal timeout = 300;
    string localHost?;
+   int multicastTtl?;
+   boolean multicastLoopback?;
+   string multicastInterface?;
+   PacingConfiguration pacing?;
+   AsyncSendConfiguration asyncSend?;
+   int fragmentSize = 8192;
+   PathMtuConfiguration pathMtu?;
+   CompressionConfiguration compression?;
    // can have other socket options
 };
 
@@ -97,8 +243,70 @@ isolated function externConnectClientRead(ConnectClient connectClient) returns (
     'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
 } external;
 
+isolated function externConnectClientReadBatch(ConnectClient connectClient, int maxCount, decimal? timeout)
+        returns (readonly & byte[][])|Error =
+@java:Method {
+    name: "readBatch",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externConnectClientSendFile(ConnectClient connectClient, string path, int chunkSize)
+        returns Error? =
+@java:Method {
+    name: "sendFile",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externGetConnectClientFileTransfers(ConnectClient connectClient) returns FileTransferProgress[] =
+@java:Method {
+    name: "getFileTransfers",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
 isolated function externConnectClientWrite(ConnectClient connectClient, byte[] data) returns Error? =
 @java:Method {
     name: "write",
     'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
 } external;
+
+isolated function externConnectClientWriteSegments(ConnectClient connectClient, byte[][] segments) returns Error? =
+@java:Method {
+    name: "writeSegments",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externGetConnectClientPacingStats(ConnectClient connectClient) returns PacingStats? =
+@java:Method {
+    name: "getPacingStats",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externConnectClientFlush(ConnectClient connectClient) returns Error? =
+@java:Method {
+    name: "flush",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externConnectClientDrain(ConnectClient connectClient, decimal timeout) returns Error? =
+@java:Method {
+    name: "drain",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externGetConnectClientSendStats(ConnectClient connectClient) returns SendStats =
+@java:Method {
+    name: "getSendStats",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externGetConnectClientPathMtuStats(ConnectClient connectClient) returns PathMtuStats? =
+@java:Method {
+    name: "getPathMtuStats",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
+
+isolated function externGetConnectClientCompressionStats(ConnectClient connectClient) returns CompressionStats? =
+@java:Method {
+    name: "getCompressionStats",
+    'class: "io.ballerina.stdlib.udp.nativeclient.ConnectClient"
+} external;
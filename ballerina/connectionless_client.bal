@@ -37,6 +37,9 @@ public isolated client class Client {
     #            remotePort: 48826, data:"msg".toBytes()});
     # ```
     #
+    # If the `asyncSend` mode is configured, this returns as soon as the datagram is
+    # handed over to the socket and the failures are recorded in the `udp:SendStats`.
+    #
     # + datagram - Contains the data to be sent to the remote host
     #              and the address of the remote host
     # + return - `()` or else a `udp:Error` if the given data cannot be sent
@@ -55,6 +58,131 @@ public isolated client class Client {
         return externConnectionlessReceive(self);
     }
 
+    # Reads the datagrams which are already available from the remote hosts, up to the given count.
+    # If none is available, waits until at least one arrives or the timeout expires.
+    # ```ballerina
+    # (readonly & udp:Datagram[])|udp:Error result = socketClient->receiveDatagrams(32);
+    # ```
+    #
+    # + maxCount - The maximum number of datagrams to be returned
+    # + timeout - The time to wait for the first datagram in seconds. If this is not set,
+    #             the `timeout` of the client configuration is used
+    # + return - The `udp:Datagram`s in the order they are received or else a `udp:Error`
+    #            if no data can be read from the remote hosts
+    isolated remote function receiveDatagrams(int maxCount, decimal? timeout = ())
+            returns (readonly & Datagram[])|Error {
+        return externConnectionlessReceiveBatch(self, maxCount, timeout);
+    }
+
+    # Sends the same data to each of the given remote hosts.
+    # ```ballerina
+    # udp:BroadcastFailure[] failures = check socketClient->broadcastTo("msg".toBytes(),
+    #            [{remoteHost: "localhost", remotePort: 48826}, {remoteHost: "localhost", remotePort: 48827}]);
+    # ```
+    #
+    # The data is copied once and shared by the datagrams of all the remote hosts, which are
+    # written together and flushed once. A remote host which the data can't be sent to doesn't
+    # stop the data from being sent to the others.
+    #
+    # + data - The data to be sent to the remote hosts
+    # + targets - The addresses of the remote hosts
+    # + return - A `udp:BroadcastFailure` for each remote host which the data couldn't be sent to,
+    #            which is empty if the data is sent to all of them
+    isolated remote function broadcastTo(byte[] data, Address[] targets) returns BroadcastFailure[] {
+        return externConnectionlessBroadcastTo(self, data, targets);
+    }
+
+    # Sends the content of the given file to the specified remote host as a sequence of datagrams.
+    # ```ballerina
+    # udp:Error? result = socketClient->sendFile("data.bin", "localhost", 48826);
+    # ```
+    #
+    # The file is memory mapped and each chunk is sent from the mapped region without being copied
+    # into a `byte[]`. The chunks follow the `pacing` of the client, and at most `chunkSize` or the
+    # `fragmentSize` of the client bytes are sent in a datagram. The progress is reported by the
+    # `getFileTransfers` function while the file is being sent.
+    #
+    # + path - The path of the file to be sent
+    # + remoteHost - The hostname or the IP address of the remote host
+    # + remotePort - The port number of the remote host
+    # + chunkSize - The maximum number of bytes sent in a single datagram
+    # + return - `()` once all the chunks are sent or else a `udp:Error` if the file can't be sent
+    isolated remote function sendFile(string path, string remoteHost, int remotePort, int chunkSize = 8192)
+            returns Error? {
+        return externConnectionlessSendFile(self, path, remoteHost, remotePort, chunkSize);
+    }
+
+    # Returns the progress of the files which are being sent by the client.
+    # ```ballerina
+    # udp:FileTransferProgress[] transfers = socketClient.getFileTransfers();
+    # ```
+    #
+    # + return - A `udp:FileTransferProgress` for each file which is being sent
+    public isolated function getFileTransfers() returns FileTransferProgress[] {
+        return externGetClientFileTransfers(self);
+    }
+
+    # Returns the statistics of the pacing stage of the client.
+    # ```ballerina
+    # udp:PacingStats? stats = socketClient.getPacingStats();
+    # ```
+    #
+    # + return - The `udp:PacingStats` or else `()` if the pacing is not configured
+    public isolated function getPacingStats() returns PacingStats? {
+        return externGetClientPacingStats(self);
+    }
+
+    # Waits until all the pending sends of the client are completed.
+    # ```ballerina
+    # udp:Error? result = socketClient->flush();
+    # ```
+    #
+    # + return - `()` or else a `udp:Error` if the wait is interrupted
+    isolated remote function flush() returns Error? {
+        return externClientFlush(self);
+    }
+
+    # Waits until all the pending sends of the client are completed or the timeout expires.
+    # ```ballerina
+    # udp:Error? result = socketClient->drain(5);
+    # ```
+    #
+    # + timeout - The maximum time to wait in seconds
+    # + return - `()` or else a `udp:Error` if the sends are still pending once the timeout expires
+    isolated remote function drain(decimal timeout) returns Error? {
+        return externClientDrain(self, timeout);
+    }
+
+    # Returns the statistics of the payload compression of the client.
+    # ```ballerina
+    # udp:CompressionStats? stats = socketClient.getCompressionStats();
+    # ```
+    #
+    # + return - The `udp:CompressionStats` or else `()` if the `compression` is not configured
+    public isolated function getCompressionStats() returns CompressionStats? {
+        return externGetClientCompressionStats(self);
+    }
+
+    # Returns the statistics of the path MTU discovery of the client.
+    # ```ballerina
+    # udp:PathMtuStats? stats = socketClient.getPathMtuStats();
+    # ```
+    #
+    # + return - The `udp:PathMtuStats` or else `()` if the `pathMtu` is not configured
+    public isolated function getPathMtuStats() returns PathMtuStats? {
+        return externGetClientPathMtuStats(self);
+    }
+
+    # Returns the statistics of the sends of the client.
+    # ```ballerina
+    # udp:SendStats stats = socketClient.getSendStats();
+    # ```
+    #
+    # + return - The `udp:SendStats` of the client
+    public isolated function getSendStats() returns SendStats {
+        return externGetClientSendStats(self);
+    }
+
     # Free up the occupied socket.
     # ```ballerina
     # udp:Error? closeResult = socketClient->close();
@@ -86,9 +214,32 @@ public type Datagram record {|
 # + timeout - The socket-reading timeout value to be used 
 #             in seconds. If this is not set,the default value
 #             of 300 seconds (5 minutes) will be used
+# + multicastTtl - The time-to-live of the outgoing multicast datagrams.
+#                  If this is not set, the OS default (usually 1) will be used
+# + multicastLoopback - Whether the outgoing multicast datagrams are looped back
+#                       to the local host
+# + multicastInterface - The name of the network interface used to send multicast datagrams
+# + pacing - Paces the outgoing datagrams using a token bucket. If this is not set,
+#            the datagrams are sent as soon as they are written
+# + asyncSend - Makes the sends return without waiting for the datagrams to be written.
+#               If this is not set, the sends wait until the datagrams are written
+# + fragmentSize - The largest number of bytes sent in a single datagram. Larger data is
+#                  split into several datagrams of at most this size
+# + pathMtu - Derives the fragment size for each destination from the MTU of the path to it.
+#             If this is not set, the `fragmentSize` is used for all the destinations
+# + compression - Compresses the payloads of the outgoing datagrams and decompresses the
+#                 incoming ones. The peers should configure the same compression
 public type ClientConfiguration record {
    decimal timeout = 300;
    string localHost?;
+   int multicastTtl?;
+   boolean multicastLoopback?;
+   string multicastInterface?;
+   PacingConfiguration pacing?;
+   AsyncSendConfiguration asyncSend?;
+   int fragmentSize = 8192;
+   PathMtuConfiguration pathMtu?;
+   CompressionConfiguration compression?;
    // can have other socket options
 };
 
@@ -111,8 +262,71 @@ isolated function externConnectionlessReceive(Client udpClient) returns (readonl
     'class: "io.ballerina.stdlib.udp.nativeclient.Client"
 } external;
 
+isolated function externConnectionlessReceiveBatch(Client udpClient, int maxCount, decimal? timeout)
+        returns (readonly & Datagram[])|Error =
+@java:Method {
+    name: "receiveBatch",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externConnectionlessSendFile(Client udpClient, string path, string remoteHost, int remotePort,
+        int chunkSize) returns Error? =
+@java:Method {
+    name: "sendFile",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externConnectionlessBroadcastTo(Client udpClient, byte[] data, Address[] targets)
+        returns BroadcastFailure[] =
+@java:Method {
+    name: "broadcastTo",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externGetClientFileTransfers(Client udpClient) returns FileTransferProgress[] =
+@java:Method {
+    name: "getFileTransfers",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
 isolated function externConnectionlessSend(Client udpClient, Datagram datagram) returns Error? =
 @java:Method {
     name: "send",
     'class: "io.ballerina.stdlib.udp.nativeclient.Client"
 } external;
+
+isolated function externGetClientPacingStats(Client udpClient) returns PacingStats? =
+@java:Method {
+    name: "getPacingStats",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externClientFlush(Client udpClient) returns Error? =
+@java:Method {
+    name: "flush",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externClientDrain(Client udpClient, decimal timeout) returns Error? =
+@java:Method {
+    name: "drain",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externGetClientSendStats(Client udpClient) returns SendStats =
+@java:Method {
+    name: "getSendStats",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externGetClientPathMtuStats(Client udpClient) returns PathMtuStats? =
+@java:Method {
+    name: "getPathMtuStats",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
+
+isolated function externGetClientCompressionStats(Client udpClient) returns CompressionStats? =
+@java:Method {
+    name: "getCompressionStats",
+    'class: "io.ballerina.stdlib.udp.nativeclient.Client"
+} external;
@@ -0,0 +1,67 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# The stream implementation of the datagrams received by a `udp:Listener`.
+# The datagrams are taken from the native queue of the listener in batches,
+# so that a call to the native queue is not needed for each datagram.
+class DatagramStream {
+
+    private (readonly & Datagram)[] batch = [];
+    private int index = 0;
+    private final int batchSize;
+
+    isolated function init(int batchSize) {
+        self.batchSize = batchSize;
+    }
+
+    # Returns the next datagram received by the listener, waiting until one is received.
+    #
+    # + return - The next datagram, a `udp:Error` if the datagrams can't be read,
+    #            or else `()` once the stream or the listener is closed
+    public isolated function next() returns record {|readonly & Datagram value;|}|Error? {
+        if self.index >= self.batch.length() {
+            (readonly & Datagram[])|Error? batch = externNextDatagrams(self, self.batchSize);
+            if batch is Error? {
+                return batch;
+            }
+            self.batch = batch;
+            self.index = 0;
+        }
+        readonly & Datagram datagram = self.batch[self.index];
+        self.index += 1;
+        return {value: datagram};
+    }
+
+    # Closes the stream. The datagrams received by the listener afterwards are dropped.
+    #
+    # + return - `()` or else a `udp:Error` if the stream can't be closed
+    public isolated function close() returns Error? {
+        return externCloseDatagramStream(self);
+    }
+}
+
+isolated function externNextDatagrams(DatagramStream datagramStream, int maxCount)
+        returns (readonly & Datagram[])|Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.DatagramStream",
+    name: "next"
+} external;
+
+isolated function externCloseDatagramStream(DatagramStream datagramStream) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.DatagramStream",
+    name: "close"
+} external;
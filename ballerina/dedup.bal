@@ -0,0 +1,49 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+# Configurations for dropping the duplicate datagrams received by a `udp:Listener` before
+# they are dispatched, e.g., the retransmissions of a sender. A datagram is identified by its
+# sender and payload, or by its sender and an ID written at a fixed range of the payload. The IDs
+# are kept in a pair of Bloom filters which are rotated once per window, so a duplicate is
+# dropped if it arrives within one window of the first datagram, and may be dropped up to
+# two windows later.
+#
+# + window - The time in seconds within which a duplicate is dropped
+# + expectedDatagrams - The number of distinct datagrams expected in a window, which the
+#                       filters are sized for
+# + falsePositiveRate - The probability of dropping a datagram which is not a duplicate,
+#                       once the expected number of datagrams are received in a window
+# + idOffset - The offset of the ID in the payload
+# + idLength - The length of the ID in bytes. If `0`, the datagrams are identified by the
+#              sender and the whole payload. Otherwise by the sender and the ID, and the
+#              datagrams too short to hold the ID are dispatched without being checked
+public type DedupConfiguration record {|
+    decimal window = 5;
+    int expectedDatagrams = 100000;
+    float falsePositiveRate = 0.001;
+    int idOffset = 0;
+    int idLength = 0;
+|};
+
+# Represents the statistics of the duplicate suppression of a `udp:Listener`.
+#
+# + checked - The number of datagrams checked against the filters
+# + suppressed - The number of datagrams dropped as duplicates
+# + suppressionRate - The share of the checked datagrams dropped as duplicates
+public type DedupStats record {|
+    int checked;
+    int suppressed;
+    float suppressionRate;
+|};
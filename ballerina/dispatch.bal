@@ -0,0 +1,53 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Configurations for the adaptive dispatching of the datagrams to the service.
+# Calls to `isolated` remote functions which complete quickly on average are run
+# one after the other by a batched worker, instead of starting a new strand for
+# each datagram. Slower calls are run concurrently on a strand each.
+#
+# + inlineThreshold - The moving average handler time in seconds, up to which
+#                     the calls are run by the batched worker
+# + maxBatchSize - The maximum number of calls run by the batched worker before
+#                  it yields to the other strands
+public type DispatchConfiguration record {|
+    decimal inlineThreshold = 0.0002;
+    int maxBatchSize = 32;
+|};
+
+# Represents the statistics of the adaptive dispatching of a listener.
+#
+# + batchedDispatches - The number of calls run by the batched worker
+# + offloadedDispatches - The number of calls run on a strand of their own
+# + batches - The number of times the batched worker woke up to run the queued calls
+# + averageHandlerTime - The moving average time in seconds taken by the `onBytes`
+#                        or `onDatagram` remote function
+public type DispatchStats record {|
+    int batchedDispatches;
+    int offloadedDispatches;
+    int batches;
+    float averageHandlerTime;
+|};
+
+# Represents the statistics of the replies sent by a listener. The replies are queued
+# and written by the listener in batches, with a single flush per batch.
+#
+# + replies - The number of replies, including the fragments of the large replies
+# + flushes - The number of flushes used to send the replies
+public type ReplyStats record {|
+    int replies;
+    int flushes;
+|};
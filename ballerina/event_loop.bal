@@ -0,0 +1,51 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Represents the statistics of an event loop shared by the clients and listeners, as
+# measured by the watchdog probes.
+#
+# + name - The name of the event loop thread
+# + pendingTasks - The number of tasks waiting to run on the event loop at the last probe
+# + latency - The time in seconds the last probe waited to run, or the time the outstanding
+#             probe has been waiting if that is longer
+# + maxLatency - The longest time in seconds a probe waited to run
+# + stalls - The number of times a probe waited longer than the `eventLoopStallThreshold`
+public type EventLoopStats record {|
+    string name;
+    int pendingTasks;
+    float latency;
+    float maxLatency;
+    int stalls;
+|};
+
+# Returns the statistics of the event loops shared by the clients and listeners.
+# ```ballerina
+# udp:EventLoopStats[] stats = udp:getEventLoopStats();
+# ```
+#
+# + return - A `udp:EventLoopStats` for each event loop, or an empty array if the
+#            `eventLoopStallThreshold` is not configured
+public isolated function getEventLoopStats() returns EventLoopStats[] = @java:Method {
+    'class: "io.ballerina.stdlib.udp.EventLoops"
+} external;
+
+isolated function externStartEventLoopWatchdog(decimal stallThreshold, decimal probeInterval) returns Error? =
+@java:Method {
+    name: "startEventLoopWatchdog",
+    'class: "io.ballerina.stdlib.udp.EventLoops"
+} external;
@@ -0,0 +1,31 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+# Represents the progress of a file which is being sent using the `sendFile` function.
+#
+# + path - The path of the file
+# + remoteHost - The hostname or the IP address of the remote host the file is sent to
+# + remotePort - The port number of the remote host the file is sent to
+# + totalBytes - The size of the file in bytes
+# + sentBytes - The number of bytes sent so far
+# + sentChunks - The number of datagrams sent so far
+public type FileTransferProgress record {|
+    string path;
+    string remoteHost;
+    int remotePort;
+    int totalBytes;
+    int sentBytes;
+    int sentChunks;
+|};
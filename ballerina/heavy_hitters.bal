@@ -0,0 +1,60 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+# The metrics the peers of a `udp:Listener` are ranked by.
+public type HeavyHitterMetric "PACKETS"|"BYTES";
+
+# Configurations for tracking the peers which send most of the datagrams to a `udp:Listener`.
+# The datagrams and bytes of each sender IP address are counted in a count-min sketch, which
+# takes a fixed amount of memory however many peers there are, and the addresses with the
+# largest counts are kept in a top-K heap. The counts are estimates, which may be higher than
+# the actual counts but never lower.
+#
+# + topK - The number of peers tracked for each metric
+# + width - The number of counters in each row of the sketch. Rounded up to a power of two.
+#           A wider sketch overestimates less
+# + depth - The number of rows of the sketch. A deeper sketch overestimates less often
+# + decayInterval - The time in seconds between the decays of the counts, so that the peers
+#                   which stop sending fall out of the top. If `0`, the counts are never decayed
+# + decayFactor - The factor the counts are multiplied by at each decay
+public type HeavyHitterConfiguration record {|
+    int topK = 16;
+    int width = 4096;
+    int depth = 4;
+    decimal decayInterval = 60;
+    float decayFactor = 0.5;
+|};
+
+# Represents a peer of a `udp:Listener` along with its estimated counts.
+#
+# + remoteHost - The IP address of the peer
+# + packets - The estimated number of datagrams received from the peer
+# + bytes - The estimated number of bytes received from the peer
+public type HeavyHitter record {|
+    string remoteHost;
+    int packets;
+    int bytes;
+|};
+
+# Represents the heaviest peers of a `udp:Listener`.
+#
+# + totalPackets - The number of datagrams received from all the peers, decayed like the counts
+# + totalBytes - The number of bytes received from all the peers, decayed like the counts
+# + hitters - The heaviest peers, the largest first
+public type HeavyHitterStats record {|
+    int totalPackets;
+    int totalBytes;
+    HeavyHitter[] hitters;
+|};
@@ -16,8 +16,18 @@
 
 import ballerina/jballerina.java;
 
-function init() {
+# The time in seconds an event loop shared by the clients and listeners can be blocked before
+# the stall is logged along with the stack trace of the loop. If `0`, the event loops are not watched.
+configurable decimal eventLoopStallThreshold = 0;
+
+# The interval in seconds at which the event loops are probed when `eventLoopStallThreshold` is set.
+configurable decimal eventLoopProbeInterval = 0.1;
+
+function init() returns error? {
     setModule();
+    if eventLoopStallThreshold > 0d {
+        check externStartEventLoopWatchdog(eventLoopStallThreshold, eventLoopProbeInterval);
+    }
 }
 
 function setModule() = @java:Method {
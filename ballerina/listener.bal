@@ -80,6 +80,191 @@ public class Listener {
     public isolated function detach(Service s) returns error? {
         return externDetach(self);
     }
+
+    # Returns the datagrams received by the listener as a stream, instead of dispatching
+    # them to a service. The reads of the listener are paused while `queueSize` datagrams
+    # are waiting to be taken from the stream. The listener should be started without
+    # an attached service.
+    # ```ballerina
+    # stream<readonly & udp:Datagram, udp:Error?> datagrams = check udpListener.datagrams();
+    # ```
+    #
+    # + queueSize - The number of received datagrams held for the stream before the reads are paused
+    # + batchSize - The largest number of datagrams the stream takes from the listener at once
+    # + return - The stream of the datagrams or else a `udp:Error` if the stream can't be opened
+    public isolated function datagrams(int queueSize = 1024, int batchSize = 32)
+            returns stream<readonly & Datagram, Error?>|Error {
+        DatagramStream datagramStream = new (batchSize);
+        check externOpenDatagramStream(self, datagramStream, queueSize, batchSize);
+        stream<readonly & Datagram, Error?> datagrams = new (datagramStream);
+        return datagrams;
+    }
+
+    # Returns the statistics of the pacing stage used for the replies of the listener.
+    # ```ballerina
+    # udp:PacingStats? stats = udpListener.getPacingStats();
+    # ```
+    #
+    # + return - The `udp:PacingStats` or else `()` if the pacing is not configured
+    #            or the listener is not started
+    public isolated function getPacingStats() returns PacingStats? {
+        return externGetListenerPacingStats(self);
+    }
+
+    # Returns the number of replies sent by the services and the `udp:Caller` of the listener,
+    # and the number of flushes used to send them.
+    # ```ballerina
+    # udp:ReplyStats? stats = udpListener.getReplyStats();
+    # ```
+    #
+    # + return - The `udp:ReplyStats` or else `()` if the listener is not started
+    public isolated function getReplyStats() returns ReplyStats? {
+        return externGetReplyStats(self);
+    }
+
+    # Returns the statistics of the path MTU discovery of the listener.
+    # ```ballerina
+    # udp:PathMtuStats? stats = udpListener.getPathMtuStats();
+    # ```
+    #
+    # + return - The `udp:PathMtuStats` or else `()` if the `pathMtu` is not configured or the
+    #            listener is not started
+    public isolated function getPathMtuStats() returns PathMtuStats? {
+        return externGetListenerPathMtuStats(self);
+    }
+
+    # Returns the progress of the files which are being sent by the `udp:Caller`s of the listener.
+    # ```ballerina
+    # udp:FileTransferProgress[] transfers = udpListener.getFileTransfers();
+    # ```
+    #
+    # + return - A `udp:FileTransferProgress` for each file which is being sent
+    public isolated function getFileTransfers() returns FileTransferProgress[] {
+        return externGetListenerFileTransfers(self);
+    }
+
+    # Returns the statistics of the capture of the listener.
+    # ```ballerina
+    # udp:CaptureStats? stats = udpListener.getCaptureStats();
+    # ```
+    #
+    # + return - The `udp:CaptureStats` or else `()` if the `capture` is not configured or the
+    #            listener is not started
+    public isolated function getCaptureStats() returns CaptureStats? {
+        return externGetCaptureStats(self);
+    }
+
+    # Replaces the rules of the address filter of the listener. The datagrams already being
+    # read are matched against either the old or the new rules, and the hit counts start over.
+    # ```ballerina
+    # udp:Error? result = udpListener.setAddressFilter({deny: ["203.0.113.0/24"]});
+    # ```
+    #
+    # + addressFilter - The new rules, or `()` to accept the datagrams of all the senders
+    # + return - `()` or else a `udp:Error` if a rule is not valid or the listener is not started
+    public isolated function setAddressFilter(AddressFilterConfiguration? addressFilter) returns Error? {
+        return externSetAddressFilter(self, addressFilter);
+    }
+
+    # Returns the statistics of the address filter of the listener.
+    # ```ballerina
+    # udp:AddressFilterStats? stats = udpListener.getAddressFilterStats();
+    # ```
+    #
+    # + return - The `udp:AddressFilterStats` or else `()` if there is no address filter or the
+    #            listener is not started
+    public isolated function getAddressFilterStats() returns AddressFilterStats? {
+        return externGetAddressFilterStats(self);
+    }
+
+    # Returns the statistics of the payload compression of the listener.
+    # ```ballerina
+    # udp:CompressionStats? stats = udpListener.getCompressionStats();
+    # ```
+    #
+    # + return - The `udp:CompressionStats` or else `()` if the `compression` is not configured
+    #            or the listener is not started
+    public isolated function getCompressionStats() returns CompressionStats? {
+        return externGetListenerCompressionStats(self);
+    }
+
+    # Returns the statistics of the duplicate suppression of the listener.
+    # ```ballerina
+    # udp:DedupStats? stats = udpListener.getDedupStats();
+    # ```
+    #
+    # + return - The `udp:DedupStats` or else `()` if the `dedup` is not configured or the
+    #            listener is not started
+    public isolated function getDedupStats() returns DedupStats? {
+        return externGetDedupStats(self);
+    }
+
+    # Returns the statistics of the sessions kept by the listener for its peers.
+    # ```ballerina
+    # udp:SessionStats? stats = udpListener.getSessionStats();
+    # ```
+    #
+    # + return - The `udp:SessionStats` or else `()` if the `sessions` are not configured or the
+    #            listener is not started
+    public isolated function getSessionStats() returns SessionStats? {
+        return externGetSessionStats(self);
+    }
+
+    # Returns the statistics of the relay of the listener and of each of its backends.
+    # ```ballerina
+    # udp:RelayStats? stats = udpListener.getRelayStats();
+    # ```
+    #
+    # + return - The `udp:RelayStats` or else `()` if the `relay` is not configured or the
+    #            listener is not started
+    public isolated function getRelayStats() returns RelayStats? {
+        return externGetRelayStats(self);
+    }
+
+    # Returns the peers which sent the most datagrams or bytes to the listener.
+    # ```ballerina
+    # udp:HeavyHitterStats? stats = udpListener.getHeavyHitters("BYTES");
+    # ```
+    #
+    # + metric - The metric the peers are ranked by
+    # + return - The `udp:HeavyHitterStats` or else `()` if the `heavyHitters` are not configured
+    #            or the listener is not started
+    public isolated function getHeavyHitters(HeavyHitterMetric metric = "PACKETS") returns HeavyHitterStats? {
+        return externGetHeavyHitters(self, metric);
+    }
+
+    # Returns the statistics of the adaptive dispatching of the listener.
+    # ```ballerina
+    # udp:DispatchStats? stats = udpListener.getDispatchStats();
+    # ```
+    #
+    # + return - The `udp:DispatchStats` or else `()` if the adaptive dispatching is not
+    #            configured or the listener is not started
+    public isolated function getDispatchStats() returns DispatchStats? {
+        return externGetDispatchStats(self);
+    }
+
+    # Joins the given multicast group on the configured `multicastInterface`.
+    # ```ballerina
+    # udp:Error? result = udpListener.joinGroup("230.0.0.1");
+    # ```
+    #
+    # + multicastAddress - The IP address of the multicast group
+    # + return - `()` or else a `udp:Error` if the group can't be joined
+    public isolated function joinGroup(string multicastAddress) returns Error? {
+        return externJoinGroup(self, multicastAddress);
+    }
+
+    # Leaves the given multicast group on the configured `multicastInterface`.
+    # ```ballerina
+    # udp:Error? result = udpListener.leaveGroup("230.0.0.1");
+    # ```
+    #
+    # + multicastAddress - The IP address of the multicast group
+    # + return - `()` or else a `udp:Error` if the group can't be left
+    public isolated function leaveGroup(string multicastAddress) returns Error? {
+        return externLeaveGroup(self, multicastAddress);
+    }
 }
 
 # Represents the UDP listener configuration.
@@ -88,10 +273,51 @@ public class Listener {
 # + remotePort - The remote host's port number. If this is not set, the server
 #                runs without connecting to a remote host
 # + localHost - The interface for the server to be bound
+# + multicastGroups - The multicast group addresses which the listener joins once it is started
+# + multicastInterface - The name of the network interface (e.g., `eth0` or `lo`) used to join
+#                        the multicast groups. Required when `multicastGroups` are given
+# + pacing - Paces the replies sent by the services and the `udp:Caller` using a token bucket
+# + dispatch - Enables the adaptive dispatching, which runs quick `isolated` remote functions
+#              in a batched worker instead of on a new strand per datagram
+# + replyFlushDelay - The time in seconds the replies are held before they are flushed together.
+#                     If `0`, the replies queued so far are flushed as soon as the listener gets to them
+# + fragmentSize - The largest number of bytes sent in a single datagram. Larger data is
+#                  split into several datagrams of at most this size
+# + pathMtu - Derives the fragment size for each destination from the MTU of the path to it.
+#             If this is not set, the `fragmentSize` is used for all the destinations
+# + capture - Writes the received datagrams to rotating capture files, so that the traffic
+#             can be replayed later
+# + tracing - Traces a sample of the received datagrams from the socket read to the reply flush.
+#             Has no effect unless the tracing is enabled for the Ballerina observability
+# + heavyHitters - Tracks the peers which send the most datagrams or bytes to the listener
+# + addressFilter - Drops the datagrams of the senders outside the allowed CIDR blocks or inside
+#                   the denied ones before they are dispatched
+# + dedup - Drops the datagrams received again within a time window before they are dispatched
+# + compression - Compresses the payloads of the outgoing datagrams and decompresses the
+#                 incoming ones. The peers should configure the same compression
+# + sessions - Keeps a session for each peer which asks for one through the `udp:Caller`,
+#              and evicts the sessions of the idle peers
+# + relay - Relays the received datagrams to a pool of backends instead of dispatching them to
+#           a service. A service can't be attached to a relaying listener
 public type ListenerConfiguration record {
     string remoteHost?;
     int remotePort?;
     string localHost?;
+    string[] multicastGroups?;
+    string multicastInterface?;
+    PacingConfiguration pacing?;
+    DispatchConfiguration dispatch?;
+    decimal replyFlushDelay = 0;
+    int fragmentSize = 8192;
+    PathMtuConfiguration pathMtu?;
+    CaptureConfiguration capture?;
+    TracingConfiguration tracing?;
+    HeavyHitterConfiguration heavyHitters?;
+    AddressFilterConfiguration addressFilter?;
+    DedupConfiguration dedup?;
+    CompressionConfiguration compression?;
+    SessionConfiguration sessions?;
+    RelayConfiguration relay?;
 };
 
 isolated function initListener(Listener listenerObj,int localPort, ListenerConfiguration config) returns Error? = @java:Method {
@@ -118,3 +344,87 @@ isolated function externDetach(Listener listenerObj) returns error? = @java:Meth
     'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
     name: "detach"
 } external;
+
+isolated function externJoinGroup(Listener listenerObj, string multicastAddress) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "joinGroup"
+} external;
+
+isolated function externLeaveGroup(Listener listenerObj, string multicastAddress) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "leaveGroup"
+} external;
+
+isolated function externGetListenerPacingStats(Listener listenerObj) returns PacingStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getPacingStats"
+} external;
+
+isolated function externGetDispatchStats(Listener listenerObj) returns DispatchStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getDispatchStats"
+} external;
+
+isolated function externOpenDatagramStream(Listener listenerObj, DatagramStream datagramStream, int queueSize,
+        int batchSize) returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "openDatagramStream"
+} external;
+
+isolated function externGetListenerPathMtuStats(Listener listenerObj) returns PathMtuStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getPathMtuStats"
+} external;
+
+isolated function externGetListenerFileTransfers(Listener listenerObj) returns FileTransferProgress[] =
+@java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getFileTransfers"
+} external;
+
+isolated function externGetCaptureStats(Listener listenerObj) returns CaptureStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getCaptureStats"
+} external;
+
+isolated function externSetAddressFilter(Listener listenerObj, AddressFilterConfiguration? addressFilter)
+        returns Error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "setAddressFilter"
+} external;
+
+isolated function externGetAddressFilterStats(Listener listenerObj) returns AddressFilterStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getAddressFilterStats"
+} external;
+
+isolated function externGetListenerCompressionStats(Listener listenerObj) returns CompressionStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getCompressionStats"
+} external;
+
+isolated function externGetDedupStats(Listener listenerObj) returns DedupStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getDedupStats"
+} external;
+
+isolated function externGetSessionStats(Listener listenerObj) returns SessionStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getSessionStats"
+} external;
+
+isolated function externGetRelayStats(Listener listenerObj) returns RelayStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getRelayStats"
+} external;
+
+isolated function externGetHeavyHitters(Listener listenerObj, HeavyHitterMetric metric)
+        returns HeavyHitterStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getHeavyHitters"
+} external;
+
+isolated function externGetReplyStats(Listener listenerObj) returns ReplyStats? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Listener",
+    name: "getReplyStats"
+} external;
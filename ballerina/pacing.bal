@@ -0,0 +1,45 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Configurations for pacing the outgoing datagrams with a token bucket.
+# Datagrams which exceed the available tokens are held and sent once
+# enough tokens are refilled, instead of being sent back-to-back.
+#
+# + rate - The sustained sending rate in bytes per second
+# + burst - The number of bytes that can be sent back-to-back before the
+#           datagrams are held
+# + perDestination - If `true`, a separate bucket is kept for each remote
+#                    address instead of a single bucket for the socket
+public type PacingConfiguration record {|
+    int rate;
+    int burst = 65536;
+    boolean perDestination = false;
+|};
+
+# Represents the statistics of the pacing stage of a socket.
+#
+# + pacedDatagrams - The number of datagrams which went through the pacing stage
+# + heldDatagrams - The number of datagrams which were held until tokens were available
+# + pendingDatagrams - The number of datagrams which are currently held
+# + totalHoldTime - The total time in seconds the held datagrams were delayed
+# + maxHoldTime - The longest time in seconds a single datagram was delayed
+public type PacingStats record {|
+    int pacedDatagrams;
+    int heldDatagrams;
+    int pendingDatagrams;
+    float totalHoldTime;
+    float maxHoldTime;
+|};
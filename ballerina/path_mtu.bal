@@ -0,0 +1,43 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Configurations for deriving the fragment size from the MTU of the path to each
+# destination, so that the datagrams are not fragmented again at the IP layer.
+# The MTU of the interface the destination is routed through is used, and the
+# `fragmentSize` remains the upper bound. When a datagram is rejected as too
+# long, the MTU of its destination is stepped down through the common MTUs
+# 1492, 1400, 1280 and 576.
+#
+# + fallbackMtu - The MTU used when the MTU of the path can't be found. If it is
+#                 below 576 for IPv4 or 1280 for IPv6, it is also the lowest MTU a
+#                 path is stepped down to
+# + probeInterval - The time in seconds a probed MTU is used before the path
+#                   is probed again, including an MTU which was stepped down
+public type PathMtuConfiguration record {|
+    int fallbackMtu = 1500;
+    decimal probeInterval = 600;
+|};
+
+# Represents the statistics of the path MTU discovery of a socket.
+#
+# + probes - The number of times the MTU of a path was probed
+# + fallbacks - The number of probes which used the `fallbackMtu`
+# + stepDowns - The number of times the MTU of a path was lowered because a datagram was rejected as too long
+public type PathMtuStats record {|
+    int probes;
+    int fallbacks;
+    int stepDowns;
+|};
@@ -0,0 +1,93 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# The ways a `udp:Listener` selects a backend for a sender which it relays no datagrams for yet.
+# `HASH` selects the backend by consistent hashing of the address and the port of the sender, so
+# that a sender reaches the same backend for as long as the backend is healthy, and only the
+# senders of a backend which goes down are moved to the others. `ROUND_ROBIN` selects the
+# healthy backends in turn.
+public type RelayStrategy "HASH"|"ROUND_ROBIN";
+
+# Configurations for relaying the datagrams received by a `udp:Listener` to a pool of backends,
+# without dispatching them to a service. Each sender is mapped to a backend and to a socket of
+# the listener connected to that backend, like the port mapping of a NAT, and the datagrams the
+# backend sends back to that socket are relayed to the sender. The datagrams are relayed from
+# the event loop of the listener, as they are received, without being copied.
+#
+# A backend is marked unhealthy once its socket reports `maxFailures` failures in a row, e.g.,
+# the ICMP port unreachable errors of a backend which is down, and its senders are mapped to the
+# other backends by their next datagram. A reply from the backend marks it healthy again.
+#
+# + backends - The addresses of the backends
+# + strategy - How a backend is selected for a new sender
+# + idleTimeout - The time in seconds after which the mapping of a sender is closed, once neither
+#                 the sender nor its backend sends anything
+# + maxMappings - The largest number of mappings kept open, each of which holds a local port.
+#                 The least recently used mapping is closed to make room for a new one
+# + maxFailures - The number of failures in a row after which a backend is marked unhealthy
+# + retryInterval - The time in seconds after which new senders are mapped to an unhealthy
+#                   backend again, to find out whether it has recovered
+public type RelayConfiguration record {|
+    Address[] backends;
+    RelayStrategy strategy = "HASH";
+    decimal idleTimeout = 60;
+    int maxMappings = 4096;
+    int maxFailures = 3;
+    decimal retryInterval = 10;
+|};
+
+# Represents the statistics of a backend of a relaying `udp:Listener`.
+#
+# + remoteHost - The hostname or the IP address of the backend
+# + remotePort - The port number of the backend
+# + healthy - Whether new senders are mapped to the backend
+# + activeMappings - The number of senders currently mapped to the backend
+# + forwardedDatagrams - The number of datagrams relayed to the backend
+# + forwardedBytes - The number of bytes relayed to the backend
+# + returnedDatagrams - The number of datagrams the backend sent back to the senders
+# + returnedBytes - The number of bytes the backend sent back to the senders
+# + failures - The number of failures reported for the backend
+public type RelayBackendStats record {|
+    string remoteHost;
+    int remotePort;
+    boolean healthy;
+    int activeMappings;
+    int forwardedDatagrams;
+    int forwardedBytes;
+    int returnedDatagrams;
+    int returnedBytes;
+    int failures;
+|};
+
+# Represents the statistics of a relaying `udp:Listener`.
+#
+# + activeMappings - The number of senders currently mapped to a backend
+# + createdMappings - The number of mappings opened
+# + expiredMappings - The number of mappings closed as their senders went idle
+# + evictedMappings - The number of mappings closed to make room for new mappings
+# + droppedDatagrams - The number of datagrams dropped as no backend was healthy, or as the
+#                      socket of the mapping was closed before they could be relayed
+# + failedReplies - The number of datagrams of the backends which couldn't be relayed to the senders
+# + backends - The statistics of each of the backends, in the configured order
+public type RelayStats record {|
+    int activeMappings;
+    int createdMappings;
+    int expiredMappings;
+    int evictedMappings;
+    int droppedDatagrams;
+    int failedReplies;
+    RelayBackendStats[] backends;
+|};
@@ -0,0 +1,39 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# Configurations for the fire-and-forget send mode of the clients.
+# The sends return as soon as the datagram is handed over to the socket and
+# the failures are recorded in the `udp:SendStats` of the client instead of
+# being returned. Use `flush()` or `drain()` to wait for the pending sends.
+#
+# + maxErrorLogSize - The number of the most recent send failures kept in
+#                     the `udp:SendStats`
+public type AsyncSendConfiguration record {|
+    int maxErrorLogSize = 16;
+|};
+
+# Represents the statistics of the sends of a client.
+#
+# + pendingSends - The number of sends which are not yet completed
+# + completedSends - The number of sends which were completed successfully
+# + failedSends - The number of sends which failed
+# + recentErrors - The messages of the most recent send failures, oldest first
+public type SendStats record {|
+    int pendingSends;
+    int completedSends;
+    int failedSends;
+    string[] recentErrors;
+|};
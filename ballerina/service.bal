@@ -20,5 +20,17 @@ public type Service distinct service object {
   // remote function onBytes(readonly & byte[] data, Caller caller) returns byte[]|Datagram|Error?;
   // remote function onDatagram(readonly & Datagram datagram, Caller caller) returns byte[]|Datagram|Error?;
   // remote function onError(Error err) returns Error?;
+  // remote function onSessionIdle(Session session) returns Error?;
 };
 
+# Describes the remote methods of a service. This is generated by the compiler plugin
+# and is not intended to be used directly.
+#
+# + value - The encoded signatures of the remote methods
+public type DispatchDescriptorConfig record {|
+    string value;
+|};
+
+# The annotation which is used by the compiler plugin to attach the dispatch descriptor
+# to a UDP service.
+public annotation DispatchDescriptorConfig DispatchDescriptor on service;
@@ -0,0 +1,137 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+
+# Configurations for the sessions a `udp:Listener` keeps for its peers. A session is started
+# by `udp:Caller.getSession`, and is refreshed by each datagram received from the peer. Once a
+# peer sends nothing for the `idleTimeout`, its session is evicted and passed to the
+# `onSessionIdle` remote function of the service, if it has one. The idle sessions are found on
+# a timer wheel, so a session may be evicted up to a sixteenth of the `idleTimeout` late.
+#
+# + idleTimeout - The time in seconds after which the session of a silent peer is evicted
+# + maxSessions - The largest number of sessions kept. Once it is reached, a least recently used
+#                 session is evicted to make room for a new one, without calling `onSessionIdle`.
+#                 A large table is split into stripes, and the session is evicted from the stripe
+#                 of the new one
+public type SessionConfiguration record {|
+    decimal idleTimeout = 60;
+    int maxSessions = 65536;
+|};
+
+# Represents the statistics of the sessions of a `udp:Listener`.
+#
+# + active - The number of sessions currently kept
+# + created - The number of sessions started
+# + expired - The number of sessions evicted as their peers went idle
+# + evicted - The number of sessions evicted to make room for new sessions
+public type SessionStats record {|
+    int active;
+    int created;
+    int expired;
+    int evicted;
+|};
+
+# Represents the session a `udp:Listener` keeps for a remote peer, between the datagrams of
+# the peer. The values of a session are shared by all the strands handling the datagrams of
+# the peer, so only read-only values are kept.
+#
+# + remoteHost - The hostname or the IP address of the remote host
+# + remotePort - The port number of the remote host
+public class Session {
+
+    public string remoteHost = "";
+    public int remotePort = 0;
+
+    isolated function init() {
+        // package level private init() to prevent object creation
+    }
+
+    # Returns the value kept for the given key.
+    #
+    # + key - The key of the value
+    # + return - The value or else `()` if no value is kept for the key
+    public isolated function get(string key) returns anydata & readonly {
+        return externSessionGet(self, key);
+    }
+
+    # Keeps the given value for the given key, replacing the current value if any.
+    # A `()` value removes the key.
+    #
+    # + key - The key of the value
+    # + value - The value to be kept
+    public isolated function put(string key, anydata & readonly value) {
+        externSessionPut(self, key, value);
+    }
+
+    # Removes the value kept for the given key.
+    #
+    # + key - The key of the value
+    # + return - The removed value or else `()` if no value was kept for the key
+    public isolated function remove(string key) returns anydata & readonly {
+        return externSessionRemove(self, key);
+    }
+
+    # Returns the keys of the values kept in the session.
+    #
+    # + return - The keys of the session
+    public isolated function keys() returns string[] {
+        return externSessionKeys(self);
+    }
+
+    # Checks whether the session is still kept by the listener.
+    #
+    # + return - `false` once the session is invalidated or evicted
+    public isolated function isActive() returns boolean {
+        return externSessionIsActive(self);
+    }
+
+    # Removes the session from the listener without calling `onSessionIdle`. The next
+    # `udp:Caller.getSession` for the peer starts a new session.
+    public isolated function invalidate() {
+        externSessionInvalidate(self);
+    }
+}
+
+isolated function externSessionGet(Session session, string key) returns anydata & readonly = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Session",
+    name: "get"
+} external;
+
+isolated function externSessionPut(Session session, string key, anydata & readonly value) = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Session",
+    name: "put"
+} external;
+
+isolated function externSessionRemove(Session session, string key) returns anydata & readonly = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Session",
+    name: "remove"
+} external;
+
+isolated function externSessionKeys(Session session) returns string[] = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Session",
+    name: "keys"
+} external;
+
+isolated function externSessionIsActive(Session session) returns boolean = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Session",
+    name: "isActive"
+} external;
+
+isolated function externSessionInvalidate(Session session) = @java:Method {
+    'class: "io.ballerina.stdlib.udp.nativelistener.Session",
+    name: "invalidate"
+} external;
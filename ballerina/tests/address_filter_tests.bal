@@ -0,0 +1,69 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+const int ADDRESS_FILTER_PORT = 9029;
+
+@test:Config {}
+function testAddressFilter() returns error? {
+    Listener udpListener = check new (ADDRESS_FILTER_PORT, addressFilter = {deny: ["127.0.0.0/8"]});
+    Service echoService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            check caller->sendBytes(data);
+        }
+    };
+    check udpListener.attach(echoService);
+    check udpListener.'start();
+
+    ConnectClient socketClient = check new ("127.0.0.1", ADDRESS_FILTER_PORT, timeout = 1);
+    string msg = "Hello address filter";
+    check socketClient->writeBytes(msg.toBytes());
+    byte[]|Error response = socketClient->readBytes();
+    test:assertTrue(response is Error, "The datagram of a denied sender should be dropped");
+
+    AddressFilterStats? stats = udpListener.getAddressFilterStats();
+    if stats is AddressFilterStats {
+        test:assertEquals(stats.accepted, 0);
+        test:assertEquals(stats.dropped, 1);
+        test:assertEquals(stats.rules, [{cidr: "127.0.0.0/8", action: "DENY", hits: 1}]);
+    } else {
+        test:assertFail("The address filter statistics should be reported when the rules are set");
+    }
+
+    // the more specific allow rule takes precedence over the deny rule
+    check udpListener.setAddressFilter({allow: ["127.0.0.1/32"], deny: ["127.0.0.0/8"]});
+    check socketClient->writeBytes(msg.toBytes());
+    readonly & byte[] echoed = check socketClient->readBytes();
+    test:assertEquals(string:fromBytes(echoed), msg, "Found unexpected output");
+
+    check udpListener.setAddressFilter(());
+    test:assertEquals(udpListener.getAddressFilterStats(), ());
+
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testInvalidAddressFilter() returns error? {
+    Listener udpListener = check new (ADDRESS_FILTER_PORT + 1, addressFilter = {allow: ["10.0.0.0/33"]});
+    error? result = udpListener.'start();
+    if result is error {
+        test:assertEquals(result.message(), "Invalid CIDR block in the address filter: 10.0.0.0/33");
+    } else {
+        test:assertFail("Provided invalid CIDR block this should return an Error");
+    }
+}
@@ -0,0 +1,71 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {}
+function testAsyncClientSend() returns error? {
+    Client socketClient = check new (asyncSend = {});
+    int count = 10;
+    foreach int i in 0 ..< count {
+        check socketClient->sendDatagram(prepareDatagram("Hello async send", "localhost", PORT1));
+    }
+    check socketClient->flush();
+
+    SendStats stats = socketClient.getSendStats();
+    test:assertEquals(stats.pendingSends, 0);
+    test:assertEquals(stats.completedSends, count);
+    test:assertEquals(stats.failedSends, 0);
+    test:assertEquals(stats.recentErrors.length(), 0);
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testAsyncConnectClientDrain() returns error? {
+    ConnectClient socketClient = check new ("localhost", PORT1, asyncSend = {maxErrorLogSize: 4});
+    int count = 10;
+    foreach int i in 0 ..< count {
+        check socketClient->writeBytes("Hello async write".toBytes());
+    }
+    check socketClient->drain(5);
+
+    SendStats stats = socketClient.getSendStats();
+    test:assertEquals(stats.pendingSends, 0);
+    test:assertEquals(stats.completedSends, count);
+    test:assertEquals(stats.failedSends, 0);
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testSendStatsOfBlockingSends() returns error? {
+    ConnectClient socketClient = check new ("localhost", PORT1);
+    check socketClient->writeBytes("Hello blocking write".toBytes());
+    // the sends are accounted for without the async mode as well
+    check socketClient->drain(0);
+    test:assertEquals(socketClient.getSendStats().completedSends, 1);
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testInvalidMaxErrorLogSize() {
+    Client|Error socketClient = new (asyncSend = {maxErrorLogSize: -1});
+    if socketClient is Error {
+        test:assertEquals(socketClient.message(),
+            "Error initializing UDP Client: Async send maxErrorLogSize should not be negative");
+    } else {
+        test:assertFail("Provided invalid value for maxErrorLogSize this should return an Error");
+    }
+}
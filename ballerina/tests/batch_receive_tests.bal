@@ -0,0 +1,109 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+@test:Config {}
+function testReceiveDatagrams() returns error? {
+    Client socketClient = check new (timeout = 3);
+    int count = 5;
+    foreach int i in 0 ..< count {
+        check socketClient->sendDatagram(prepareDatagram(i.toString(), remotePort = PORT2));
+    }
+
+    // the replies of the echo server may arrive over several read loops
+    string[] received = [];
+    while received.length() < count {
+        readonly & Datagram[] datagrams = check socketClient->receiveDatagrams(3);
+        test:assertTrue(datagrams.length() > 0 && datagrams.length() <= 3, "Found unexpected batch size");
+        foreach readonly & Datagram datagram in datagrams {
+            received.push(check string:fromBytes(datagram.data));
+        }
+    }
+    test:assertEquals(received.sort(), ["0", "1", "2", "3", "4"], "Found unexpected output");
+
+    // a single receive still works after a batch
+    check socketClient->sendDatagram(prepareDatagram("single", remotePort = PORT2));
+    readonly & Datagram response = check socketClient->receiveDatagram();
+    test:assertEquals(string:fromBytes(response.data), "single", "Found unexpected output");
+    check socketClient->close();
+}
+
+@test:Config {}
+function testReceiveDatagramAfterLargeBatch() returns error? {
+    Client socketClient = check new (timeout = 3);
+    check socketClient->sendDatagram(prepareDatagram("batch", remotePort = PORT2));
+    readonly & Datagram[] datagrams = check socketClient->receiveDatagrams(100);
+    test:assertEquals(datagrams.length(), 1, "Found unexpected batch size");
+
+    // the replies are all queued before the first single receive, which must read only one of them
+    string[] messages = ["first", "second", "third"];
+    foreach string msg in messages {
+        check socketClient->sendDatagram(prepareDatagram(msg, remotePort = PORT2));
+    }
+    runtime:sleep(0.5);
+    string[] received = [];
+    foreach int i in 0 ..< messages.length() {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        received.push(check string:fromBytes(response.data));
+    }
+    test:assertEquals(received.sort(), ["first", "second", "third"], "Found unexpected output");
+    check socketClient->close();
+}
+
+@test:Config {}
+function testReceiveDatagramsTimeout() returns error? {
+    Client socketClient = check new;
+    (readonly & Datagram[])|Error result = socketClient->receiveDatagrams(4, 0.5);
+    if result is Error {
+        test:assertEquals(result.message(), "Read timed out");
+    } else {
+        test:assertFail("Receiving without any datagram should time out");
+    }
+    check socketClient->close();
+}
+
+@test:Config {}
+function testReceiveDatagramsInvalidCount() returns error? {
+    Client socketClient = check new;
+    (readonly & Datagram[])|Error result = socketClient->receiveDatagrams(0);
+    if result is Error {
+        test:assertEquals(result.message(), "Maximum count should be a positive value, but found: 0");
+    } else {
+        test:assertFail("Provided invalid value for maxCount this should return an Error");
+    }
+    check socketClient->close();
+}
+
+@test:Config {}
+function testReadBytesBatch() returns error? {
+    ConnectClient socketClient = check new ("localhost", PORT2, timeout = 3);
+    int count = 4;
+    foreach int i in 0 ..< count {
+        check socketClient->writeBytes(i.toString().toBytes());
+    }
+
+    string[] received = [];
+    while received.length() < count {
+        readonly & byte[][] data = check socketClient->readBytesBatch(count);
+        foreach readonly & byte[] bytes in data {
+            received.push(check string:fromBytes(bytes));
+        }
+    }
+    test:assertEquals(received.sort(), ["0", "1", "2", "3"], "Found unexpected output");
+    check socketClient->close();
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+const int BROADCAST_PORT = 9037;
+
+@test:Config {}
+function testClientBroadcast() returns error? {
+    Listener firstListener = check new (BROADCAST_PORT);
+    Listener secondListener = check new (BROADCAST_PORT + 1);
+    Service ackService = service object {
+        remote function onDatagram(readonly & Datagram datagram, Caller caller) returns Error? {
+            check caller->sendBytes(("ack:" + string:fromBytes(datagram.data)).toBytes());
+        }
+    };
+    check firstListener.attach(ackService);
+    check firstListener.'start();
+    check secondListener.attach(ackService);
+    check secondListener.'start();
+
+    Client socketClient = check new (localHost = "127.0.0.1", timeout = 3);
+    BroadcastFailure[] failures = socketClient->broadcastTo("Hello broadcast".toBytes(), [
+        {remoteHost: "127.0.0.1", remotePort: BROADCAST_PORT},
+        {remoteHost: "127.0.0.1", remotePort: 70000},
+        {remoteHost: "127.0.0.1", remotePort: BROADCAST_PORT + 1}
+    ]);
+    test:assertEquals(failures, [{remoteHost: "127.0.0.1", remotePort: 70000, message: "Invalid port: 70000"}]);
+
+    int[] ackedPorts = [];
+    foreach int i in 1 ... 2 {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        test:assertEquals(string:fromBytes(response.data), "ack:Hello broadcast", "Found unexpected output");
+        ackedPorts.push(response.remotePort);
+    }
+    test:assertEquals(ackedPorts.sort(), [BROADCAST_PORT, BROADCAST_PORT + 1]);
+
+    check socketClient->close();
+    check firstListener.gracefulStop();
+    check secondListener.gracefulStop();
+}
+
+@test:Config {}
+function testCallerBroadcast() returns error? {
+    Listener udpListener = check new (BROADCAST_PORT + 2);
+    Service fanOutService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            // the sender is listed twice, so that it receives the data twice
+            Address sender = {remoteHost: <string>caller.remoteHost, remotePort: <int>caller.remotePort};
+            BroadcastFailure[] failures = caller->broadcastTo(data, [sender, sender]);
+            if failures.length() > 0 {
+                return error Error(failures[0].message);
+            }
+        }
+    };
+    check udpListener.attach(fanOutService);
+    check udpListener.'start();
+
+    ConnectClient socketClient = check new ("127.0.0.1", BROADCAST_PORT + 2, timeout = 3);
+    check socketClient->writeBytes("Hello fan-out".toBytes());
+    foreach int i in 1 ... 2 {
+        readonly & byte[] response = check socketClient->readBytes();
+        test:assertEquals(string:fromBytes(response), "Hello fan-out", "Found unexpected output");
+    }
+
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
@@ -0,0 +1,75 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/jballerina.java;
+import ballerina/test;
+
+const int CAPTURE_PORT = 9021;
+const string CAPTURE_PATH = "build/capture-tests/listener";
+
+@test:Config {}
+function testListenerCapture() returns error? {
+    Listener udpListener = check new (CAPTURE_PORT, capture = {path: CAPTURE_PATH, maxFileSize: 131072});
+    check udpListener.'start();
+    stream<readonly & Datagram, Error?> datagrams = check udpListener.datagrams();
+
+    Client socketClient = check new;
+    string[] messages = ["first", "second", "third"];
+    foreach string msg in messages {
+        check socketClient->sendDatagram(prepareDatagram(msg, "127.0.0.1", CAPTURE_PORT));
+    }
+    // the datagrams are captured before they reach the stream
+    foreach int i in 0 ..< messages.length() {
+        _ = check datagrams.next();
+    }
+    check datagrams.close();
+    check socketClient->close();
+    check udpListener.gracefulStop();
+
+    test:assertEquals(udpListener.getCaptureStats(), {captured: 3, dropped: 0, files: 1});
+
+    // once the listener is stopped, the file is truncated to the 8 byte header and a record per datagram,
+    // each with a 15 byte header and a 4 byte IPv4 sender address
+    byte[] content = check io:fileReadBytes(CAPTURE_PATH + ".000000.ucap");
+    int expectedSize = 8;
+    foreach string msg in messages {
+        expectedSize += 15 + 4 + msg.length();
+    }
+    test:assertEquals(content.length(), expectedSize, "Found unexpected capture size");
+    test:assertEquals(content.slice(0, 4), "UDPC".toBytes(), "Found unexpected capture magic");
+}
+
+@test:Config {}
+function testInvalidCaptureFileSize() returns error? {
+    Listener udpListener = check new (CAPTURE_PORT + 1, capture = {path: CAPTURE_PATH, maxFileSize: 1024});
+    error? result = udpListener.'start();
+    if result is error {
+        test:assertEquals(result.message(),
+            "Capture maxFileSize should be between 131072 and 2147483647, but found: 1024");
+    } else {
+        test:assertFail("Provided invalid value for maxFileSize this should return an Error");
+    }
+}
+
+@test:Config {}
+function testCaptureRestartKeepsFiles() returns error? {
+    check checkCaptureRestart();
+}
+
+function checkCaptureRestart() returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.testutils.CaptureRestartCheck"
+} external;
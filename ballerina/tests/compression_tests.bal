@@ -0,0 +1,74 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+const int COMPRESSION_PORT = 9033;
+
+@test:Config {}
+function testCompressedEcho() returns error? {
+    CompressionConfiguration compression = {threshold: 16, dictionary: "{\"sensor\":".toBytes()};
+    Listener udpListener = check new (COMPRESSION_PORT, compression = compression);
+    Service echoService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            check caller->sendBytes(data);
+        }
+    };
+    check udpListener.attach(echoService);
+    check udpListener.'start();
+
+    ConnectClient socketClient = check new ("127.0.0.1", COMPRESSION_PORT, timeout = 3, compression = compression);
+    string msg = "{\"sensor\":\"temperature\",\"value\":21.5,\"sensor\":\"temperature\",\"value\":21.5}";
+    check socketClient->writeBytes(msg.toBytes());
+    readonly & byte[] response = check socketClient->readBytes();
+    test:assertEquals(string:fromBytes(response), msg, "Found unexpected output");
+    // smaller than the threshold, so sent as it is
+    check socketClient->writeBytes("short".toBytes());
+    response = check socketClient->readBytes();
+    test:assertEquals(string:fromBytes(response), "short", "Found unexpected output");
+
+    CompressionStats? clientStats = socketClient.getCompressionStats();
+    if clientStats is CompressionStats {
+        test:assertEquals(clientStats.compressed, 1);
+        test:assertEquals(clientStats.uncompressed, 1);
+        test:assertEquals(clientStats.decompressed, 1);
+        test:assertEquals(clientStats.failures, 0);
+        test:assertTrue(clientStats.ratio < 1.0);
+    } else {
+        test:assertFail("Compression statistics should be reported when the compression is configured");
+    }
+    CompressionStats? listenerStats = udpListener.getCompressionStats();
+    if listenerStats is CompressionStats {
+        test:assertEquals(listenerStats.decompressed, 1);
+        test:assertEquals(listenerStats.compressed, 1);
+    } else {
+        test:assertFail("Compression statistics should be reported when the compression is configured");
+    }
+
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testInvalidCompressionLevel() returns error? {
+    Client|Error socketClient = new (compression = {level: 10});
+    if socketClient is Error {
+        test:assertEquals(socketClient.message(),
+            "Error initializing UDP Client: Compression level should be between -1 and 9, but found: 10");
+    } else {
+        test:assertFail("Provided invalid value for level this should return an Error");
+    }
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+const int DATAGRAM_STREAM_PORT = 9018;
+
+@test:Config {}
+function testListenerDatagramStream() returns error? {
+    Listener udpListener = check new (DATAGRAM_STREAM_PORT);
+    check udpListener.'start();
+    stream<readonly & Datagram, Error?> datagrams = check udpListener.datagrams(queueSize = 4, batchSize = 3);
+
+    Client socketClient = check new;
+    int count = 10;
+    foreach int i in 0 ..< count {
+        check socketClient->sendDatagram(prepareDatagram(i.toString(), "localhost", DATAGRAM_STREAM_PORT));
+    }
+
+    // the reads are paused after 4 datagrams and the rest wait in the socket buffer
+    foreach int i in 0 ..< count {
+        record {|readonly & Datagram value;|}? next = check datagrams.next();
+        if next is () {
+            test:assertFail("The datagram stream ended before all the datagrams were received");
+        } else {
+            test:assertEquals(string:fromBytes(next.value.data), i.toString(), "Found unexpected output");
+        }
+    }
+
+    check datagrams.close();
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testDatagramStreamWithAttachedService() returns error? {
+    Listener udpListener = check new (DATAGRAM_STREAM_PORT + 1);
+    Service dummyService = service object {
+        remote function onBytes(readonly & byte[] data) returns Error? {
+        }
+    };
+    check udpListener.attach(dummyService);
+    check udpListener.'start();
+    stream<readonly & Datagram, Error?>|Error datagrams = udpListener.datagrams();
+    if datagrams is Error {
+        test:assertEquals(datagrams.message(),
+            "A datagram stream can't be opened on a listener with an attached service");
+    } else {
+        test:assertFail("Opening a datagram stream on a listener with a service should return an Error");
+    }
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testDatagramStreamBeforeStart() returns error? {
+    Listener udpListener = check new (DATAGRAM_STREAM_PORT + 2);
+    stream<readonly & Datagram, Error?>|Error datagrams = udpListener.datagrams();
+    test:assertTrue(datagrams is Error, "Opening a datagram stream before starting should return an Error");
+}
@@ -0,0 +1,106 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+const int DEDUP_PORT = 9031;
+const int DEDUP_ID_PORT = 9054;
+
+@test:Config {}
+function testDedup() returns error? {
+    Listener udpListener = check new (DEDUP_PORT, dedup = {window: 10});
+    Service echoService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            check caller->sendBytes(data);
+        }
+    };
+    check udpListener.attach(echoService);
+    check udpListener.'start();
+
+    ConnectClient socketClient = check new ("127.0.0.1", DEDUP_PORT, timeout = 3);
+    string msg = "Hello dedup";
+    string otherMsg = "Hello again dedup";
+    check socketClient->writeBytes(msg.toBytes());
+    check socketClient->writeBytes(msg.toBytes());
+    check socketClient->writeBytes(otherMsg.toBytes());
+    // the duplicate is dropped, so the echo of the other message is the next one read
+    readonly & byte[] response = check socketClient->readBytes();
+    test:assertEquals(string:fromBytes(response), msg, "Found unexpected output");
+    response = check socketClient->readBytes();
+    test:assertEquals(string:fromBytes(response), otherMsg, "Found unexpected output");
+
+    DedupStats? stats = udpListener.getDedupStats();
+    if stats is DedupStats {
+        test:assertEquals(stats.checked, 3);
+        test:assertEquals(stats.suppressed, 1);
+    } else {
+        test:assertFail("Dedup statistics should be reported when the dedup is configured");
+    }
+
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testDedupById() returns error? {
+    Listener udpListener = check new (DEDUP_ID_PORT, dedup = {window: 10, idOffset: 0, idLength: 4});
+    Service echoService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            check caller->sendBytes(data);
+        }
+    };
+    check udpListener.attach(echoService);
+    check udpListener.'start();
+
+    ConnectClient firstClient = check new ("127.0.0.1", DEDUP_ID_PORT, timeout = 3);
+    ConnectClient secondClient = check new ("127.0.0.1", DEDUP_ID_PORT, timeout = 3);
+    // a retransmission carries the same ID, whatever the rest of the payload holds
+    check firstClient->writeBytes("0001 first".toBytes());
+    check firstClient->writeBytes("0001 retransmitted".toBytes());
+    check firstClient->writeBytes("0002 first".toBytes());
+    readonly & byte[] response = check firstClient->readBytes();
+    test:assertEquals(string:fromBytes(response), "0001 first", "Found unexpected output");
+    response = check firstClient->readBytes();
+    test:assertEquals(string:fromBytes(response), "0002 first", "Found unexpected output");
+
+    // the IDs are only unique per sender, so another sender reusing an ID is dispatched
+    check secondClient->writeBytes("0001 second".toBytes());
+    response = check secondClient->readBytes();
+    test:assertEquals(string:fromBytes(response), "0001 second", "Found unexpected output");
+
+    DedupStats? stats = udpListener.getDedupStats();
+    if stats is DedupStats {
+        test:assertEquals(stats.checked, 4);
+        test:assertEquals(stats.suppressed, 1);
+    } else {
+        test:assertFail("Dedup statistics should be reported when the dedup is configured");
+    }
+
+    check firstClient->close();
+    check secondClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testInvalidDedupWindow() returns error? {
+    Listener udpListener = check new (DEDUP_PORT + 1, dedup = {window: 0});
+    error? result = udpListener.'start();
+    if result is error {
+        test:assertEquals(result.message(), "Dedup window should be a positive value");
+    } else {
+        test:assertFail("Provided invalid value for window this should return an Error");
+    }
+}
@@ -0,0 +1,81 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+const int DISPATCH_PORT = 9012;
+
+@test:Config {}
+function testAdaptiveDispatch() returns error? {
+    Listener udpListener = check new (DISPATCH_PORT, dispatch = {});
+    Service echoService = isolated service object {
+        isolated remote function onBytes(readonly & byte[] data) returns byte[] {
+            return data;
+        }
+    };
+    check udpListener.attach(echoService);
+    check udpListener.'start();
+
+    Client socketClient = check new (timeout = 3);
+    string msg = "Hello adaptive dispatch";
+    foreach int i in 0 ..< 5 {
+        check socketClient->sendDatagram(prepareDatagram(msg, "localhost", DISPATCH_PORT));
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        test:assertEquals(string:fromBytes(response.data), msg, "Found unexpected output");
+    }
+
+    DispatchStats? stats = udpListener.getDispatchStats();
+    if stats is DispatchStats {
+        test:assertEquals(stats.batchedDispatches + stats.offloadedDispatches, 5);
+        // the first call has no recorded duration, so it is always run by the batched worker
+        test:assertTrue(stats.batchedDispatches > 0, "Quick isolated calls were not batched");
+        test:assertTrue(stats.batches > 0, "The batched worker did not run");
+    } else {
+        test:assertFail("Expected dispatch statistics for a listener with adaptive dispatching");
+    }
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testDispatchStatsWithoutAdaptiveDispatch() returns error? {
+    Listener udpListener = check new (DISPATCH_PORT + 1);
+    Service dummyService = service object {
+        remote function onBytes(readonly & byte[] data) {
+        }
+    };
+    check udpListener.attach(dummyService);
+    check udpListener.'start();
+    test:assertEquals(udpListener.getDispatchStats(), ());
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testInvalidMaxBatchSize() returns error? {
+    Listener udpListener = check new (DISPATCH_PORT + 2, dispatch = {maxBatchSize: 0});
+    Service dummyService = service object {
+        remote function onBytes(readonly & byte[] data) {
+        }
+    };
+    check udpListener.attach(dummyService);
+    error? result = udpListener.'start();
+    if result is error {
+        test:assertEquals(result.message(),
+            "Dispatch inlineThreshold should not be negative and maxBatchSize should be a positive value");
+    } else {
+        test:assertFail("Provided invalid value for maxBatchSize this should return an Error");
+    }
+}
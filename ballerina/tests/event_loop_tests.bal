@@ -0,0 +1,34 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/test;
+
+@test:Config {}
+function testEventLoopStatsWithoutWatchdog() {
+    // the watchdog is only started when the eventLoopStallThreshold is configured
+    test:assertEquals(getEventLoopStats().length(), 0, "Found event loop statistics without the watchdog");
+}
+
+@test:Config {}
+function testEventLoopStallReported() returns error? {
+    // blocks a loop of a separate group before its first probe runs, with a 100 ms stall threshold
+    check checkEventLoopStall();
+}
+
+function checkEventLoopStall() returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.testutils.EventLoopStallCheck"
+} external;
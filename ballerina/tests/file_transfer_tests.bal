@@ -0,0 +1,76 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/io;
+import ballerina/test;
+
+const int FILE_TRANSFER_PORT = 9023;
+const string FILE_TRANSFER_PATH = "build/file-transfer-content.txt";
+
+@test:Config {}
+function testSendFileInChunks() returns error? {
+    string content = "The quick brown fox jumps over the lazy dog";
+    check io:fileWriteBytes(FILE_TRANSFER_PATH, content.toBytes());
+
+    Listener udpListener = check new (FILE_TRANSFER_PORT);
+    check udpListener.'start();
+    stream<readonly & Datagram, Error?> datagrams = check udpListener.datagrams();
+
+    Client socketClient = check new;
+    check socketClient->sendFile(FILE_TRANSFER_PATH, "127.0.0.1", FILE_TRANSFER_PORT, chunkSize = 10);
+    test:assertEquals(socketClient.getFileTransfers().length(), 0, "Found an unfinished file transfer");
+
+    byte[] received = [];
+    foreach int i in 0 ..< 5 {
+        record {|readonly & Datagram value;|}? next = check datagrams.next();
+        if next is () {
+            test:assertFail("The stream ended before all the chunks were received");
+        }
+        test:assertTrue(next.value.data.length() <= 10, "Found a chunk larger than the chunk size");
+        received.push(...next.value.data);
+    }
+    test:assertEquals(string:fromBytes(received), content, "Found unexpected output");
+
+    check datagrams.close();
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testSendMissingFile() returns error? {
+    Client socketClient = check new;
+    Error? result = socketClient->sendFile("build/file-transfer-missing.txt", "127.0.0.1",
+        FILE_TRANSFER_PORT);
+    if result is Error {
+        test:assertEquals(result.message(),
+            "Failed to send the file: No such file: build/file-transfer-missing.txt");
+    } else {
+        test:assertFail("Sending a missing file should return an Error");
+    }
+    check socketClient->close();
+}
+
+@test:Config {}
+function testSendFileInvalidChunkSize() returns error? {
+    ConnectClient socketClient = check new ("localhost", FILE_TRANSFER_PORT);
+    Error? result = socketClient->sendFile(FILE_TRANSFER_PATH, chunkSize = 0);
+    if result is Error {
+        test:assertEquals(result.message(), "Chunk size should be between 1 and 65507, but found: 0");
+    } else {
+        test:assertFail("Provided invalid value for chunkSize this should return an Error");
+    }
+    check socketClient->close();
+}
@@ -0,0 +1,95 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/test;
+
+const int FRAGMENTATION_PORT = 9017;
+
+@test:Config {}
+function testConfiguredFragmentSize() returns error? {
+    Listener udpListener = check new (FRAGMENTATION_PORT);
+    Service echoService = service object {
+        remote function onBytes(readonly & byte[] data) returns byte[] {
+            return data;
+        }
+    };
+    check udpListener.attach(echoService);
+    check udpListener.'start();
+
+    Client socketClient = check new (timeout = 3, fragmentSize = 100);
+    byte[] data = [];
+    data[249] = 97;
+    check socketClient->sendDatagram({data, remoteHost: "localhost", remotePort: FRAGMENTATION_PORT});
+
+    int[] sizes = [];
+    foreach int i in 0 ..< 3 {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        sizes.push(response.data.length());
+    }
+    test:assertEquals(sizes, [100, 100, 50], "The data was not split into fragments of the configured size");
+
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testInvalidFragmentSize() {
+    Client|Error socketClient = new (fragmentSize = 0);
+    if socketClient is Error {
+        test:assertEquals(socketClient.message(),
+            "Error initializing UDP Client: Fragment size should be between 1 and 65507, but found: 0");
+    } else {
+        test:assertFail("Provided invalid value for fragmentSize this should return an Error");
+    }
+}
+
+@test:Config {}
+function testPathMtuProbedOncePerDestination() returns error? {
+    Client socketClient = check new (pathMtu = {});
+    check socketClient->sendDatagram(prepareDatagram("Hello path MTU", "localhost", PORT1));
+    check socketClient->sendDatagram(prepareDatagram("Hello path MTU", "localhost", PORT1));
+
+    PathMtuStats? stats = socketClient.getPathMtuStats();
+    if stats is PathMtuStats {
+        test:assertEquals(stats.probes, 1, "The probed MTU of the path was not cached");
+        test:assertEquals(stats.fallbacks, 0, "The MTU of the loopback interface was not found");
+        test:assertEquals(stats.stepDowns, 0);
+    } else {
+        test:assertFail("Expected path MTU statistics for a client with pathMtu");
+    }
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testInvalidFallbackMtu() {
+    ConnectClient|Error socketClient = new ("localhost", PORT1, pathMtu = {fallbackMtu: 20});
+    if socketClient is Error {
+        test:assertEquals(socketClient.message(),
+            "Can't connect to remote host: Fallback MTU should be between 68 and 65535, but found: 20");
+    } else {
+        test:assertFail("Provided invalid value for fallbackMtu this should return an Error");
+    }
+}
+
+@test:Config {}
+function testPathMtuStepDown() returns error? {
+    check checkPathMtuStepDown();
+}
+
+function checkPathMtuStepDown() returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.testutils.PathMtuCheck"
+} external;
@@ -0,0 +1,73 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+const int HEAVY_HITTER_PORT = 9026;
+
+@test:Config {}
+function testHeavyHitters() returns error? {
+    Listener udpListener = check new (HEAVY_HITTER_PORT, heavyHitters = {topK: 4, decayInterval: 0});
+    Service echoService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            check caller->sendBytes(data);
+        }
+    };
+    check udpListener.attach(echoService);
+    check udpListener.'start();
+
+    ConnectClient socketClient = check new ("127.0.0.1", HEAVY_HITTER_PORT, timeout = 3);
+    string msg = "Hello heavy hitter";
+    foreach int i in 0 ..< 3 {
+        check socketClient->writeBytes(msg.toBytes());
+        _ = check socketClient->readBytes();
+    }
+
+    HeavyHitterStats? stats = udpListener.getHeavyHitters("BYTES");
+    if stats is HeavyHitterStats {
+        test:assertEquals(stats.totalPackets, 3);
+        test:assertEquals(stats.totalBytes, 3 * msg.toBytes().length());
+        test:assertEquals(stats.hitters.length(), 1);
+        test:assertEquals(stats.hitters[0].remoteHost, "127.0.0.1");
+        test:assertEquals(stats.hitters[0].packets, 3);
+        test:assertEquals(stats.hitters[0].bytes, 3 * msg.toBytes().length());
+    } else {
+        test:assertFail("Heavy hitters should be tracked when they are configured");
+    }
+
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testHeavyHittersNotConfigured() returns error? {
+    Listener udpListener = check new (HEAVY_HITTER_PORT + 1);
+    check udpListener.'start();
+    test:assertEquals(udpListener.getHeavyHitters(), ());
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testInvalidHeavyHitterDecayFactor() returns error? {
+    Listener udpListener = check new (HEAVY_HITTER_PORT + 2, heavyHitters = {decayFactor: 1.0});
+    error? result = udpListener.'start();
+    if result is error {
+        test:assertEquals(result.message(),
+            "Heavy hitters decayFactor should be at least 0 and less than 1, but found: 1.0");
+    } else {
+        test:assertFail("Provided invalid value for decayFactor this should return an Error");
+    }
+}
@@ -0,0 +1,71 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+const int MULTICAST_PORT = 9010;
+const string MULTICAST_GROUP = "230.0.0.1";
+const string LOOPBACK_INTERFACE = "lo";
+
+@test:Config {}
+function testMulticastOverLoopback() returns error? {
+    Listener multicastListener = check new (MULTICAST_PORT, multicastGroups = [MULTICAST_GROUP],
+        multicastInterface = LOOPBACK_INTERFACE);
+    Service multicastEchoService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            check caller->sendBytes(data);
+        }
+    };
+    check multicastListener.attach(multicastEchoService);
+    check multicastListener.'start();
+
+    Client socketClient = check new (timeout = 3, multicastTtl = 1, multicastLoopback = true,
+        multicastInterface = LOOPBACK_INTERFACE);
+    string msg = "Hello multicast group";
+    check socketClient->sendDatagram(prepareDatagram(msg, MULTICAST_GROUP, MULTICAST_PORT));
+
+    readonly & Datagram response = check socketClient->receiveDatagram();
+    test:assertEquals(string:fromBytes(response.data), msg, "Found unexpected output");
+
+    check multicastListener.leaveGroup(MULTICAST_GROUP);
+    check socketClient->close();
+    check multicastListener.gracefulStop();
+}
+
+@test:Config {}
+function testJoinNonMulticastGroup() returns error? {
+    Listener udpListener = check new (9011, multicastInterface = LOOPBACK_INTERFACE);
+    Service dummyService = service object {
+        remote function onBytes(readonly & byte[] data) returns Error? {
+        }
+    };
+    check udpListener.attach(dummyService);
+    check udpListener.'start();
+    Error? result = udpListener.joinGroup("127.0.0.1");
+    test:assertTrue(result is Error, "Joining a unicast address should return an Error");
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testInvalidMulticastTtl() {
+    Client|Error socketClient = new (multicastTtl = 300);
+    if socketClient is Error {
+        test:assertEquals(socketClient.message(),
+            "Error initializing UDP Client: Multicast TTL should be between 0 and 255, but found: 300");
+    } else {
+        test:assertFail("Provided invalid value for multicastTtl this should return an Error");
+    }
+}
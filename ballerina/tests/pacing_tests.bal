@@ -0,0 +1,58 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+@test:Config {}
+function testPacedClientSend() returns error? {
+    Client socketClient = check new (pacing = {rate: 2000, burst: 200});
+    byte[] data = [];
+    data[199] = 97;
+
+    foreach int i in 0 ..< 3 {
+        check socketClient->sendDatagram({data, remoteHost: "localhost", remotePort: PORT1});
+    }
+
+    PacingStats? stats = socketClient.getPacingStats();
+    if stats is PacingStats {
+        test:assertEquals(stats.pacedDatagrams, 3);
+        test:assertEquals(stats.heldDatagrams, 2);
+        test:assertEquals(stats.pendingDatagrams, 0);
+        // the second and third datagrams wait for 200 bytes worth of tokens each, ~100ms at 2000 bytes/s
+        test:assertTrue(stats.maxHoldTime >= 0.09, "Datagrams were not held by the pacing stage");
+    } else {
+        test:assertFail("Expected pacing statistics for a paced client");
+    }
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testPacingStatsWithoutPacing() returns error? {
+    ConnectClient socketClient = check new ("localhost", PORT1);
+    test:assertEquals(socketClient.getPacingStats(), ());
+    return check socketClient->close();
+}
+
+@test:Config {}
+function testInvalidPacingRate() {
+    Client|Error socketClient = new (pacing = {rate: 0});
+    if socketClient is Error {
+        test:assertEquals(socketClient.message(),
+            "Error initializing UDP Client: Pacing rate and burst should be positive values");
+    } else {
+        test:assertFail("Provided invalid value for pacing rate this should return an Error");
+    }
+}
@@ -0,0 +1,229 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+const int RELAY_PORT = 9040;
+
+@test:Config {}
+function testRelay() returns error? {
+    Listener firstBackend = check new (RELAY_PORT + 1);
+    check firstBackend.attach(getBackendService("first"));
+    check firstBackend.'start();
+    Listener secondBackend = check new (RELAY_PORT + 2);
+    check secondBackend.attach(getBackendService("second"));
+    check secondBackend.'start();
+
+    Listener relay = check new (RELAY_PORT, relay = {
+        backends: [
+            {remoteHost: "127.0.0.1", remotePort: RELAY_PORT + 1},
+            {remoteHost: "127.0.0.1", remotePort: RELAY_PORT + 2}
+        ],
+        strategy: "ROUND_ROBIN"
+    });
+    check relay.'start();
+
+    // each sender is mapped to a backend and stays on it
+    ConnectClient firstClient = check new ("127.0.0.1", RELAY_PORT, timeout = 3);
+    ConnectClient secondClient = check new ("127.0.0.1", RELAY_PORT, timeout = 3);
+    string firstReply = check relayRoundTrip(firstClient, "Hello relay");
+    string secondReply = check relayRoundTrip(secondClient, "Hello relay");
+    test:assertNotEquals(firstReply, secondReply, "The senders should be mapped to different backends");
+    test:assertEquals(check relayRoundTrip(firstClient, "Hello relay"), firstReply, "Found unexpected output");
+    test:assertEquals(check relayRoundTrip(secondClient, "Hello relay"), secondReply, "Found unexpected output");
+
+    RelayStats? stats = relay.getRelayStats();
+    if stats is RelayStats {
+        test:assertEquals(stats.activeMappings, 2);
+        test:assertEquals(stats.createdMappings, 2);
+        test:assertEquals(stats.droppedDatagrams, 0);
+        foreach RelayBackendStats backend in stats.backends {
+            test:assertTrue(backend.healthy);
+            test:assertEquals(backend.activeMappings, 1);
+            test:assertEquals(backend.forwardedDatagrams, 2);
+            test:assertEquals(backend.returnedDatagrams, 2);
+        }
+    } else {
+        test:assertFail("Relay statistics should be reported when the relay is configured");
+    }
+
+    check firstClient->close();
+    check secondClient->close();
+    check relay.gracefulStop();
+    check firstBackend.gracefulStop();
+    check secondBackend.gracefulStop();
+}
+
+@test:Config {}
+function testRelayWithService() returns error? {
+    Listener relay = check new (RELAY_PORT + 3,
+        relay = {backends: [{remoteHost: "127.0.0.1", remotePort: RELAY_PORT + 1}]});
+    check relay.attach(getBackendService("relay"));
+    error? result = relay.'start();
+    if result is error {
+        test:assertEquals(result.message(), "A service can't be attached to a listener which relays the datagrams");
+    } else {
+        test:assertFail("Attached a service to a relaying listener this should return an Error");
+    }
+}
+
+@test:Config {}
+function testRelayHashStickiness() returns error? {
+    Listener[] backends = [];
+    foreach int i in 1 ... 3 {
+        Listener backend = check new (RELAY_PORT + 4 + i);
+        check backend.attach(getBackendService(i.toString()));
+        check backend.'start();
+        backends.push(backend);
+    }
+    Listener relay = check new (RELAY_PORT + 4, relay = {
+        backends: [
+            {remoteHost: "127.0.0.1", remotePort: RELAY_PORT + 5},
+            {remoteHost: "127.0.0.1", remotePort: RELAY_PORT + 6},
+            {remoteHost: "127.0.0.1", remotePort: RELAY_PORT + 7}
+        ],
+        strategy: "HASH",
+        idleTimeout: 1
+    });
+    check relay.'start();
+
+    ConnectClient[] clients = [];
+    string[] replies = [];
+    foreach int i in 0 ..< 4 {
+        ConnectClient socketClient = check new ("127.0.0.1", RELAY_PORT + 4, timeout = 3);
+        clients.push(socketClient);
+        replies.push(check relayRoundTrip(socketClient, "Hello relay"));
+    }
+    foreach int i in 0 ..< 4 {
+        test:assertEquals(check relayRoundTrip(clients[i], "Hello relay"), replies[i], "Found unexpected output");
+    }
+
+    // once the mappings expire, the senders are mapped to the same backends again
+    runtime:sleep(2);
+    foreach int i in 0 ..< 4 {
+        test:assertEquals(check relayRoundTrip(clients[i], "Hello relay"), replies[i], "Found unexpected output");
+    }
+    RelayStats? stats = relay.getRelayStats();
+    if stats is RelayStats {
+        test:assertEquals(stats.expiredMappings, 4);
+        test:assertEquals(stats.createdMappings, 8);
+        test:assertEquals(stats.activeMappings, 4);
+    } else {
+        test:assertFail("Relay statistics should be reported when the relay is configured");
+    }
+
+    foreach ConnectClient socketClient in clients {
+        check socketClient->close();
+    }
+    check relay.gracefulStop();
+    foreach Listener backend in backends {
+        check backend.gracefulStop();
+    }
+}
+
+@test:Config {}
+function testRelayFailover() returns error? {
+    // nothing listens on the first backend, so the datagrams relayed to it are answered with port unreachable
+    Listener liveBackend = check new (RELAY_PORT + 10);
+    check liveBackend.attach(getBackendService("live"));
+    check liveBackend.'start();
+    Listener relay = check new (RELAY_PORT + 8, relay = {
+        backends: [
+            {remoteHost: "127.0.0.1", remotePort: RELAY_PORT + 9},
+            {remoteHost: "127.0.0.1", remotePort: RELAY_PORT + 10}
+        ],
+        strategy: "ROUND_ROBIN",
+        maxFailures: 1,
+        retryInterval: 60
+    });
+    check relay.'start();
+
+    ConnectClient socketClient = check new ("127.0.0.1", RELAY_PORT + 8, timeout = 1);
+    string|error reply = relayRoundTrip(socketClient, "Hello relay");
+    test:assertTrue(reply is error, "The datagram relayed to the unreachable backend should not be answered");
+    test:assertEquals(check relayRoundTrip(socketClient, "Hello relay"), "live:Hello relay",
+        "The sender should be mapped to the healthy backend");
+
+    RelayStats? stats = relay.getRelayStats();
+    if stats is RelayStats {
+        test:assertEquals(stats.createdMappings, 2);
+        test:assertEquals(stats.activeMappings, 1);
+        test:assertFalse(stats.backends[0].healthy);
+        test:assertEquals(stats.backends[0].activeMappings, 0);
+        test:assertTrue(stats.backends[0].failures >= 1);
+        test:assertTrue(stats.backends[1].healthy);
+        test:assertEquals(stats.backends[1].activeMappings, 1);
+    } else {
+        test:assertFail("Relay statistics should be reported when the relay is configured");
+    }
+
+    check socketClient->close();
+    check relay.gracefulStop();
+    check liveBackend.gracefulStop();
+}
+
+@test:Config {}
+function testRelayMappingExpiry() returns error? {
+    Listener backend = check new (RELAY_PORT + 12);
+    check backend.attach(getBackendService("backend"));
+    check backend.'start();
+    Listener relay = check new (RELAY_PORT + 11, relay = {
+        backends: [{remoteHost: "127.0.0.1", remotePort: RELAY_PORT + 12}],
+        idleTimeout: 1
+    });
+    check relay.'start();
+
+    ConnectClient socketClient = check new ("127.0.0.1", RELAY_PORT + 11, timeout = 3);
+    test:assertEquals(check relayRoundTrip(socketClient, "Hello relay"), "backend:Hello relay");
+    runtime:sleep(2);
+    RelayStats? stats = relay.getRelayStats();
+    if stats is RelayStats {
+        test:assertEquals(stats.activeMappings, 0);
+        test:assertEquals(stats.expiredMappings, 1);
+        test:assertEquals(stats.backends[0].activeMappings, 0);
+    } else {
+        test:assertFail("Relay statistics should be reported when the relay is configured");
+    }
+
+    // the next datagram of the sender opens a new mapping
+    test:assertEquals(check relayRoundTrip(socketClient, "Hello again"), "backend:Hello again");
+    stats = relay.getRelayStats();
+    if stats is RelayStats {
+        test:assertEquals(stats.activeMappings, 1);
+        test:assertEquals(stats.createdMappings, 2);
+    } else {
+        test:assertFail("Relay statistics should be reported when the relay is configured");
+    }
+
+    check socketClient->close();
+    check relay.gracefulStop();
+    check backend.gracefulStop();
+}
+
+function getBackendService(string name) returns Service {
+    return service object {
+        remote function onBytes(readonly & byte[] data) returns byte[] {
+            return (name + ":" + checkpanic string:fromBytes(data)).toBytes();
+        }
+    };
+}
+
+function relayRoundTrip(ConnectClient socketClient, string message) returns string|error {
+    check socketClient->writeBytes(message.toBytes());
+    readonly & byte[] response = check socketClient->readBytes();
+    return string:fromBytes(response);
+}
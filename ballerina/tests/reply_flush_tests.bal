@@ -0,0 +1,68 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+const int REPLY_FLUSH_PORT = 9015;
+
+@test:Config {}
+function testConsolidatedReplyFlushes() returns error? {
+    Listener udpListener = check new (REPLY_FLUSH_PORT, replyFlushDelay = 0.01);
+    Service echoService = isolated service object {
+        isolated remote function onBytes(readonly & byte[] data) returns byte[] {
+            return data;
+        }
+    };
+    check udpListener.attach(echoService);
+    check udpListener.'start();
+
+    Client socketClient = check new (timeout = 3);
+    string msg = "Hello flush consolidation";
+    int count = 20;
+    foreach int i in 0 ..< count {
+        check socketClient->sendDatagram(prepareDatagram(msg, "localhost", REPLY_FLUSH_PORT));
+    }
+    foreach int i in 0 ..< count {
+        readonly & Datagram response = check socketClient->receiveDatagram();
+        test:assertEquals(string:fromBytes(response.data), msg, "Found unexpected output");
+    }
+
+    ReplyStats? stats = udpListener.getReplyStats();
+    if stats is ReplyStats {
+        test:assertEquals(stats.replies, count);
+        test:assertTrue(stats.flushes > 0 && stats.flushes <= count, "Unexpected number of flushes");
+    } else {
+        test:assertFail("Expected reply statistics for a started listener");
+    }
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testInvalidReplyFlushDelay() returns error? {
+    Listener udpListener = check new (REPLY_FLUSH_PORT + 1, replyFlushDelay = -1);
+    Service dummyService = service object {
+        remote function onBytes(readonly & byte[] data) {
+        }
+    };
+    check udpListener.attach(dummyService);
+    error? result = udpListener.'start();
+    if result is error {
+        test:assertEquals(result.message(), "Reply flush delay should not be negative");
+    } else {
+        test:assertFail("Provided invalid value for replyFlushDelay this should return an Error");
+    }
+}
@@ -0,0 +1,48 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/test;
+
+const int SEGMENT_SEND_PORT = 9036;
+
+@test:Config {}
+function testSegmentSend() returns error? {
+    Listener udpListener = check new (SEGMENT_SEND_PORT);
+    Service segmentEchoService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            // echoes the data back with a read-only header and a mutable body
+            byte[] & readonly header = "echo:".toBytes().cloneReadOnly();
+            check caller->sendSegments(header, data.clone());
+        }
+    };
+    check udpListener.attach(segmentEchoService);
+    check udpListener.'start();
+
+    ConnectClient socketClient = check new ("127.0.0.1", SEGMENT_SEND_PORT, timeout = 3);
+    byte[] & readonly header = "head:".toBytes().cloneReadOnly();
+    byte[] & readonly body = "Hello segments".toBytes().cloneReadOnly();
+    check socketClient->writeSegments(header, [], body);
+    readonly & byte[] response = check socketClient->readBytes();
+    test:assertEquals(string:fromBytes(response), "echo:head:Hello segments", "Found unexpected output");
+
+    byte[] mutableBody = "Hello mutable segments".toBytes();
+    check socketClient->writeSegments("head:".toBytes(), mutableBody);
+    response = check socketClient->readBytes();
+    test:assertEquals(string:fromBytes(response), "echo:head:Hello mutable segments", "Found unexpected output");
+
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
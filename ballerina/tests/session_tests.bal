@@ -0,0 +1,132 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/lang.runtime;
+import ballerina/test;
+
+const int SESSION_PORT = 9034;
+const int SESSION_LRU_PORT = 9053;
+
+string[] idlePeers = [];
+
+@test:Config {}
+function testSessions() returns error? {
+    Listener udpListener = check new (SESSION_PORT, sessions = {idleTimeout: 0.5});
+    Service countingService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            Session session = check caller.getSession();
+            int count = <int>(session.get("count") ?: 0) + 1;
+            session.put("count", count);
+            check caller->sendBytes(count.toString().toBytes());
+        }
+
+        remote function onSessionIdle(Session session) {
+            idlePeers.push(session.remoteHost + ":" + session.remotePort.toString() + "="
+                + session.get("count").toString());
+        }
+    };
+    check udpListener.attach(countingService);
+    check udpListener.'start();
+
+    ConnectClient socketClient = check new ("127.0.0.1", SESSION_PORT, timeout = 3);
+    foreach int i in 1 ... 3 {
+        check socketClient->writeBytes("Hello session".toBytes());
+        readonly & byte[] response = check socketClient->readBytes();
+        test:assertEquals(string:fromBytes(response), i.toString(), "Found unexpected output");
+    }
+
+    // the session is evicted within a sixteenth of the idle timeout once the peer goes silent
+    runtime:sleep(1.5);
+    test:assertEquals(idlePeers.length(), 1);
+    test:assertTrue(idlePeers[0].endsWith("=3"));
+
+    SessionStats? stats = udpListener.getSessionStats();
+    if stats is SessionStats {
+        test:assertEquals(stats.active, 0);
+        test:assertEquals(stats.created, 1);
+        test:assertEquals(stats.expired, 1);
+        test:assertEquals(stats.evicted, 0);
+    } else {
+        test:assertFail("Session statistics should be reported when the sessions are configured");
+    }
+
+    // a new session starts from scratch
+    check socketClient->writeBytes("Hello session".toBytes());
+    readonly & byte[] response = check socketClient->readBytes();
+    test:assertEquals(string:fromBytes(response), "1", "Found unexpected output");
+
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testSessionLruEviction() returns error? {
+    Listener udpListener = check new (SESSION_LRU_PORT, sessions = {maxSessions: 2});
+    Service countingService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            Session session = check caller.getSession();
+            int count = <int>(session.get("count") ?: 0) + 1;
+            session.put("count", count);
+            check caller->sendBytes(count.toString().toBytes());
+        }
+    };
+    check udpListener.attach(countingService);
+    check udpListener.'start();
+
+    ConnectClient first = check new ("127.0.0.1", SESSION_LRU_PORT, timeout = 3);
+    ConnectClient second = check new ("127.0.0.1", SESSION_LRU_PORT, timeout = 3);
+    ConnectClient third = check new ("127.0.0.1", SESSION_LRU_PORT, timeout = 3);
+    test:assertEquals(check sessionRoundTrip(first), "1");
+    test:assertEquals(check sessionRoundTrip(second), "1");
+    test:assertEquals(check sessionRoundTrip(first), "2");
+
+    // the session of the second peer is the least recently used one, so it makes room for the third
+    test:assertEquals(check sessionRoundTrip(third), "1");
+    test:assertEquals(check sessionRoundTrip(first), "3");
+    test:assertEquals(check sessionRoundTrip(second), "1", "The session of the second peer should be evicted");
+
+    SessionStats? stats = udpListener.getSessionStats();
+    if stats is SessionStats {
+        test:assertEquals(stats.active, 2);
+        test:assertEquals(stats.created, 4);
+        test:assertEquals(stats.evicted, 2);
+        test:assertEquals(stats.expired, 0);
+    } else {
+        test:assertFail("Session statistics should be reported when the sessions are configured");
+    }
+
+    check first->close();
+    check second->close();
+    check third->close();
+    check udpListener.gracefulStop();
+}
+
+function sessionRoundTrip(ConnectClient socketClient) returns string|error {
+    check socketClient->writeBytes("Hello session".toBytes());
+    readonly & byte[] response = check socketClient->readBytes();
+    return string:fromBytes(response);
+}
+
+@test:Config {}
+function testInvalidMaxSessions() returns error? {
+    Listener udpListener = check new (SESSION_PORT + 1, sessions = {maxSessions: 0});
+    error? result = udpListener.'start();
+    if result is error {
+        test:assertEquals(result.message(), "Session maxSessions should be between 1 and 16777216, but found: 0");
+    } else {
+        test:assertFail("Provided invalid value for maxSessions this should return an Error");
+    }
+}
@@ -0,0 +1,72 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/jballerina.java;
+import ballerina/test;
+
+const int TRACING_PORT = 9024;
+
+@test:Config {}
+function testTracedListenerEcho() returns error? {
+    Listener udpListener = check new (TRACING_PORT, tracing = {samplingRate: 1});
+    Service echoService = service object {
+        remote function onBytes(readonly & byte[] data, Caller caller) returns Error? {
+            check caller->sendBytes(data);
+        }
+    };
+    check udpListener.attach(echoService);
+    check udpListener.'start();
+
+    // the datagrams are dispatched as usual whether or not the tracing is enabled for the runtime
+    ConnectClient socketClient = check new ("localhost", TRACING_PORT, timeout = 3);
+    string msg = "Hello traced listener";
+    check socketClient->writeBytes(msg.toBytes());
+    readonly & byte[] response = check socketClient->readBytes();
+    test:assertEquals(string:fromBytes(response), msg, "Found unexpected output");
+
+    check socketClient->close();
+    check udpListener.gracefulStop();
+}
+
+@test:Config {}
+function testInvalidSamplingRate() returns error? {
+    Listener udpListener = check new (TRACING_PORT + 1, tracing = {samplingRate: 0});
+    error? result = udpListener.'start();
+    if result is error {
+        test:assertEquals(result.message(),
+            "Tracing samplingRate should be greater than 0 and at most 1, but found: 0.0");
+    } else {
+        test:assertFail("Provided invalid value for samplingRate this should return an Error");
+    }
+}
+
+@test:Config {}
+function testTracingSampling() returns error? {
+    check checkSampling();
+}
+
+@test:Config {}
+function testTraceHeldOpenByCallerReply() returns error? {
+    check checkReplyTrace();
+}
+
+function checkSampling() returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.testutils.TracingCheck"
+} external;
+
+function checkReplyTrace() returns error? = @java:Method {
+    'class: "io.ballerina.stdlib.udp.testutils.TracingCheck"
+} external;
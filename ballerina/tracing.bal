@@ -0,0 +1,24 @@
+// Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+# Configurations for tracing the datagrams received by a `udp:Listener` with the
+# Ballerina observability. Whether a datagram is traced is decided as soon as it is
+# read, so the datagrams which are not sampled are dispatched as usual.
+#
+# + samplingRate - The fraction of the received datagrams which are traced, greater
+#                  than `0` and at most `1`
+public type TracingConfiguration record {|
+    decimal samplingRate = 0.01;
+|};
@@ -19,6 +19,8 @@
 package io.ballerina.stdlib.udp.compiler;
 
 import io.ballerina.projects.DiagnosticResult;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.Module;
 import io.ballerina.projects.Package;
 import io.ballerina.projects.PackageCompilation;
 import io.ballerina.projects.ProjectEnvironmentBuilder;
@@ -26,11 +28,14 @@ import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.environment.Environment;
 import io.ballerina.projects.environment.EnvironmentBuilder;
 import io.ballerina.tools.diagnostics.Diagnostic;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * This class includes tests for Ballerina UDP compiler plugin.
@@ -41,14 +46,16 @@ public class CompilerPluginTest {
             .toAbsolutePath();
     private static final Path DISTRIBUTION_PATH = Paths.get("../", "target", "ballerina-runtime")
             .toAbsolutePath();
+    private static final List<String> CONCURRENCY_CODES = List.of(UdpServiceValidator.CODE_108,
+            UdpServiceValidator.CODE_109, UdpServiceValidator.CODE_110);
 
     @Test
     public void testServiceWithOnDatagramAndOnBytes() {
         Package currentPackage = loadPackage("sample_package_1");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 2);
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 2);
+        for (Diagnostic diagnostic : signatureDiagnostics(diagnosticResult)) {
             Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                     UdpServiceValidator.SERVICE_CANNOT_CONTAIN_BOTH_ON_DATAGRAM_0_AND_ON_BYTES_1_FUNCTIONS);
             Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_102);
@@ -60,8 +67,8 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_2");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 3);
-        Diagnostic diagnostic = (Diagnostic) diagnosticResult.diagnostics().toArray()[2];
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 3);
+        Diagnostic diagnostic = signatureDiagnostics(diagnosticResult).get(2);
         Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                 UdpServiceValidator.SERVICE_DOES_NOT_CONTAIN_ON_DATAGRAM_OR_ON_BYTES_FUNCTION);
         Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_102);
@@ -72,8 +79,8 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_3");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 3);
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 3);
+        for (Diagnostic diagnostic : signatureDiagnostics(diagnosticResult)) {
             Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                     UdpServiceValidator.REMOTE_KEYWORD_EXPECTED_IN_0_FUNCTION_SIGNATURE);
             Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_101);
@@ -85,8 +92,8 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_4");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 3);
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 3);
+        for (Diagnostic diagnostic : signatureDiagnostics(diagnosticResult)) {
             Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                     UdpServiceValidator.NO_PARAMETER_PROVIDED_FOR_0_FUNCTION_EXPECTS_1_AS_A_PARAMETER);
             Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_104);
@@ -98,8 +105,8 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_5");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 4);
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 4);
+        for (Diagnostic diagnostic : signatureDiagnostics(diagnosticResult)) {
             Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                     UdpServiceValidator.INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION);
             Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_104);
@@ -111,8 +118,8 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_6");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 1);
-        Diagnostic diagnostic = (Diagnostic) diagnosticResult.diagnostics().toArray()[0];
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 1);
+        Diagnostic diagnostic = signatureDiagnostics(diagnosticResult).get(0);
         Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                 UdpServiceValidator.INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION_EXPECTS_2);
         Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_104);
@@ -124,8 +131,8 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_7");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 2);
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 2);
+        for (Diagnostic diagnostic : signatureDiagnostics(diagnosticResult)) {
             Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                     UdpServiceValidator.INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION_EXPECTS_2);
             Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_104);
@@ -137,7 +144,7 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_8");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 0);
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 0);
     }
 
     @Test
@@ -145,8 +152,8 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_9");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 2);
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 2);
+        for (Diagnostic diagnostic : signatureDiagnostics(diagnosticResult)) {
             Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                     UdpServiceValidator.INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION_EXPECTS_2);
             Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_104);
@@ -158,7 +165,7 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_10");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 0);
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 0);
     }
 
     @Test
@@ -166,8 +173,8 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_11");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 3);
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 3);
+        for (Diagnostic diagnostic : signatureDiagnostics(diagnosticResult)) {
             Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                     UdpServiceValidator.INVALID_RETURN_TYPE_0_FUNCTION_1_RETURN_TYPE_SHOULD_BE_A_SUBTYPE_OF_2);
             Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_105);
@@ -179,7 +186,7 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_15");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 0);
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 0);
     }
 
     @Test
@@ -187,8 +194,8 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_12");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 2);
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 2);
+        for (Diagnostic diagnostic : signatureDiagnostics(diagnosticResult)) {
             Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                     UdpServiceValidator.FUNCTION_0_NOT_ACCEPTED_BY_THE_SERVICE);
             Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_103);
@@ -200,14 +207,107 @@ public class CompilerPluginTest {
         Package currentPackage = loadPackage("sample_package_13");
         PackageCompilation compilation = currentPackage.getCompilation();
         DiagnosticResult diagnosticResult = compilation.diagnosticResult();
-        Assert.assertEquals(diagnosticResult.diagnostics().size(), 3);
-        for (Diagnostic diagnostic : diagnosticResult.diagnostics()) {
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 3);
+        for (Diagnostic diagnostic : signatureDiagnostics(diagnosticResult)) {
             Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
                     UdpServiceValidator.PROVIDED_0_PARAMETERS_1_CAN_HAVE_ONLY_2_PARAMETERS);
             Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_104);
         }
     }
 
+    @Test
+    public void testNonIsolatedRemoteFunctionWithBlockingCall() {
+        Package currentPackage = loadPackage("sample_package_17");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Diagnostic isolationWarning = diagnosticResult.diagnostics().stream()
+                .filter(diagnostic -> UdpServiceValidator.CODE_109.equals(diagnostic.diagnosticInfo().code()))
+                .findFirst().orElseThrow();
+        Assert.assertEquals(isolationWarning.diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+        Assert.assertEquals(isolationWarning.diagnosticInfo().messageFormat(),
+                UdpServiceValidator.REMOTE_FUNCTION_0_IS_NOT_ISOLATED);
+        Diagnostic blockingCallWarning = diagnosticResult.diagnostics().stream()
+                .filter(diagnostic -> UdpServiceValidator.CODE_110.equals(diagnostic.diagnosticInfo().code()))
+                .findFirst().orElseThrow();
+        Assert.assertEquals(blockingCallWarning.diagnosticInfo().severity(), DiagnosticSeverity.WARNING);
+        Assert.assertEquals(blockingCallWarning.message(),
+                "Blocking call `receiveDatagram` in `onBytes`, the datagram is not processed until the call returns.");
+    }
+
+    @Test
+    public void testNonIsolatedService() {
+        Package currentPackage = loadPackage("sample_package_21");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(diagnosticResult.errorCount(), 0);
+        Assert.assertEquals(diagnosticResult.warningCount(), 1);
+        Diagnostic isolationWarning = diagnosticResult.warnings().iterator().next();
+        Assert.assertEquals(isolationWarning.diagnosticInfo().code(), UdpServiceValidator.CODE_108);
+        Assert.assertEquals(isolationWarning.message(),
+                "Service is not `isolated`, datagrams will not be dispatched to the service concurrently.");
+        Assert.assertEquals(isolationWarning.location().lineRange().startLine().line(), 4);
+    }
+
+    @Test
+    public void testDispatchDescriptorGeneration() {
+        Package currentPackage = loadPackage("sample_package_16");
+        DiagnosticResult diagnosticResult = currentPackage.runCodeGenAndModifyPlugins();
+        Assert.assertFalse(diagnosticResult.hasErrors());
+        Package modifiedPackage = currentPackage.project().currentPackage();
+        Module defaultModule = modifiedPackage.getDefaultModule();
+        Document document = defaultModule.document(defaultModule.documentIds().iterator().next());
+        Assert.assertTrue(document.syntaxTree().toSourceCode()
+                .contains("@udp:DispatchDescriptor {value: \"onBytes:DC:BEN;onError:E:N\"}"));
+        Assert.assertEquals(modifiedPackage.getCompilation().diagnosticResult().errorCount(), 0);
+    }
+
+    @Test
+    public void testOnSessionIdleDispatchDescriptor() {
+        Package currentPackage = loadPackage("sample_package_18");
+        DiagnosticResult diagnosticResult = currentPackage.runCodeGenAndModifyPlugins();
+        Assert.assertFalse(diagnosticResult.hasErrors());
+        Package modifiedPackage = currentPackage.project().currentPackage();
+        Module defaultModule = modifiedPackage.getDefaultModule();
+        Document document = defaultModule.document(defaultModule.documentIds().iterator().next());
+        Assert.assertTrue(document.syntaxTree().toSourceCode()
+                .contains("@udp:DispatchDescriptor {value: \"onBytes:DC:EN;onSessionIdle:S:EN\"}"));
+        Assert.assertEquals(modifiedPackage.getCompilation().diagnosticResult().errorCount(), 0);
+    }
+
+    @Test
+    public void testDispatchDescriptorWithImportPrefix() {
+        Package currentPackage = loadPackage("sample_package_20");
+        DiagnosticResult diagnosticResult = currentPackage.runCodeGenAndModifyPlugins();
+        Assert.assertFalse(diagnosticResult.hasErrors());
+        Package modifiedPackage = currentPackage.project().currentPackage();
+        Module defaultModule = modifiedPackage.getDefaultModule();
+        Document document = defaultModule.document(defaultModule.documentIds().iterator().next());
+        Assert.assertTrue(document.syntaxTree().toSourceCode()
+                .contains("@datagram:DispatchDescriptor {value: \"onDatagram:DC:DEN;onError:E:N\"}"));
+        Assert.assertEquals(modifiedPackage.getCompilation().diagnosticResult().errorCount(), 0);
+    }
+
+    @Test
+    public void testOnSessionIdleWithInvalidParameter() {
+        Package currentPackage = loadPackage("sample_package_19");
+        PackageCompilation compilation = currentPackage.getCompilation();
+        DiagnosticResult diagnosticResult = compilation.diagnosticResult();
+        Assert.assertEquals(signatureDiagnostics(diagnosticResult).size(), 1);
+        Diagnostic diagnostic = signatureDiagnostics(diagnosticResult).get(0);
+        Assert.assertEquals(diagnostic.diagnosticInfo().code(), UdpServiceValidator.CODE_104);
+        Assert.assertEquals(diagnostic.diagnosticInfo().messageFormat(),
+                UdpServiceValidator.INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION_EXPECTS_2);
+    }
+
+    // UDP_108, UDP_109 and UDP_110 are advisories on how datagrams are dispatched, reported on top of the
+    // signature diagnostics whenever a sample service or remote function is not explicitly isolated
+    private static List<Diagnostic> signatureDiagnostics(DiagnosticResult diagnosticResult) {
+        return diagnosticResult.diagnostics().stream()
+                .filter(diagnostic -> !CONCURRENCY_CODES.contains(diagnostic.diagnosticInfo().code()))
+                .collect(Collectors.toList());
+    }
+
     private Package loadPackage(String path) {
         Path projectDirPath = RESOURCE_DIRECTORY.resolve(path);
         BuildProject project = BuildProject.load(getEnvironmentBuilder(), projectDirPath);
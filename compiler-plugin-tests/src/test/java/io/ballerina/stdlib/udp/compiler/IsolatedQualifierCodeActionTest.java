@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.compiler;
+
+import io.ballerina.projects.plugins.codeaction.CodeActionArgument;
+import io.ballerina.projects.plugins.codeaction.CodeActionInfo;
+import io.ballerina.tools.text.LinePosition;
+import io.ballerina.tools.text.LineRange;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static io.ballerina.stdlib.udp.compiler.Utils.NODE_LOCATION;
+
+/**
+ * A class for testing the code actions which add the isolated qualifier.
+ */
+public class IsolatedQualifierCodeActionTest extends AbstractCodeActionTest {
+
+    @Test
+    public void testMakeRemoteFunctionIsolated() throws IOException {
+        Path filePath = RESOURCE_PATH.resolve("ballerina_sources")
+                .resolve("sample_package_17")
+                .resolve("service.bal");
+        Path resultPath = RESOURCE_PATH.resolve("codeaction")
+                .resolve("isolated_qualifier")
+                .resolve("isolatedRemoteFunction.bal");
+
+        LineRange lineRange = LineRange.from("service.bal", LinePosition.from(6, 4),
+                LinePosition.from(11, 5));
+        CodeActionArgument locationArg = CodeActionArgument.from(NODE_LOCATION, lineRange);
+        CodeActionInfo codeAction = CodeActionInfo.from("Make remote function isolated", List.of(locationArg));
+        codeAction.setProviderName("UDP_109/ballerina/udp/MAKE_REMOTE_FUNCTION_ISOLATED");
+
+        performTest(filePath, LinePosition.from(6, 10), codeAction, resultPath);
+    }
+
+    @Test
+    public void testMakeServiceIsolated() throws IOException {
+        Path filePath = RESOURCE_PATH.resolve("ballerina_sources")
+                .resolve("sample_package_21")
+                .resolve("service.bal");
+        Path resultPath = RESOURCE_PATH.resolve("codeaction")
+                .resolve("isolated_qualifier")
+                .resolve("isolatedService.bal");
+
+        LineRange lineRange = LineRange.from("service.bal", LinePosition.from(4, 0),
+                LinePosition.from(13, 1));
+        CodeActionArgument locationArg = CodeActionArgument.from(NODE_LOCATION, lineRange);
+        CodeActionInfo codeAction = CodeActionInfo.from("Make service isolated", List.of(locationArg));
+        codeAction.setProviderName("UDP_108/ballerina/udp/MAKE_SERVICE_ISOLATED");
+
+        performTest(filePath, LinePosition.from(4, 3), codeAction, resultPath);
+    }
+}
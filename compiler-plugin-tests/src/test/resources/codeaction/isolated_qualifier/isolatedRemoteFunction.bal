@@ -0,0 +1,13 @@
+import ballerina/udp;
+
+int count = 0;
+
+service on new udp:Listener(9000) {
+
+    isolated remote function onBytes(readonly & byte[] data) returns byte[]|udp:Error? {
+        count += 1;
+        udp:Client socketClient = check new;
+        readonly & udp:Datagram datagram = check socketClient->receiveDatagram();
+        return datagram.data;
+    }
+}
@@ -0,0 +1,14 @@
+import ballerina/udp;
+
+int received = 0;
+
+isolated service on new udp:Listener(9000) {
+
+    isolated remote function onBytes(readonly & byte[] data) returns byte[] {
+        return data;
+    }
+
+    function count() {
+        received += 1;
+    }
+}
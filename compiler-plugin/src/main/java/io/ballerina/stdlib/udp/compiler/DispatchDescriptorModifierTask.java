@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2026, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.compiler;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.Types;
+import io.ballerina.compiler.api.symbols.ArrayTypeSymbol;
+import io.ballerina.compiler.api.symbols.FunctionTypeSymbol;
+import io.ballerina.compiler.api.symbols.IntersectionTypeSymbol;
+import io.ballerina.compiler.api.symbols.MethodSymbol;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.ParameterSymbol;
+import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.plugins.ModifierTask;
+import io.ballerina.projects.plugins.SourceModifierContext;
+import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.text.TextDocument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.ballerina.stdlib.udp.compiler.UdpServiceValidator.CALLER;
+import static io.ballerina.stdlib.udp.compiler.UdpServiceValidator.DATAGRAM;
+
+
+/**
+ * Class to attach the dispatch descriptor annotation to the UDP services, so that the native dispatcher does not
+ * have to inspect the service type at runtime.
+ */
+public class DispatchDescriptorModifierTask implements ModifierTask<SourceModifierContext> {
+
+    @Override
+    public void modify(SourceModifierContext context) {
+        boolean erroneousCompilation = context.compilation().diagnosticResult().diagnostics().stream()
+                .anyMatch(diagnostic -> diagnostic.diagnosticInfo().severity() == DiagnosticSeverity.ERROR);
+        if (erroneousCompilation) {
+            return;
+        }
+
+        for (ModuleId moduleId : context.currentPackage().moduleIds()) {
+            Module module = context.currentPackage().module(moduleId);
+            SemanticModel semanticModel = context.compilation().getSemanticModel(moduleId);
+            for (DocumentId documentId : module.documentIds()) {
+                modifyDocument(semanticModel, module.document(documentId))
+                        .ifPresent(textDocument -> context.modifySourceFile(textDocument, documentId));
+            }
+            for (DocumentId documentId : module.testDocumentIds()) {
+                modifyDocument(semanticModel, module.document(documentId))
+                        .ifPresent(textDocument -> context.modifyTestSourceFile(textDocument, documentId));
+            }
+        }
+    }
+
+    private Optional<TextDocument> modifyDocument(SemanticModel semanticModel, Document document) {
+        SyntaxTree syntaxTree = document.syntaxTree();
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        Optional<String> modulePrefix = Utils.getPrefix(modulePartNode);
+        if (modulePrefix.isEmpty() || Utils.equals(modulePrefix.get(), "_")) {
+            return Optional.empty();
+        }
+
+        boolean modified = false;
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member.kind() == SyntaxKind.SERVICE_DECLARATION
+                    && isUdpService(semanticModel, (ServiceDeclarationNode) member)) {
+                members.add(addDescriptor(semanticModel, (ServiceDeclarationNode) member, modulePrefix.get()));
+                modified = true;
+            } else {
+                members.add(member);
+            }
+        }
+        if (!modified) {
+            return Optional.empty();
+        }
+        ModulePartNode newModulePartNode = modulePartNode.modify()
+                .withMembers(NodeFactory.createNodeList(members)).apply();
+        return Optional.of(syntaxTree.modifyWith(newModulePartNode).textDocument());
+    }
+
+    private boolean isUdpService(SemanticModel semanticModel, ServiceDeclarationNode serviceDeclarationNode) {
+        Optional<Symbol> serviceDeclarationSymbol = semanticModel.symbol(serviceDeclarationNode);
+        return serviceDeclarationSymbol.isPresent()
+                && ((ServiceDeclarationSymbol) serviceDeclarationSymbol.get()).listenerTypes().stream()
+                .anyMatch(Utils::isListenerBelongsToUdpModule);
+    }
+
+    private ServiceDeclarationNode addDescriptor(SemanticModel semanticModel,
+                                                 ServiceDeclarationNode serviceDeclarationNode, String modulePrefix) {
+        String prefix = modulePrefix + SyntaxKind.COLON_TOKEN.stringValue();
+        List<String> entries = new ArrayList<>();
+        for (Node member : serviceDeclarationNode.members()) {
+            if (member.kind() != SyntaxKind.OBJECT_METHOD_DEFINITION) {
+                continue;
+            }
+            FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) member;
+            String functionName = functionDefinitionNode.functionName().toString().strip();
+            if (!Utils.equals(functionName, Constants.ON_BYTES) && !Utils.equals(functionName, Constants.ON_DATAGRAM)
+                    && !Utils.equals(functionName, Constants.ON_ERROR)
+                    && !Utils.equals(functionName, Constants.ON_SESSION_IDLE)) {
+                continue;
+            }
+            Optional<Symbol> methodSymbol = semanticModel.symbol(functionDefinitionNode);
+            if (methodSymbol.isEmpty() || methodSymbol.get().kind() != SymbolKind.METHOD) {
+                // without the method type the native dispatcher derives the descriptor from the service type
+                return serviceDeclarationNode;
+            }
+            FunctionTypeSymbol functionType = ((MethodSymbol) methodSymbol.get()).typeDescriptor();
+            entries.add(functionName + Constants.DESCRIPTOR_FIELD_SEPARATOR
+                    + getParameterKinds(functionType, functionName)
+                    + Constants.DESCRIPTOR_FIELD_SEPARATOR + getReturnKinds(semanticModel.types(), functionType));
+        }
+
+        AnnotationNode descriptorAnnotation = createDescriptorAnnotation(modulePrefix,
+                String.join(Constants.DESCRIPTOR_METHOD_SEPARATOR, entries));
+        Optional<MetadataNode> metadata = serviceDeclarationNode.metadata();
+        MetadataNode newMetadata;
+        if (metadata.isPresent()) {
+            NodeList<AnnotationNode> annotations = metadata.get().annotations();
+            for (AnnotationNode annotation : annotations) {
+                if (Utils.equals(annotation.annotReference().toString().strip(),
+                        prefix + Constants.DISPATCH_DESCRIPTOR_ANNOTATION)) {
+                    return serviceDeclarationNode;
+                }
+            }
+            newMetadata = metadata.get().modify().withAnnotations(annotations.add(descriptorAnnotation)).apply();
+        } else {
+            newMetadata = NodeFactory.createMetadataNode(null, NodeFactory.createNodeList(descriptorAnnotation));
+        }
+        return serviceDeclarationNode.modify().withMetadata(newMetadata).apply();
+    }
+
+    private String getParameterKinds(FunctionTypeSymbol functionType, String functionName) {
+        StringBuilder kinds = new StringBuilder();
+        for (ParameterSymbol parameter : functionType.params().orElse(Collections.emptyList())) {
+            if (Utils.equals(functionName, Constants.ON_ERROR)) {
+                kinds.append(Constants.DESCRIPTOR_ERROR);
+            } else if (Utils.equals(functionName, Constants.ON_SESSION_IDLE)) {
+                kinds.append(Constants.DESCRIPTOR_SESSION);
+            } else if (isUdpType(parameter.typeDescriptor(), CALLER)) {
+                kinds.append(Constants.DESCRIPTOR_CALLER);
+            } else {
+                kinds.append(Constants.DESCRIPTOR_DATA);
+            }
+        }
+        return kinds.toString();
+    }
+
+    private String getReturnKinds(Types types, FunctionTypeSymbol functionType) {
+        Optional<TypeSymbol> returnType = functionType.returnTypeDescriptor();
+        if (returnType.isEmpty()) {
+            return String.valueOf(Constants.DESCRIPTOR_NIL);
+        }
+        Set<Character> kinds = new HashSet<>();
+        addReturnKinds(types, returnType.get(), kinds);
+        StringBuilder orderedKinds = new StringBuilder();
+        for (char kind : new char[]{Constants.DESCRIPTOR_BYTES, Constants.DESCRIPTOR_DATAGRAM,
+                Constants.DESCRIPTOR_ERROR, Constants.DESCRIPTOR_NIL}) {
+            if (kinds.contains(kind)) {
+                orderedKinds.append(kind);
+            }
+        }
+        return orderedKinds.toString();
+    }
+
+    // walks through the unions, intersections and type aliases of the return type, so that e.g. `type Reply byte[]`
+    // or an error type declared in another module are classified by their type rather than by their name
+    private void addReturnKinds(Types types, TypeSymbol typeSymbol, Set<Character> kinds) {
+        switch (typeSymbol.typeKind()) {
+            case UNION:
+                for (TypeSymbol member : ((UnionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                    addReturnKinds(types, member, kinds);
+                }
+                break;
+            case INTERSECTION:
+                for (TypeSymbol member : ((IntersectionTypeSymbol) typeSymbol).memberTypeDescriptors()) {
+                    if (member.typeKind() != TypeDescKind.READONLY) {
+                        addReturnKinds(types, member, kinds);
+                    }
+                }
+                break;
+            case TYPE_REFERENCE:
+                if (isUdpType(typeSymbol, DATAGRAM)) {
+                    kinds.add(Constants.DESCRIPTOR_DATAGRAM);
+                } else {
+                    addReturnKinds(types, ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor(), kinds);
+                }
+                break;
+            case ARRAY:
+                if (((ArrayTypeSymbol) typeSymbol).memberTypeDescriptor().subtypeOf(types.BYTE)) {
+                    kinds.add(Constants.DESCRIPTOR_BYTES);
+                }
+                break;
+            case NIL:
+                kinds.add(Constants.DESCRIPTOR_NIL);
+                break;
+            default:
+                if (typeSymbol.subtypeOf(types.ERROR)) {
+                    kinds.add(Constants.DESCRIPTOR_ERROR);
+                }
+                break;
+        }
+    }
+
+    // true if the type is the given udp module type or an alias of it
+    private boolean isUdpType(TypeSymbol typeSymbol, String typeName) {
+        while (typeSymbol.typeKind() == TypeDescKind.TYPE_REFERENCE) {
+            Optional<ModuleSymbol> module = typeSymbol.getModule();
+            if (module.isPresent() && Utils.isUdpModule(module.get())
+                    && typeSymbol.getName().filter(name -> Utils.equals(name, typeName)).isPresent()) {
+                return true;
+            }
+            typeSymbol = ((TypeReferenceTypeSymbol) typeSymbol).typeDescriptor();
+        }
+        return false;
+    }
+
+    private AnnotationNode createDescriptorAnnotation(String modulePrefix, String descriptor) {
+        ExpressionNode annotationValue = NodeParser.parseExpression("{" + Constants.DESCRIPTOR_VALUE + ": \""
+                + descriptor + "\"}");
+        return NodeFactory.createAnnotationNode(NodeFactory.createToken(SyntaxKind.AT_TOKEN),
+                NodeFactory.createQualifiedNameReferenceNode(NodeFactory.createIdentifierToken(modulePrefix),
+                        NodeFactory.createToken(SyntaxKind.COLON_TOKEN),
+                        NodeFactory.createIdentifierToken(Constants.DISPATCH_DESCRIPTOR_ANNOTATION)),
+                (MappingConstructorExpressionNode) annotationValue);
+    }
+}
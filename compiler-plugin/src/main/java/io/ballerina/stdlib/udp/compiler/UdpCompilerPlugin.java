@@ -29,7 +29,10 @@ public class UdpCompilerPlugin extends CompilerPlugin {
     @Override
     public void init(CompilerPluginContext compilerPluginContext) {
         compilerPluginContext.addCodeAnalyzer(new UdpServiceAnalyzer());
+        compilerPluginContext.addCodeModifier(new UdpServiceModifier());
         compilerPluginContext.addCodeAction(new OnDatagramCodeTemplate());
         compilerPluginContext.addCodeAction(new OnBytesCodeTemplate());
+        compilerPluginContext.addCodeAction(new IsolatedServiceCodeAction());
+        compilerPluginContext.addCodeAction(new IsolatedRemoteFunctionCodeAction());
     }
 }
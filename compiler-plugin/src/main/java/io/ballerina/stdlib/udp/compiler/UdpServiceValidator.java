@@ -18,9 +18,17 @@
 
 package io.ballerina.stdlib.udp.compiler;
 
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.FunctionSymbol;
+import io.ballerina.compiler.api.symbols.Qualifier;
+import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.api.symbols.SymbolKind;
 import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
 import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeVisitor;
 import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RemoteMethodCallActionNode;
 import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
@@ -33,7 +41,11 @@ import io.ballerina.tools.diagnostics.DiagnosticFactory;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Class to Validate UDP services.
@@ -43,6 +55,7 @@ public class UdpServiceValidator {
     private FunctionDefinitionNode onDatagramFunctionNode;
     private FunctionDefinitionNode onBytesFunctionNode;
     private FunctionDefinitionNode onErrorFunctionNode;
+    private FunctionDefinitionNode onSessionIdleFunctionNode;
     private final String modulePrefix;
     private final SyntaxNodeAnalysisContext ctx;
 
@@ -54,6 +67,9 @@ public class UdpServiceValidator {
     public static final String CODE_105 = "UDP_105";
     public static final String CODE_106 = "UDP_106";
     public static final String CODE_107 = "UDP_107";
+    public static final String CODE_108 = "UDP_108";
+    public static final String CODE_109 = "UDP_109";
+    public static final String CODE_110 = "UDP_110";
 
     // Message formats for reporting error diagnostics
     public static final String SERVICE_CANNOT_CONTAIN_BOTH_ON_DATAGRAM_0_AND_ON_BYTES_1_FUNCTIONS
@@ -75,17 +91,28 @@ public class UdpServiceValidator {
             = "Provided {0} parameters, `{1}` can have only {2} parameters";
     public static final String DATAGRAM_REMOTE_FUNCTION_GENERATION = "onDatagram remote function generation";
     public static final String BYTES_REMOTE_FUNCTION_GENERATION = "onBytes remote function generation";
+    public static final String SERVICE_IS_NOT_ISOLATED
+            = "Service is not `isolated`, datagrams will not be dispatched to the service concurrently.";
+    public static final String REMOTE_FUNCTION_0_IS_NOT_ISOLATED
+            = "Remote function `{0}` is not `isolated`, datagrams will not be dispatched to it concurrently.";
+    public static final String BLOCKING_CALL_0_IN_1_FUNCTION
+            = "Blocking call `{0}` in `{1}`, the datagram is not processed until the call returns.";
 
     // expected parameters and return types
     public static final String READONLY_INTERSECTION = "readonly & ";
     public static final String DATAGRAM = "Datagram";
     public static final String CALLER = "Caller";
+    public static final String SESSION = "Session";
     public static final String BYTE_ARRAY = "byte[]";
     public static final String ERROR = "Error";
     public static final String GENERIC_ERROR = "error";
     public static final String OPTIONAL = "?";
     public static final String NIL = "()";
 
+    // client calls which wait for an incoming datagram
+    private static final List<String> BLOCKING_CALLS = List.of("receiveDatagram", "receiveDatagrams", "readBytes",
+            "readBytesBatch");
+
     public UdpServiceValidator(SyntaxNodeAnalysisContext syntaxNodeAnalysisContext, String modulePrefixOrModuleName) {
         ctx = syntaxNodeAnalysisContext;
         modulePrefix = modulePrefixOrModuleName;
@@ -114,6 +141,53 @@ public class UdpServiceValidator {
         validateFunctionSignature(onDatagramFunctionNode, Constants.ON_DATAGRAM);
         validateFunctionSignature(onBytesFunctionNode, Constants.ON_BYTES);
         validateFunctionSignature(onErrorFunctionNode, Constants.ON_ERROR);
+        validateFunctionSignature(onSessionIdleFunctionNode, Constants.ON_SESSION_IDLE);
+        validateConcurrency(serviceDeclarationNode);
+    }
+
+    // the dispatcher runs a remote function concurrently only if both the service and the function are isolated
+    private void validateConcurrency(ServiceDeclarationNode serviceDeclarationNode) {
+        SemanticModel semanticModel = ctx.semanticModel();
+        Optional<Symbol> serviceSymbol = semanticModel.symbol(serviceDeclarationNode);
+        if (serviceSymbol.isPresent() && !((ServiceDeclarationSymbol) serviceSymbol.get()).qualifiers()
+                .contains(Qualifier.ISOLATED)) {
+            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(CODE_108, SERVICE_IS_NOT_ISOLATED,
+                    DiagnosticSeverity.WARNING);
+            ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                    serviceDeclarationNode.location()));
+        }
+        Stream.of(onDatagramFunctionNode, onBytesFunctionNode, onErrorFunctionNode, onSessionIdleFunctionNode)
+                .filter(Objects::nonNull).filter(this::hasRemoteKeyword).forEach(functionDefinitionNode -> {
+            Optional<Symbol> functionSymbol = semanticModel.symbol(functionDefinitionNode);
+            if (functionSymbol.isPresent() && functionSymbol.get() instanceof FunctionSymbol
+                    && !((FunctionSymbol) functionSymbol.get()).qualifiers().contains(Qualifier.ISOLATED)) {
+                DiagnosticInfo diagnosticInfo = new DiagnosticInfo(CODE_109, REMOTE_FUNCTION_0_IS_NOT_ISOLATED,
+                        DiagnosticSeverity.WARNING);
+                ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                        functionDefinitionNode.location(), functionDefinitionNode.functionName().toString()));
+            }
+        });
+        Stream.of(onDatagramFunctionNode, onBytesFunctionNode).filter(Objects::nonNull)
+                .forEach(this::validateBlockingCalls);
+    }
+
+    private void validateBlockingCalls(FunctionDefinitionNode functionDefinitionNode) {
+        RemoteMethodCallVisitor visitor = new RemoteMethodCallVisitor();
+        functionDefinitionNode.functionBody().accept(visitor);
+        for (RemoteMethodCallActionNode remoteMethodCall : visitor.remoteMethodCalls) {
+            Optional<Symbol> methodSymbol = ctx.semanticModel().symbol(remoteMethodCall);
+            if (methodSymbol.isEmpty() || methodSymbol.get().kind() != SymbolKind.METHOD
+                    || methodSymbol.get().getModule().isEmpty()
+                    || !Utils.isUdpModule(methodSymbol.get().getModule().get())
+                    || !BLOCKING_CALLS.contains(methodSymbol.get().getName().orElse(""))) {
+                continue;
+            }
+            DiagnosticInfo diagnosticInfo = new DiagnosticInfo(CODE_110, BLOCKING_CALL_0_IN_1_FUNCTION,
+                    DiagnosticSeverity.WARNING);
+            ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo, remoteMethodCall.location(),
+                    remoteMethodCall.methodName().toString().strip(),
+                    functionDefinitionNode.functionName().toString().strip()));
+        }
     }
 
     private void filterRemoteMethods(FunctionDefinitionNode functionDefinitionNode) {
@@ -121,7 +195,8 @@ public class UdpServiceValidator {
         if (hasRemoteKeyword(functionDefinitionNode) &&
                 !Utils.equals(functionName, Constants.ON_DATAGRAM)
                 && !Utils.equals(functionName, Constants.ON_BYTES)
-                && !Utils.equals(functionName, Constants.ON_ERROR)) {
+                && !Utils.equals(functionName, Constants.ON_ERROR)
+                && !Utils.equals(functionName, Constants.ON_SESSION_IDLE)) {
             reportInvalidFunction(functionDefinitionNode);
         } else {
             onDatagramFunctionNode = Utils.equals(functionName, Constants.ON_DATAGRAM) ? functionDefinitionNode
@@ -130,6 +205,8 @@ public class UdpServiceValidator {
                     : onBytesFunctionNode;
             onErrorFunctionNode = Utils.equals(functionName, Constants.ON_ERROR) ? functionDefinitionNode
                     : onErrorFunctionNode;
+            onSessionIdleFunctionNode = Utils.equals(functionName, Constants.ON_SESSION_IDLE)
+                    ? functionDefinitionNode : onSessionIdleFunctionNode;
         }
     }
 
@@ -194,7 +271,8 @@ public class UdpServiceValidator {
                     NO_PARAMETER_PROVIDED_FOR_0_FUNCTION_EXPECTS_1_AS_A_PARAMETER, DiagnosticSeverity.ERROR);
             String expectedParameter = functionName.equals(Constants.ON_BYTES) ?
                     READONLY_INTERSECTION + BYTE_ARRAY : functionName.equals(Constants.ON_ERROR) ?
-                    modulePrefix + ERROR : READONLY_INTERSECTION + modulePrefix + DATAGRAM;
+                    modulePrefix + ERROR : functionName.equals(Constants.ON_SESSION_IDLE) ?
+                    modulePrefix + SESSION : READONLY_INTERSECTION + modulePrefix + DATAGRAM;
             ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
                     functionDefinitionNode.functionSignature().location(), functionName, expectedParameter));
             return true;
@@ -243,6 +321,14 @@ public class UdpServiceValidator {
                         ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
                                 requiredParameterNode.location(), requiredParameterNode, functionName,
                                 modulePrefix + ERROR));
+                    } else if (functionName.equals(Constants.ON_SESSION_IDLE)
+                            && (parameterTypeName.kind() != SyntaxKind.QUALIFIED_NAME_REFERENCE
+                            || !Utils.equals(parameterTypeName.toString().strip(), modulePrefix + SESSION))) {
+                        diagnosticInfo = new DiagnosticInfo(CODE_104,
+                                INVALID_PARAMETER_0_PROVIDED_FOR_1_FUNCTION_EXPECTS_2, DiagnosticSeverity.ERROR);
+                        ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                                requiredParameterNode.location(), requiredParameterNode, functionName,
+                                modulePrefix + SESSION));
                     } else if (parameterTypeName.kind() != SyntaxKind.QUALIFIED_NAME_REFERENCE
                             && parameterTypeName.kind() != SyntaxKind.INTERSECTION_TYPE_DESC) {
                         if (functionName.equals(Constants.ON_BYTES) && hasByteArray) {
@@ -284,6 +370,12 @@ public class UdpServiceValidator {
                     onErrorFunctionNode.location(), parameterCount, functionName, 1));
 
             return false;
+        } else if (functionName.equals(Constants.ON_SESSION_IDLE) && parameterCount > 1) {
+            diagnosticInfo = new DiagnosticInfo(CODE_104, PROVIDED_0_PARAMETERS_1_CAN_HAVE_ONLY_2_PARAMETERS,
+                    DiagnosticSeverity.ERROR);
+            ctx.reportDiagnostic(DiagnosticFactory.createDiagnostic(diagnosticInfo,
+                    onSessionIdleFunctionNode.location(), parameterCount, functionName, 1));
+            return false;
         }
         return true;
     }
@@ -304,7 +396,9 @@ public class UdpServiceValidator {
             return;
         }
 
-        if (functionName.equals(Constants.ON_ERROR) && returnTypeDescriptor.kind() == SyntaxKind.OPTIONAL_TYPE_DESC
+        boolean isOnErrorOrOnSessionIdle = functionName.equals(Constants.ON_ERROR)
+                || functionName.equals(Constants.ON_SESSION_IDLE);
+        if (isOnErrorOrOnSessionIdle && returnTypeDescriptor.kind() == SyntaxKind.OPTIONAL_TYPE_DESC
                 && (Utils.equals(returnTypeDescriptorType, modulePrefix + ERROR + OPTIONAL)
                 || Utils.equals(returnTypeDescriptorType, GENERIC_ERROR + OPTIONAL))) {
             return;
@@ -377,4 +471,14 @@ public class UdpServiceValidator {
         return false;
     }
 
+    private static class RemoteMethodCallVisitor extends NodeVisitor {
+
+        private final List<RemoteMethodCallActionNode> remoteMethodCalls = new ArrayList<>();
+
+        @Override
+        public void visit(RemoteMethodCallActionNode remoteMethodCallActionNode) {
+            remoteMethodCalls.add(remoteMethodCallActionNode);
+            visitSyntaxNode(remoteMethodCallActionNode);
+        }
+    }
 }
@@ -18,15 +18,9 @@
 
 package io.ballerina.stdlib.udp.compiler;
 
-import io.ballerina.compiler.api.symbols.ModuleSymbol;
 import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
 import io.ballerina.compiler.api.symbols.Symbol;
-import io.ballerina.compiler.api.symbols.TypeDescKind;
-import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
 import io.ballerina.compiler.api.symbols.TypeSymbol;
-import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
-import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
-import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.projects.plugins.AnalysisTask;
@@ -43,8 +37,6 @@ import java.util.Optional;
  */
 public class UdpServiceValidatorTask implements AnalysisTask<SyntaxNodeAnalysisContext> {
 
-    private static final String ORG_NAME = "ballerina";
-
     @Override
     public void perform(SyntaxNodeAnalysisContext ctx) {
         List<Diagnostic> diagnostics = ctx.semanticModel().diagnostics();
@@ -54,7 +46,7 @@ public class UdpServiceValidatorTask implements AnalysisTask<SyntaxNodeAnalysisC
             }
         }
         ServiceDeclarationNode serviceDeclarationNode = (ServiceDeclarationNode) ctx.node();
-        String modulePrefix = getPrefix(ctx);
+        String modulePrefix = Utils.getPrefix(ctx.syntaxTree().rootNode()).orElse(Constants.UDP);
 
         Optional<Symbol> serviceDeclarationSymbol = ctx.semanticModel().symbol(serviceDeclarationNode);
         UdpServiceValidator udpServiceValidator;
@@ -62,7 +54,7 @@ public class UdpServiceValidatorTask implements AnalysisTask<SyntaxNodeAnalysisC
             List<TypeSymbol> listenerTypes = ((ServiceDeclarationSymbol) serviceDeclarationSymbol.get())
                     .listenerTypes();
             for (TypeSymbol listenerType : listenerTypes) {
-                if (isListenerBelongsToUdpModule(listenerType)) {
+                if (Utils.isListenerBelongsToUdpModule(listenerType)) {
                     udpServiceValidator = new UdpServiceValidator(ctx, modulePrefix
                             + SyntaxKind.COLON_TOKEN.stringValue());
                     udpServiceValidator.validate();
@@ -71,37 +63,4 @@ public class UdpServiceValidatorTask implements AnalysisTask<SyntaxNodeAnalysisC
             }
         }
     }
-
-    private String getPrefix(SyntaxNodeAnalysisContext ctx) {
-        ModulePartNode modulePartNode = ctx.syntaxTree().rootNode();
-        for (ImportDeclarationNode importDeclaration : modulePartNode.imports()) {
-            if (Utils.equals(importDeclaration.moduleName().get(0).toString().stripTrailing(), Constants.UDP)) {
-                if (importDeclaration.prefix().isPresent()) {
-                    return importDeclaration.prefix().get().children().get(1).toString();
-                }
-                break;
-            }
-        }
-        return Constants.UDP;
-    }
-
-    private boolean isUdpModule(ModuleSymbol moduleSymbol) {
-        return Utils.equals(moduleSymbol.getName().get(), Constants.UDP)
-                && Utils.equals(moduleSymbol.id().orgName(), ORG_NAME);
-    }
-
-    private boolean isListenerBelongsToUdpModule(TypeSymbol listenerType) {
-        if (listenerType.typeKind() == TypeDescKind.UNION) {
-            return ((UnionTypeSymbol) listenerType).memberTypeDescriptors().stream()
-                    .filter(typeDescriptor -> typeDescriptor instanceof TypeReferenceTypeSymbol)
-                    .map(typeReferenceTypeSymbol -> (TypeReferenceTypeSymbol) typeReferenceTypeSymbol)
-                    .anyMatch(typeReferenceTypeSymbol -> isUdpModule(typeReferenceTypeSymbol.getModule().get()));
-        }
-
-        if (listenerType.typeKind() == TypeDescKind.TYPE_REFERENCE) {
-            return isUdpModule(((TypeReferenceTypeSymbol) listenerType).typeDescriptor().getModule().get());
-        }
-
-        return false;
-    }
 }
@@ -18,6 +18,13 @@
 
 package io.ballerina.stdlib.udp.compiler;
 
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.TypeDescKind;
+import io.ballerina.compiler.api.symbols.TypeReferenceTypeSymbol;
+import io.ballerina.compiler.api.symbols.TypeSymbol;
+import io.ballerina.compiler.api.symbols.UnionTypeSymbol;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NonTerminalNode;
@@ -26,6 +33,7 @@ import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.projects.plugins.codeaction.CodeActionArgument;
 import io.ballerina.projects.plugins.codeaction.CodeActionExecutionContext;
 import io.ballerina.projects.plugins.codeaction.DocumentEdit;
+import io.ballerina.stdlib.udp.Constants;
 import io.ballerina.tools.text.LineRange;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocumentChange;
@@ -35,6 +43,7 @@ import io.ballerina.tools.text.TextRange;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Compiler-plugin utility class.
@@ -45,11 +54,51 @@ public final class Utils {
 
     public static final String NODE_LOCATION = "node.location";
     public static final String LS = System.lineSeparator();
+    public static final String ISOLATED = "isolated ";
+    private static final String ORG_NAME = "ballerina";
 
     public static boolean equals(String actual, String expected) {
         return actual.compareTo(expected) == 0;
     }
 
+    /**
+     * Returns the prefix used for the udp module in the given module part.
+     *
+     * @param modulePartNode the root node of the document
+     * @return the import prefix, or the module name if the import is not prefixed, empty if udp is not imported
+     */
+    public static Optional<String> getPrefix(ModulePartNode modulePartNode) {
+        for (ImportDeclarationNode importDeclaration : modulePartNode.imports()) {
+            if (equals(importDeclaration.moduleName().get(0).toString().stripTrailing(), Constants.UDP)) {
+                if (importDeclaration.prefix().isPresent()) {
+                    return Optional.of(importDeclaration.prefix().get().children().get(1).toString());
+                }
+                return Optional.of(Constants.UDP);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public static boolean isListenerBelongsToUdpModule(TypeSymbol listenerType) {
+        if (listenerType.typeKind() == TypeDescKind.UNION) {
+            return ((UnionTypeSymbol) listenerType).memberTypeDescriptors().stream()
+                    .filter(typeDescriptor -> typeDescriptor instanceof TypeReferenceTypeSymbol)
+                    .map(typeReferenceTypeSymbol -> (TypeReferenceTypeSymbol) typeReferenceTypeSymbol)
+                    .anyMatch(typeReferenceTypeSymbol -> isUdpModule(typeReferenceTypeSymbol.getModule().get()));
+        }
+
+        if (listenerType.typeKind() == TypeDescKind.TYPE_REFERENCE) {
+            return isUdpModule(((TypeReferenceTypeSymbol) listenerType).typeDescriptor().getModule().get());
+        }
+
+        return false;
+    }
+
+    public static boolean isUdpModule(ModuleSymbol moduleSymbol) {
+        return equals(moduleSymbol.getName().get(), Constants.UDP)
+                && equals(moduleSymbol.id().orgName(), ORG_NAME);
+    }
+
     public static NonTerminalNode findNode(SyntaxTree syntaxTree, LineRange lineRange) {
         if (lineRange == null) {
             return null;
@@ -100,4 +149,32 @@ public final class Utils {
         return Collections.singletonList(new DocumentEdit(codeActionExecutionContext.fileUri(),
                 SyntaxTree.from(syntaxTree, change)));
     }
+
+    public static List<DocumentEdit> getIsolatedQualifierEdits(CodeActionExecutionContext codeActionExecutionContext) {
+        LineRange lineRange = null;
+        for (CodeActionArgument argument : codeActionExecutionContext.arguments()) {
+            if (NODE_LOCATION.equals(argument.key())) {
+                lineRange = argument.valueAs(LineRange.class);
+            }
+        }
+
+        SyntaxTree syntaxTree = codeActionExecutionContext.currentDocument().syntaxTree();
+        NonTerminalNode node = Utils.findNode(syntaxTree, lineRange);
+        int insertOffset;
+        if (node instanceof ServiceDeclarationNode) {
+            insertOffset = ((ServiceDeclarationNode) node).serviceKeyword().textRange().startOffset();
+        } else if (node instanceof FunctionDefinitionNode) {
+            FunctionDefinitionNode functionDefinitionNode = (FunctionDefinitionNode) node;
+            insertOffset = functionDefinitionNode.qualifierList().isEmpty()
+                    ? functionDefinitionNode.functionKeyword().textRange().startOffset()
+                    : functionDefinitionNode.qualifierList().get(0).textRange().startOffset();
+        } else {
+            return Collections.emptyList();
+        }
+
+        TextEdit textEdit = TextEdit.from(TextRange.from(insertOffset, 0), ISOLATED);
+        TextDocumentChange change = TextDocumentChange.from(new TextEdit[]{textEdit});
+        return Collections.singletonList(new DocumentEdit(codeActionExecutionContext.fileUri(),
+                SyntaxTree.from(syntaxTree, change)));
+    }
 }
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AdaptiveDispatcher} decides how each remote method call of a udp service is run.
+ * <p>
+ * Calls to isolated methods whose moving average duration is within the inline threshold are queued to a
+ * batched worker, which runs several calls one after the other per wake-up instead of starting a virtual thread
+ * for each datagram. The other calls are offloaded to a virtual thread each. The durations are measured in both
+ * modes, so a method moves back and forth as its handler gets slower or faster.
+ */
+public class AdaptiveDispatcher {
+
+    private final DispatchConfig dispatchConfig;
+    private final Queue<Runnable> batchQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean workerScheduled = new AtomicBoolean();
+    private final Map<String, AtomicLong> averageDurations = new ConcurrentHashMap<>();
+
+    private final LongAdder batchedDispatches = new LongAdder();
+    private final LongAdder offloadedDispatches = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public AdaptiveDispatcher(DispatchConfig dispatchConfig) {
+        this.dispatchConfig = dispatchConfig;
+    }
+
+    public void dispatch(String methodName, boolean isolated, Runnable call) {
+        AtomicLong averageDuration = averageDurations.computeIfAbsent(methodName, name -> new AtomicLong());
+        Runnable timedCall = () -> {
+            long start = System.nanoTime();
+            try {
+                call.run();
+            } finally {
+                long duration = System.nanoTime() - start;
+                // exponentially weighted with a gain of 1/8, as the smoothed round trip time of TCP
+                averageDuration.updateAndGet(average -> average == 0 ? duration : average + (duration - average) / 8);
+            }
+        };
+        if (isolated && averageDuration.get() <= dispatchConfig.getInlineThresholdNanos()) {
+            batchedDispatches.increment();
+            batchQueue.add(timedCall);
+            scheduleWorker();
+        } else {
+            offloadedDispatches.increment();
+            Thread.startVirtualThread(timedCall);
+        }
+    }
+
+    private void scheduleWorker() {
+        if (workerScheduled.compareAndSet(false, true)) {
+            Thread.startVirtualThread(this::drain);
+        }
+    }
+
+    private void drain() {
+        batches.increment();
+        Runnable call;
+        int count = 0;
+        while (count < dispatchConfig.getMaxBatchSize() && (call = batchQueue.poll()) != null) {
+            call.run();
+            count++;
+        }
+        workerScheduled.set(false);
+        // calls queued after the last poll, or left over by the batch limit, need another wake-up
+        if (!batchQueue.isEmpty()) {
+            scheduleWorker();
+        }
+    }
+
+    public long getBatchedDispatches() {
+        return batchedDispatches.sum();
+    }
+
+    public long getOffloadedDispatches() {
+        return offloadedDispatches.sum();
+    }
+
+    public long getBatches() {
+        return batches.sum();
+    }
+
+    public long getAverageHandlerTimeNanos(String methodName) {
+        AtomicLong averageDuration = methodName == null ? null : averageDurations.get(methodName);
+        return averageDuration == null ? 0 : averageDuration.get();
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import java.net.InetAddress;
+
+/**
+ * {@link AddressFilter} drops the datagrams of a listener sent from unwanted addresses before they are dispatched.
+ * The {@link AddressFilterRules} are swapped as a whole, so a datagram is always matched against a single set of
+ * rules while they are updated at runtime.
+ */
+public class AddressFilter {
+
+    private volatile AddressFilterRules rules;
+
+    public AddressFilter(AddressFilterRules rules) {
+        this.rules = rules;
+    }
+
+    public boolean accept(InetAddress address) {
+        AddressFilterRules currentRules = rules;
+        return currentRules == null || currentRules.accept(address);
+    }
+
+    // null if the datagrams are not filtered
+    public AddressFilterRules getRules() {
+        return rules;
+    }
+
+    // null accepts all the datagrams
+    public void setRules(AddressFilterRules rules) {
+        this.rules = rules;
+    }
+}
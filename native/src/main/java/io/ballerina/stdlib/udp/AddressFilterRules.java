@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.util.NetUtil;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link AddressFilterRules} is an immutable set of allow and deny rules on the CIDR blocks of the sender addresses,
+ * compiled into a binary prefix trie per address family.
+ * <p>
+ * A sender address is matched against the most specific rule whose block contains it. A deny rule takes precedence
+ * over an allow rule on the same block. The addresses which match no rule are accepted only if there are no allow
+ * rules. The hits of each rule and the accepted and dropped datagrams are counted from the time the rules are set.
+ */
+public class AddressFilterRules {
+
+    private static final int NO_RULE = -1;
+    private static final int IPV4_BITS = 32;
+    private static final int IPV6_BITS = 128;
+
+    private final String[] cidrs;
+    private final boolean[] denies;
+    private final boolean acceptUnmatched;
+    private final Trie ipv4Trie = new Trie();
+    private final Trie ipv6Trie = new Trie();
+    private final AtomicLongArray hits;
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * Compiles the given rules.
+     *
+     * @param allow the CIDR blocks (e.g. {@code 10.0.0.0/8} or {@code 2001:db8::/32}) or single addresses allowed
+     * @param deny the CIDR blocks or single addresses denied
+     * @return the compiled rules
+     * @throws SocketException if a rule is not an IP address literal with an optional prefix length
+     */
+    public static AddressFilterRules compile(List<String> allow, List<String> deny) throws SocketException {
+        return new AddressFilterRules(allow, deny);
+    }
+
+    private AddressFilterRules(List<String> allow, List<String> deny) throws SocketException {
+        int ruleCount = allow.size() + deny.size();
+        this.cidrs = new String[ruleCount];
+        this.denies = new boolean[ruleCount];
+        this.acceptUnmatched = allow.isEmpty();
+        this.hits = new AtomicLongArray(ruleCount);
+        int rule = 0;
+        // the deny rules are inserted last, so that they replace the allow rules on the same block
+        for (String cidr : allow) {
+            insert(rule++, cidr, false);
+        }
+        for (String cidr : deny) {
+            insert(rule++, cidr, true);
+        }
+        ipv4Trie.trim();
+        ipv6Trie.trim();
+    }
+
+    private void insert(int rule, String cidr, boolean deny) throws SocketException {
+        cidrs[rule] = cidr;
+        denies[rule] = deny;
+        int separator = cidr.indexOf('/');
+        String host = separator < 0 ? cidr : cidr.substring(0, separator);
+        byte[] address = NetUtil.createByteArrayFromIpAddressString(host);
+        if (address == null) {
+            throw new SocketException("Invalid CIDR block in the address filter: " + cidr);
+        }
+        int bits = address.length == 4 ? IPV4_BITS : IPV6_BITS;
+        int prefixLength = bits;
+        if (separator >= 0) {
+            try {
+                prefixLength = Integer.parseInt(cidr.substring(separator + 1));
+            } catch (NumberFormatException e) {
+                prefixLength = -1;
+            }
+            if (prefixLength < 0 || prefixLength > bits) {
+                throw new SocketException("Invalid CIDR block in the address filter: " + cidr);
+            }
+        }
+        (bits == IPV4_BITS ? ipv4Trie : ipv6Trie).insert(address, prefixLength, rule);
+    }
+
+    /**
+     * Matches the given sender address and counts the hit. Does not allocate for IPv4 addresses.
+     *
+     * @param address the sender address
+     * @return true if the datagram is accepted
+     */
+    public boolean accept(InetAddress address) {
+        int rule = address instanceof Inet4Address ? ipv4Trie.match(AddressHash.ipv4(address))
+                : ipv6Trie.match(address.getAddress());
+        boolean accept;
+        if (rule == NO_RULE) {
+            accept = acceptUnmatched;
+        } else {
+            hits.getAndIncrement(rule);
+            accept = !denies[rule];
+        }
+        if (accept) {
+            accepted.increment();
+        } else {
+            dropped.increment();
+        }
+        return accept;
+    }
+
+    public int getRuleCount() {
+        return cidrs.length;
+    }
+
+    public String getCidr(int rule) {
+        return cidrs[rule];
+    }
+
+    public boolean isDeny(int rule) {
+        return denies[rule];
+    }
+
+    public long getHits(int rule) {
+        return hits.get(rule);
+    }
+
+    public long getAccepted() {
+        return accepted.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    // a binary trie in flat arrays, node 0 is the root, which is never a child, so 0 also marks a missing child
+    private static final class Trie {
+
+        private int[] children = new int[2];
+        private int[] rules = {NO_RULE};
+        private int size = 1;
+
+        private void insert(byte[] address, int prefixLength, int rule) {
+            int node = 0;
+            for (int i = 0; i < prefixLength; i++) {
+                int slot = 2 * node + getBit(address, i);
+                if (children[slot] == 0) {
+                    // the node is created first, since it may replace the children array
+                    int child = newNode();
+                    children[slot] = child;
+                }
+                node = children[slot];
+            }
+            rules[node] = rule;
+        }
+
+        private int newNode() {
+            if (size == rules.length) {
+                children = Arrays.copyOf(children, children.length * 2);
+                rules = Arrays.copyOf(rules, rules.length * 2);
+                Arrays.fill(rules, size, rules.length, NO_RULE);
+            }
+            return size++;
+        }
+
+        private void trim() {
+            children = Arrays.copyOf(children, 2 * size);
+            rules = Arrays.copyOf(rules, size);
+        }
+
+        private int match(int address) {
+            int node = 0;
+            int rule = rules[0];
+            for (int i = IPV4_BITS - 1; i >= 0; i--) {
+                node = children[2 * node + ((address >>> i) & 1)];
+                if (node == 0) {
+                    break;
+                }
+                if (rules[node] != NO_RULE) {
+                    rule = rules[node];
+                }
+            }
+            return rule;
+        }
+
+        private int match(byte[] address) {
+            int node = 0;
+            int rule = rules[0];
+            for (int i = 0; i < IPV6_BITS; i++) {
+                node = children[2 * node + getBit(address, i)];
+                if (node == 0) {
+                    break;
+                }
+                if (rules[node] != NO_RULE) {
+                    rule = rules[node];
+                }
+            }
+            return rule;
+        }
+
+        private static int getBit(byte[] address, int index) {
+            return (address[index >>> 3] >>> (7 - (index & 7))) & 1;
+        }
+    }
+}
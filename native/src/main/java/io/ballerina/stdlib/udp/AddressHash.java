@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+
+/**
+ * {@link AddressHash} hashes the peer addresses on the datagram path without allocating, so that the listener
+ * handlers which key their state by the sender spread the senders of a subnet alike.
+ */
+final class AddressHash {
+
+    // the 64-bit golden ratio, also used to seed the payload hashes
+    static final long SEED = 0x9E3779B97F4A7C15L;
+
+    private AddressHash() {
+    }
+
+    // the hash code of an IPv4 address is the address itself, so it is read without copying the address bytes
+    static int ipv4(InetAddress address) {
+        return address.hashCode();
+    }
+
+    static long hash(InetSocketAddress address) {
+        InetAddress inetAddress = address.getAddress();
+        long hash = SEED ^ address.getPort();
+        if (inetAddress instanceof Inet4Address) {
+            return mix(hash ^ ((long) ipv4(inetAddress) << 16));
+        }
+        for (byte b : inetAddress.getAddress()) {
+            hash = hash * 31 + b;
+        }
+        return mix(hash);
+    }
+
+    // the finalizer of MurmurHash3, so that keys differing in a few bits differ in about half of the bits
+    static long mix(long key) {
+        long hash = key;
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
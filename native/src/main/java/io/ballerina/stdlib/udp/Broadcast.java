@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.concurrent.PromiseCombiner;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.ToIntFunction;
+
+/**
+ * {@link Broadcast} sends the same payload to several destinations.
+ * <p>
+ * The payload is copied once into a direct buffer and each destination is written a retained duplicate of it. The
+ * channel copies a buffer before writing it unless it is a single direct buffer, so the duplicates are written
+ * without a copy per destination. The destinations are resolved and their fragment sizes found on the calling
+ * thread, since either can block. All the writes are then issued in a single task on the event loop, which flushes
+ * them once, and the future is completed with the destinations which could not be sent to.
+ */
+public final class Broadcast {
+
+    private Broadcast() {}
+
+    /**
+     * Writes the payload to each of the targets.
+     *
+     * @param channel the channel the payload is written to
+     * @param data the payload
+     * @param length the number of bytes of the payload
+     * @param targets the destinations, the ones which can't be resolved are reported as failed without a write
+     * @param sendTracker records the outcome of each write, or null if the sends of the channel are not tracked
+     * @param balFuture completed with the list of {@link Failure}s once all the writes are completed
+     */
+    public static void send(Channel channel, byte[] data, int length, List<Target> targets, SendTracker sendTracker,
+                            CompletableFuture<List<Failure>> balFuture) {
+        ByteBuf payload = channel.alloc().directBuffer(length).writeBytes(data, 0, length);
+        try {
+            channel.eventLoop().execute(() -> write(channel, payload, targets, sendTracker, balFuture));
+        } catch (RejectedExecutionException e) {
+            // the event loop is shut down, so none of the targets is written
+            payload.release();
+            List<Failure> failures = new ArrayList<>(targets.size());
+            for (Target target : targets) {
+                failures.add(new Failure(target, target.address == null ? target.error
+                        : "Failed to send data: " + getMessage(e)));
+            }
+            balFuture.complete(failures);
+        }
+    }
+
+    // runs on the event loop, where the listeners of the channel promises are notified, so the failures are only
+    // accessed from it
+    private static void write(Channel channel, ByteBuf payload, List<Target> targets, SendTracker sendTracker,
+                              CompletableFuture<List<Failure>> balFuture) {
+        List<Failure> failures = new ArrayList<>();
+        PromiseCombiner promiseCombiner = new PromiseCombiner(channel.eventLoop());
+        for (Target target : targets) {
+            if (target.address == null) {
+                failures.add(new Failure(target, target.error));
+                continue;
+            }
+            ChannelPromise promise = channel.newPromise();
+            if (sendTracker != null) {
+                promise.addListener(sendTracker.track());
+            }
+            write(channel, payload, target, promise);
+            promise.addListener((ChannelFutureListener) future -> {
+                if (!future.isSuccess()) {
+                    failures.add(new Failure(target, "Failed to send data: " + getMessage(future.cause())));
+                }
+            });
+            promiseCombiner.add(promise);
+        }
+        payload.release();
+        channel.flush();
+        promiseCombiner.finish(channel.newPromise().addListener(future -> balFuture.complete(failures)));
+    }
+
+    private static void write(Channel channel, ByteBuf payload, Target target, ChannelPromise promise) {
+        DatagramPacket[] fragments = Utils.fragmentDatagram(new DatagramPacket(payload.retainedDuplicate(),
+                target.address), target.fragmentSize);
+        if (fragments.length == 0) {
+            promise.setSuccess();
+        } else if (fragments.length == 1) {
+            channel.write(fragments[0], promise);
+        } else {
+            PromiseCombiner promiseCombiner = new PromiseCombiner(channel.eventLoop());
+            for (DatagramPacket fragment : fragments) {
+                promiseCombiner.add(channel.write(fragment));
+            }
+            promiseCombiner.finish(promise);
+        }
+    }
+
+    private static String getMessage(Throwable cause) {
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    /**
+     * A destination of a broadcast, resolved before the broadcast is started.
+     */
+    public static final class Target {
+
+        private final String host;
+        private final long port;
+        private final InetSocketAddress address;
+        private final int fragmentSize;
+        private final String error;
+
+        private Target(String host, long port, InetSocketAddress address, int fragmentSize, String error) {
+            this.host = host;
+            this.port = port;
+            this.address = address;
+            this.fragmentSize = fragmentSize;
+            this.error = error;
+        }
+
+        // finding the fragment size may probe the path MTU to the destination, so it is done here and not on the event
+        // loop, along with the lookup of the host
+        public static Target resolve(String host, long port, ToIntFunction<InetSocketAddress> fragmentSizes) {
+            if (port < 0 || port > 65535) {
+                return new Target(host, port, null, 0, "Invalid port: " + port);
+            }
+            InetSocketAddress address = new InetSocketAddress(host, (int) port);
+            if (address.isUnresolved()) {
+                return new Target(host, port, null, 0, "Unable to resolve the remote host: " + host);
+            }
+            return new Target(host, port, address, fragmentSizes.applyAsInt(address), null);
+        }
+    }
+
+    /**
+     * A destination the payload could not be sent to.
+     */
+    public static final class Failure {
+
+        private final Target target;
+        private final String message;
+
+        private Failure(Target target, String message) {
+            this.target = target;
+            this.message = message;
+        }
+
+        public String getHost() {
+            return target.host;
+        }
+
+        public long getPort() {
+            return target.port;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
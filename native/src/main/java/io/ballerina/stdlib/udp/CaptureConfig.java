@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import java.nio.file.Path;
+
+/**
+ * {@link CaptureConfig} holds the configurations used to capture the datagrams received by a listener.
+ */
+public class CaptureConfig {
+
+    /**
+     * The file formats of a capture.
+     */
+    public enum Format {
+        BINARY,
+        PCAP
+    }
+
+    private final Path path;
+    private final Format format;
+    private final int maxFileSize;
+    private final int maxFiles;
+
+    public CaptureConfig(Path path, Format format, int maxFileSize, int maxFiles) {
+        this.path = path;
+        this.format = format;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = maxFiles;
+    }
+
+    // the files are named by appending a sequence number and the extension of the format to this path
+    public Path getPath() {
+        return path;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    // the size in bytes at which the capture moves on to a new file
+    public int getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    // the number of files kept, the oldest file is deleted once a new file is started
+    public int getMaxFiles() {
+        return maxFiles;
+    }
+}
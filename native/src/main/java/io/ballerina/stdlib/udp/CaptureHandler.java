@@ -0,0 +1,430 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.internal.PlatformDependent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link CaptureHandler} is a ChannelDuplexHandler which records the datagrams received by a listener, along with
+ * the time they were read and the address of the sender, so that the traffic can be replayed later.
+ * <p>
+ * The records are written to a memory mapped file of {@link CaptureConfig#getMaxFileSize()} bytes, so that a
+ * capture is a copy into the page cache. The next file is opened and mapped ahead on a separate thread, so once a
+ * record does not fit the capture moves on to it without blocking the event loop. The previous file then has its
+ * mapping released, is truncated to its content and the oldest file beyond {@link CaptureConfig#getMaxFiles()} is
+ * deleted, on that thread as well. A datagram which arrives before the next file is ready is dropped rather than
+ * waited for. The mapping of a file is always released before the file is truncated or deleted, since some
+ * platforms, e.g., Windows, refuse to resize or delete a mapped file. The files are named
+ * {@code <path>.<sequence><extension>}, with a zero padded sequence so that they sort in order. The sequence
+ * continues from the files left by a previous capture with the same path, which are never overwritten.
+ * <p>
+ * All the values of the binary format are big endian. A file starts with {@link #BINARY_MAGIC} and the 2 byte
+ * {@link #BINARY_VERSION} followed by 2 reserved bytes. Each record then holds the 8 byte epoch timestamp in
+ * nanoseconds, the 4 byte length of the data, the 1 byte length of the sender address, the sender address, the 2
+ * byte sender port and the data. A zero timestamp marks the end of a file which was not closed. The pcap format
+ * uses nanosecond timestamps and raw IP packets, with an IPv4 or IPv6 and a UDP header built for each datagram.
+ */
+public class CaptureHandler extends ChannelDuplexHandler {
+
+    public static final int BINARY_MAGIC = 0x55445043;
+    public static final short BINARY_VERSION = 1;
+    public static final String BINARY_EXTENSION = ".ucap";
+    public static final int BINARY_FILE_HEADER_SIZE = 8;
+    public static final int BINARY_RECORD_HEADER_SIZE = 15;
+    public static final String PCAP_EXTENSION = ".pcap";
+    // the magic number of the pcap files with nanosecond timestamps
+    public static final int PCAP_MAGIC = 0xa1b23c4d;
+    public static final int PCAP_FILE_HEADER_SIZE = 24;
+    public static final int PCAP_RECORD_HEADER_SIZE = 16;
+    private static final int LINKTYPE_RAW = 101;
+    private static final int IPV4_HEADER_SIZE = 20;
+    private static final int IPV6_HEADER_SIZE = 40;
+    private static final int UDP_HEADER_SIZE = 8;
+    private static final int IP_PROTOCOL_UDP = 17;
+    private static final int TTL = 64;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private static final Logger log = LoggerFactory.getLogger(CaptureHandler.class);
+    // a platform thread shared by the captures, which opens, maps, truncates and deletes the files off the event loops
+    private static final ExecutorService FILE_EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "udp-capture-files");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final CaptureConfig captureConfig;
+    private final long baseEpochNanos;
+    private final long baseNanoTime;
+    private final LongAdder captured = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder files = new LongAdder();
+
+    // only accessed from the event loop of the channel once the handler is added
+    private CaptureFile file;
+    private MappedByteBuffer buffer;
+    private CompletableFuture<CaptureFile> preparedFile;
+    private boolean closed;
+
+    public CaptureHandler(CaptureConfig captureConfig) throws IOException {
+        this.captureConfig = captureConfig;
+        Instant now = Instant.now();
+        this.baseEpochNanos = now.getEpochSecond() * NANOS_PER_SECOND + now.getNano();
+        this.baseNanoTime = System.nanoTime();
+        // opened eagerly so that a capture which can't be written fails the listener initialization
+        try {
+            Path parent = captureConfig.getPath().toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            CaptureFile firstFile = openFile(captureConfig, getLastSequence(captureConfig) + 1);
+            deleteExpiredFile(firstFile.sequence);
+            startFile(firstFile);
+        } catch (IOException e) {
+            throw new IOException("Unable to open the capture file: " + e.getMessage(), e);
+        }
+    }
+
+    public static Path getFilePath(CaptureConfig captureConfig, long sequence) {
+        return Path.of(captureConfig.getPath() + String.format(".%06d", sequence) + getExtension(captureConfig));
+    }
+
+    private static String getExtension(CaptureConfig captureConfig) {
+        return captureConfig.getFormat() == CaptureConfig.Format.PCAP ? PCAP_EXTENSION : BINARY_EXTENSION;
+    }
+
+    // the highest sequence of the files of the path, or -1 if there are none
+    private static long getLastSequence(CaptureConfig captureConfig) throws IOException {
+        Path path = captureConfig.getPath().toAbsolutePath();
+        String prefix = path.getFileName() + ".";
+        String extension = getExtension(captureConfig);
+        long lastSequence = -1;
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(path.getParent(),
+                entry -> entry.getFileName().toString().startsWith(prefix)
+                        && entry.getFileName().toString().endsWith(extension))) {
+            for (Path entry : paths) {
+                String name = entry.getFileName().toString();
+                String sequence = name.substring(prefix.length(), name.length() - extension.length());
+                if (!sequence.isEmpty() && sequence.chars().allMatch(Character::isDigit)) {
+                    lastSequence = Math.max(lastSequence, Long.parseLong(sequence));
+                }
+            }
+        }
+        return lastSequence;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof DatagramPacket && !closed) {
+            capture((DatagramPacket) msg, ctx.channel().localAddress());
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    // the file is completed before the close of the channel is reported
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        finish();
+        super.close(ctx, promise);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        finish();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        finish();
+    }
+
+    private void finish() {
+        closed = true;
+        closeFile();
+    }
+
+    private void capture(DatagramPacket datagram, SocketAddress localAddress) {
+        long timestamp = baseEpochNanos + System.nanoTime() - baseNanoTime;
+        ByteBuf content = datagram.content();
+        InetSocketAddress sender = datagram.sender();
+        byte[] senderAddress = sender == null ? new byte[0] : sender.getAddress().getAddress();
+        int senderPort = sender == null ? 0 : sender.getPort();
+        int size = captureConfig.getFormat() == CaptureConfig.Format.PCAP
+                ? PCAP_RECORD_HEADER_SIZE + getIpHeaderSize(senderAddress) + UDP_HEADER_SIZE
+                        + content.readableBytes()
+                : BINARY_RECORD_HEADER_SIZE + senderAddress.length + content.readableBytes();
+        // the smallest file size is validated to fit the largest record along with the file header
+        if ((buffer == null || size > buffer.remaining()) && !nextFile()) {
+            dropped.increment();
+            return;
+        }
+        if (captureConfig.getFormat() == CaptureConfig.Format.PCAP) {
+            writePcapRecord(timestamp, content, senderAddress, senderPort, localAddress);
+        } else {
+            buffer.putLong(timestamp);
+            buffer.putInt(content.readableBytes());
+            buffer.put((byte) senderAddress.length);
+            buffer.put(senderAddress);
+            buffer.putShort((short) senderPort);
+            buffer.put(content.nioBuffer());
+        }
+        captured.increment();
+    }
+
+    private void writePcapRecord(long timestamp, ByteBuf content, byte[] senderAddress, int senderPort,
+                                 SocketAddress localAddress) {
+        int dataLength = content.readableBytes();
+        byte[] recipientAddress = getRecipientAddress(senderAddress, localAddress);
+        int recipientPort = localAddress instanceof InetSocketAddress ? ((InetSocketAddress) localAddress).getPort()
+                : 0;
+        int packetLength = getIpHeaderSize(senderAddress) + UDP_HEADER_SIZE + dataLength;
+        buffer.putInt((int) (timestamp / NANOS_PER_SECOND));
+        buffer.putInt((int) (timestamp % NANOS_PER_SECOND));
+        buffer.putInt(packetLength);
+        buffer.putInt(packetLength);
+        if (senderAddress.length == 16) {
+            buffer.putInt(0x60000000);
+            buffer.putShort((short) (UDP_HEADER_SIZE + dataLength));
+            buffer.put((byte) IP_PROTOCOL_UDP);
+            buffer.put((byte) TTL);
+            buffer.put(senderAddress);
+            buffer.put(recipientAddress);
+        } else {
+            int headerStart = buffer.position();
+            buffer.put((byte) 0x45);
+            buffer.put((byte) 0);
+            buffer.putShort((short) packetLength);
+            buffer.putInt(0x4000);
+            buffer.put((byte) TTL);
+            buffer.put((byte) IP_PROTOCOL_UDP);
+            buffer.putShort((short) 0);
+            buffer.put(senderAddress);
+            buffer.put(recipientAddress);
+            buffer.putShort(headerStart + 10, getIpv4Checksum(headerStart));
+        }
+        buffer.putShort((short) senderPort);
+        buffer.putShort((short) recipientPort);
+        buffer.putShort((short) (UDP_HEADER_SIZE + dataLength));
+        // the UDP checksum is optional for IPv4 and not verified by the analyzers by default
+        buffer.putShort((short) 0);
+        buffer.put(content.nioBuffer());
+    }
+
+    private static int getIpHeaderSize(byte[] senderAddress) {
+        return senderAddress.length == 16 ? IPV6_HEADER_SIZE : IPV4_HEADER_SIZE;
+    }
+
+    // the local address of the listener if it is of the same family as the sender, or else the unspecified address
+    private static byte[] getRecipientAddress(byte[] senderAddress, SocketAddress localAddress) {
+        int length = senderAddress.length == 16 ? 16 : 4;
+        if (localAddress instanceof InetSocketAddress) {
+            InetAddress address = ((InetSocketAddress) localAddress).getAddress();
+            if (address != null && (address instanceof Inet4Address) == (length == 4)) {
+                return address.getAddress();
+            }
+        }
+        return new byte[length];
+    }
+
+    private short getIpv4Checksum(int headerStart) {
+        int sum = 0;
+        for (int index = headerStart; index < headerStart + IPV4_HEADER_SIZE; index += 2) {
+            sum += buffer.getShort(index) & 0xffff;
+        }
+        while ((sum >> 16) != 0) {
+            sum = (sum & 0xffff) + (sum >> 16);
+        }
+        return (short) ~sum;
+    }
+
+    // moves on to the prepared file, or returns false if it is not ready yet or could not be opened
+    private boolean nextFile() {
+        if (!preparedFile.isDone()) {
+            return false;
+        }
+        CaptureFile nextFile;
+        try {
+            nextFile = preparedFile.join();
+        } catch (CompletionException e) {
+            log.warn("Unable to open the next capture file: " + e.getCause().getMessage());
+            // opened again for the next datagram which does not fit
+            preparedFile = prepareFile(file.sequence + 1);
+            return false;
+        }
+        CaptureFile previousFile = file;
+        int length = buffer.position();
+        buffer = null;
+        FILE_EXECUTOR.execute(() -> {
+            previousFile.close(length);
+            deleteExpiredFile(nextFile.sequence);
+        });
+        startFile(nextFile);
+        return true;
+    }
+
+    private void startFile(CaptureFile captureFile) {
+        file = captureFile;
+        buffer = captureFile.buffer;
+        files.increment();
+        preparedFile = prepareFile(captureFile.sequence + 1);
+    }
+
+    private CompletableFuture<CaptureFile> prepareFile(long sequence) {
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return openFile(captureConfig, sequence);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, FILE_EXECUTOR);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void deleteExpiredFile(long sequence) {
+        if (sequence < captureConfig.getMaxFiles()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(getFilePath(captureConfig, sequence - captureConfig.getMaxFiles()));
+        } catch (IOException e) {
+            log.warn("Unable to delete the capture file: " + e.getMessage());
+        }
+    }
+
+    // a new file is never opened over an existing one, so that the files of a previous capture are kept
+    private static CaptureFile openFile(CaptureConfig captureConfig, long sequence) throws IOException {
+        FileChannel channel = FileChannel.open(getFilePath(captureConfig, sequence), StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, captureConfig.getMaxFileSize());
+        } catch (IOException e) {
+            channel.close();
+            Files.deleteIfExists(getFilePath(captureConfig, sequence));
+            throw e;
+        }
+        if (captureConfig.getFormat() == CaptureConfig.Format.PCAP) {
+            buffer.putInt(PCAP_MAGIC);
+            buffer.putShort((short) 2);
+            buffer.putShort((short) 4);
+            buffer.putInt(0);
+            buffer.putInt(0);
+            buffer.putInt(Constants.MAX_MTU);
+            buffer.putInt(LINKTYPE_RAW);
+        } else {
+            buffer.putInt(BINARY_MAGIC);
+            buffer.putShort(BINARY_VERSION);
+            buffer.putShort((short) 0);
+        }
+        return new CaptureFile(sequence, channel, buffer);
+    }
+
+    // the current file is completed on the event loop, since it is read once the listener is stopped, and the
+    // prepared file is waited for and removed, so that it is not left empty
+    private void closeFile() {
+        if (file != null) {
+            file.close(buffer == null ? 0 : buffer.position());
+            file = null;
+            buffer = null;
+        }
+        if (preparedFile != null) {
+            try {
+                preparedFile.join().discard(captureConfig);
+            } catch (CompletionException e) {
+                // nothing was opened
+            }
+            preparedFile = null;
+        }
+    }
+
+    public long getCaptured() {
+        return captured.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getFiles() {
+        return files.sum();
+    }
+
+    private static final class CaptureFile {
+
+        private final long sequence;
+        private final FileChannel channel;
+        private final MappedByteBuffer buffer;
+
+        private CaptureFile(long sequence, FileChannel channel, MappedByteBuffer buffer) {
+            this.sequence = sequence;
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        // the mapping is released before the file is truncated to the records written so far, the buffer must not
+        // be accessed once it is released
+        private void close(int length) {
+            PlatformDependent.freeDirectBuffer(buffer);
+            try (FileChannel closedChannel = channel) {
+                closedChannel.truncate(length);
+            } catch (IOException e) {
+                log.warn("Unable to close the capture file: " + e.getMessage());
+            }
+        }
+
+        private void discard(CaptureConfig captureConfig) {
+            close(0);
+            try {
+                Files.deleteIfExists(getFilePath(captureConfig, sequence));
+            } catch (IOException e) {
+                log.warn("Unable to delete the capture file: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+/**
+ * {@link CompressionConfig} holds the parameters of the payload compression of a udp client or listener.
+ */
+public class CompressionConfig {
+
+    private final int threshold;
+    private final int level;
+    private final byte[] dictionary;
+
+    public CompressionConfig(int threshold, int level, byte[] dictionary) {
+        this.threshold = threshold;
+        this.level = level;
+        this.dictionary = dictionary;
+    }
+
+    // the smallest payload in bytes which is compressed
+    public int getThreshold() {
+        return threshold;
+    }
+
+    // the Deflater level, -1 for the default level
+    public int getLevel() {
+        return level;
+    }
+
+    // the preset dictionary shared with the peers, empty if there is none
+    public byte[] getDictionary() {
+        return dictionary;
+    }
+}
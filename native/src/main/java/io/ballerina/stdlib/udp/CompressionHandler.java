@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.concurrent.FastThreadLocal;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * {@link CompressionHandler} is a ChannelDuplexHandler which compresses the outgoing datagrams with the raw deflate
+ * format and decompresses the incoming ones, so that the services and the clients only see the original payloads.
+ * <p>
+ * Each datagram starts with a one byte header, {@link #UNCOMPRESSED} or {@link #COMPRESSED}, so both peers must
+ * configure the compression. A payload is compressed if it is at least the threshold and the compressed form is
+ * smaller, otherwise it is sent as it is after the header. The incoming datagrams with an unknown header or a corrupt
+ * payload are dropped and counted as failures. The Deflaters and Inflaters are reset and reused by each event loop
+ * thread, since creating them allocates native memory.
+ */
+public class CompressionHandler extends ChannelDuplexHandler {
+
+    public static final byte UNCOMPRESSED = 0;
+    public static final byte COMPRESSED = 1;
+    public static final int HEADER_SIZE = 1;
+
+    // a Deflater per level, -1 to 9, since a level change only takes effect after the next deflate
+    private static final FastThreadLocal<Deflater[]> DEFLATERS = new FastThreadLocal<>() {
+        @Override
+        protected Deflater[] initialValue() {
+            return new Deflater[Deflater.BEST_COMPRESSION + 2];
+        }
+
+        @Override
+        protected void onRemoval(Deflater[] deflaters) {
+            for (Deflater deflater : deflaters) {
+                if (deflater != null) {
+                    deflater.end();
+                }
+            }
+        }
+    };
+    private static final FastThreadLocal<Inflater> INFLATERS = new FastThreadLocal<>() {
+        @Override
+        protected Inflater initialValue() {
+            return new Inflater(true);
+        }
+
+        @Override
+        protected void onRemoval(Inflater inflater) {
+            inflater.end();
+        }
+    };
+    // the payload of a datagram never exceeds this, so a larger decompressed payload is corrupt
+    private static final FastThreadLocal<byte[]> INFLATE_BUFFERS = new FastThreadLocal<>() {
+        @Override
+        protected byte[] initialValue() {
+            return new byte[Constants.MAX_DATAGRAM_DATA_SIZE + 1];
+        }
+    };
+
+    private final CompressionConfig compressionConfig;
+    private final LongAdder compressed = new LongAdder();
+    private final LongAdder uncompressed = new LongAdder();
+    private final LongAdder originalBytes = new LongAdder();
+    private final LongAdder compressedBytes = new LongAdder();
+    private final LongAdder compressionTimeNanos = new LongAdder();
+    private final LongAdder decompressed = new LongAdder();
+    private final LongAdder decompressionTimeNanos = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public CompressionHandler(CompressionConfig compressionConfig) {
+        this.compressionConfig = compressionConfig;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof DatagramPacket)) {
+            ctx.write(msg, promise);
+            return;
+        }
+        DatagramPacket datagram = (DatagramPacket) msg;
+        ByteBuf content = datagram.content();
+        ByteBuf encoded = null;
+        if (content.readableBytes() >= Math.max(compressionConfig.getThreshold(), HEADER_SIZE + 1)) {
+            encoded = compress(ctx, content);
+        }
+        if (encoded == null) {
+            uncompressed.increment();
+            encoded = ctx.alloc().directBuffer(HEADER_SIZE + content.readableBytes());
+            encoded.writeByte(UNCOMPRESSED).writeBytes(content, content.readerIndex(), content.readableBytes());
+        }
+        ctx.write(datagram.replace(encoded), promise);
+        datagram.release();
+    }
+
+    // null if the compressed payload would not be smaller than the original
+    private ByteBuf compress(ChannelHandlerContext ctx, ByteBuf content) {
+        long start = System.nanoTime();
+        int length = content.readableBytes();
+        Deflater deflater = getDeflater(compressionConfig.getLevel());
+        deflater.reset();
+        if (compressionConfig.getDictionary().length > 0) {
+            deflater.setDictionary(compressionConfig.getDictionary());
+        }
+        deflater.setInput(content.nioBuffer());
+        deflater.finish();
+        // the compressed payload and the header should fit in the length of the original payload
+        ByteBuf encoded = ctx.alloc().directBuffer(length);
+        encoded.writeByte(COMPRESSED);
+        int compressedLength = deflater.deflate(encoded.nioBuffer(HEADER_SIZE, length - HEADER_SIZE));
+        boolean finished = deflater.finished();
+        compressionTimeNanos.add(System.nanoTime() - start);
+        if (!finished) {
+            encoded.release();
+            return null;
+        }
+        compressed.increment();
+        originalBytes.add(length);
+        compressedBytes.add(compressedLength);
+        return encoded.writerIndex(HEADER_SIZE + compressedLength);
+    }
+
+    private static Deflater getDeflater(int level) {
+        Deflater[] deflaters = DEFLATERS.get();
+        Deflater deflater = deflaters[level + 1];
+        if (deflater == null) {
+            deflater = new Deflater(level, true);
+            deflaters[level + 1] = deflater;
+        }
+        return deflater;
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (!(msg instanceof DatagramPacket)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+        DatagramPacket datagram = (DatagramPacket) msg;
+        ByteBuf content = datagram.content();
+        byte header = content.readableBytes() < HEADER_SIZE ? -1 : content.readByte();
+        if (header == UNCOMPRESSED) {
+            ctx.fireChannelRead(datagram);
+            return;
+        }
+        ByteBuf decoded = header == COMPRESSED ? decompress(ctx, content) : null;
+        if (decoded == null) {
+            failures.increment();
+            datagram.release();
+            return;
+        }
+        ctx.fireChannelRead(datagram.replace(decoded));
+        datagram.release();
+    }
+
+    // null if the payload is corrupt
+    private ByteBuf decompress(ChannelHandlerContext ctx, ByteBuf content) {
+        long start = System.nanoTime();
+        Inflater inflater = INFLATERS.get();
+        byte[] buffer = INFLATE_BUFFERS.get();
+        inflater.reset();
+        if (compressionConfig.getDictionary().length > 0) {
+            inflater.setDictionary(compressionConfig.getDictionary());
+        }
+        inflater.setInput(content.nioBuffer());
+        int length;
+        try {
+            length = inflater.inflate(buffer);
+        } catch (DataFormatException e) {
+            return null;
+        } finally {
+            decompressionTimeNanos.add(System.nanoTime() - start);
+        }
+        if (!inflater.finished() || length > Constants.MAX_DATAGRAM_DATA_SIZE) {
+            return null;
+        }
+        decompressed.increment();
+        return ctx.alloc().heapBuffer(length).writeBytes(buffer, 0, length);
+    }
+
+    public long getCompressed() {
+        return compressed.sum();
+    }
+
+    public long getUncompressed() {
+        return uncompressed.sum();
+    }
+
+    public long getOriginalBytes() {
+        return originalBytes.sum();
+    }
+
+    public long getCompressedBytes() {
+        return compressedBytes.sum();
+    }
+
+    public long getCompressionTimeNanos() {
+        return compressionTimeNanos.sum();
+    }
+
+    public long getDecompressed() {
+        return decompressed.sum();
+    }
+
+    public long getDecompressionTimeNanos() {
+        return decompressionTimeNanos.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+}
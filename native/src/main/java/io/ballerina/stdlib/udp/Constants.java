@@ -18,6 +18,10 @@
 
 package io.ballerina.stdlib.udp;
 
+import io.netty.util.AttributeKey;
+
+import java.util.Set;
+
 /**
  * Constant variable for udp related operations.
  */
@@ -41,28 +45,257 @@ public final class Constants {
     public static final String CONFIG_LOCALHOST = "localHost";
     public static final String CONFIG_REMOTE_HOST = "remoteHost";
     public static final String CONFIG_REMOTE_PORT = "remotePort";
+    public static final String CONFIG_MULTICAST_GROUPS = "multicastGroups";
+    public static final String CONFIG_MULTICAST_INTERFACE = "multicastInterface";
+    public static final String CONFIG_MULTICAST_TTL = "multicastTtl";
+    public static final String CONFIG_MULTICAST_LOOPBACK = "multicastLoopback";
+    public static final String CONFIG_PACING = "pacing";
+    public static final String CONFIG_PACING_RATE = "rate";
+    public static final String CONFIG_PACING_BURST = "burst";
+    public static final String CONFIG_PACING_PER_DESTINATION = "perDestination";
+    public static final String CONFIG_DISPATCH = "dispatch";
+    public static final String CONFIG_INLINE_THRESHOLD = "inlineThreshold";
+    public static final String CONFIG_MAX_BATCH_SIZE = "maxBatchSize";
+    public static final String CONFIG_REPLY_FLUSH_DELAY = "replyFlushDelay";
+    public static final String CONFIG_ASYNC_SEND = "asyncSend";
+    public static final String CONFIG_MAX_ERROR_LOG_SIZE = "maxErrorLogSize";
+    public static final int DEFAULT_MAX_ERROR_LOG_SIZE = 16;
+    public static final String CONFIG_FRAGMENT_SIZE = "fragmentSize";
+    public static final String CONFIG_PATH_MTU = "pathMtu";
+    public static final String CONFIG_FALLBACK_MTU = "fallbackMtu";
+    public static final String CONFIG_PROBE_INTERVAL = "probeInterval";
+    public static final String CONFIG_CAPTURE = "capture";
+    public static final String CONFIG_CAPTURE_PATH = "path";
+    public static final String CONFIG_CAPTURE_FORMAT = "format";
+    public static final String CONFIG_MAX_FILE_SIZE = "maxFileSize";
+    public static final String CONFIG_MAX_FILES = "maxFiles";
+    public static final String CONFIG_TRACING = "tracing";
+    public static final String CONFIG_SAMPLING_RATE = "samplingRate";
+    public static final String CONFIG_HEAVY_HITTERS = "heavyHitters";
+    public static final String CONFIG_TOP_K = "topK";
+    public static final String CONFIG_WIDTH = "width";
+    public static final String CONFIG_DEPTH = "depth";
+    public static final String CONFIG_DECAY_INTERVAL = "decayInterval";
+    public static final String CONFIG_DECAY_FACTOR = "decayFactor";
+    public static final String CONFIG_ADDRESS_FILTER = "addressFilter";
+    public static final String CONFIG_ALLOW = "allow";
+    public static final String CONFIG_DENY = "deny";
+    public static final String CONFIG_DEDUP = "dedup";
+    public static final String CONFIG_WINDOW = "window";
+    public static final String CONFIG_EXPECTED_DATAGRAMS = "expectedDatagrams";
+    public static final String CONFIG_FALSE_POSITIVE_RATE = "falsePositiveRate";
+    public static final String CONFIG_ID_OFFSET = "idOffset";
+    public static final String CONFIG_ID_LENGTH = "idLength";
+    public static final String CONFIG_COMPRESSION = "compression";
+    public static final String CONFIG_THRESHOLD = "threshold";
+    public static final String CONFIG_LEVEL = "level";
+    public static final String CONFIG_DICTIONARY = "dictionary";
+    public static final String CONFIG_SESSIONS = "sessions";
+    public static final String CONFIG_IDLE_TIMEOUT = "idleTimeout";
+    public static final String CONFIG_MAX_SESSIONS = "maxSessions";
+    public static final String CONFIG_RELAY = "relay";
+    public static final String CONFIG_BACKENDS = "backends";
+    public static final String CONFIG_STRATEGY = "strategy";
+    public static final String CONFIG_MAX_MAPPINGS = "maxMappings";
+    public static final String CONFIG_MAX_FAILURES = "maxFailures";
+    public static final String CONFIG_RETRY_INTERVAL = "retryInterval";
 
     // Constant handler names
     public static final String READ_TIMEOUT_HANDLER = "readTimeoutHandler";
     public static final String CONNECTIONLESS_CLIENT_HANDLER = "clientHandler";
     public static final String CONNECT_CLIENT_HANDLER = "connectClientHandler";
     public static final String LISTENER_HANDLER = "udpListenerHandler";
+    public static final String PACING_HANDLER = "pacingHandler";
+    public static final String REPLY_FLUSH_HANDLER = "replyFlushHandler";
+    public static final String PATH_MTU_HANDLER = "pathMtuHandler";
+    public static final String DATAGRAM_QUEUE_HANDLER = "datagramQueueHandler";
+    public static final String CAPTURE_HANDLER = "captureHandler";
+    public static final String HEAVY_HITTER_HANDLER = "heavyHitterHandler";
+    public static final String DEDUP_HANDLER = "dedupHandler";
+    public static final String COMPRESSION_HANDLER = "compressionHandler";
+    public static final String SESSION_HANDLER = "sessionHandler";
+    public static final String RELAY_HANDLER = "relayHandler";
 
     // Remote method names of ballerina service object
     public static final String ON_BYTES = "onBytes";
     public static final String ON_DATAGRAM = "onDatagram";
     public static final String ON_ERROR = "onError";
+    public static final String ON_SESSION_IDLE = "onSessionIdle";
+
+    // Constants related to the dispatch descriptor generated by the compiler plugin
+    public static final String DISPATCH_DESCRIPTOR_ANNOTATION = "DispatchDescriptor";
+    public static final String DESCRIPTOR_VALUE = "value";
+    public static final String DESCRIPTOR_METHOD_SEPARATOR = ";";
+    public static final String DESCRIPTOR_FIELD_SEPARATOR = ":";
+    public static final char DESCRIPTOR_DATA = 'D';
+    public static final char DESCRIPTOR_CALLER = 'C';
+    public static final char DESCRIPTOR_ERROR = 'E';
+    public static final char DESCRIPTOR_SESSION = 'S';
+    public static final char DESCRIPTOR_BYTES = 'B';
+    public static final char DESCRIPTOR_DATAGRAM = 'G';
+    public static final char DESCRIPTOR_NIL = 'N';
+    public static final String DESCRIPTOR_ALL_RETURN_KINDS = "BGEN";
 
     // Constants related to caller
     public static final String CALLER = "Caller";
     public static final String CALLER_REMOTE_HOST = "remoteHost";
     public static final String CALLER_REMOTE_PORT = "remotePort";
 
+    // Constants related to ballerina PacingStats record
+    public static final String PACING_STATS = "PacingStats";
+    public static final String PACED_DATAGRAMS = "pacedDatagrams";
+    public static final String HELD_DATAGRAMS = "heldDatagrams";
+    public static final String PENDING_DATAGRAMS = "pendingDatagrams";
+    public static final String TOTAL_HOLD_TIME = "totalHoldTime";
+    public static final String MAX_HOLD_TIME = "maxHoldTime";
+
+    // Constants related to ballerina DispatchStats record
+    public static final String DISPATCH_STATS = "DispatchStats";
+    public static final String BATCHED_DISPATCHES = "batchedDispatches";
+    public static final String OFFLOADED_DISPATCHES = "offloadedDispatches";
+    public static final String BATCHES = "batches";
+    public static final String AVERAGE_HANDLER_TIME = "averageHandlerTime";
+
+    // Constants related to ballerina ReplyStats record
+    public static final String REPLY_STATS = "ReplyStats";
+    public static final String REPLIES = "replies";
+    public static final String FLUSHES = "flushes";
+
+    // Constants related to ballerina SendStats record
+    public static final String SEND_STATS = "SendStats";
+    public static final String PENDING_SENDS = "pendingSends";
+    public static final String COMPLETED_SENDS = "completedSends";
+    public static final String FAILED_SENDS = "failedSends";
+    public static final String RECENT_ERRORS = "recentErrors";
+
+    // Constants related to ballerina PathMtuStats record
+    public static final String PATH_MTU_STATS = "PathMtuStats";
+    public static final String PROBES = "probes";
+    public static final String FALLBACKS = "fallbacks";
+    public static final String STEP_DOWNS = "stepDowns";
+
+    // Constants related to ballerina FileTransferProgress record
+    public static final String FILE_TRANSFER_PROGRESS = "FileTransferProgress";
+    public static final String FILE_TRANSFER_PATH = "path";
+    public static final String TOTAL_BYTES = "totalBytes";
+    public static final String SENT_BYTES = "sentBytes";
+    public static final String SENT_CHUNKS = "sentChunks";
+
+    // Constants related to ballerina CaptureStats record
+    public static final String CAPTURE_STATS = "CaptureStats";
+    public static final String CAPTURED = "captured";
+    public static final String DROPPED = "dropped";
+    public static final String FILES = "files";
+
+    // Tags added to the observer context of a traced datagram
+    public static final String TAG_SENDER = "udp.sender";
+    public static final String TAG_BYTES = "udp.bytes";
+    public static final String TAG_DISPATCHED = "udp.dispatched.us";
+    public static final String TAG_HANDLED = "udp.handled.us";
+    public static final String TAG_FLUSHED = "udp.flushed.us";
+
+    // Constants related to ballerina EventLoopStats record
+    public static final String EVENT_LOOP_STATS = "EventLoopStats";
+    public static final String EVENT_LOOP_NAME = "name";
+    public static final String PENDING_TASKS = "pendingTasks";
+    public static final String LATENCY = "latency";
+    public static final String MAX_LATENCY = "maxLatency";
+    public static final String STALLS = "stalls";
+
+    // Constants related to ballerina HeavyHitterStats and HeavyHitter records
+    public static final String HEAVY_HITTER_STATS = "HeavyHitterStats";
+    public static final String HEAVY_HITTER = "HeavyHitter";
+    public static final String TOTAL_PACKETS = "totalPackets";
+    public static final String HITTERS = "hitters";
+    public static final String PACKETS = "packets";
+    public static final String BYTES = "bytes";
+
+    // Constants related to ballerina AddressFilterStats and AddressFilterRuleStats records
+    public static final String ADDRESS_FILTER_STATS = "AddressFilterStats";
+    public static final String ADDRESS_FILTER_RULE_STATS = "AddressFilterRuleStats";
+    public static final String ACCEPTED = "accepted";
+    public static final String RULES = "rules";
+    public static final String CIDR = "cidr";
+    public static final String ACTION = "action";
+    public static final String HITS = "hits";
+    public static final String ALLOW = "ALLOW";
+    public static final String DENY = "DENY";
+
+    // Constants related to ballerina DedupStats record
+    public static final String DEDUP_STATS = "DedupStats";
+    public static final String CHECKED = "checked";
+    public static final String SUPPRESSED = "suppressed";
+    public static final String SUPPRESSION_RATE = "suppressionRate";
+
+    // Constants related to ballerina CompressionStats record
+    public static final String COMPRESSION_STATS = "CompressionStats";
+    public static final String COMPRESSED = "compressed";
+    public static final String UNCOMPRESSED = "uncompressed";
+    public static final String ORIGINAL_BYTES = "originalBytes";
+    public static final String COMPRESSED_BYTES = "compressedBytes";
+    public static final String RATIO = "ratio";
+    public static final String COMPRESSION_TIME = "compressionTime";
+    public static final String DECOMPRESSED = "decompressed";
+    public static final String DECOMPRESSION_TIME = "decompressionTime";
+    public static final String FAILURES = "failures";
+
+    // Constants related to ballerina BroadcastFailure record
+    public static final String BROADCAST_FAILURE = "BroadcastFailure";
+    public static final String BROADCAST_FAILURE_MESSAGE = "message";
+
+    // Constants related to ballerina Session object and SessionStats record
+    public static final String SESSION = "Session";
+    public static final String SESSION_REMOTE_HOST = "remoteHost";
+    public static final String SESSION_REMOTE_PORT = "remotePort";
+    public static final String PEER_SESSION = "PeerSession";
+    public static final String SESSION_STATS = "SessionStats";
+    public static final String ACTIVE = "active";
+    public static final String CREATED = "created";
+    public static final String EXPIRED = "expired";
+    public static final String EVICTED = "evicted";
+
+    // Constants related to ballerina RelayStats and RelayBackendStats records
+    public static final String RELAY_STATS = "RelayStats";
+    public static final String RELAY_BACKEND_STATS = "RelayBackendStats";
+    public static final String ACTIVE_MAPPINGS = "activeMappings";
+    public static final String CREATED_MAPPINGS = "createdMappings";
+    public static final String EXPIRED_MAPPINGS = "expiredMappings";
+    public static final String EVICTED_MAPPINGS = "evictedMappings";
+    public static final String DROPPED_DATAGRAMS = "droppedDatagrams";
+    public static final String FAILED_REPLIES = "failedReplies";
+    public static final String BACKENDS = "backends";
+    public static final String HEALTHY = "healthy";
+    public static final String FORWARDED_DATAGRAMS = "forwardedDatagrams";
+    public static final String FORWARDED_BYTES = "forwardedBytes";
+    public static final String RETURNED_DATAGRAMS = "returnedDatagrams";
+    public static final String RETURNED_BYTES = "returnedBytes";
+
     public static final String REMOTE_ADDRESS = "remoteAddress";
     public static final String SERVICE = "service";
     public static final String LOCAL_PORT = "localPort";
     public static final String CHANNEL = "Channel";
+    public static final String DATAGRAM_TRACE = "DatagramTrace";
     public static final int DATAGRAM_DATA_SIZE = 8192;
+    // the largest payload of an IPv4 datagram
+    public static final int MAX_DATAGRAM_DATA_SIZE = 65507;
+    // the smallest MTU an IPv4 host must accept
+    public static final int MIN_MTU = 68;
+    public static final int MAX_MTU = 65535;
+    // fits the largest pcap record along with the file header
+    public static final int MIN_CAPTURE_FILE_SIZE = 131072;
+    // bounds the memory of a heavy hitter sketch to a few megabytes
+    public static final int MAX_SKETCH_WIDTH = 1 << 20;
+    public static final int MAX_SKETCH_DEPTH = 8;
+    public static final int MAX_TOP_K = 1024;
+    // bounds each of the two dedup filters to 64 MB
+    public static final long MAX_DEDUP_FILTER_BITS = 1L << 29;
+    // the window of the deflate format
+    public static final int MAX_COMPRESSION_DICTIONARY_SIZE = 32768;
+    public static final int MAX_SESSIONS = 1 << 24;
+    // each relay mapping holds an ephemeral port
+    public static final int MAX_RELAY_MAPPINGS = 65535;
+    public static final AttributeKey<Integer> FRAGMENT_SIZE = AttributeKey.valueOf("udpFragmentSize");
+    public static final AttributeKey<Set<FileTransfer>> FILE_TRANSFERS = AttributeKey.valueOf("udpFileTransfers");
     public static final String READ_ONLY_BYTE_ARRAY = "(byte[] & readonly)";
     public static final String READ_ONLY_DATAGRAM = "(udp:Datagram & readonly)";
     public static final String BYTE_ARRAY = "byte[]";
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.udp;
+
+/**
+ * {@link CountMinSketch} estimates the counts of a large number of keys in a fixed amount of memory.
+ * <p>
+ * Each key is hashed to one counter in each of the rows, and its count is estimated as the smallest of those
+ * counters, which may overestimate but never underestimates the count. The counters are updated conservatively,
+ * i.e. a counter is only raised up to the new estimate of the key, which reduces the overestimation caused by the
+ * keys sharing a counter. The sketch is not thread safe.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    // reused across the updates to avoid an allocation per key
+    private final int[] indexes;
+
+    public CountMinSketch(int width, int depth) {
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+        this.indexes = new int[depth];
+    }
+
+    // adds the count to the key and returns the new estimate of the key
+    public long add(long key, long count) {
+        computeIndexes(key);
+        long estimate = Long.MAX_VALUE;
+        for (int index : indexes) {
+            estimate = Math.min(estimate, counters[index]);
+        }
+        estimate += count;
+        for (int index : indexes) {
+            if (counters[index] < estimate) {
+                counters[index] = estimate;
+            }
+        }
+        return estimate;
+    }
+
+    public long estimate(long key) {
+        computeIndexes(key);
+        long estimate = Long.MAX_VALUE;
+        for (int index : indexes) {
+            estimate = Math.min(estimate, counters[index]);
+        }
+        return estimate;
+    }
+
+    public void decay(double factor) {
+        for (int i = 0; i < counters.length; i++) {
+            counters[i] = (long) (counters[i] * factor);
+        }
+    }
+
+    // the rows are indexed by double hashing of a single 64-bit hash, the width is a power of two
+    private void computeIndexes(long key) {
+        long hash = AddressHash.mix(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            indexes[row] = row * width + ((hash1 + row * hash2) & (width - 1));
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.stdlib.udp.jfr.DatagramReceivedEvent;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.socket.DatagramPacket;
+
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link DatagramQueueHandler} is a ChannelInboundHandler which queues the received datagrams of a listener for a
+ * Ballerina stream, instead of dispatching them to a service.
+ * <p>
+ * The reads of the channel are paused once the queue is full and resumed once the stream has taken half of it, so
+ * the datagrams which can't be consumed are left to the socket buffer. The datagrams read in the same read loop are
+ * still queued after the reads are paused, so the queue may exceed the queue size by the number of messages read
+ * per loop.
+ */
+public class DatagramQueueHandler extends SimpleChannelInboundHandler<DatagramPacket> {
+
+    private final int queueSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final ArrayDeque<Object> queue = new ArrayDeque<>();
+    private final Channel channel;
+    private final AddressFilter addressFilter;
+    private boolean paused;
+    private boolean closed;
+    private String pendingError;
+
+    public DatagramQueueHandler(Channel channel, int queueSize, AddressFilter addressFilter) {
+        this.channel = channel;
+        this.queueSize = queueSize;
+        this.addressFilter = addressFilter;
+    }
+
+    @Override
+    protected void channelRead0(ChannelHandlerContext ctx, DatagramPacket datagramPacket) {
+        if (!addressFilter.accept(datagramPacket.sender().getAddress())) {
+            return;
+        }
+        DatagramReceivedEvent.commit(datagramPacket);
+        Object datagram = Utils.createReadOnlyDatagramWithSenderAddress(datagramPacket);
+        lock.lock();
+        try {
+            queue.add(datagram);
+            if (!paused && queue.size() >= queueSize) {
+                paused = true;
+                channel.config().setAutoRead(false);
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        lock.lock();
+        try {
+            pendingError = cause.getMessage();
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) {
+        close();
+        ctx.fireChannelInactive();
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        close();
+    }
+
+    private void close() {
+        lock.lock();
+        try {
+            closed = true;
+            if (paused) {
+                paused = false;
+                channel.config().setAutoRead(true);
+            }
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes up to the given number of queued datagrams, blocking the calling thread until at least one is queued.
+     *
+     * @param maxCount the largest number of datagrams to take
+     * @return a readonly array of datagrams, a udp error if reading failed, or null once the stream is closed and
+     *         the queued datagrams are taken
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public Object poll(int maxCount) throws InterruptedException {
+        lock.lock();
+        try {
+            while (queue.isEmpty() && pendingError == null && !closed) {
+                notEmpty.await();
+            }
+            if (queue.isEmpty()) {
+                if (pendingError == null) {
+                    return null;
+                }
+                String error = pendingError;
+                pendingError = null;
+                return Utils.createUdpError(error);
+            }
+            Object[] datagrams = new Object[Math.min(maxCount, queue.size())];
+            for (int i = 0; i < datagrams.length; i++) {
+                datagrams[i] = queue.poll();
+            }
+            if (paused && !closed && queue.size() <= queueSize / 2) {
+                paused = false;
+                channel.config().setAutoRead(true);
+            }
+            return Utils.createReadonlyArray(datagrams);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // closes the stream, the datagrams received afterwards are dropped by the listener
+    public void remove() {
+        try {
+            channel.pipeline().remove(this);
+        } catch (NoSuchElementException e) {
+            // already removed along with the channel
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.observability.ObservabilityConstants;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.runtime.observability.ObserverContext;
+import io.netty.channel.socket.DatagramPacket;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link DatagramTrace} records the phases of a sampled datagram in the observer context of its remote method call.
+ * <p>
+ * The context is passed to the strand of the call, so that the span started for the remote method carries the
+ * tags of the datagram. The span is closed manually once the method has returned and the replies sent for the
+ * datagram, either returned by the method or sent through the {@code udp:Caller}, are flushed. The time of each
+ * phase is tagged as the microseconds elapsed since the datagram was read from the socket, because the span
+ * itself starts only once the method is called.
+ */
+public class DatagramTrace {
+
+    private static final Logger log = LoggerFactory.getLogger(DatagramTrace.class);
+
+    private final ObserverContext observerContext = new ObserverContext();
+    private final long readNanos;
+    // the remote method call and each pending reply hold the trace open
+    private final AtomicInteger pending = new AtomicInteger(1);
+    private volatile long lastReplyNanos;
+
+    DatagramTrace(DatagramPacket datagramPacket, long readNanos) {
+        this.readNanos = readNanos;
+        observerContext.setManuallyClosed(true);
+        observerContext.addTag(Constants.TAG_SENDER, datagramPacket.sender().getAddress().getHostAddress() + ":"
+                + datagramPacket.sender().getPort());
+        observerContext.addTag(Constants.TAG_BYTES, String.valueOf(datagramPacket.content().readableBytes()));
+    }
+
+    public StrandMetadata getMetadata(StrandMetadata metadata) {
+        return new StrandMetadata(metadata.isConcurrentSafe(),
+                Map.of(ObservabilityConstants.KEY_OBSERVER_CONTEXT, observerContext));
+    }
+
+    public void dispatched() {
+        tagElapsed(Constants.TAG_DISPATCHED, System.nanoTime());
+    }
+
+    public void handled() {
+        tagElapsed(Constants.TAG_HANDLED, System.nanoTime());
+        release();
+    }
+
+    // returns false if the trace is already closed, i.e. the reply is sent after the method has returned
+    public boolean replyQueued() {
+        int count;
+        do {
+            count = pending.get();
+            if (count == 0) {
+                return false;
+            }
+        } while (!pending.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    public void replyFlushed() {
+        lastReplyNanos = System.nanoTime();
+        release();
+    }
+
+    private void release() {
+        if (pending.decrementAndGet() != 0) {
+            return;
+        }
+        if (lastReplyNanos != 0) {
+            tagElapsed(Constants.TAG_FLUSHED, lastReplyNanos);
+        }
+        try {
+            ObserveUtils.stopObservationWithContext(observerContext);
+        } catch (Throwable t) {
+            log.debug("Unable to close the span of the datagram", t);
+        }
+    }
+
+    private void tagElapsed(String tag, long nanos) {
+        observerContext.addTag(tag, String.valueOf(TimeUnit.NANOSECONDS.toMicros(nanos - readNanos)));
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.channel.socket.DatagramPacket;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * {@link DatagramTracer} decides which of the datagrams received by a listener are traced.
+ * <p>
+ * The decision is made once per datagram, as soon as it is read from the socket, so a datagram which is not
+ * sampled costs a random number and nothing else on its way through the dispatcher. A sampled datagram carries a
+ * {@link DatagramTrace} which joins the observability span of the remote method call.
+ */
+public class DatagramTracer {
+
+    private final TracingConfig tracingConfig;
+
+    public DatagramTracer(TracingConfig tracingConfig) {
+        this.tracingConfig = tracingConfig;
+    }
+
+    // null if the datagram is not sampled
+    public DatagramTrace sample(DatagramPacket datagramPacket) {
+        if (ThreadLocalRandom.current().nextDouble() >= tracingConfig.getSamplingRate()) {
+            return null;
+        }
+        return new DatagramTrace(datagramPacket, System.nanoTime());
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+/**
+ * {@link DedupConfig} holds the time window and the sizing of the filters used to drop the duplicate datagrams
+ * received by a listener.
+ */
+public class DedupConfig {
+
+    private final long windowNanos;
+    private final int expectedDatagrams;
+    private final double falsePositiveRate;
+    private final int idOffset;
+    private final int idLength;
+
+    public DedupConfig(long windowNanos, int expectedDatagrams, double falsePositiveRate, int idOffset,
+                       int idLength) {
+        this.windowNanos = windowNanos;
+        this.expectedDatagrams = expectedDatagrams;
+        this.falsePositiveRate = falsePositiveRate;
+        this.idOffset = idOffset;
+        this.idLength = idLength;
+    }
+
+    // a duplicate is dropped if it arrives within this time of the first datagram
+    public long getWindowNanos() {
+        return windowNanos;
+    }
+
+    // the number of distinct datagrams expected in a window, which the filters are sized for
+    public int getExpectedDatagrams() {
+        return expectedDatagrams;
+    }
+
+    // the probability of dropping a datagram which is not a duplicate, once the expected datagrams are received
+    public double getFalsePositiveRate() {
+        return falsePositiveRate;
+    }
+
+    public int getIdOffset() {
+        return idOffset;
+    }
+
+    // 0 if the datagrams are identified by the sender and the whole payload
+    public int getIdLength() {
+        return idLength;
+    }
+}
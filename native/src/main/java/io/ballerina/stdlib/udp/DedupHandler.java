@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link DedupHandler} is a ChannelInboundHandler which drops the datagrams received by a listener again within a
+ * time window, before they are dispatched.
+ * <p>
+ * A datagram is identified by a 64-bit hash of its sender and payload, or of its sender and a configured byte range
+ * of the payload which holds an ID assigned by the sender. The hashes are kept in a {@link RotatingBloomFilter},
+ * which is rotated from the event loop once per window. So a duplicate is dropped if it arrives within one window of
+ * the first datagram, and may be dropped up to two windows later. The filter may also drop a datagram which is not a
+ * duplicate, at the configured false positive rate. The datagrams too short to hold the ID are passed on unchecked.
+ */
+public class DedupHandler extends ChannelInboundHandlerAdapter {
+
+    private final DedupConfig dedupConfig;
+    private final RotatingBloomFilter filter;
+    private final LongAdder checked = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+    private ScheduledFuture<?> rotateFuture;
+
+    public DedupHandler(DedupConfig dedupConfig) {
+        this.dedupConfig = dedupConfig;
+        this.filter = new RotatingBloomFilter(dedupConfig.getExpectedDatagrams(), dedupConfig.getFalsePositiveRate());
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        long windowNanos = dedupConfig.getWindowNanos();
+        rotateFuture = ctx.executor().scheduleAtFixedRate(filter::rotate, windowNanos, windowNanos,
+                TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (rotateFuture != null) {
+            rotateFuture.cancel(false);
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof DatagramPacket && isDuplicate((DatagramPacket) msg)) {
+            ReferenceCountUtil.release(msg);
+            return;
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    private boolean isDuplicate(DatagramPacket datagram) {
+        ByteBuf content = datagram.content();
+        long hash;
+        if (dedupConfig.getIdLength() == 0) {
+            hash = hash(content, content.readerIndex(), content.readableBytes(),
+                    AddressHash.hash(datagram.sender()));
+        } else if (content.readableBytes() >= dedupConfig.getIdOffset() + dedupConfig.getIdLength()) {
+            // the IDs are only unique per sender, so two senders reusing an ID are not duplicates of each other
+            hash = hash(content, content.readerIndex() + dedupConfig.getIdOffset(), dedupConfig.getIdLength(),
+                    AddressHash.hash(datagram.sender()));
+        } else {
+            return false;
+        }
+        checked.increment();
+        if (filter.addIfAbsent(hash)) {
+            suppressed.increment();
+            return true;
+        }
+        return false;
+    }
+
+    // hashes the bytes in place, 8 at a time, without copying them out of the buffer
+    private static long hash(ByteBuf buffer, int index, int length, long seed) {
+        long hash = seed ^ (length * AddressHash.SEED);
+        int end = index + length;
+        for (; index + Long.BYTES <= end; index += Long.BYTES) {
+            hash = Long.rotateLeft(hash ^ AddressHash.mix(buffer.getLongLE(index)), 27) * AddressHash.SEED;
+        }
+        long tail = 0;
+        for (int shift = 0; index < end; index++, shift += Byte.SIZE) {
+            tail |= (buffer.getByte(index) & 0xFFL) << shift;
+        }
+        return AddressHash.mix(hash ^ AddressHash.mix(tail));
+    }
+
+    public long getChecked() {
+        return checked.sum();
+    }
+
+    public long getSuppressed() {
+        return suppressed.sum();
+    }
+}
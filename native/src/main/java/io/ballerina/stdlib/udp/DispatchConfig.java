@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+/**
+ * {@link DispatchConfig} holds the parameters of the adaptive dispatching of a udp listener.
+ */
+public class DispatchConfig {
+
+    private final long inlineThresholdNanos;
+    private final int maxBatchSize;
+
+    public DispatchConfig(long inlineThresholdNanos, int maxBatchSize) {
+        this.inlineThresholdNanos = inlineThresholdNanos;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    // handlers with a moving average at or below this are run in the batched worker
+    public long getInlineThresholdNanos() {
+        return inlineThresholdNanos;
+    }
+
+    // maximum number of calls run by the batched worker per wake-up
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.api.types.MethodType;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.types.Parameter;
+import io.ballerina.runtime.api.types.TypeTags;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+
+/**
+ * {@link DispatchDescriptor} describes the remote methods of a udp service, so that the dispatcher does not
+ * have to rediscover the method signatures for every datagram.
+ * <p>
+ * The descriptor is generated by the compiler plugin and attached to the service using the
+ * {@code udp:DispatchDescriptor} annotation. The encoded form contains an entry per remote method separated by
+ * {@link Constants#DESCRIPTOR_METHOD_SEPARATOR}. Each entry is the method name, the parameter kinds in the declared
+ * order and the possible return kinds, separated by {@link Constants#DESCRIPTOR_FIELD_SEPARATOR}, e.g.
+ * {@code onBytes:DC:BEN;onError:E:N}. When a service has no descriptor (e.g., a service object constructed at
+ * runtime), the descriptor is derived from the service type once, at attach time.
+ */
+public class DispatchDescriptor {
+
+    private final String dataMethod;
+    private final char[] dataParameters;
+    private final String dataReturnKinds;
+    private final boolean hasOnError;
+    private final boolean hasOnSessionIdle;
+    private final StrandMetadata dataMethodMetadata;
+    private final StrandMetadata onErrorMetadata;
+    private final StrandMetadata onSessionIdleMetadata;
+
+    private DispatchDescriptor(ObjectType serviceType, String dataMethod, char[] dataParameters,
+                               String dataReturnKinds, boolean hasOnError, boolean hasOnSessionIdle) {
+        this.dataMethod = dataMethod;
+        this.dataParameters = dataParameters;
+        this.dataReturnKinds = dataReturnKinds;
+        this.hasOnError = hasOnError;
+        this.hasOnSessionIdle = hasOnSessionIdle;
+        this.dataMethodMetadata = dataMethod == null ? null : createMetadata(serviceType, dataMethod);
+        this.onErrorMetadata = hasOnError ? createMetadata(serviceType, Constants.ON_ERROR) : null;
+        this.onSessionIdleMetadata = hasOnSessionIdle ? createMetadata(serviceType, Constants.ON_SESSION_IDLE) : null;
+    }
+
+    public static DispatchDescriptor of(ObjectType serviceType) {
+        DispatchDescriptor descriptor = fromAnnotation(serviceType);
+        return descriptor != null ? descriptor : fromServiceType(serviceType);
+    }
+
+    private static DispatchDescriptor fromAnnotation(ObjectType serviceType) {
+        Object annotation = serviceType.getAnnotation(StringUtils.fromString(getAnnotationKey()));
+        if (!(annotation instanceof BMap)) {
+            return null;
+        }
+        BString encoded = ((BMap<BString, Object>) annotation)
+                .getStringValue(StringUtils.fromString(Constants.DESCRIPTOR_VALUE));
+        return encoded == null ? null : parse(serviceType, encoded.getValue());
+    }
+
+    // returns null for a malformed descriptor so that the service type is used instead
+    static DispatchDescriptor parse(ObjectType serviceType, String encoded) {
+        String dataMethod = null;
+        char[] dataParameters = new char[0];
+        String dataReturnKinds = "";
+        boolean hasOnError = false;
+        boolean hasOnSessionIdle = false;
+        for (String entry : encoded.split(Constants.DESCRIPTOR_METHOD_SEPARATOR)) {
+            String[] fields = entry.split(Constants.DESCRIPTOR_FIELD_SEPARATOR, -1);
+            if (fields.length != 3) {
+                return null;
+            }
+            switch (fields[0]) {
+                case Constants.ON_BYTES:
+                case Constants.ON_DATAGRAM:
+                    dataMethod = fields[0];
+                    dataParameters = fields[1].toCharArray();
+                    dataReturnKinds = fields[2];
+                    break;
+                case Constants.ON_ERROR:
+                    hasOnError = true;
+                    break;
+                case Constants.ON_SESSION_IDLE:
+                    hasOnSessionIdle = true;
+                    break;
+                default:
+                    return null;
+            }
+        }
+        return new DispatchDescriptor(serviceType, dataMethod, dataParameters, dataReturnKinds, hasOnError,
+                hasOnSessionIdle);
+    }
+
+    static DispatchDescriptor fromServiceType(ObjectType serviceType) {
+        String dataMethod = null;
+        char[] dataParameters = new char[0];
+        boolean hasOnError = false;
+        boolean hasOnSessionIdle = false;
+        for (MethodType method : serviceType.getMethods()) {
+            switch (method.getName()) {
+                case Constants.ON_BYTES:
+                case Constants.ON_DATAGRAM:
+                    dataMethod = method.getName();
+                    dataParameters = getParameterKinds(method.getType().getParameters());
+                    break;
+                case Constants.ON_ERROR:
+                    hasOnError = true;
+                    break;
+                case Constants.ON_SESSION_IDLE:
+                    hasOnSessionIdle = true;
+                    break;
+                default:
+                    break;
+            }
+        }
+        // without the compiler generated descriptor any of the return kinds is possible
+        return new DispatchDescriptor(serviceType, dataMethod, dataParameters, Constants.DESCRIPTOR_ALL_RETURN_KINDS,
+                hasOnError, hasOnSessionIdle);
+    }
+
+    private static char[] getParameterKinds(Parameter[] parameters) {
+        char[] kinds = new char[parameters.length];
+        int index = 0;
+        for (Parameter parameter : parameters) {
+            switch (parameter.type.getTag()) {
+                case TypeTags.INTERSECTION_TAG:
+                    kinds[index++] = Constants.DESCRIPTOR_DATA;
+                    break;
+                case TypeTags.OBJECT_TYPE_TAG:
+                    kinds[index++] = Constants.DESCRIPTOR_CALLER;
+                    break;
+                default:
+                    break;
+            }
+        }
+        return Arrays.copyOf(kinds, index);
+    }
+
+    private static StrandMetadata createMetadata(ObjectType serviceType, String methodName) {
+        return new StrandMetadata(serviceType.isIsolated() && serviceType.isIsolated(methodName), null);
+    }
+
+    private static String getAnnotationKey() {
+        Module udpModule = Utils.getUdpPackage();
+        return udpModule.getOrg() + "/" + udpModule.getName() + ":" + udpModule.getMajorVersion() + ":"
+                + Constants.DISPATCH_DESCRIPTOR_ANNOTATION;
+    }
+
+    // onBytes or onDatagram, null if the service has neither of them
+    public String getDataMethod() {
+        return dataMethod;
+    }
+
+    public char[] getDataParameters() {
+        return dataParameters;
+    }
+
+    public boolean canReturnPayload() {
+        return dataReturnKinds.indexOf(Constants.DESCRIPTOR_BYTES) >= 0
+                || dataReturnKinds.indexOf(Constants.DESCRIPTOR_DATAGRAM) >= 0;
+    }
+
+    public boolean hasOnError() {
+        return hasOnError;
+    }
+
+    public boolean hasOnSessionIdle() {
+        return hasOnSessionIdle;
+    }
+
+    public StrandMetadata getMetadata(String methodName) {
+        switch (methodName) {
+            case Constants.ON_ERROR:
+                return onErrorMetadata;
+            case Constants.ON_SESSION_IDLE:
+                return onSessionIdleMetadata;
+            default:
+                return dataMethodMetadata;
+        }
+    }
+}
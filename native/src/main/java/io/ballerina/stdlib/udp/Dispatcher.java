@@ -22,26 +22,20 @@ import io.ballerina.runtime.api.Runtime;
 import io.ballerina.runtime.api.concurrent.StrandMetadata;
 import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
-import io.ballerina.runtime.api.types.MethodType;
-import io.ballerina.runtime.api.types.ObjectType;
-import io.ballerina.runtime.api.types.Parameter;
-import io.ballerina.runtime.api.types.Type;
-import io.ballerina.runtime.api.types.TypeTags;
 import io.ballerina.runtime.api.utils.StringUtils;
-import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
-import io.netty.buffer.Unpooled;
+import io.ballerina.stdlib.udp.jfr.DispatchEvent;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.socket.DatagramPacket;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.InetSocketAddress;
-import java.util.Arrays;
 
 /**
  * Dispatch async methods.
@@ -52,98 +46,76 @@ public final class Dispatcher {
 
     private static final Logger log = LoggerFactory.getLogger(Dispatcher.class);
 
-    private static void invokeOnBytes(UdpService udpService, DatagramPacket datagramPacket, Channel channel,
-                                      Type[] parameterTypes) {
-        try {
-            Object[] params = getOnBytesSignature(datagramPacket, channel, parameterTypes);
-            invokeAsyncCall(udpService, datagramPacket, channel, Constants.ON_BYTES, params);
-        } catch (BError e) {
-            Dispatcher.invokeOnError(udpService, e.getMessage());
-        }
-    }
-
-    private static void invokeOnDatagram(UdpService udpService, DatagramPacket datagramPacket, Channel channel,
-                                         Type[] parameterTypes) {
+    public static void invokeOnError(UdpService udpService, String message) {
         try {
-            Object[] params = getOnDatagramSignature(datagramPacket, channel, parameterTypes);
-            invokeAsyncCall(udpService, datagramPacket, channel, Constants.ON_DATAGRAM, params);
-        } catch (BError e) {
-            Dispatcher.invokeOnError(udpService, e.getMessage());
+            if (udpService.getDispatchDescriptor().hasOnError()) {
+                Object[] params = getOnErrorSignature(message);
+                invokeAsyncCall(udpService, null, null, null, Constants.ON_ERROR, params);
+            }
+        } catch (Throwable t) {
+            log.error("Error while executing onError function", t);
         }
     }
 
-    public static void invokeOnError(UdpService udpService, String message) {
+    public static void invokeOnSessionIdle(UdpService udpService, PeerSession session) {
         try {
-            ObjectType objectType =
-                    (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(udpService.getService()));
-            MethodType methodType = Arrays.stream(objectType.getMethods()).
-                    filter(m -> m.getName().equals(Constants.ON_ERROR)).findFirst().orElse(null);
-            if (methodType != null) {
-                Object[] params = getOnErrorSignature(message);
-                invokeAsyncCall(udpService, null, null, Constants.ON_ERROR, params);
+            if (udpService.getDispatchDescriptor().hasOnSessionIdle()) {
+                Object[] params = new Object[]{Utils.createSession(session)};
+                invokeAsyncCall(udpService, null, null, null, Constants.ON_SESSION_IDLE, params);
             }
         } catch (Throwable t) {
-            log.error("Error while executing onError function", t);
+            log.error("Error while executing onSessionIdle function", t);
         }
     }
 
     private static void invokeAsyncCall(UdpService udpService, DatagramPacket datagramPacket, Channel channel,
-                                        String methodName, Object[] params) {
-        Thread.startVirtualThread(() -> {
+                                        DatagramTrace trace, String methodName, Object[] params) {
+        StrandMetadata descriptorMetadata = udpService.getDispatchDescriptor().getMetadata(methodName);
+        StrandMetadata metadata = trace == null ? descriptorMetadata : trace.getMetadata(descriptorMetadata);
+        Runnable call = () -> {
             BObject service = udpService.getService();
             Runtime runtime = udpService.getRuntime();
-            ObjectType objectType = (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service));
-            StrandMetadata metadata = new StrandMetadata(
-                    objectType.isIsolated() && objectType.isIsolated(methodName), null);
             Object result;
+            if (trace != null) {
+                trace.dispatched();
+            }
+            DispatchEvent dispatchEvent = DispatchEvent.start();
             try {
                 result = runtime.callMethod(service, methodName, metadata, params);
-                handleResult(udpService, datagramPacket, channel, result);
+                handleResult(udpService, datagramPacket, channel, trace, result);
             } catch (BError error) {
                 handleError(error);
             } catch (Throwable throwable) {
                 handleError(ErrorCreator.createError(throwable));
+            } finally {
+                DispatchEvent.finish(dispatchEvent, methodName,
+                        datagramPacket == null ? null : datagramPacket.sender());
+                if (trace != null) {
+                    trace.handled();
+                }
             }
-        });
-    }
-
-    private static Object[] getOnBytesSignature(DatagramPacket datagramPacket, Channel channel, Type[] parameterTypes) {
-        byte[] byteContent = new byte[datagramPacket.content().readableBytes()];
-        datagramPacket.content().readBytes(byteContent);
-
-        Object[] bValues = new Object[parameterTypes.length];
-        int index = 0;
-        for (Type param : parameterTypes) {
-            int paramTag = param.getTag();
-            switch (paramTag) {
-                case TypeTags.INTERSECTION_TAG:
-                    bValues[index++] = ValueCreator.createReadonlyArrayValue(byteContent);
-                    break;
-                case TypeTags.OBJECT_TYPE_TAG:
-                    bValues[index++] = createClient(datagramPacket, channel);
-                    break;
-                default:
-                    break;
-            }
+        };
+        AdaptiveDispatcher adaptiveDispatcher = udpService.getAdaptiveDispatcher();
+        if (adaptiveDispatcher != null) {
+            adaptiveDispatcher.dispatch(methodName, metadata.isConcurrentSafe(), call);
+        } else {
+            Thread.startVirtualThread(call);
         }
-        return bValues;
     }
 
-    private static Object[] getOnDatagramSignature(DatagramPacket datagramPacket, Channel channel,
-                                                   Type[] parameterTypes) {
-        Object[] bValues = new Object[parameterTypes.length];
-        int index = 0;
-        for (Type param : parameterTypes) {
-            int paramTag = param.getTag();
-            switch (paramTag) {
-                case TypeTags.INTERSECTION_TAG:
-                    bValues[index++] = Utils.createReadOnlyDatagramWithSenderAddress(datagramPacket);
-                    break;
-                case TypeTags.OBJECT_TYPE_TAG:
-                    bValues[index++] = createClient(datagramPacket, channel);
-                    break;
-                default:
-                    break;
+    private static Object[] getReadSignature(DispatchDescriptor descriptor, DatagramPacket datagramPacket,
+                                             Channel channel, DatagramTrace trace) {
+        char[] parameterKinds = descriptor.getDataParameters();
+        Object[] bValues = new Object[parameterKinds.length];
+        for (int i = 0; i < parameterKinds.length; i++) {
+            if (parameterKinds[i] == Constants.DESCRIPTOR_CALLER) {
+                bValues[i] = createClient(datagramPacket, channel, trace);
+            } else if (Constants.ON_BYTES.equals(descriptor.getDataMethod())) {
+                byte[] byteContent = new byte[datagramPacket.content().readableBytes()];
+                datagramPacket.content().readBytes(byteContent);
+                bValues[i] = ValueCreator.createReadonlyArrayValue(byteContent);
+            } else {
+                bValues[i] = Utils.createReadOnlyDatagramWithSenderAddress(datagramPacket);
             }
         }
         return bValues;
@@ -153,59 +125,52 @@ public final class Dispatcher {
         return new Object[]{Utils.createUdpError(message)};
     }
 
-    private static BObject createClient(DatagramPacket datagramPacket, Channel channel) {
+    private static BObject createClient(DatagramPacket datagramPacket, Channel channel, DatagramTrace trace) {
         final BObject caller = ValueCreator.createObjectValue(Utils.getUdpPackage(), Constants.CALLER);
         caller.set(StringUtils.fromString(Constants.CALLER_REMOTE_PORT), datagramPacket.sender().getPort());
         caller.set(StringUtils.fromString(Constants.CALLER_REMOTE_HOST),
                 StringUtils.fromString(datagramPacket.sender().getHostName()));
         caller.addNativeData(Constants.CHANNEL, channel);
+        caller.addNativeData(Constants.REMOTE_ADDRESS, datagramPacket.sender());
+        if (trace != null) {
+            caller.addNativeData(Constants.DATAGRAM_TRACE, trace);
+        }
         return caller;
     }
 
     public static void invokeRead(UdpService udpService, DatagramPacket datagramPacket, Channel channel) {
-        ObjectType objectType =
-                (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(udpService.getService()));
-
-        for (MethodType method : objectType.getMethods()) {
-            switch (method.getName()) {
-                case Constants.ON_BYTES:
-                    Dispatcher.invokeOnBytes(udpService, datagramPacket, channel,
-                            getParameterTypes(method.getType().getParameters()));
-                    break;
-                case Constants.ON_DATAGRAM:
-                    Dispatcher.invokeOnDatagram(udpService, datagramPacket, channel,
-                            getParameterTypes(method.getType().getParameters()));
-                    break;
-                default:
-                    break;
-            }
+        DispatchDescriptor descriptor = udpService.getDispatchDescriptor();
+        String methodName = descriptor.getDataMethod();
+        if (methodName == null) {
+            return;
         }
-    }
-
-    private static Type[] getParameterTypes(Parameter[] parameters) {
-        Type[] parameterTypes = new Type[parameters.length];
-        for (int i = 0; i < parameters.length; i++) {
-            parameterTypes[i] = parameters[i].type;
+        DatagramTracer datagramTracer = udpService.getDatagramTracer();
+        DatagramTrace trace = datagramTracer == null ? null : datagramTracer.sample(datagramPacket);
+        try {
+            Object[] params = getReadSignature(descriptor, datagramPacket, channel, trace);
+            invokeAsyncCall(udpService, datagramPacket, channel, trace, methodName, params);
+        } catch (BError e) {
+            Dispatcher.invokeOnError(udpService, e.getMessage());
         }
-        return parameterTypes;
     }
 
-    private static void handleResult(UdpService udpService, DatagramPacket datagramP, Channel channel, Object object) {
-        if (object instanceof BArray) {
+    private static void handleResult(UdpService udpService, DatagramPacket datagramP, Channel channel,
+                                     DatagramTrace trace, Object object) {
+        // the descriptor rules out a reply when the method returns only nil or an error
+        boolean canReturnPayload = udpService.getDispatchDescriptor().canReturnPayload();
+        if (canReturnPayload && object instanceof BArray) {
             // call writeBytes if the service returns byte[]
-            byte[] byteContent = ((BArray) object).getBytes();
-            UdpListener.send(udpService, new DatagramPacket(Unpooled.wrappedBuffer(byteContent),
-                    datagramP.sender()), channel);
-        } else if (object instanceof BMap) {
+            ByteBuf content = Utils.toByteBuf((BArray) object, channel.alloc());
+            UdpListener.send(udpService, new DatagramPacket(content, datagramP.sender()), channel, trace);
+        } else if (canReturnPayload && object instanceof BMap) {
             // call sendDatagram if the service returns Datagram
             BMap<BString, Object> datagram = (BMap<BString, Object>) object;
             String host = datagram.getStringValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_HOST)).getValue();
             int port = datagram.getIntValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_PORT)).intValue();
             BArray data = datagram.getArrayValue(StringUtils.fromString(Constants.DATAGRAM_DATA));
-            byte[] byteContent = data.getBytes();
-            DatagramPacket datagramPacket = new DatagramPacket(Unpooled.wrappedBuffer(byteContent),
+            DatagramPacket datagramPacket = new DatagramPacket(Utils.toByteBuf(data, channel.alloc()),
                     new InetSocketAddress(host, port));
-            UdpListener.send(udpService, datagramPacket, channel);
+            UdpListener.send(udpService, datagramPacket, channel, trace);
         } else if (object instanceof BError) {
             ((BError) object).printStackTrace();
         }
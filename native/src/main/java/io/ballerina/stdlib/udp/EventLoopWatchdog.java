@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.stdlib.udp.jfr.EventLoopStallEvent;
+import io.netty.channel.EventLoopGroup;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link EventLoopWatchdog} watches the event loops shared by the udp clients and listeners for stalls.
+ * <p>
+ * A blocking call on an event loop, e.g. a reverse lookup of a host name from a handler, holds up every socket
+ * served by that loop. The watchdog submits a probe task to each loop at every probe interval, with at most one
+ * probe outstanding per loop, and measures how long the probe waits to run along with the number of pending tasks.
+ * When a probe has waited longer than the stall threshold, the stack trace of the loop thread is logged once per
+ * stall and a flight recorder event is emitted, so the blocking call can be found while the loop is still stuck.
+ */
+public class EventLoopWatchdog {
+
+    private static final Logger log = LoggerFactory.getLogger(EventLoopWatchdog.class);
+
+    private final long stallThresholdNanos;
+    private final List<LoopState> loops = new ArrayList<>();
+    private final ScheduledExecutorService scheduler;
+
+    public EventLoopWatchdog(EventLoopGroup group, long stallThresholdNanos, long probeIntervalNanos) {
+        this.stallThresholdNanos = stallThresholdNanos;
+        for (EventExecutor executor : group) {
+            loops.add(new LoopState(executor));
+        }
+        // a platform thread, so that the watchdog is not held up by the virtual thread scheduler
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "udp-event-loop-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::probe, probeIntervalNanos, probeIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void probe() {
+        long now = System.nanoTime();
+        for (LoopState loop : loops) {
+            loop.probe(now);
+        }
+    }
+
+    public void stop() {
+        scheduler.shutdownNow();
+    }
+
+    public List<LoopState> getLoops() {
+        return loops;
+    }
+
+    /**
+     * The probes and the statistics of a single event loop.
+     */
+    public final class LoopState {
+
+        private final EventExecutor executor;
+        // the loop thread, captured by a task submitted at registration, so that a loop which stalls before its
+        // first probe still reports its stack trace
+        private volatile Thread thread;
+        // 0 while no probe is outstanding
+        private volatile long probeSubmittedAt;
+        // only accessed from the watchdog thread
+        private boolean stallReported;
+        private volatile long lastLatencyNanos;
+        private final AtomicLong maxLatencyNanos = new AtomicLong();
+        private volatile int pendingTasks;
+        private final LongAdder stalls = new LongAdder();
+
+        private LoopState(EventExecutor executor) {
+            this.executor = executor;
+            try {
+                executor.execute(() -> thread = Thread.currentThread());
+            } catch (RejectedExecutionException e) {
+                // the loop is shutting down, so it is never probed
+            }
+        }
+
+        private void probe(long now) {
+            if (executor instanceof SingleThreadEventExecutor) {
+                pendingTasks = ((SingleThreadEventExecutor) executor).pendingTasks();
+            }
+            long submittedAt = probeSubmittedAt;
+            if (submittedAt == 0) {
+                stallReported = false;
+                probeSubmittedAt = now;
+                try {
+                    executor.execute(this::completeProbe);
+                } catch (RejectedExecutionException e) {
+                    probeSubmittedAt = 0;
+                }
+            } else if (!stallReported && now - submittedAt >= stallThresholdNanos) {
+                stallReported = true;
+                stalls.increment();
+                reportStall(now - submittedAt);
+            }
+        }
+
+        // runs on the event loop
+        private void completeProbe() {
+            long latency = System.nanoTime() - probeSubmittedAt;
+            lastLatencyNanos = latency;
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            if (latency >= stallThresholdNanos) {
+                log.warn("The UDP event loop {} was blocked for {} ms", getName(),
+                        TimeUnit.NANOSECONDS.toMillis(latency));
+            }
+            probeSubmittedAt = 0;
+        }
+
+        private void reportStall(long blockedNanos) {
+            Thread loopThread = thread;
+            StackTraceElement[] stackTrace = loopThread == null ? new StackTraceElement[0]
+                    : loopThread.getStackTrace();
+            EventLoopStallEvent.commit(getName(), blockedNanos, pendingTasks, stackTrace);
+            Throwable stall = new Throwable("Stack trace of " + getName());
+            stall.setStackTrace(stackTrace);
+            log.warn("The UDP event loop {} has been blocked for {} ms with {} pending tasks", getName(),
+                    TimeUnit.NANOSECONDS.toMillis(blockedNanos), pendingTasks, stall);
+        }
+
+        public String getName() {
+            Thread loopThread = thread;
+            return loopThread == null ? executor.toString() : loopThread.getName();
+        }
+
+        public int getPendingTasks() {
+            return pendingTasks;
+        }
+
+        // the time the outstanding probe has been waiting if it is longer than the last completed one
+        public long getLatencyNanos() {
+            long submittedAt = probeSubmittedAt;
+            long waiting = submittedAt == 0 ? 0 : System.nanoTime() - submittedAt;
+            return Math.max(lastLatencyNanos, waiting);
+        }
+
+        public long getMaxLatencyNanos() {
+            return maxLatencyNanos.get();
+        }
+
+        public long getStalls() {
+            return stalls.sum();
+        }
+    }
+}
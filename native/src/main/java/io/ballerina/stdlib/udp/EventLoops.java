@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+
+import java.util.List;
+
+/**
+ * Native function implementations of the module level functions related to the shared event loops.
+ */
+public final class EventLoops {
+
+    private EventLoops() {}
+
+    public static Object startEventLoopWatchdog(BDecimal stallThreshold, BDecimal probeInterval) {
+        double stallThresholdInSec = stallThreshold.floatValue();
+        double probeIntervalInSec = probeInterval.floatValue();
+        if (stallThresholdInSec <= 0 || probeIntervalInSec <= 0) {
+            return Utils.createUdpError("Event loop stallThreshold and probeInterval should be positive values");
+        }
+        UdpFactory.getInstance().startEventLoopWatchdog((long) (stallThresholdInSec * 1_000_000_000),
+                (long) (probeIntervalInSec * 1_000_000_000));
+        return null;
+    }
+
+    public static BArray getEventLoopStats() {
+        EventLoopWatchdog eventLoopWatchdog = UdpFactory.getInstance().getEventLoopWatchdog();
+        return Utils.createEventLoopStats(eventLoopWatchdog == null ? List.of() : eventLoopWatchdog.getLoops());
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.socket.DatagramPacket;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link FileTransfer} sends the content of a file as a sequence of datagrams, each of at most the chunk size.
+ * <p>
+ * The file is memory mapped and each chunk is written as a wrapper of the mapped region, so the content is read
+ * from the page cache by the socket without being copied into the heap or a pooled buffer. The chunks are written
+ * from the event loop of the channel, with at most {@link #MAX_IN_FLIGHT} chunks written but not yet completed, so
+ * the transfer follows the pacing of the channel and does not fill the outbound buffer. Files larger than
+ * {@link #MAX_REGION_SIZE} are mapped one region at a time.
+ */
+public class FileTransfer {
+
+    private static final int MAX_IN_FLIGHT = 64;
+    private static final long MAX_REGION_SIZE = 1L << 30;
+    // the time to wait before retrying when the channel is not writable and no chunk is in flight
+    private static final long RETRY_DELAY_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final Channel channel;
+    private final Path path;
+    private final InetSocketAddress recipient;
+    private final int chunkSize;
+    private final FileChannel file;
+    private final long totalBytes;
+    private final ChannelPromise promise;
+    private final AtomicLong sentBytes = new AtomicLong();
+    private final AtomicLong sentChunks = new AtomicLong();
+
+    // only accessed from the event loop of the channel
+    private MappedByteBuffer region;
+    private long regionStart;
+    private long position;
+    private int inFlight;
+    private Throwable failure;
+
+    private FileTransfer(Channel channel, Path path, InetSocketAddress recipient, int chunkSize, FileChannel file)
+            throws IOException {
+        this.channel = channel;
+        this.path = path;
+        this.recipient = recipient;
+        this.chunkSize = chunkSize;
+        this.file = file;
+        this.totalBytes = file.size();
+        this.promise = channel.newPromise();
+    }
+
+    /**
+     * Starts sending the given file to the recipient.
+     *
+     * @param channel the channel the chunks are written to
+     * @param path the file to be sent
+     * @param recipient the address the chunks are sent to
+     * @param chunkSize the largest number of bytes sent in a single datagram, bounded by the fragment size of the
+     *                  channel for the recipient
+     * @return a future completed once all the chunks are written, or the first chunk fails
+     */
+    public static ChannelFuture start(Channel channel, Path path, InetSocketAddress recipient, int chunkSize) {
+        FileChannel file = null;
+        try {
+            file = FileChannel.open(path, StandardOpenOption.READ);
+            FileTransfer transfer = new FileTransfer(channel, path, recipient,
+                    Math.min(chunkSize, Utils.getFragmentSize(channel, recipient)), file);
+            getTransfers(channel).add(transfer);
+            channel.eventLoop().execute(transfer::writeChunks);
+            return transfer.promise;
+        } catch (NoSuchFileException e) {
+            return channel.newFailedFuture(new IOException("No such file: " + path, e));
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(file);
+            return channel.newFailedFuture(e);
+        }
+    }
+
+    // the transfers of the channel which are in progress
+    public static Set<FileTransfer> getTransfers(Channel channel) {
+        Set<FileTransfer> transfers = channel.attr(Constants.FILE_TRANSFERS).get();
+        if (transfers == null) {
+            Set<FileTransfer> newTransfers = ConcurrentHashMap.newKeySet();
+            transfers = channel.attr(Constants.FILE_TRANSFERS).setIfAbsent(newTransfers);
+            if (transfers == null) {
+                transfers = newTransfers;
+            }
+        }
+        return transfers;
+    }
+
+    private void writeChunks() {
+        boolean written = false;
+        try {
+            while (failure == null && position < totalBytes && inFlight < MAX_IN_FLIGHT && channel.isWritable()) {
+                MappedByteBuffer content = nextChunk();
+                int length = content.remaining();
+                inFlight++;
+                channel.write(new DatagramPacket(Unpooled.wrappedBuffer(content), recipient))
+                        .addListener((ChannelFutureListener) future -> chunkCompleted(future, length));
+                written = true;
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+        if (written) {
+            channel.flush();
+        }
+        if (inFlight > 0) {
+            return;
+        }
+        if (failure != null || position >= totalBytes || !channel.isOpen()) {
+            complete();
+        } else {
+            channel.eventLoop().schedule(this::writeChunks, RETRY_DELAY_NANOS, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private MappedByteBuffer nextChunk() throws IOException {
+        if (region == null || position - regionStart >= region.capacity()) {
+            regionStart = position;
+            // a whole number of chunks, so that only the last chunk of the file is shorter than the chunk size
+            long regionSize = MAX_REGION_SIZE - MAX_REGION_SIZE % chunkSize;
+            region = file.map(FileChannel.MapMode.READ_ONLY, regionStart,
+                    Math.min(regionSize, totalBytes - regionStart));
+        }
+        int offset = (int) (position - regionStart);
+        int length = (int) Math.min(chunkSize, region.capacity() - offset);
+        position += length;
+        return region.slice(offset, length);
+    }
+
+    private void chunkCompleted(ChannelFuture future, int length) {
+        inFlight--;
+        if (future.isSuccess()) {
+            sentChunks.incrementAndGet();
+            sentBytes.addAndGet(length);
+        } else if (failure == null) {
+            failure = future.cause();
+        }
+        writeChunks();
+    }
+
+    private void complete() {
+        getTransfers(channel).remove(this);
+        region = null;
+        closeQuietly(file);
+        if (failure != null) {
+            promise.tryFailure(failure);
+        } else if (position < totalBytes) {
+            promise.tryFailure(new IOException("The channel was closed before the file was sent"));
+        } else {
+            promise.trySuccess();
+        }
+    }
+
+    private static void closeQuietly(FileChannel file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } catch (IOException e) {
+            // the content is already mapped or the transfer has failed
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public InetSocketAddress getRecipient() {
+        return recipient;
+    }
+
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    public long getSentBytes() {
+        return sentBytes.get();
+    }
+
+    public long getSentChunks() {
+        return sentChunks.get();
+    }
+}
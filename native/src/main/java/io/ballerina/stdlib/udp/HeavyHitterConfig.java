@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.udp;
+
+/**
+ * {@link HeavyHitterConfig} holds the sizes of the count-min sketch and the top-K heap used to track the peers
+ * which send most of the datagrams to a listener.
+ */
+public class HeavyHitterConfig {
+
+    private final int topK;
+    private final int width;
+    private final int depth;
+    private final long decayIntervalNanos;
+    private final double decayFactor;
+
+    public HeavyHitterConfig(int topK, int width, int depth, long decayIntervalNanos, double decayFactor) {
+        this.topK = topK;
+        this.width = width;
+        this.depth = depth;
+        this.decayIntervalNanos = decayIntervalNanos;
+        this.decayFactor = decayFactor;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    // the counters per row of the sketch, a power of two
+    public int getWidth() {
+        return width;
+    }
+
+    // the rows of the sketch, each hashed independently
+    public int getDepth() {
+        return depth;
+    }
+
+    // 0 if the counts are never decayed
+    public long getDecayIntervalNanos() {
+        return decayIntervalNanos;
+    }
+
+    // the factor the counts are multiplied by at each decay
+    public double getDecayFactor() {
+        return decayFactor;
+    }
+}
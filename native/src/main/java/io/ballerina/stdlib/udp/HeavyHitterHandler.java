@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HeavyHitterHandler} is a ChannelInboundHandler which tracks the peers sending most of the datagrams and
+ * bytes to a listener, in a fixed amount of memory however many peers there are.
+ * <p>
+ * The datagrams and bytes of each sender address are counted in a {@link CountMinSketch} each, and the addresses
+ * with the largest estimates are kept in a top-K min-heap per metric. The counts are multiplied by the decay
+ * factor at each decay interval, so that the peers which stop sending fall out of the heaps. The peers are keyed
+ * by their IP address only, since a flood often comes from many ports of the same host. All the state is only
+ * accessed from the event loop of the channel.
+ */
+public class HeavyHitterHandler extends ChannelInboundHandlerAdapter {
+
+    /**
+     * The metrics the peers are ranked by.
+     */
+    public enum Metric {
+        PACKETS,
+        BYTES
+    }
+
+    private final HeavyHitterConfig heavyHitterConfig;
+    private final CountMinSketch packetSketch;
+    private final CountMinSketch byteSketch;
+    private final TopK topPackets;
+    private final TopK topBytes;
+    private long totalPackets;
+    private long totalBytes;
+    private ScheduledFuture<?> decayFuture;
+
+    public HeavyHitterHandler(HeavyHitterConfig heavyHitterConfig) {
+        this.heavyHitterConfig = heavyHitterConfig;
+        this.packetSketch = new CountMinSketch(heavyHitterConfig.getWidth(), heavyHitterConfig.getDepth());
+        this.byteSketch = new CountMinSketch(heavyHitterConfig.getWidth(), heavyHitterConfig.getDepth());
+        this.topPackets = new TopK(heavyHitterConfig.getTopK());
+        this.topBytes = new TopK(heavyHitterConfig.getTopK());
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        long decayIntervalNanos = heavyHitterConfig.getDecayIntervalNanos();
+        if (decayIntervalNanos > 0) {
+            decayFuture = ctx.executor().scheduleAtFixedRate(this::decay, decayIntervalNanos, decayIntervalNanos,
+                    TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (decayFuture != null) {
+            decayFuture.cancel(false);
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof DatagramPacket) {
+            DatagramPacket datagram = (DatagramPacket) msg;
+            InetAddress address = datagram.sender().getAddress();
+            long key = getKey(address);
+            int size = datagram.content().readableBytes();
+            totalPackets++;
+            totalBytes += size;
+            topPackets.offer(address, key, packetSketch.add(key, 1));
+            topBytes.offer(address, key, byteSketch.add(key, size));
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    private void decay() {
+        double decayFactor = heavyHitterConfig.getDecayFactor();
+        packetSketch.decay(decayFactor);
+        byteSketch.decay(decayFactor);
+        totalPackets = (long) (totalPackets * decayFactor);
+        totalBytes = (long) (totalBytes * decayFactor);
+        topPackets.refresh(packetSketch);
+        topBytes.refresh(byteSketch);
+    }
+
+    // an IPv4 address is its own key, an IPv6 address is folded into 64 bits
+    private static long getKey(InetAddress address) {
+        if (address instanceof Inet4Address) {
+            return address.hashCode() & 0xFFFFFFFFL;
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(address.getAddress());
+        return bytes.getLong(0) * 31 + bytes.getLong(8);
+    }
+
+    /**
+     * Returns the tracked peers ranked by the given metric, along with the estimates of both metrics.
+     * Must be called from the event loop of the channel.
+     *
+     * @param metric the metric the peers are ranked by
+     * @return the peers, the largest first
+     */
+    public List<HeavyHitter> getHeavyHitters(Metric metric) {
+        TopK topK = metric == Metric.PACKETS ? topPackets : topBytes;
+        List<HeavyHitter> heavyHitters = new ArrayList<>();
+        for (int i = 0; i < topK.size; i++) {
+            Entry entry = topK.heap[i];
+            heavyHitters.add(new HeavyHitter(entry.address, packetSketch.estimate(entry.key),
+                    byteSketch.estimate(entry.key)));
+        }
+        Comparator<HeavyHitter> comparator = metric == Metric.PACKETS
+                ? Comparator.comparingLong(HeavyHitter::getPackets) : Comparator.comparingLong(HeavyHitter::getBytes);
+        heavyHitters.sort(comparator.reversed());
+        return heavyHitters;
+    }
+
+    // must be called from the event loop of the channel
+    public long getTotalPackets() {
+        return totalPackets;
+    }
+
+    // must be called from the event loop of the channel
+    public long getTotalBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * The estimated counts of a peer.
+     */
+    public static final class HeavyHitter {
+
+        private final InetAddress address;
+        private final long packets;
+        private final long bytes;
+
+        private HeavyHitter(InetAddress address, long packets, long bytes) {
+            this.address = address;
+            this.packets = packets;
+            this.bytes = bytes;
+        }
+
+        public InetAddress getAddress() {
+            return address;
+        }
+
+        public long getPackets() {
+            return packets;
+        }
+
+        public long getBytes() {
+            return bytes;
+        }
+    }
+
+    private static final class Entry {
+
+        private InetAddress address;
+        private long key;
+        private long estimate;
+        private int index;
+    }
+
+    // a min-heap of the entries with the largest estimates, indexed by address to update the entries in place
+    private static final class TopK {
+
+        private final Entry[] heap;
+        private final Map<InetAddress, Entry> entries = new HashMap<>();
+        private int size;
+
+        private TopK(int capacity) {
+            this.heap = new Entry[capacity];
+        }
+
+        private void offer(InetAddress address, long key, long estimate) {
+            Entry entry = entries.get(address);
+            if (entry != null) {
+                // the estimates only grow between the decays
+                entry.estimate = estimate;
+                siftDown(entry.index);
+            } else if (size < heap.length) {
+                entry = new Entry();
+                entry.address = address;
+                entry.key = key;
+                entry.estimate = estimate;
+                entry.index = size;
+                heap[size++] = entry;
+                entries.put(address, entry);
+                siftUp(entry.index);
+            } else if (estimate > heap[0].estimate) {
+                entry = heap[0];
+                entries.remove(entry.address);
+                entry.address = address;
+                entry.key = key;
+                entry.estimate = estimate;
+                entries.put(address, entry);
+                siftDown(0);
+            }
+        }
+
+        private void refresh(CountMinSketch sketch) {
+            for (int i = 0; i < size; i++) {
+                heap[i].estimate = sketch.estimate(heap[i].key);
+            }
+            for (int i = size / 2 - 1; i >= 0; i--) {
+                siftDown(i);
+            }
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (heap[parent].estimate <= heap[index].estimate) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && heap[left].estimate < heap[smallest].estimate) {
+                    smallest = left;
+                }
+                if (right < size && heap[right].estimate < heap[smallest].estimate) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        private void swap(int i, int j) {
+            Entry entry = heap[i];
+            heap[i] = heap[j];
+            heap[j] = entry;
+            heap[i].index = i;
+            heap[j].index = j;
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.socket.InternetProtocolFamily;
+
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.NetworkInterface;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link MulticastConfig} holds the multicast related socket options of a udp client or listener.
+ */
+public class MulticastConfig {
+
+    private final List<InetAddress> groups;
+    private final NetworkInterface networkInterface;
+    private final Integer timeToLive;
+    private final Boolean loopback;
+
+    public MulticastConfig(List<InetAddress> groups, NetworkInterface networkInterface, Integer timeToLive,
+                           Boolean loopback) {
+        this.groups = groups == null ? Collections.emptyList() : groups;
+        this.networkInterface = networkInterface;
+        this.timeToLive = timeToLive;
+        this.loopback = loopback;
+    }
+
+    public List<InetAddress> getGroups() {
+        return groups;
+    }
+
+    public NetworkInterface getNetworkInterface() {
+        return networkInterface;
+    }
+
+    public boolean hasGroups() {
+        return !groups.isEmpty();
+    }
+
+    // the protocol family of the channel has to match the family of the joined groups
+    InternetProtocolFamily getProtocolFamily() {
+        return groups.get(0) instanceof Inet6Address ? InternetProtocolFamily.IPv6 : InternetProtocolFamily.IPv4;
+    }
+
+    // applies the outbound multicast options, the options which are not set keep the OS defaults
+    void applyTo(Bootstrap bootstrap) {
+        if (timeToLive != null) {
+            bootstrap.option(ChannelOption.IP_MULTICAST_TTL, timeToLive);
+        }
+        if (loopback != null) {
+            bootstrap.option(ChannelOption.IP_MULTICAST_LOOP_DISABLED, !loopback);
+        }
+        if (networkInterface != null) {
+            bootstrap.option(ChannelOption.IP_MULTICAST_IF, networkInterface);
+        }
+    }
+}
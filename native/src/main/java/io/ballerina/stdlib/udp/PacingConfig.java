@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+/**
+ * {@link PacingConfig} holds the token bucket parameters used to pace the outgoing datagrams.
+ */
+public class PacingConfig {
+
+    private final long rate;
+    private final long burst;
+    private final boolean perDestination;
+
+    public PacingConfig(long rate, long burst, boolean perDestination) {
+        this.rate = rate;
+        this.burst = burst;
+        this.perDestination = perDestination;
+    }
+
+    // bytes per second
+    public long getRate() {
+        return rate;
+    }
+
+    // bucket capacity in bytes
+    public long getBurst() {
+        return burst;
+    }
+
+    public boolean isPerDestination() {
+        return perDestination;
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.ReferenceCountUtil;
+
+import java.net.InetSocketAddress;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link PacingHandler} is a ChannelOutboundHandler which paces the outgoing datagrams using a token bucket.
+ * Datagrams which exceed the available tokens are held and released from the event loop by a timer.
+ */
+public class PacingHandler extends ChannelOutboundHandlerAdapter {
+
+    // buckets with nothing queued are dropped once this many destinations are tracked
+    private static final int MAX_BUCKETS = 4096;
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final PacingConfig pacingConfig;
+    private final Bucket sharedBucket;
+    private final Map<InetSocketAddress, Bucket> buckets = new HashMap<>();
+
+    private final LongAdder pacedDatagrams = new LongAdder();
+    private final LongAdder heldDatagrams = new LongAdder();
+    private final LongAdder pendingDatagrams = new LongAdder();
+    private final LongAdder totalHoldTimeNanos = new LongAdder();
+    private final AtomicLong maxHoldTimeNanos = new AtomicLong();
+
+    public PacingHandler(PacingConfig pacingConfig) {
+        this.pacingConfig = pacingConfig;
+        this.sharedBucket = new Bucket(System.nanoTime());
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (!(msg instanceof DatagramPacket)) {
+            ctx.write(msg, promise);
+            return;
+        }
+        DatagramPacket datagram = (DatagramPacket) msg;
+        pacedDatagrams.increment();
+        Bucket bucket = getBucket(datagram.recipient());
+        bucket.refill(System.nanoTime());
+        int size = datagram.content().readableBytes();
+        if (bucket.queue.isEmpty() && bucket.tryConsume(size)) {
+            ctx.write(datagram, promise);
+            return;
+        }
+        heldDatagrams.increment();
+        pendingDatagrams.increment();
+        bucket.queue.add(new PendingWrite(datagram, promise, System.nanoTime()));
+        scheduleRelease(ctx, bucket);
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        failPendingWrites();
+        super.close(ctx, promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        failPendingWrites();
+    }
+
+    private Bucket getBucket(InetSocketAddress recipient) {
+        if (!pacingConfig.isPerDestination() || recipient == null) {
+            return sharedBucket;
+        }
+        Bucket bucket = buckets.get(recipient);
+        if (bucket == null) {
+            if (buckets.size() >= MAX_BUCKETS) {
+                buckets.values().removeIf(b -> b.queue.isEmpty());
+            }
+            bucket = new Bucket(System.nanoTime());
+            buckets.put(recipient, bucket);
+        }
+        return bucket;
+    }
+
+    private void scheduleRelease(ChannelHandlerContext ctx, Bucket bucket) {
+        if (bucket.releaseScheduled) {
+            return;
+        }
+        bucket.releaseScheduled = true;
+        long delayNanos = bucket.nanosUntilAvailable(bucket.queue.peek().size);
+        ctx.executor().schedule(() -> release(ctx, bucket), delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void release(ChannelHandlerContext ctx, Bucket bucket) {
+        bucket.releaseScheduled = false;
+        long now = System.nanoTime();
+        bucket.refill(now);
+        boolean written = false;
+        while (!bucket.queue.isEmpty() && bucket.tryConsume(bucket.queue.peek().size)) {
+            PendingWrite pendingWrite = bucket.queue.poll();
+            recordHoldTime(now - pendingWrite.enqueuedAt);
+            ctx.write(pendingWrite.datagram, pendingWrite.promise);
+            written = true;
+        }
+        if (written) {
+            ctx.flush();
+        }
+        if (!bucket.queue.isEmpty()) {
+            scheduleRelease(ctx, bucket);
+        }
+    }
+
+    private void recordHoldTime(long holdTimeNanos) {
+        pendingDatagrams.decrement();
+        totalHoldTimeNanos.add(holdTimeNanos);
+        maxHoldTimeNanos.accumulateAndGet(holdTimeNanos, Math::max);
+    }
+
+    private void failPendingWrites() {
+        failPendingWrites(sharedBucket);
+        Iterator<Bucket> iterator = buckets.values().iterator();
+        while (iterator.hasNext()) {
+            failPendingWrites(iterator.next());
+            iterator.remove();
+        }
+    }
+
+    private void failPendingWrites(Bucket bucket) {
+        PendingWrite pendingWrite;
+        while ((pendingWrite = bucket.queue.poll()) != null) {
+            pendingDatagrams.decrement();
+            ReferenceCountUtil.release(pendingWrite.datagram);
+            pendingWrite.promise.tryFailure(new ClosedChannelException());
+        }
+    }
+
+    public long getPacedDatagrams() {
+        return pacedDatagrams.sum();
+    }
+
+    public long getHeldDatagrams() {
+        return heldDatagrams.sum();
+    }
+
+    public long getPendingDatagrams() {
+        return pendingDatagrams.sum();
+    }
+
+    public long getTotalHoldTimeNanos() {
+        return totalHoldTimeNanos.sum();
+    }
+
+    public long getMaxHoldTimeNanos() {
+        return maxHoldTimeNanos.get();
+    }
+
+    // only accessed from the event loop of the channel
+    private final class Bucket {
+
+        private final ArrayDeque<PendingWrite> queue = new ArrayDeque<>();
+        private double tokens;
+        private long lastRefill;
+        private boolean releaseScheduled;
+
+        private Bucket(long now) {
+            this.tokens = pacingConfig.getBurst();
+            this.lastRefill = now;
+        }
+
+        private void refill(long now) {
+            double newTokens = (double) (now - lastRefill) * pacingConfig.getRate() / NANOS_PER_SECOND;
+            tokens = Math.min(pacingConfig.getBurst(), tokens + newTokens);
+            lastRefill = now;
+        }
+
+        // a datagram larger than the burst is let through once the bucket is full, the deficit is paid afterwards
+        private boolean tryConsume(int size) {
+            if (tokens >= Math.min(size, pacingConfig.getBurst())) {
+                tokens -= size;
+                return true;
+            }
+            return false;
+        }
+
+        private long nanosUntilAvailable(int size) {
+            double missing = Math.min(size, pacingConfig.getBurst()) - tokens;
+            return Math.max(1, (long) Math.ceil(missing * NANOS_PER_SECOND / pacingConfig.getRate()));
+        }
+    }
+
+    private static final class PendingWrite {
+
+        private final DatagramPacket datagram;
+        private final ChannelPromise promise;
+        private final long enqueuedAt;
+        private final int size;
+
+        private PendingWrite(DatagramPacket datagram, ChannelPromise promise, long enqueuedAt) {
+            this.datagram = datagram;
+            this.promise = promise;
+            this.enqueuedAt = enqueuedAt;
+            this.size = datagram.content().readableBytes();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+/**
+ * {@link PathMtuConfig} holds the configurations used to derive the fragment size from the MTU of the path to
+ * each destination.
+ */
+public class PathMtuConfig {
+
+    private final int fallbackMtu;
+    private final long probeIntervalNanos;
+
+    public PathMtuConfig(int fallbackMtu, long probeIntervalNanos) {
+        this.fallbackMtu = fallbackMtu;
+        this.probeIntervalNanos = probeIntervalNanos;
+    }
+
+    // used when the MTU of the path can't be found
+    public int getFallbackMtu() {
+        return fallbackMtu;
+    }
+
+    // how long a probed MTU is used before the path is probed again
+    public long getProbeIntervalNanos() {
+        return probeIntervalNanos;
+    }
+}
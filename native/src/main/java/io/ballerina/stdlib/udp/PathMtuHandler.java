@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.socket.DatagramPacket;
+
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.PortUnreachableException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link PathMtuHandler} derives the fragment size of the outgoing datagrams from the MTU of the path to each
+ * destination, so that the fragments are not fragmented again at the IP layer.
+ * <p>
+ * The NIO transport has no access to IP_MTU, so the MTU of the path is taken as the MTU of the interface the
+ * destination is routed through. The route is looked up by connecting an unbound datagram channel to the
+ * destination, which does not send anything. The interface MTU is only the upper bound of the path, so when a write
+ * fails with EMSGSIZE the cached MTU of the destination is stepped down to the next MTU plateau below the rejected
+ * datagram, until the datagrams fit or the smallest MTU of the path is reached. The result is cached per destination
+ * address and probed again once the probe interval expires.
+ */
+public class PathMtuHandler extends ChannelOutboundHandlerAdapter {
+
+    // entries are dropped once this many destinations are tracked
+    private static final int MAX_ENTRIES = 4096;
+    private static final int IPV4_HEADER_SIZE = 20;
+    private static final int IPV6_HEADER_SIZE = 40;
+    private static final int UDP_HEADER_SIZE = 8;
+    // the smallest MTUs of a path, a datagram which fits them can't fail with EMSGSIZE
+    private static final int IPV4_MIN_MTU = 576;
+    private static final int IPV6_MIN_MTU = 1280;
+    // the common MTUs of the links on a path (RFC 1191), which the MTU is stepped down through
+    private static final int[] MTU_PLATEAUS = {1492, 1400, 1280, 576};
+    // the message of the IOException thrown for EMSGSIZE by the JDK on Linux
+    private static final String MESSAGE_TOO_LONG = "Message too long";
+
+    private final PathMtuConfig pathMtuConfig;
+    private final Map<InetAddress, ProbedMtu> probedMtus = new ConcurrentHashMap<>();
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder stepDowns = new LongAdder();
+
+    public PathMtuHandler(PathMtuConfig pathMtuConfig) {
+        this.pathMtuConfig = pathMtuConfig;
+    }
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+        if (msg instanceof DatagramPacket && ((DatagramPacket) msg).recipient() != null) {
+            InetSocketAddress recipient = ((DatagramPacket) msg).recipient();
+            int size = ((DatagramPacket) msg).content().readableBytes();
+            promise.addListener((ChannelFutureListener) future -> {
+                if (!future.isSuccess() && isMessageTooLong(future.cause(), size, recipient)) {
+                    stepDown(recipient, size);
+                }
+            });
+        }
+        ctx.write(msg, promise);
+    }
+
+    /**
+     * Returns the largest payload which fits in a single IP packet on the path to the recipient.
+     *
+     * @param recipient the destination of the datagram
+     * @param maxFragmentSize the configured fragment size, which the result does not exceed
+     * @return the fragment size for the recipient
+     */
+    public int getFragmentSize(InetSocketAddress recipient, int maxFragmentSize) {
+        if (recipient == null || recipient.isUnresolved()) {
+            return Math.min(maxFragmentSize, toFragmentSize(pathMtuConfig.getFallbackMtu(), false));
+        }
+        InetAddress address = recipient.getAddress();
+        long now = System.nanoTime();
+        ProbedMtu probedMtu = probedMtus.get(address);
+        if (probedMtu == null || now - probedMtu.probedAt > pathMtuConfig.getProbeIntervalNanos()) {
+            if (probedMtus.size() >= MAX_ENTRIES) {
+                probedMtus.clear();
+            }
+            probedMtu = new ProbedMtu(probe(recipient), now);
+            probedMtus.put(address, probedMtu);
+        }
+        return Math.min(maxFragmentSize, toFragmentSize(probedMtu.mtu, address instanceof Inet6Address));
+    }
+
+    private int probe(InetSocketAddress recipient) {
+        probes.increment();
+        try (DatagramChannel probeChannel = DatagramChannel.open()) {
+            probeChannel.connect(recipient);
+            InetAddress localAddress = ((InetSocketAddress) probeChannel.getLocalAddress()).getAddress();
+            NetworkInterface networkInterface = NetworkInterface.getByInetAddress(localAddress);
+            if (networkInterface != null && networkInterface.getMTU() > 0) {
+                return networkInterface.getMTU();
+            }
+        } catch (IOException e) {
+            // the fallback MTU is used if the route can't be looked up
+        }
+        fallbacks.increment();
+        return pathMtuConfig.getFallbackMtu();
+    }
+
+    private static int toFragmentSize(int mtu, boolean ipv6) {
+        int fragmentSize = mtu - (ipv6 ? IPV6_HEADER_SIZE : IPV4_HEADER_SIZE) - UDP_HEADER_SIZE;
+        return Math.max(1, Math.min(fragmentSize, Constants.MAX_DATAGRAM_DATA_SIZE));
+    }
+
+    // the NIO transport reports EMSGSIZE as a plain IOException, without the errno, and its message depends on the
+    // platform and the locale. So the message is only matched when it is the known one, and otherwise any I/O failure
+    // of a datagram too large for the smallest MTU of the path is taken as one, which costs at most a probe
+    private static boolean isMessageTooLong(Throwable cause, int size, InetSocketAddress recipient) {
+        if (!(cause instanceof IOException) || cause instanceof PortUnreachableException
+                || cause instanceof ClosedChannelException) {
+            return false;
+        }
+        if (cause.getMessage() != null && cause.getMessage().contains(MESSAGE_TOO_LONG)) {
+            return true;
+        }
+        boolean ipv6 = !recipient.isUnresolved() && recipient.getAddress() instanceof Inet6Address;
+        return size > toFragmentSize(ipv6 ? IPV6_MIN_MTU : IPV4_MIN_MTU, ipv6);
+    }
+
+    // lowers the MTU of the path below the size of the rejected datagram. The step is taken from the datagram and
+    // not from the cached MTU, so the failures of the datagrams sent before the first step don't step down again
+    public void stepDown(InetSocketAddress recipient, int size) {
+        if (recipient.isUnresolved()) {
+            return;
+        }
+        InetAddress address = recipient.getAddress();
+        boolean ipv6 = address instanceof Inet6Address;
+        int rejectedMtu = size + (ipv6 ? IPV6_HEADER_SIZE : IPV4_HEADER_SIZE) + UDP_HEADER_SIZE;
+        int floor = Math.min(pathMtuConfig.getFallbackMtu(), ipv6 ? IPV6_MIN_MTU : IPV4_MIN_MTU);
+        int mtu = nextPlateau(rejectedMtu, floor);
+        ProbedMtu[] stepped = new ProbedMtu[1];
+        probedMtus.compute(address, (key, probedMtu) -> {
+            if (probedMtu != null && probedMtu.mtu <= mtu) {
+                return probedMtu;
+            }
+            // the step keeps the probe time, so the path is probed again for a larger MTU once the interval expires
+            stepped[0] = new ProbedMtu(mtu, probedMtu == null ? System.nanoTime() : probedMtu.probedAt);
+            return stepped[0];
+        });
+        if (stepped[0] != null) {
+            stepDowns.increment();
+        }
+    }
+
+    // the largest plateau below the rejected MTU, but not below the floor
+    private static int nextPlateau(int rejectedMtu, int floor) {
+        for (int plateau : MTU_PLATEAUS) {
+            if (plateau < rejectedMtu && plateau >= floor) {
+                return plateau;
+            }
+        }
+        return floor;
+    }
+
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    public long getFallbacks() {
+        return fallbacks.sum();
+    }
+
+    public long getStepDowns() {
+        return stepDowns.sum();
+    }
+
+    private static final class ProbedMtu {
+
+        private final int mtu;
+        private final long probedAt;
+
+        private ProbedMtu(int mtu, long probedAt) {
+            this.mtu = mtu;
+            this.probedAt = probedAt;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link PeerSession} holds the state kept by a listener for a remote peer, between the datagrams of the peer.
+ * The values are read-only Ballerina values, so they are shared with the strands as they are.
+ */
+public class PeerSession {
+
+    private final SessionTable sessionTable;
+    private final InetSocketAddress address;
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+    private volatile long lastAccessNanos;
+    private volatile boolean removed;
+    // the tick of the timer wheel the session is filed under, only accessed under the lock of its stripe
+    long deadlineTick;
+
+    PeerSession(SessionTable sessionTable, InetSocketAddress address, long now) {
+        this.sessionTable = sessionTable;
+        this.address = address;
+        this.lastAccessNanos = now;
+    }
+
+    public InetSocketAddress getAddress() {
+        return address;
+    }
+
+    // null if the key is not set
+    public Object get(String key) {
+        return values.get(key);
+    }
+
+    // a null value removes the key
+    public void put(String key, Object value) {
+        if (value == null) {
+            values.remove(key);
+        } else {
+            values.put(key, value);
+        }
+    }
+
+    public Object remove(String key) {
+        return values.remove(key);
+    }
+
+    public Set<String> keys() {
+        return values.keySet();
+    }
+
+    // removes the session from the table, the next session requested for the peer starts afresh
+    public void invalidate() {
+        sessionTable.remove(this);
+    }
+
+    // false once the session is invalidated, evicted or expired
+    public boolean isActive() {
+        return !removed;
+    }
+
+    long getLastAccessNanos() {
+        return lastAccessNanos;
+    }
+
+    void touch(long now) {
+        lastAccessNanos = now;
+    }
+
+    void markRemoved() {
+        removed = true;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link RelayBackend} is a backend of a relaying listener along with its health and its counters.
+ * <p>
+ * The health is passive: a backend is marked unhealthy once its socket reports the given number of failures in a
+ * row, e.g., the ICMP port unreachable errors of a backend which is down, and a reply from the backend marks it
+ * healthy again. An unhealthy backend is selected again once the retry interval passes, so that a recovered
+ * backend is found without probing it. The health is only changed from the event loop of the listener, while the
+ * counters are read from any thread.
+ */
+public class RelayBackend {
+
+    private final InetSocketAddress address;
+    private final int maxFailures;
+    private final long retryIntervalNanos;
+
+    // only accessed from the event loop of the listener
+    private int consecutiveFailures;
+    private long lastFailure;
+    private long retryAt;
+    private volatile boolean healthy = true;
+
+    private final LongAdder activeMappings = new LongAdder();
+    private final LongAdder forwardedDatagrams = new LongAdder();
+    private final LongAdder forwardedBytes = new LongAdder();
+    private final LongAdder returnedDatagrams = new LongAdder();
+    private final LongAdder returnedBytes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public RelayBackend(InetSocketAddress address, int maxFailures, long retryIntervalNanos) {
+        this.address = address;
+        this.maxFailures = maxFailures;
+        this.retryIntervalNanos = retryIntervalNanos;
+    }
+
+    // whether a new sender can be mapped to the backend
+    boolean isAvailable(long now) {
+        return healthy || now - retryAt >= 0;
+    }
+
+    void recordForwarded(int size) {
+        forwardedDatagrams.increment();
+        forwardedBytes.add(size);
+    }
+
+    void recordReturned(int size) {
+        returnedDatagrams.increment();
+        returnedBytes.add(size);
+        consecutiveFailures = 0;
+        healthy = true;
+    }
+
+    // returns true if the backend is unhealthy after the failure, the failures further apart than the retry
+    // interval are not counted as being in a row
+    boolean recordFailure(long now) {
+        failures.increment();
+        if (now - lastFailure > retryIntervalNanos) {
+            consecutiveFailures = 0;
+        }
+        lastFailure = now;
+        if (++consecutiveFailures < maxFailures) {
+            return false;
+        }
+        healthy = false;
+        retryAt = now + retryIntervalNanos;
+        return true;
+    }
+
+    void mappingOpened() {
+        activeMappings.increment();
+    }
+
+    void mappingClosed() {
+        activeMappings.decrement();
+    }
+
+    public InetSocketAddress getAddress() {
+        return address;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public long getActiveMappings() {
+        return activeMappings.sum();
+    }
+
+    public long getForwardedDatagrams() {
+        return forwardedDatagrams.sum();
+    }
+
+    public long getForwardedBytes() {
+        return forwardedBytes.sum();
+    }
+
+    public long getReturnedDatagrams() {
+        return returnedDatagrams.sum();
+    }
+
+    public long getReturnedBytes() {
+        return returnedBytes.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+
+/**
+ * {@link RelayConfig} holds the backends a listener relays the datagrams to, how a backend is selected for a new
+ * sender, and the bounds of the mappings and the health checks of the backends.
+ */
+public class RelayConfig {
+
+    /**
+     * The ways a backend is selected for a sender which has no mapping.
+     */
+    public enum Strategy {
+        HASH,
+        ROUND_ROBIN
+    }
+
+    private final List<InetSocketAddress> backends;
+    private final Strategy strategy;
+    private final long idleTimeoutNanos;
+    private final int maxMappings;
+    private final int maxFailures;
+    private final long retryIntervalNanos;
+
+    public RelayConfig(List<InetSocketAddress> backends, Strategy strategy, long idleTimeoutNanos, int maxMappings,
+                       int maxFailures, long retryIntervalNanos) {
+        this.backends = backends;
+        this.strategy = strategy;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.maxMappings = maxMappings;
+        this.maxFailures = maxFailures;
+        this.retryIntervalNanos = retryIntervalNanos;
+    }
+
+    // resolved once, when the listener is started
+    public List<InetSocketAddress> getBackends() {
+        return backends;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    // a mapping is closed once neither the sender nor the backend sends anything for this long
+    public long getIdleTimeoutNanos() {
+        return idleTimeoutNanos;
+    }
+
+    // the least recently used mapping is closed to make room for a new one once this many are open
+    public int getMaxMappings() {
+        return maxMappings;
+    }
+
+    // the failures in a row after which a backend is no longer selected
+    public int getMaxFailures() {
+        return maxFailures;
+    }
+
+    // the time after which an unhealthy backend is selected again, to find out whether it has recovered
+    public long getRetryIntervalNanos() {
+        return retryIntervalNanos;
+    }
+}
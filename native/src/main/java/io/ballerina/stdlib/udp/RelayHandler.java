@@ -0,0 +1,394 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link RelayHandler} is a ChannelInboundHandler which relays the datagrams received by a listener to a pool of
+ * backends from the event loop, without dispatching them to a service.
+ * <p>
+ * Each sender is mapped to a backend and to an upstream socket connected to that backend, like the port mapping of
+ * a NAT. The datagrams of the sender are written to the backend through the upstream socket and the datagrams the
+ * backend sends back to that socket are written to the sender through the listener. A backend is selected for a new
+ * sender either by consistent hashing of the sender address, so that a sender reaches the same backend as long as
+ * the backend is healthy, or in a round-robin. The received buffers are written as they are, without being copied,
+ * and the upstream sockets are registered on the event loop of the listener, so the mappings are only accessed
+ * from that event loop. A mapping is closed once nothing is sent through it for the idle timeout.
+ */
+public class RelayHandler extends ChannelInboundHandlerAdapter {
+
+    // the points of each backend on the hash ring, so that the senders are spread evenly over the backends
+    private static final int VIRTUAL_NODES = 160;
+
+    private final RelayConfig relayConfig;
+    private final AddressFilter addressFilter;
+    private final RelayBackend[] backends;
+    private final long[] ringPoints;
+    private final int[] ringBackends;
+
+    // only accessed from the event loop of the listener, the least recently used mapping first
+    private final LinkedHashMap<InetSocketAddress, Mapping> mappings = new LinkedHashMap<>(16, 0.75f, true);
+    private final ArrayDeque<Mapping> pendingFlushes = new ArrayDeque<>();
+    private int nextBackend;
+    private Channel channel;
+    private ScheduledFuture<?> sweepFuture;
+
+    private volatile int activeMappings;
+    private final LongAdder createdMappings = new LongAdder();
+    private final LongAdder expiredMappings = new LongAdder();
+    private final LongAdder evictedMappings = new LongAdder();
+    private final LongAdder droppedDatagrams = new LongAdder();
+    private final LongAdder failedReplies = new LongAdder();
+
+    public RelayHandler(RelayConfig relayConfig, AddressFilter addressFilter) {
+        this.relayConfig = relayConfig;
+        this.addressFilter = addressFilter;
+        List<InetSocketAddress> addresses = relayConfig.getBackends();
+        this.backends = new RelayBackend[addresses.size()];
+        for (int i = 0; i < backends.length; i++) {
+            backends[i] = new RelayBackend(addresses.get(i), relayConfig.getMaxFailures(),
+                    relayConfig.getRetryIntervalNanos());
+        }
+        this.ringPoints = new long[backends.length * VIRTUAL_NODES];
+        this.ringBackends = new int[ringPoints.length];
+        buildRing();
+    }
+
+    // the ring only depends on the backend addresses, so every relay with the same backends maps a sender alike
+    private void buildRing() {
+        long[] points = new long[ringPoints.length];
+        Integer[] order = new Integer[ringPoints.length];
+        for (int i = 0; i < backends.length; i++) {
+            long backendHash = AddressHash.hash(backends[i].getAddress());
+            for (int node = 0; node < VIRTUAL_NODES; node++) {
+                points[i * VIRTUAL_NODES + node] = AddressHash.mix(backendHash + node * AddressHash.SEED);
+                order[i * VIRTUAL_NODES + node] = i * VIRTUAL_NODES + node;
+            }
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(points[a], points[b]));
+        for (int i = 0; i < order.length; i++) {
+            ringPoints[i] = points[order[i]];
+            ringBackends[i] = order[i] / VIRTUAL_NODES;
+        }
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        channel = ctx.channel();
+        long sweepNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), relayConfig.getIdleTimeoutNanos() / 16);
+        sweepFuture = ctx.executor().scheduleAtFixedRate(this::sweep, sweepNanos, sweepNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (sweepFuture != null) {
+            sweepFuture.cancel(false);
+        }
+        Iterator<Mapping> iterator = mappings.values().iterator();
+        while (iterator.hasNext()) {
+            Mapping mapping = iterator.next();
+            iterator.remove();
+            mapping.close();
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (!(msg instanceof DatagramPacket)) {
+            ctx.fireChannelRead(msg);
+            return;
+        }
+        DatagramPacket datagram = (DatagramPacket) msg;
+        // the datagrams of the unwanted senders are released here, before a mapping is opened for them
+        if (!addressFilter.accept(datagram.sender().getAddress())) {
+            datagram.release();
+            return;
+        }
+        Mapping mapping = getMapping(datagram.sender(), System.nanoTime());
+        if (mapping == null) {
+            droppedDatagrams.increment();
+            datagram.release();
+            return;
+        }
+        mapping.forward(datagram.content());
+    }
+
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) {
+        Mapping mapping;
+        while ((mapping = pendingFlushes.poll()) != null) {
+            mapping.flushPending = false;
+            mapping.upstream.flush();
+        }
+        ctx.fireChannelReadComplete();
+    }
+
+    // the replies are written with the void promise of the listener, so their failures end up here
+    @Override
+    public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+        failedReplies.increment();
+    }
+
+    private Mapping getMapping(InetSocketAddress sender, long now) {
+        Mapping mapping = mappings.get(sender);
+        if (mapping != null) {
+            mapping.lastAccess = now;
+            return mapping;
+        }
+        RelayBackend backend = relayConfig.getStrategy() == RelayConfig.Strategy.HASH ? selectByHash(sender, now)
+                : selectNext(now);
+        if (backend == null) {
+            return null;
+        }
+        if (mappings.size() >= relayConfig.getMaxMappings()) {
+            Iterator<Mapping> iterator = mappings.values().iterator();
+            Mapping eldest = iterator.next();
+            iterator.remove();
+            eldest.close();
+            evictedMappings.increment();
+        }
+        mapping = new Mapping(sender, backend, now);
+        mappings.put(sender, mapping);
+        activeMappings = mappings.size();
+        createdMappings.increment();
+        mapping.connect();
+        return mapping;
+    }
+
+    // the first available backend clockwise from the hash of the sender on the ring
+    private RelayBackend selectByHash(InetSocketAddress sender, long now) {
+        int index = Arrays.binarySearch(ringPoints, AddressHash.hash(sender));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        for (int i = 0; i < ringPoints.length; i++) {
+            RelayBackend backend = backends[ringBackends[(index + i) % ringPoints.length]];
+            if (backend.isAvailable(now)) {
+                return backend;
+            }
+        }
+        return null;
+    }
+
+    private RelayBackend selectNext(long now) {
+        for (int i = 0; i < backends.length; i++) {
+            int index = (nextBackend + i) % backends.length;
+            if (backends[index].isAvailable(now)) {
+                nextBackend = (index + 1) % backends.length;
+                return backends[index];
+            }
+        }
+        return null;
+    }
+
+    // the mappings are in the order they were last used, so only the expired ones at the head are visited
+    private void sweep() {
+        long now = System.nanoTime();
+        Iterator<Mapping> iterator = mappings.values().iterator();
+        while (iterator.hasNext()) {
+            Mapping mapping = iterator.next();
+            if (now - mapping.lastAccess < relayConfig.getIdleTimeoutNanos()) {
+                break;
+            }
+            iterator.remove();
+            mapping.close();
+            expiredMappings.increment();
+        }
+        activeMappings = mappings.size();
+    }
+
+    // once a backend becomes unhealthy its senders are mapped to the other backends by their next datagram
+    private void onBackendFailure(RelayBackend backend) {
+        if (!backend.recordFailure(System.nanoTime())) {
+            return;
+        }
+        List<Mapping> failed = new ArrayList<>();
+        for (Mapping mapping : mappings.values()) {
+            if (mapping.backend == backend) {
+                failed.add(mapping);
+            }
+        }
+        for (Mapping mapping : failed) {
+            mappings.remove(mapping.sender);
+            mapping.close();
+        }
+        activeMappings = mappings.size();
+    }
+
+    // a backend which can't be connected to, e.g., without a route to it, fails the mapping right away
+    private void onConnectFailure(Mapping mapping) {
+        if (mapping.closed) {
+            return;
+        }
+        mappings.remove(mapping.sender, mapping);
+        mapping.close();
+        activeMappings = mappings.size();
+        onBackendFailure(mapping.backend);
+    }
+
+    public RelayBackend[] getBackends() {
+        return backends;
+    }
+
+    public int getActiveMappings() {
+        return activeMappings;
+    }
+
+    public long getCreatedMappings() {
+        return createdMappings.sum();
+    }
+
+    public long getExpiredMappings() {
+        return expiredMappings.sum();
+    }
+
+    public long getEvictedMappings() {
+        return evictedMappings.sum();
+    }
+
+    public long getDroppedDatagrams() {
+        return droppedDatagrams.sum();
+    }
+
+    public long getFailedReplies() {
+        return failedReplies.sum();
+    }
+
+    /**
+     * The mapping of a sender to a backend, which handles the datagrams the backend sends to its upstream socket.
+     */
+    private final class Mapping extends ChannelInboundHandlerAdapter {
+
+        private final InetSocketAddress sender;
+        private final RelayBackend backend;
+        private Channel upstream;
+        private ChannelFuture connectFuture;
+        private long lastAccess;
+        private boolean flushPending;
+        private boolean closed;
+
+        private Mapping(InetSocketAddress sender, RelayBackend backend, long now) {
+            this.sender = sender;
+            this.backend = backend;
+            this.lastAccess = now;
+            backend.mappingOpened();
+        }
+
+        // the replies are received the same way the listener receives the datagrams of the senders
+        private void connect() {
+            connectFuture = new Bootstrap().group(channel.eventLoop()).channel(NioDatagramChannel.class)
+                    .option(ChannelOption.RCVBUF_ALLOCATOR, channel.config().getRecvByteBufAllocator())
+                    .handler(this)
+                    .connect(backend.getAddress());
+            upstream = connectFuture.channel();
+            connectFuture.addListener((ChannelFutureListener) future -> {
+                if (!future.isSuccess()) {
+                    onConnectFailure(this);
+                }
+            });
+        }
+
+        // the datagrams received before the upstream socket is connected are flushed once it is connected,
+        // the others once the listener has read all the datagrams available
+        private void forward(ByteBuf content) {
+            if (!connectFuture.isDone()) {
+                connectFuture.addListener((ChannelFutureListener) future -> {
+                    if (write(content)) {
+                        upstream.flush();
+                    }
+                });
+            } else if (write(content) && !flushPending) {
+                flushPending = true;
+                pendingFlushes.add(this);
+            }
+        }
+
+        private boolean write(ByteBuf content) {
+            if (closed || !upstream.isActive()) {
+                ReferenceCountUtil.release(content);
+                droppedDatagrams.increment();
+                return false;
+            }
+            backend.recordForwarded(content.readableBytes());
+            // a failed write is reported to exceptionCaught, without a promise for each datagram
+            upstream.write(content, upstream.voidPromise());
+            return true;
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (!(msg instanceof DatagramPacket) || closed) {
+                ReferenceCountUtil.release(msg);
+                return;
+            }
+            ByteBuf content = ((DatagramPacket) msg).content();
+            lastAccess = System.nanoTime();
+            // moves the mapping to the tail of the table, as the replies keep it open as well
+            mappings.get(sender);
+            backend.recordReturned(content.readableBytes());
+            channel.write(new DatagramPacket(content, sender), channel.voidPromise());
+        }
+
+        @Override
+        public void channelReadComplete(ChannelHandlerContext ctx) {
+            channel.flush();
+        }
+
+        // e.g., the port unreachable errors of a backend which is down, or a failed write
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            if (!closed) {
+                onBackendFailure(backend);
+            }
+        }
+
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            backend.mappingClosed();
+            if (upstream != null) {
+                upstream.close();
+            }
+        }
+    }
+}
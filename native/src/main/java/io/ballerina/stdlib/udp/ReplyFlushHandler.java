@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.internal.PlatformDependent;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link ReplyFlushHandler} consolidates the replies written by the service and the caller from many strands.
+ * <p>
+ * A reply is added to a lock-free multi-producer single-consumer queue. Only the first reply after a drain submits
+ * a task to the event loop, which writes every queued reply and flushes once, instead of a task and a flush for
+ * each reply.
+ */
+public class ReplyFlushHandler extends ChannelOutboundHandlerAdapter {
+
+    // bounds the time a reply waits in the outbound buffer while the other replies of a busy drain are written
+    private static final int MAX_REPLIES_PER_FLUSH = 64;
+
+    private final long flushDelayNanos;
+    private final Queue<PendingReply> pendingReplies = PlatformDependent.newMpscQueue();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private volatile ChannelHandlerContext ctx;
+
+    private final LongAdder replies = new LongAdder();
+    private final LongAdder flushes = new LongAdder();
+
+    public ReplyFlushHandler(long flushDelayNanos) {
+        this.flushDelayNanos = flushDelayNanos;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        this.ctx = ctx;
+    }
+
+    public void enqueue(DatagramPacket datagram, ChannelPromise promise) {
+        replies.increment();
+        pendingReplies.add(new PendingReply(datagram, promise));
+        if (drainScheduled.compareAndSet(false, true)) {
+            scheduleDrain(flushDelayNanos);
+        }
+    }
+
+    private void scheduleDrain(long delayNanos) {
+        EventLoop eventLoop = ctx.channel().eventLoop();
+        if (delayNanos > 0) {
+            eventLoop.schedule(this::drain, delayNanos, TimeUnit.NANOSECONDS);
+        } else {
+            eventLoop.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        // cleared before polling, so a reply added after the last poll schedules another drain
+        drainScheduled.set(false);
+        PendingReply pendingReply;
+        int written = 0;
+        while (written < MAX_REPLIES_PER_FLUSH && (pendingReply = pendingReplies.poll()) != null) {
+            ctx.write(pendingReply.datagram, pendingReply.promise);
+            written++;
+        }
+        if (written > 0) {
+            flushes.increment();
+            ctx.flush();
+        }
+        // the replies left behind are already late, so they are not delayed again
+        if (!pendingReplies.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+            scheduleDrain(0);
+        }
+    }
+
+    @Override
+    public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
+        failPendingReplies();
+        super.close(ctx, promise);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        failPendingReplies();
+    }
+
+    private void failPendingReplies() {
+        PendingReply pendingReply;
+        while ((pendingReply = pendingReplies.poll()) != null) {
+            ReferenceCountUtil.release(pendingReply.datagram);
+            pendingReply.promise.tryFailure(new ClosedChannelException());
+        }
+    }
+
+    public long getReplies() {
+        return replies.sum();
+    }
+
+    public long getFlushes() {
+        return flushes.sum();
+    }
+
+    private static final class PendingReply {
+
+        private final DatagramPacket datagram;
+        private final ChannelPromise promise;
+
+        private PendingReply(DatagramPacket datagram, ChannelPromise promise) {
+            this.datagram = datagram;
+            this.promise = promise;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import java.util.Arrays;
+
+/**
+ * {@link RotatingBloomFilter} remembers the keys added over a sliding time window using a pair of Bloom filters.
+ * <p>
+ * The keys are added to the current filter and looked up in both. At each rotation the previous filter is cleared
+ * and becomes the current one, so a key is remembered for at least one rotation interval and at most two. Both
+ * filters are sized for the expected number of keys per interval at the given false positive rate, rounded up to a
+ * power of two bits. The filter is not thread safe.
+ */
+public class RotatingBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private long[] current;
+    private long[] previous;
+    private final long mask;
+    private final int hashes;
+
+    public RotatingBloomFilter(long expectedKeys, double falsePositiveRate) {
+        long bits = getBits(expectedKeys, falsePositiveRate);
+        this.current = new long[(int) (bits >>> 6)];
+        this.previous = new long[(int) (bits >>> 6)];
+        this.mask = bits - 1;
+        this.hashes = Math.max(1, (int) Math.round((double) bits / expectedKeys * LN2));
+    }
+
+    // the optimal number of bits rounded up to a power of two, at least a long
+    public static long getBits(long expectedKeys, double falsePositiveRate) {
+        double optimalBits = -expectedKeys * Math.log(falsePositiveRate) / (LN2 * LN2);
+        return Math.max(Long.SIZE, Long.highestOneBit((long) Math.ceil(optimalBits) - 1) << 1);
+    }
+
+    /**
+     * Adds the key unless it is already present in either filter.
+     *
+     * @param hash a 64-bit hash of the key
+     * @return true if the key was already present, which may be a false positive
+     */
+    public boolean addIfAbsent(long hash) {
+        // double hashing of the two halves of the hash
+        long hash1 = hash;
+        long hash2 = (hash >>> 32) | 1;
+        boolean inCurrent = true;
+        boolean inPrevious = true;
+        for (int i = 0; i < hashes && (inCurrent || inPrevious); i++) {
+            long index = (hash1 + i * hash2) & mask;
+            int word = (int) (index >>> 6);
+            long bit = 1L << index;
+            inCurrent &= (current[word] & bit) != 0;
+            inPrevious &= (previous[word] & bit) != 0;
+        }
+        if (inCurrent || inPrevious) {
+            return true;
+        }
+        for (int i = 0; i < hashes; i++) {
+            long index = (hash1 + i * hash2) & mask;
+            current[(int) (index >>> 6)] |= 1L << index;
+        }
+        return false;
+    }
+
+    public void rotate() {
+        long[] cleared = previous;
+        Arrays.fill(cleared, 0);
+        previous = current;
+        current = cleared;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.channel.ChannelFutureListener;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link SendTracker} keeps account of the sends of a udp client which are not yet completed, so that the
+ * fire-and-forget sends can be drained and their failures are not lost.
+ * <p>
+ * A lock and a condition are used instead of monitors since the draining strand may run on a virtual thread.
+ */
+public class SendTracker {
+
+    private final int maxErrorLogSize;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition idle = lock.newCondition();
+    private final ArrayDeque<String> errorLog = new ArrayDeque<>();
+    private long pendingSends;
+
+    private final LongAdder completedSends = new LongAdder();
+    private final LongAdder failedSends = new LongAdder();
+
+    public SendTracker(int maxErrorLogSize) {
+        this.maxErrorLogSize = maxErrorLogSize;
+    }
+
+    // must be called before the datagram is written, the returned listener records the outcome of the send
+    public ChannelFutureListener track() {
+        lock.lock();
+        try {
+            pendingSends++;
+        } finally {
+            lock.unlock();
+        }
+        return future -> complete(future.isSuccess() ? null : "Failed to send data: " + future.cause().getMessage());
+    }
+
+    private void complete(String error) {
+        if (error == null) {
+            completedSends.increment();
+        } else {
+            failedSends.increment();
+        }
+        lock.lock();
+        try {
+            if (error != null && maxErrorLogSize > 0) {
+                if (errorLog.size() == maxErrorLogSize) {
+                    errorLog.poll();
+                }
+                errorLog.add(error);
+            }
+            if (--pendingSends == 0) {
+                idle.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // blocks until there are no pending sends, a negative timeout waits without a limit
+    public boolean awaitIdle(long timeoutNanos) throws InterruptedException {
+        lock.lock();
+        try {
+            long remainingNanos = timeoutNanos;
+            while (pendingSends > 0) {
+                if (timeoutNanos < 0) {
+                    idle.await();
+                } else if (remainingNanos <= 0) {
+                    return false;
+                } else {
+                    remainingNanos = idle.awaitNanos(remainingNanos);
+                }
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getPendingSends() {
+        lock.lock();
+        try {
+            return pendingSends;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCompletedSends() {
+        return completedSends.sum();
+    }
+
+    public long getFailedSends() {
+        return failedSends.sum();
+    }
+
+    // the most recent failures, oldest first
+    public String[] getRecentErrors() {
+        lock.lock();
+        try {
+            return errorLog.toArray(new String[0]);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+/**
+ * {@link SessionConfig} holds the idle timeout and the bound of the per-peer sessions kept by a listener.
+ */
+public class SessionConfig {
+
+    private final long idleTimeoutNanos;
+    private final int maxSessions;
+
+    public SessionConfig(long idleTimeoutNanos, int maxSessions) {
+        this.idleTimeoutNanos = idleTimeoutNanos;
+        this.maxSessions = maxSessions;
+    }
+
+    // a session is evicted once its peer sends nothing for this long
+    public long getIdleTimeoutNanos() {
+        return idleTimeoutNanos;
+    }
+
+    // the least recently used sessions are evicted to keep the table within this size
+    public int getMaxSessions() {
+        return maxSessions;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.concurrent.ScheduledFuture;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SessionHandler} is a ChannelInboundHandler which refreshes the sessions of the peers as their datagrams are
+ * received, and advances the timer wheels of the {@link SessionTable} from the event loop. The expired sessions are
+ * passed to the {@code onSessionIdle} remote method of the service, if it has one.
+ */
+public class SessionHandler extends ChannelInboundHandlerAdapter {
+
+    private final SessionTable sessionTable;
+    private final UdpService udpService;
+    private ScheduledFuture<?> tickFuture;
+
+    public SessionHandler(SessionConfig sessionConfig, UdpService udpService) {
+        this.sessionTable = new SessionTable(sessionConfig, System.nanoTime());
+        this.udpService = udpService;
+    }
+
+    @Override
+    public void handlerAdded(ChannelHandlerContext ctx) {
+        long tickNanos = sessionTable.getTickNanos();
+        tickFuture = ctx.executor().scheduleAtFixedRate(this::tick, tickNanos, tickNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void handlerRemoved(ChannelHandlerContext ctx) {
+        if (tickFuture != null) {
+            tickFuture.cancel(false);
+        }
+    }
+
+    @Override
+    public void channelRead(ChannelHandlerContext ctx, Object msg) {
+        if (msg instanceof DatagramPacket) {
+            sessionTable.touch(((DatagramPacket) msg).sender(), System.nanoTime());
+        }
+        ctx.fireChannelRead(msg);
+    }
+
+    private void tick() {
+        for (PeerSession session : sessionTable.expire(System.nanoTime())) {
+            if (udpService != null) {
+                Dispatcher.invokeOnSessionIdle(udpService, session);
+            }
+        }
+    }
+
+    public SessionTable getSessionTable() {
+        return sessionTable;
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * {@link SessionTable} keeps the {@link PeerSession}s of a listener, keyed by the address of the peer.
+ * <p>
+ * The table is split into stripes by the hash of the address, each with its own lock, so that the event loop
+ * refreshing the sessions and the strands looking them up rarely wait for each other. The configured maximum bounds
+ * the whole table: once it is reached, a new session evicts the least recently used session of its own stripe, or of
+ * another stripe if its own is empty. A small table is kept in fewer stripes, down to a single one, so that the
+ * evicted session is close to the least recently used one of the whole table.
+ * <p>
+ * The idle sessions are found with a hashed timer wheel per stripe. A session is filed under the tick of its
+ * deadline and is not moved when it is refreshed. When the wheel reaches the tick, the sessions which are idle are
+ * expired and the others are filed again under their new deadline, so a datagram costs a lookup and a store of the
+ * time, and a session is expired at most one tick after its idle timeout.
+ */
+public class SessionTable {
+
+    private static final int MAX_STRIPES = 16;
+    private static final int MIN_SESSIONS_PER_STRIPE = 64;
+    // a session is filed at most TICKS_PER_TIMEOUT + 1 ticks ahead, well within a turn of the wheel
+    private static final int TICKS_PER_TIMEOUT = 16;
+    private static final int WHEEL_SIZE = 32;
+    private static final long MIN_TICK_NANOS = 1_000_000;
+
+    private final Stripe[] stripes;
+    private final int maxSessions;
+    private final long idleTimeoutNanos;
+    private final long tickNanos;
+    private final long startNanos;
+    // the bound is checked against it, so it is updated atomically rather than summed
+    private final AtomicLong active = new AtomicLong();
+    private final LongAdder created = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+
+    public SessionTable(SessionConfig sessionConfig, long now) {
+        int maxSessions = sessionConfig.getMaxSessions();
+        int stripeCount = Math.min(MAX_STRIPES,
+                Integer.highestOneBit(Math.max(1, maxSessions / MIN_SESSIONS_PER_STRIPE)));
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.maxSessions = maxSessions;
+        this.idleTimeoutNanos = sessionConfig.getIdleTimeoutNanos();
+        this.tickNanos = Math.max(MIN_TICK_NANOS, idleTimeoutNanos / TICKS_PER_TIMEOUT);
+        this.startNanos = now;
+    }
+
+    public long getTickNanos() {
+        return tickNanos;
+    }
+
+    // refreshes the session of the peer, if it has one
+    public void touch(InetSocketAddress address, long now) {
+        if (active.get() == 0) {
+            return;
+        }
+        Stripe stripe = getStripe(address);
+        stripe.lock.lock();
+        try {
+            PeerSession session = stripe.sessions.get(address);
+            if (session != null) {
+                session.touch(now);
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    public PeerSession getOrCreate(InetSocketAddress address, long now) {
+        Stripe stripe = getStripe(address);
+        stripe.lock.lock();
+        try {
+            PeerSession session = stripe.sessions.get(address);
+            if (session != null) {
+                session.touch(now);
+                return session;
+            }
+            if (active.incrementAndGet() > maxSessions && !stripe.evictEldest()) {
+                evictFromOtherStripe(stripe);
+            }
+            session = new PeerSession(this, address, now);
+            stripe.sessions.put(address, session);
+            stripe.schedule(session, now);
+            created.increment();
+            return session;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    void remove(PeerSession session) {
+        Stripe stripe = getStripe(session.getAddress());
+        stripe.lock.lock();
+        try {
+            if (stripe.sessions.remove(session.getAddress(), session)) {
+                session.markRemoved();
+                active.decrementAndGet();
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    // advances the wheels up to the given time and returns the sessions which expired on the way
+    public List<PeerSession> expire(long now) {
+        List<PeerSession> expiredSessions = new ArrayList<>();
+        long currentTick = (now - startNanos) / tickNanos;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.advance(currentTick, now, expiredSessions);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return expiredSessions;
+    }
+
+    // the lock of the inserting stripe is held, so the others are only tried to avoid a lock order deadlock. If all
+    // of them are busy or empty, the table holds a session over the bound until the next eviction or expiry
+    private void evictFromOtherStripe(Stripe current) {
+        for (Stripe stripe : stripes) {
+            if (stripe == current || !stripe.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (stripe.evictEldest()) {
+                    return;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    private Stripe getStripe(InetSocketAddress address) {
+        int hash = address.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    public long getActive() {
+        return active.get();
+    }
+
+    public long getCreated() {
+        return created.sum();
+    }
+
+    public long getExpired() {
+        return expired.sum();
+    }
+
+    public long getEvicted() {
+        return evicted.sum();
+    }
+
+    private final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        // in the order of access, so that the first session is the least recently used one
+        private final LinkedHashMap<InetSocketAddress, PeerSession> sessions = new LinkedHashMap<>(16, 0.75f, true);
+        private final List<List<PeerSession>> wheel = new ArrayList<>(WHEEL_SIZE);
+        private long processedTick;
+
+        private Stripe() {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel.add(new ArrayList<>());
+            }
+        }
+
+        // evicts the least recently used session of the stripe, false if the stripe is empty
+        private boolean evictEldest() {
+            Iterator<PeerSession> eldest = sessions.values().iterator();
+            if (!eldest.hasNext()) {
+                return false;
+            }
+            eldest.next().markRemoved();
+            eldest.remove();
+            active.decrementAndGet();
+            evicted.increment();
+            return true;
+        }
+
+        private void schedule(PeerSession session, long now) {
+            long deadline = now + idleTimeoutNanos - startNanos;
+            // the first tick which starts after the deadline
+            session.deadlineTick = Math.max(processedTick + 1, deadline / tickNanos + 1);
+            wheel.get((int) (session.deadlineTick & (WHEEL_SIZE - 1))).add(session);
+        }
+
+        private void advance(long currentTick, long now, List<PeerSession> expiredSessions) {
+            while (processedTick < currentTick) {
+                processedTick++;
+                List<PeerSession> slot = wheel.get((int) (processedTick & (WHEEL_SIZE - 1)));
+                if (slot.isEmpty()) {
+                    continue;
+                }
+                List<PeerSession> due = new ArrayList<>(slot);
+                slot.clear();
+                for (PeerSession session : due) {
+                    if (!session.isActive()) {
+                        continue;
+                    }
+                    if (session.deadlineTick > processedTick) {
+                        // filed a turn of the wheel ahead
+                        slot.add(session);
+                    } else if (now - session.getLastAccessNanos() >= idleTimeoutNanos) {
+                        sessions.remove(session.getAddress());
+                        session.markRemoved();
+                        active.decrementAndGet();
+                        expired.increment();
+                        expiredSessions.add(session);
+                    } else {
+                        schedule(session, session.getLastAccessNanos());
+                    }
+                }
+            }
+        }
+    }
+}
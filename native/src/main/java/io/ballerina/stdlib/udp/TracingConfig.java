@@ -0,0 +1,36 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+/**
+ * {@link TracingConfig} holds the head sampling configuration used to trace the datagrams received by a listener.
+ */
+public class TracingConfig {
+
+    private final double samplingRate;
+
+    public TracingConfig(double samplingRate) {
+        this.samplingRate = samplingRate;
+    }
+
+    // the fraction of the received datagrams which are traced, between 0 and 1
+    public double getSamplingRate() {
+        return samplingRate;
+    }
+}
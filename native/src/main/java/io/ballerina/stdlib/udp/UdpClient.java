@@ -18,10 +18,13 @@
 
 package io.ballerina.stdlib.udp;
 
+import io.ballerina.stdlib.udp.jfr.SendEvent;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBufAllocator;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.socket.DatagramPacket;
 import io.netty.channel.socket.nio.NioDatagramChannel;
@@ -31,7 +34,9 @@ import io.netty.util.concurrent.PromiseCombiner;
 
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.LinkedList;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
@@ -42,19 +47,16 @@ public class UdpClient {
 
     private Channel channel;
     private final Bootstrap clientBootstrap;
+    private final boolean asyncSend;
+    private final SendTracker sendTracker;
 
     // create connection oriented client
     public UdpClient(InetSocketAddress localAddress, InetSocketAddress remoteAddress,
-                     EventLoopGroup group, CompletableFuture<Object> balFuture) {
-        clientBootstrap = new Bootstrap();
-        clientBootstrap.group(group)
-                .channel(NioDatagramChannel.class)
-                .handler(new ChannelInitializer<>() {
-                    @Override
-                    protected void initChannel(Channel ch) throws Exception {
-                        ch.pipeline().addLast(Constants.CONNECTIONLESS_CLIENT_HANDLER, new UdpClientHandler());
-                    }
-                });
+                     EventLoopGroup group, CompletableFuture<Object> balFuture, UdpConfig udpConfig) {
+        clientBootstrap = createBootstrap(group, udpConfig);
+        asyncSend = udpConfig.getAsyncSendConfig() != null;
+        sendTracker = new SendTracker(asyncSend ? udpConfig.getAsyncSendConfig().getMaxErrorLogSize()
+                : Constants.DEFAULT_MAX_ERROR_LOG_SIZE);
         if (remoteAddress != null) {
             this.connect(remoteAddress, localAddress, balFuture);
         }
@@ -62,16 +64,12 @@ public class UdpClient {
 
     // create connection less client
     public UdpClient(InetSocketAddress localAddress, EventLoopGroup group,
-                     CompletableFuture<Object> balFuture) {
-        clientBootstrap = new Bootstrap();
-        clientBootstrap.group(group)
-                .channel(NioDatagramChannel.class)
-                .handler(new ChannelInitializer<>() {
-                    @Override
-                    protected void initChannel(Channel ch) throws Exception {
-                        ch.pipeline().addLast(Constants.CONNECTIONLESS_CLIENT_HANDLER, new UdpClientHandler());
-                    }
-                }).bind(localAddress).addListener((ChannelFutureListener) future -> {
+                     CompletableFuture<Object> balFuture, UdpConfig udpConfig) {
+        clientBootstrap = createBootstrap(group, udpConfig);
+        asyncSend = udpConfig.getAsyncSendConfig() != null;
+        sendTracker = new SendTracker(asyncSend ? udpConfig.getAsyncSendConfig().getMaxErrorLogSize()
+                : Constants.DEFAULT_MAX_ERROR_LOG_SIZE);
+        clientBootstrap.bind(localAddress).addListener((ChannelFutureListener) future -> {
             if (future.isSuccess()) {
                 channel = future.channel();
                 channel.config().setAutoRead(false);
@@ -82,6 +80,33 @@ public class UdpClient {
         });
     }
 
+    private static Bootstrap createBootstrap(EventLoopGroup group, UdpConfig udpConfig) {
+        Bootstrap bootstrap = new Bootstrap();
+        bootstrap.group(group)
+                .channel(NioDatagramChannel.class)
+                .attr(Constants.FRAGMENT_SIZE, udpConfig.getFragmentSize())
+                .handler(new ChannelInitializer<>() {
+                    @Override
+                    protected void initChannel(Channel ch) throws Exception {
+                        if (udpConfig.getPathMtuConfig() != null) {
+                            ch.pipeline().addLast(Constants.PATH_MTU_HANDLER,
+                                    new PathMtuHandler(udpConfig.getPathMtuConfig()));
+                        }
+                        if (udpConfig.getPacingConfig() != null) {
+                            ch.pipeline().addLast(Constants.PACING_HANDLER,
+                                    new PacingHandler(udpConfig.getPacingConfig()));
+                        }
+                        if (udpConfig.getCompressionConfig() != null) {
+                            ch.pipeline().addLast(Constants.COMPRESSION_HANDLER,
+                                    new CompressionHandler(udpConfig.getCompressionConfig()));
+                        }
+                        ch.pipeline().addLast(Constants.CONNECTIONLESS_CLIENT_HANDLER, new UdpClientHandler());
+                    }
+                });
+        udpConfig.getMulticastConfig().applyTo(bootstrap);
+        return bootstrap;
+    }
+
     // needed for connection oriented client
     private void connect(SocketAddress remoteAddress, SocketAddress localAddress,
                          CompletableFuture<Object> balFuture) {
@@ -101,10 +126,16 @@ public class UdpClient {
     }
 
     public void sendData(DatagramPacket datagram, CompletableFuture<Object> balFuture) {
-        LinkedList<DatagramPacket> fragments = Utils.fragmentDatagram(datagram);
+        ChannelFutureListener sendListener = sendTracker.track();
+        SendEvent sendEvent = SendEvent.start();
+        InetSocketAddress recipient = datagram.recipient();
+        int size = datagram.content().readableBytes();
+        DatagramPacket[] fragments = Utils.fragmentDatagram(datagram, Utils.getFragmentSize(channel, recipient));
         PromiseCombiner promiseCombiner = getPromiseCombiner(fragments);
 
-        promiseCombiner.finish(channel.newPromise().addListener((ChannelFutureListener) future -> {
+        ChannelPromise promise = channel.newPromise().addListener(sendListener);
+        promiseCombiner.finish(promise.addListener((ChannelFutureListener) future -> {
+            SendEvent.finish(sendEvent, getRecipient(recipient), size, fragments.length, future);
             if (future.isSuccess()) {
                 balFuture.complete(null);
             } else {
@@ -114,11 +145,91 @@ public class UdpClient {
         }));
     }
 
-    private PromiseCombiner getPromiseCombiner(LinkedList<DatagramPacket> fragments) {
+    // returns once the datagram is handed over to the channel, the outcome is only recorded by the send tracker
+    public void sendDataAsync(DatagramPacket datagram) {
+        ChannelFutureListener sendListener = sendTracker.track();
+        SendEvent sendEvent = SendEvent.start();
+        InetSocketAddress recipient = datagram.recipient();
+        int size = datagram.content().readableBytes();
+        DatagramPacket[] fragments = Utils.fragmentDatagram(datagram, Utils.getFragmentSize(channel, recipient));
+        getPromiseCombiner(fragments).finish(channel.newPromise().addListener(sendListener)
+                .addListener((ChannelFutureListener) future ->
+                        SendEvent.finish(sendEvent, getRecipient(recipient), size, fragments.length, future)));
+    }
+
+    // the failures are also recorded by the send tracker, so that they are reported along with the other sends
+    public void broadcast(byte[] data, int length, List<Broadcast.Target> targets,
+                          CompletableFuture<List<Broadcast.Failure>> failures) {
+        Broadcast.send(channel, data, length, targets, sendTracker, failures);
+    }
+
+    // the datagrams of a connected client are created without a recipient
+    private SocketAddress getRecipient(InetSocketAddress recipient) {
+        return recipient != null ? recipient : channel.remoteAddress();
+    }
+
+    /**
+     * Sends the content of a file as a sequence of datagrams, see {@link FileTransfer}.
+     *
+     * @param path the file to be sent
+     * @param recipient the address the file is sent to, or null to send it to the connected remote host
+     * @param chunkSize the largest number of bytes sent in a single datagram
+     * @param balFuture completed once all the chunks are written
+     */
+    public void sendFile(Path path, InetSocketAddress recipient, int chunkSize, CompletableFuture<Object> balFuture) {
+        ChannelFutureListener sendListener = sendTracker.track();
+        InetSocketAddress destination = recipient != null ? recipient : (InetSocketAddress) channel.remoteAddress();
+        FileTransfer.start(channel, path, destination, chunkSize).addListener(sendListener)
+                .addListener((ChannelFutureListener) future -> {
+                    if (future.isSuccess()) {
+                        balFuture.complete(null);
+                    } else {
+                        balFuture.complete(Utils.createUdpError("Failed to send the file: "
+                                + future.cause().getMessage()));
+                    }
+                });
+    }
+
+    public Set<FileTransfer> getFileTransfers() {
+        return FileTransfer.getTransfers(channel);
+    }
+
+    // blocks the calling thread, a negative timeout waits until all the pending sends are completed
+    public Object drain(long timeoutNanos) {
+        try {
+            if (sendTracker.awaitIdle(timeoutNanos)) {
+                return null;
+            }
+            return Utils.createUdpError("Timed out while waiting for " + sendTracker.getPendingSends()
+                    + " pending sends to complete");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Utils.createUdpError("Interrupted while waiting for the pending sends to complete");
+        }
+    }
+
+    public int getFragmentSize(InetSocketAddress recipient) {
+        return Utils.getFragmentSize(channel, recipient);
+    }
+
+    public ByteBufAllocator alloc() {
+        return channel.alloc();
+    }
+
+    public boolean isAsyncSend() {
+        return asyncSend;
+    }
+
+    public SendTracker getSendTracker() {
+        return sendTracker;
+    }
+
+    private PromiseCombiner getPromiseCombiner(DatagramPacket[] fragments) {
         PromiseCombiner promiseCombiner = new PromiseCombiner(ImmediateEventExecutor.INSTANCE);
-        while (!fragments.isEmpty()) {
+        int index = 0;
+        while (index < fragments.length) {
             if (channel.isWritable()) {
-                promiseCombiner.add(channel.writeAndFlush(fragments.poll()));
+                promiseCombiner.add(channel.writeAndFlush(fragments[index++]));
             }
         }
         return promiseCombiner;
@@ -126,21 +237,57 @@ public class UdpClient {
 
     public void receiveData(double readTimeoutInSec, CompletableFuture<Object> balFuture) {
 
+        addReadTimeoutHandler(readTimeoutInSec);
+        getClientHandler().setBalFuture(balFuture);
+
+        channel.read();
+    }
+
+    /**
+     * Reads up to the given number of datagrams which are already available, or waits until at least one arrives.
+     * The reads are resumed for a single read loop which is bounded by the count, and the datagrams of the loop are
+     * completed together as a readonly array.
+     *
+     * @param readTimeoutInSec the time to wait for the first datagram
+     * @param maxCount the largest number of datagrams to be returned
+     * @param balFuture completed with the datagrams or an error
+     */
+    public void receiveDataBatch(double readTimeoutInSec, int maxCount, CompletableFuture<Object> balFuture) {
+        channel.eventLoop().execute(() -> {
+            addReadTimeoutHandler(readTimeoutInSec);
+            UdpClientHandler handler = getClientHandler();
+            handler.setBalFuture(balFuture);
+            handler.startBatch(channel, maxCount);
+            channel.config().setAutoRead(true);
+        });
+    }
+
+    private void addReadTimeoutHandler(double readTimeoutInSec) {
         long readTimeoutInNano = (long) (readTimeoutInSec * 1_000_000_000);
         channel.pipeline().addFirst(Constants.READ_TIMEOUT_HANDLER, new IdleStateHandler(readTimeoutInNano, 0, 0,
                 TimeUnit.NANOSECONDS));
+    }
 
+    private UdpClientHandler getClientHandler() {
         if (channel.pipeline().get(Constants.CONNECTIONLESS_CLIENT_HANDLER) != null) {
-            UdpClientHandler handler = (UdpClientHandler) channel.pipeline().
-                    get(Constants.CONNECTIONLESS_CLIENT_HANDLER);
-            handler.setBalFuture(balFuture);
-        } else {
-            UdpConnectClientHandler handler = (UdpConnectClientHandler) channel.pipeline().
-                    get(Constants.CONNECT_CLIENT_HANDLER);
-            handler.setBalFuture(balFuture);
+            return (UdpClientHandler) channel.pipeline().get(Constants.CONNECTIONLESS_CLIENT_HANDLER);
         }
+        return (UdpConnectClientHandler) channel.pipeline().get(Constants.CONNECT_CLIENT_HANDLER);
+    }
 
-        channel.read();
+    // null if the pacing is not configured for the client
+    public PacingHandler getPacingHandler() {
+        return (PacingHandler) channel.pipeline().get(Constants.PACING_HANDLER);
+    }
+
+    // null if the compression is not configured
+    public CompressionHandler getCompressionHandler() {
+        return (CompressionHandler) channel.pipeline().get(Constants.COMPRESSION_HANDLER);
+    }
+
+    // null if the fragment size is not derived from the path MTU
+    public PathMtuHandler getPathMtuHandler() {
+        return (PathMtuHandler) channel.pipeline().get(Constants.PATH_MTU_HANDLER);
     }
 
     public void close(CompletableFuture<Object> balFuture) {
@@ -18,12 +18,18 @@
 
 package io.ballerina.stdlib.udp;
 
+import io.ballerina.stdlib.udp.jfr.ReceiveTimeoutEvent;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.MaxMessagesRecvByteBufAllocator;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.socket.DatagramPacket;
 import io.netty.handler.timeout.IdleStateEvent;
+import io.netty.handler.timeout.IdleStateHandler;
 
 import java.net.PortUnreachableException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -32,17 +38,42 @@ import java.util.concurrent.CompletableFuture;
 public class UdpClientHandler extends SimpleChannelInboundHandler<DatagramPacket> {
 
     protected CompletableFuture<Object> balFuture;
+    // 0 while a single datagram is read, only accessed from the event loop of the channel
+    private int maxBatchSize;
+    // the read loop bound of the channel before the batch, restored once the batch ends
+    private int maxMessagesPerRead;
+    private final List<Object> batch = new ArrayList<>();
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx,
                                 DatagramPacket datagramPacket) throws Exception {
+        if (maxBatchSize > 0) {
+            batch.add(createValue(datagramPacket));
+            return;
+        }
         ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
-        balFuture.complete(Utils.createReadonlyDatagramWithRecipientAddress(datagramPacket));
+        balFuture.complete(createValue(datagramPacket));
+    }
+
+    // the read loop is bounded by the batch size, so the batch is complete once the loop ends
+    @Override
+    public void channelReadComplete(ChannelHandlerContext ctx) throws Exception {
+        if (maxBatchSize > 0 && !batch.isEmpty()) {
+            Object[] values = batch.toArray();
+            endBatch(ctx);
+            ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
+            balFuture.complete(Utils.createReadonlyArray(values));
+        }
+        super.channelReadComplete(ctx);
     }
 
     @Override
     public void userEventTriggered(ChannelHandlerContext ctx, Object evt) throws Exception {
         if (evt instanceof IdleStateEvent) {
+            IdleStateHandler readTimeoutHandler = (IdleStateHandler) ctx.pipeline().get(Constants.READ_TIMEOUT_HANDLER);
+            ReceiveTimeoutEvent.commit(ctx.channel().localAddress(), ctx.channel().remoteAddress(),
+                    readTimeoutHandler.getReaderIdleTimeInMillis(), maxBatchSize > 0);
+            endBatch(ctx);
             ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
             balFuture.complete(Utils.createUdpError("Read timed out"));
         }
@@ -50,6 +81,7 @@ public class UdpClientHandler extends SimpleChannelInboundHandler<DatagramPacket
 
     @Override
     public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) throws Exception {
+        endBatch(ctx);
         ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
             String errorMsg = cause.getMessage();
             if (cause instanceof PortUnreachableException) {
@@ -58,6 +90,36 @@ public class UdpClientHandler extends SimpleChannelInboundHandler<DatagramPacket
             balFuture.complete(Utils.createUdpError(errorMsg));
     }
 
+    protected Object createValue(DatagramPacket datagramPacket) {
+        return Utils.createReadonlyDatagramWithRecipientAddress(datagramPacket);
+    }
+
+    /**
+     * Reads the datagrams which are already available, up to the given count, until the next future is set.
+     * The read loop of the channel is bounded by the count until the batch ends, so that a later single read does
+     * not read more datagrams than it completes. Must be called from the event loop of the channel, before the reads
+     * are resumed.
+     *
+     * @param channel the channel the batch is read from
+     * @param maxBatchSize the largest number of datagrams completed together
+     */
+    public void startBatch(Channel channel, int maxBatchSize) {
+        this.maxBatchSize = maxBatchSize;
+        MaxMessagesRecvByteBufAllocator allocator = channel.config().getRecvByteBufAllocator();
+        maxMessagesPerRead = allocator.maxMessagesPerRead();
+        allocator.maxMessagesPerRead(maxBatchSize);
+    }
+
+    private void endBatch(ChannelHandlerContext ctx) {
+        if (maxBatchSize > 0) {
+            maxBatchSize = 0;
+            batch.clear();
+            ctx.channel().config().setAutoRead(false);
+            MaxMessagesRecvByteBufAllocator allocator = ctx.channel().config().getRecvByteBufAllocator();
+            allocator.maxMessagesPerRead(maxMessagesPerRead);
+        }
+    }
+
     public void setBalFuture(CompletableFuture<Object> balFuture) {
         this.balFuture = balFuture;
     }
@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp;
+
+/**
+ * {@link UdpConfig} holds the native configurations of a udp client or listener.
+ */
+public class UdpConfig {
+
+    private final MulticastConfig multicastConfig;
+    private final PacingConfig pacingConfig;
+    private final DispatchConfig dispatchConfig;
+    private final long replyFlushDelayNanos;
+    private final AsyncSendConfig asyncSendConfig;
+    private final int fragmentSize;
+    private final PathMtuConfig pathMtuConfig;
+    private final CaptureConfig captureConfig;
+    private final TracingConfig tracingConfig;
+    private final HeavyHitterConfig heavyHitterConfig;
+    private final AddressFilterRules addressFilterRules;
+    private final DedupConfig dedupConfig;
+    private final CompressionConfig compressionConfig;
+    private final SessionConfig sessionConfig;
+    private final RelayConfig relayConfig;
+
+    private UdpConfig(Builder builder) {
+        this.multicastConfig = builder.multicastConfig;
+        this.pacingConfig = builder.pacingConfig;
+        this.dispatchConfig = builder.dispatchConfig;
+        this.replyFlushDelayNanos = builder.replyFlushDelayNanos;
+        this.asyncSendConfig = builder.asyncSendConfig;
+        this.fragmentSize = builder.fragmentSize;
+        this.pathMtuConfig = builder.pathMtuConfig;
+        this.captureConfig = builder.captureConfig;
+        this.tracingConfig = builder.tracingConfig;
+        this.heavyHitterConfig = builder.heavyHitterConfig;
+        this.addressFilterRules = builder.addressFilterRules;
+        this.dedupConfig = builder.dedupConfig;
+        this.compressionConfig = builder.compressionConfig;
+        this.sessionConfig = builder.sessionConfig;
+        this.relayConfig = builder.relayConfig;
+    }
+
+    public static Builder builder(MulticastConfig multicastConfig) {
+        return new Builder(multicastConfig);
+    }
+
+    public MulticastConfig getMulticastConfig() {
+        return multicastConfig;
+    }
+
+    // null if the pacing is not configured
+    public PacingConfig getPacingConfig() {
+        return pacingConfig;
+    }
+
+    // null if the adaptive dispatching is not configured, always null for the clients
+    public DispatchConfig getDispatchConfig() {
+        return dispatchConfig;
+    }
+
+    // 0 flushes the replies as soon as the event loop drains them, always 0 for the clients
+    public long getReplyFlushDelayNanos() {
+        return replyFlushDelayNanos;
+    }
+
+    // null if the sends wait for the datagrams to be written, always null for the listener
+    public AsyncSendConfig getAsyncSendConfig() {
+        return asyncSendConfig;
+    }
+
+    // the largest number of bytes sent in a single datagram, larger contents are split into several datagrams
+    public int getFragmentSize() {
+        return fragmentSize;
+    }
+
+    // null if the fragment size is not derived from the MTU of the path
+    public PathMtuConfig getPathMtuConfig() {
+        return pathMtuConfig;
+    }
+
+    // null if the received datagrams are not captured, always null for the clients
+    public CaptureConfig getCaptureConfig() {
+        return captureConfig;
+    }
+
+    // null if the received datagrams are not traced, always null for the clients
+    public TracingConfig getTracingConfig() {
+        return tracingConfig;
+    }
+
+    // null if the heaviest peers are not tracked, always null for the clients
+    public HeavyHitterConfig getHeavyHitterConfig() {
+        return heavyHitterConfig;
+    }
+
+    // null if the datagrams are not filtered by the sender address, always null for the clients
+    public AddressFilterRules getAddressFilterRules() {
+        return addressFilterRules;
+    }
+
+    // null if the duplicate datagrams are dispatched, always null for the clients
+    public DedupConfig getDedupConfig() {
+        return dedupConfig;
+    }
+
+    // null if the payloads are not compressed
+    public CompressionConfig getCompressionConfig() {
+        return compressionConfig;
+    }
+
+    // null if no sessions are kept for the peers, always null for the clients
+    public SessionConfig getSessionConfig() {
+        return sessionConfig;
+    }
+
+    // null if the datagrams are dispatched to the service, always null for the clients
+    public RelayConfig getRelayConfig() {
+        return relayConfig;
+    }
+
+    /**
+     * Builds a {@link UdpConfig}, leaving the configurations which are not set at their defaults.
+     */
+    public static class Builder {
+
+        private MulticastConfig multicastConfig;
+        private PacingConfig pacingConfig;
+        private DispatchConfig dispatchConfig;
+        private long replyFlushDelayNanos;
+        private AsyncSendConfig asyncSendConfig;
+        private int fragmentSize;
+        private PathMtuConfig pathMtuConfig;
+        private CaptureConfig captureConfig;
+        private TracingConfig tracingConfig;
+        private HeavyHitterConfig heavyHitterConfig;
+        private AddressFilterRules addressFilterRules;
+        private DedupConfig dedupConfig;
+        private CompressionConfig compressionConfig;
+        private SessionConfig sessionConfig;
+        private RelayConfig relayConfig;
+
+        private Builder(MulticastConfig multicastConfig) {
+            this.multicastConfig = multicastConfig;
+        }
+
+        public Builder pacingConfig(PacingConfig pacingConfig) {
+            this.pacingConfig = pacingConfig;
+            return this;
+        }
+
+        public Builder dispatchConfig(DispatchConfig dispatchConfig) {
+            this.dispatchConfig = dispatchConfig;
+            return this;
+        }
+
+        public Builder replyFlushDelayNanos(long replyFlushDelayNanos) {
+            this.replyFlushDelayNanos = replyFlushDelayNanos;
+            return this;
+        }
+
+        public Builder asyncSendConfig(AsyncSendConfig asyncSendConfig) {
+            this.asyncSendConfig = asyncSendConfig;
+            return this;
+        }
+
+        public Builder fragmentSize(int fragmentSize) {
+            this.fragmentSize = fragmentSize;
+            return this;
+        }
+
+        public Builder pathMtuConfig(PathMtuConfig pathMtuConfig) {
+            this.pathMtuConfig = pathMtuConfig;
+            return this;
+        }
+
+        public Builder captureConfig(CaptureConfig captureConfig) {
+            this.captureConfig = captureConfig;
+            return this;
+        }
+
+        public Builder tracingConfig(TracingConfig tracingConfig) {
+            this.tracingConfig = tracingConfig;
+            return this;
+        }
+
+        public Builder heavyHitterConfig(HeavyHitterConfig heavyHitterConfig) {
+            this.heavyHitterConfig = heavyHitterConfig;
+            return this;
+        }
+
+        public Builder addressFilterRules(AddressFilterRules addressFilterRules) {
+            this.addressFilterRules = addressFilterRules;
+            return this;
+        }
+
+        public Builder dedupConfig(DedupConfig dedupConfig) {
+            this.dedupConfig = dedupConfig;
+            return this;
+        }
+
+        public Builder compressionConfig(CompressionConfig compressionConfig) {
+            this.compressionConfig = compressionConfig;
+            return this;
+        }
+
+        public Builder sessionConfig(SessionConfig sessionConfig) {
+            this.sessionConfig = sessionConfig;
+            return this;
+        }
+
+        public Builder relayConfig(RelayConfig relayConfig) {
+            this.relayConfig = relayConfig;
+            return this;
+        }
+
+        public UdpConfig build() {
+            return new UdpConfig(this);
+        }
+    }
+}
@@ -18,7 +18,6 @@
 
 package io.ballerina.stdlib.udp;
 
-import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.socket.DatagramPacket;
 
 /**
@@ -27,9 +26,7 @@ import io.netty.channel.socket.DatagramPacket;
 public class UdpConnectClientHandler extends UdpClientHandler {
 
     @Override
-    protected void channelRead0(ChannelHandlerContext ctx,
-                                DatagramPacket datagramPacket) throws Exception {
-        balFuture.complete(Utils.getReadonlyBytesFromDatagram(datagramPacket));
-        ctx.channel().pipeline().remove(Constants.READ_TIMEOUT_HANDLER);
+    protected Object createValue(DatagramPacket datagramPacket) {
+        return Utils.getReadonlyBytesFromDatagram(datagramPacket);
     }
 }
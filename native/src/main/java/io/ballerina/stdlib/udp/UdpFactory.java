@@ -21,8 +21,10 @@ package io.ballerina.stdlib.udp;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * {@link UdpFactory} creates {@link UdpClient} and UdpListener.
@@ -31,6 +33,8 @@ public class UdpFactory {
 
     private static volatile UdpFactory udpFactory = new UdpFactory();;
     private EventLoopGroup group;
+    private volatile EventLoopWatchdog eventLoopWatchdog;
+    private final ReentrantLock lock = new ReentrantLock();
 
     private UdpFactory() {
         group = new NioEventLoopGroup(Runtime.getRuntime().availableProcessors() * 2);
@@ -40,17 +44,38 @@ public class UdpFactory {
         return udpFactory;
     }
 
+    // watches the shared event loops until the process exits, a second call keeps the running watchdog
+    public EventLoopWatchdog startEventLoopWatchdog(long stallThresholdNanos, long probeIntervalNanos) {
+        lock.lock();
+        try {
+            if (eventLoopWatchdog == null) {
+                eventLoopWatchdog = new EventLoopWatchdog(group, stallThresholdNanos, probeIntervalNanos);
+            }
+            return eventLoopWatchdog;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // null if the watchdog is not started
+    public EventLoopWatchdog getEventLoopWatchdog() {
+        return eventLoopWatchdog;
+    }
+
     public UdpClient createUdpClient(InetSocketAddress localAddress, InetSocketAddress remoteAddress,
-                                     CompletableFuture<Object> balFuture) {
-        return new UdpClient(localAddress, remoteAddress, getInstance().group, balFuture);
+                                     CompletableFuture<Object> balFuture, UdpConfig udpConfig) {
+        return new UdpClient(localAddress, remoteAddress, getInstance().group, balFuture, udpConfig);
     }
 
-    public UdpClient createUdpClient(InetSocketAddress localAddress, CompletableFuture<Object> balFuture) {
-        return new UdpClient(localAddress, getInstance().group, balFuture);
+    public UdpClient createUdpClient(InetSocketAddress localAddress, CompletableFuture<Object> balFuture,
+                                     UdpConfig udpConfig) {
+        return new UdpClient(localAddress, getInstance().group, balFuture, udpConfig);
     }
 
     public UdpListener createUdpListener(InetSocketAddress localAddress, InetSocketAddress remoteAddress,
-                                         CompletableFuture<Object> balFuture, UdpService udpService) {
-        return new UdpListener(localAddress, remoteAddress, getInstance().group, balFuture, udpService);
+                                         CompletableFuture<Object> balFuture, UdpService udpService,
+                                         UdpConfig udpConfig) throws IOException {
+        return new UdpListener(localAddress, remoteAddress, getInstance().group, balFuture, udpService,
+                udpConfig);
     }
 }
@@ -18,19 +18,31 @@
 
 package io.ballerina.stdlib.udp;
 
+import io.ballerina.stdlib.udp.jfr.ListenerBoundEvent;
+import io.ballerina.stdlib.udp.jfr.ListenerClosedEvent;
+import io.ballerina.stdlib.udp.jfr.SendEvent;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPromise;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.DatagramChannel;
 import io.netty.channel.socket.DatagramPacket;
+import io.netty.channel.socket.InternetProtocolFamily;
 import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.util.concurrent.ImmediateEventExecutor;
 import io.netty.util.concurrent.PromiseCombiner;
 
+import java.io.IOException;
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
-import java.util.LinkedList;
+import java.nio.file.Path;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -40,25 +52,90 @@ public class UdpListener {
 
     private Channel channel;
     private final Bootstrap listenerBootstrap;
+    private final MulticastConfig multicastConfig;
+    private final CaptureHandler captureHandler;
+    private final HeavyHitterHandler heavyHitterHandler;
+    private final AddressFilter addressFilter;
+    private final DedupHandler dedupHandler;
+    private final SessionHandler sessionHandler;
+    private final RelayHandler relayHandler;
 
     public UdpListener(InetSocketAddress localAddress, InetSocketAddress remoteAddress,
-                       EventLoopGroup group, CompletableFuture<Object> balFuture, UdpService udpService) {
+                       EventLoopGroup group, CompletableFuture<Object> balFuture, UdpService udpService,
+                       UdpConfig udpConfig) throws IOException {
+        this.multicastConfig = udpConfig.getMulticastConfig();
+        this.captureHandler = udpConfig.getCaptureConfig() == null ? null
+                : new CaptureHandler(udpConfig.getCaptureConfig());
+        this.heavyHitterHandler = udpConfig.getHeavyHitterConfig() == null ? null
+                : new HeavyHitterHandler(udpConfig.getHeavyHitterConfig());
+        this.addressFilter = new AddressFilter(udpConfig.getAddressFilterRules());
+        this.dedupHandler = udpConfig.getDedupConfig() == null ? null : new DedupHandler(udpConfig.getDedupConfig());
+        this.sessionHandler = udpConfig.getSessionConfig() == null ? null
+                : new SessionHandler(udpConfig.getSessionConfig(), udpService);
+        this.relayHandler = udpConfig.getRelayConfig() == null ? null
+                : new RelayHandler(udpConfig.getRelayConfig(), addressFilter);
         listenerBootstrap = new Bootstrap();
         listenerBootstrap.group(group)
-                .channel(NioDatagramChannel.class)
+                .attr(Constants.FRAGMENT_SIZE, udpConfig.getFragmentSize())
                 .handler(new ChannelInitializer<>() {
                     @Override
                     protected void initChannel(Channel ch) {
-                        ch.pipeline().addLast(Constants.LISTENER_HANDLER, new UdpListenerHandler(udpService));
+                        if (captureHandler != null) {
+                            ch.pipeline().addLast(Constants.CAPTURE_HANDLER, captureHandler);
+                        }
+                        if (heavyHitterHandler != null) {
+                            ch.pipeline().addLast(Constants.HEAVY_HITTER_HANDLER, heavyHitterHandler);
+                        }
+                        if (dedupHandler != null) {
+                            ch.pipeline().addLast(Constants.DEDUP_HANDLER, dedupHandler);
+                        }
+                        // the relayed datagrams are not passed to the stages below, only the replies written
+                        // to the senders go through them
+                        if (relayHandler != null) {
+                            ch.pipeline().addLast(Constants.RELAY_HANDLER, relayHandler);
+                        }
+                        if (udpConfig.getPathMtuConfig() != null) {
+                            ch.pipeline().addLast(Constants.PATH_MTU_HANDLER,
+                                    new PathMtuHandler(udpConfig.getPathMtuConfig()));
+                        }
+                        if (udpConfig.getPacingConfig() != null) {
+                            ch.pipeline().addLast(Constants.PACING_HANDLER,
+                                    new PacingHandler(udpConfig.getPacingConfig()));
+                        }
+                        // the stages above see the datagrams as they are on the wire
+                        if (udpConfig.getCompressionConfig() != null) {
+                            ch.pipeline().addLast(Constants.COMPRESSION_HANDLER,
+                                    new CompressionHandler(udpConfig.getCompressionConfig()));
+                        }
+                        if (sessionHandler != null) {
+                            ch.pipeline().addLast(Constants.SESSION_HANDLER, sessionHandler);
+                        }
+                        // without a service, the datagrams are read through a datagram stream
+                        if (udpService != null) {
+                            ch.pipeline().addLast(Constants.LISTENER_HANDLER,
+                                    new UdpListenerHandler(udpService, addressFilter));
+                        }
+                        ch.pipeline().addLast(Constants.REPLY_FLUSH_HANDLER,
+                                new ReplyFlushHandler(udpConfig.getReplyFlushDelayNanos()));
                     }
                 });
+        if (multicastConfig.hasGroups()) {
+            // several listeners on the same host may join the same group on the same port
+            InternetProtocolFamily family = multicastConfig.getProtocolFamily();
+            listenerBootstrap.channelFactory((ChannelFactory<NioDatagramChannel>) () -> new NioDatagramChannel(family))
+                    .option(ChannelOption.SO_REUSEADDR, true);
+        } else {
+            listenerBootstrap.channel(NioDatagramChannel.class);
+        }
+        multicastConfig.applyTo(listenerBootstrap);
         if (remoteAddress != null) {
             connect(remoteAddress, localAddress, balFuture);
         } else {
             listenerBootstrap.bind(localAddress).addListener((ChannelFutureListener) future -> {
                 if (future.isSuccess()) {
                     channel = future.channel();
-                    balFuture.complete(null);
+                    ListenerBoundEvent.commit(channel.localAddress(), null);
+                    joinGroups(balFuture);
                 } else {
                     balFuture.complete(Utils.createUdpError("Unable to initialize UDP Listener: " +
                             future.cause().getMessage()));
@@ -67,12 +144,77 @@ public class UdpListener {
         }
     }
 
+    // joins the configured multicast groups once the listener is bound
+    private void joinGroups(CompletableFuture<Object> balFuture) {
+        if (!multicastConfig.hasGroups()) {
+            balFuture.complete(null);
+            return;
+        }
+        if (multicastConfig.getNetworkInterface() == null) {
+            balFuture.complete(Utils.createUdpError("Unable to initialize UDP Listener: "
+                    + "multicastInterface is required to join multicast groups"));
+            return;
+        }
+        PromiseCombiner promiseCombiner = new PromiseCombiner(ImmediateEventExecutor.INSTANCE);
+        for (InetAddress group : multicastConfig.getGroups()) {
+            promiseCombiner.add(((DatagramChannel) channel).joinGroup(group,
+                    multicastConfig.getNetworkInterface(), null));
+        }
+        promiseCombiner.finish(channel.newPromise().addListener((ChannelFutureListener) future -> {
+            if (future.isSuccess()) {
+                balFuture.complete(null);
+            } else {
+                channel.close();
+                balFuture.complete(Utils.createUdpError("Unable to join the multicast group: "
+                        + future.cause().getMessage()));
+            }
+        }));
+    }
+
+    public void joinGroup(InetAddress group, CompletableFuture<Object> balFuture) {
+        if (multicastConfig.getNetworkInterface() == null) {
+            balFuture.complete(Utils.createUdpError("multicastInterface is required to join multicast groups"));
+            return;
+        }
+        completeMembershipChange(((DatagramChannel) channel).joinGroup(group,
+                multicastConfig.getNetworkInterface(), null), "Unable to join the multicast group: ", balFuture);
+    }
+
+    public void leaveGroup(InetAddress group, CompletableFuture<Object> balFuture) {
+        if (multicastConfig.getNetworkInterface() == null) {
+            balFuture.complete(Utils.createUdpError("multicastInterface is required to leave multicast groups"));
+            return;
+        }
+        completeMembershipChange(((DatagramChannel) channel).leaveGroup(group,
+                multicastConfig.getNetworkInterface(), null), "Unable to leave the multicast group: ", balFuture);
+    }
+
+    private static void completeMembershipChange(ChannelFuture channelFuture, String errorPrefix,
+                                                 CompletableFuture<Object> balFuture) {
+        channelFuture.addListener((ChannelFutureListener) future -> {
+            if (future.isSuccess()) {
+                balFuture.complete(null);
+            } else {
+                balFuture.complete(Utils.createUdpError(errorPrefix + future.cause().getMessage()));
+            }
+        });
+    }
+
     // invoke when caller call writeBytes() or sendDatagram()
-    public static void send(DatagramPacket datagram, Channel channel, CompletableFuture<Object> balFuture) {
-        LinkedList<DatagramPacket> fragments = Utils.fragmentDatagram(datagram);
+    public static void send(DatagramPacket datagram, Channel channel, DatagramTrace trace,
+                            CompletableFuture<Object> balFuture) {
+        SendEvent sendEvent = SendEvent.start();
+        InetSocketAddress recipient = datagram.recipient();
+        int size = datagram.content().readableBytes();
+        DatagramPacket[] fragments = Utils.fragmentDatagram(datagram, Utils.getFragmentSize(channel, recipient));
+        boolean traced = trace != null && trace.replyQueued();
         PromiseCombiner promiseCombiner = getPromiseCombiner(fragments, channel);
 
         promiseCombiner.finish(channel.newPromise().addListener((ChannelFutureListener) future -> {
+            SendEvent.finish(sendEvent, recipient, size, fragments.length, future);
+            if (traced) {
+                trace.replyFlushed();
+            }
             if (future.isSuccess()) {
                 balFuture.complete(null);
             } else {
@@ -82,23 +224,48 @@ public class UdpListener {
         }));
     }
 
+    // sends the chunks of a file directly to the channel, the reply queue is not used for them
+    public static void sendFile(Path path, InetSocketAddress recipient, int chunkSize, Channel channel,
+                                CompletableFuture<Object> balFuture) {
+        FileTransfer.start(channel, path, recipient, chunkSize).addListener((ChannelFutureListener) future -> {
+            if (future.isSuccess()) {
+                balFuture.complete(null);
+            } else {
+                balFuture.complete(Utils.createUdpError("Failed to send the file: " + future.cause().getMessage()));
+            }
+        });
+    }
+
     // invoke when service return byte[] or Datagram
-    public static void send(UdpService udpService, DatagramPacket datagram, Channel channel) {
-        LinkedList<DatagramPacket> fragments = Utils.fragmentDatagram(datagram);
+    public static void send(UdpService udpService, DatagramPacket datagram, Channel channel, DatagramTrace trace) {
+        SendEvent sendEvent = SendEvent.start();
+        InetSocketAddress recipient = datagram.recipient();
+        int size = datagram.content().readableBytes();
+        DatagramPacket[] fragments = Utils.fragmentDatagram(datagram, Utils.getFragmentSize(channel, recipient));
+        boolean traced = trace != null && trace.replyQueued();
         PromiseCombiner promiseCombiner = getPromiseCombiner(fragments, channel);
 
         promiseCombiner.finish(channel.newPromise().addListener((ChannelFutureListener) future -> {
+            SendEvent.finish(sendEvent, recipient, size, fragments.length, future);
+            if (traced) {
+                trace.replyFlushed();
+            }
             if (!future.isSuccess()) {
                 Dispatcher.invokeOnError(udpService, "Failed to send data.");
             }
         }));
     }
 
-    private static PromiseCombiner getPromiseCombiner(LinkedList<DatagramPacket> fragments, Channel channel) {
+    private static PromiseCombiner getPromiseCombiner(DatagramPacket[] fragments, Channel channel) {
         PromiseCombiner promiseCombiner = new PromiseCombiner(ImmediateEventExecutor.INSTANCE);
-        while (!fragments.isEmpty()) {
+        ReplyFlushHandler replyFlushHandler = (ReplyFlushHandler) channel.pipeline()
+                .get(Constants.REPLY_FLUSH_HANDLER);
+        int index = 0;
+        while (index < fragments.length) {
             if (channel.isWritable()) {
-                promiseCombiner.add(channel.writeAndFlush(fragments.poll()));
+                ChannelPromise promise = channel.newPromise();
+                replyFlushHandler.enqueue(fragments[index++], promise);
+                promiseCombiner.add(promise);
             }
         }
         return promiseCombiner;
@@ -109,6 +276,7 @@ public class UdpListener {
         listenerBootstrap.connect(remoteAddress, localAddress).addListener((ChannelFutureListener) future -> {
             channel = future.channel();
             if (future.isSuccess()) {
+                ListenerBoundEvent.commit(channel.localAddress(), channel.remoteAddress());
                 balFuture.complete(null);
             } else {
                 balFuture.complete(Utils.createUdpError("Can't connect to remote host."));
@@ -116,10 +284,91 @@ public class UdpListener {
         });
     }
 
+    // null if the pacing is not configured for the listener
+    public PacingHandler getPacingHandler() {
+        return channel == null ? null : (PacingHandler) channel.pipeline().get(Constants.PACING_HANDLER);
+    }
+
+    // empty if the listener is not started
+    public Set<FileTransfer> getFileTransfers() {
+        return channel == null ? Set.of() : FileTransfer.getTransfers(channel);
+    }
+
+    // null if the capture is not configured, kept after the channel is closed to report its statistics
+    public CaptureHandler getCaptureHandler() {
+        return captureHandler;
+    }
+
+    // null if the duplicate datagrams are dispatched, kept after the channel is closed to report its statistics
+    public DedupHandler getDedupHandler() {
+        return dedupHandler;
+    }
+
+    // null if no sessions are kept, kept after the channel is closed to report its statistics
+    public SessionHandler getSessionHandler() {
+        return sessionHandler;
+    }
+
+    // null if the datagrams are not relayed, kept after the channel is closed to report its statistics
+    public RelayHandler getRelayHandler() {
+        return relayHandler;
+    }
+
+    // null if the compression is not configured
+    public CompressionHandler getCompressionHandler() {
+        return channel == null ? null : (CompressionHandler) channel.pipeline().get(Constants.COMPRESSION_HANDLER);
+    }
+
+    public AddressFilter getAddressFilter() {
+        return addressFilter;
+    }
+
+    // null if the heaviest peers are not tracked, kept after the channel is closed to report the last counts
+    public HeavyHitterHandler getHeavyHitterHandler() {
+        return heavyHitterHandler;
+    }
+
+    // the counts are only accessed from the event loop of the channel, so the snapshot is taken there
+    public void getHeavyHitterStats(HeavyHitterHandler.Metric metric, CompletableFuture<Object> balFuture) {
+        if (channel == null) {
+            balFuture.complete(Utils.createHeavyHitterStats(heavyHitterHandler, metric));
+            return;
+        }
+        channel.eventLoop().execute(() -> balFuture.complete(Utils.createHeavyHitterStats(heavyHitterHandler,
+                metric)));
+    }
+
+    // null if the fragment size is not derived from the path MTU
+    public PathMtuHandler getPathMtuHandler() {
+        return channel == null ? null : (PathMtuHandler) channel.pipeline().get(Constants.PATH_MTU_HANDLER);
+    }
+
+    // returns the DatagramQueueHandler of the stream or else a udp error
+    public Object openDatagramStream(int queueSize) {
+        if (channel.pipeline().get(Constants.LISTENER_HANDLER) != null) {
+            return Utils.createUdpError("A datagram stream can't be opened on a listener with an attached service");
+        }
+        if (relayHandler != null) {
+            return Utils.createUdpError("A datagram stream can't be opened on a listener which relays the datagrams");
+        }
+        if (channel.pipeline().get(Constants.DATAGRAM_QUEUE_HANDLER) != null) {
+            return Utils.createUdpError("A datagram stream is already open on the listener");
+        }
+        DatagramQueueHandler datagramQueueHandler = new DatagramQueueHandler(channel, queueSize, addressFilter);
+        channel.pipeline().addBefore(Constants.REPLY_FLUSH_HANDLER, Constants.DATAGRAM_QUEUE_HANDLER,
+                datagramQueueHandler);
+        return datagramQueueHandler;
+    }
+
+    public ReplyFlushHandler getReplyFlushHandler() {
+        return channel == null ? null : (ReplyFlushHandler) channel.pipeline().get(Constants.REPLY_FLUSH_HANDLER);
+    }
+
     public void close(CompletableFuture<Object> balFuture) throws InterruptedException {
         if (channel != null) {
             channel.close().sync().addListener((ChannelFutureListener) future -> {
                 if (future.isSuccess()) {
+                    ListenerClosedEvent.commit(channel.localAddress());
                     balFuture.complete(null);
                 } else {
                     balFuture.complete(Utils.createUdpError("Failed to gracefully shutdown the Listener."));
@@ -18,6 +18,7 @@
 
 package io.ballerina.stdlib.udp;
 
+import io.ballerina.stdlib.udp.jfr.DatagramReceivedEvent;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.SimpleChannelInboundHandler;
 import io.netty.channel.socket.DatagramPacket;
@@ -28,14 +29,21 @@ import io.netty.channel.socket.DatagramPacket;
 public class UdpListenerHandler extends SimpleChannelInboundHandler<DatagramPacket> {
 
     private UdpService udpService;
+    private final AddressFilter addressFilter;
 
-    public UdpListenerHandler(UdpService udpService) {
+    public UdpListenerHandler(UdpService udpService, AddressFilter addressFilter) {
         this.udpService = udpService;
+        this.addressFilter = addressFilter;
     }
 
     @Override
     protected void channelRead0(ChannelHandlerContext ctx,
                                 DatagramPacket datagramPacket) throws Exception {
+        // the datagrams of the unwanted senders are released here, before anything is allocated for them
+        if (!addressFilter.accept(datagramPacket.sender().getAddress())) {
+            return;
+        }
+        DatagramReceivedEvent.commit(datagramPacket);
         Dispatcher.invokeRead(udpService, datagramPacket, ctx.channel());
     }
 
@@ -19,6 +19,8 @@
 package io.ballerina.stdlib.udp;
 
 import io.ballerina.runtime.api.Runtime;
+import io.ballerina.runtime.api.types.ObjectType;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BObject;
 
 /**
@@ -28,10 +30,15 @@ public class UdpService {
 
     private final Runtime runtime;
     private final BObject service;
+    private final DispatchDescriptor dispatchDescriptor;
+    private volatile AdaptiveDispatcher adaptiveDispatcher;
+    private volatile DatagramTracer datagramTracer;
 
     public UdpService(Runtime runtime, BObject service) {
         this.runtime = runtime;
         this.service = service;
+        this.dispatchDescriptor = DispatchDescriptor.of(
+                (ObjectType) TypeUtils.getReferredType(TypeUtils.getType(service)));
     }
 
     public Runtime getRuntime() {
@@ -41,4 +48,26 @@ public class UdpService {
     public BObject getService() {
         return service;
     }
+
+    public DispatchDescriptor getDispatchDescriptor() {
+        return dispatchDescriptor;
+    }
+
+    // null if the adaptive dispatching is not configured for the listener
+    public AdaptiveDispatcher getAdaptiveDispatcher() {
+        return adaptiveDispatcher;
+    }
+
+    public void setAdaptiveDispatcher(AdaptiveDispatcher adaptiveDispatcher) {
+        this.adaptiveDispatcher = adaptiveDispatcher;
+    }
+
+    // null if the tracing is not configured for the listener or not enabled for the runtime
+    public DatagramTracer getDatagramTracer() {
+        return datagramTracer;
+    }
+
+    public void setDatagramTracer(DatagramTracer datagramTracer) {
+        this.datagramTracer = datagramTracer;
+    }
 }
@@ -21,22 +21,41 @@ package io.ballerina.stdlib.udp;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Module;
 import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.creators.TypeCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.ArrayType;
+import io.ballerina.runtime.api.types.Type;
 import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BDecimal;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.udp.jfr.FragmentationEvent;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
 import io.netty.channel.socket.DatagramPacket;
 
+import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.NetworkInterface;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.ToIntFunction;
+import java.util.zip.Deflater;
 
 /**
  * Represents the util functions of Socket operations.
@@ -70,6 +89,12 @@ public final class Utils {
         return datagram;
     }
 
+    // the values should not be empty, the element type of the array is the type of the first value
+    public static BArray createReadonlyArray(Object[] values) {
+        ArrayType arrayType = TypeCreator.createArrayType(TypeUtils.getType(values[0]), true);
+        return ValueCreator.createArrayValue(values, arrayType);
+    }
+
     static BMap<BString, Object> createReadonlyDatagramWithRecipientAddress(DatagramPacket datagramPacket) {
         byte[] byteContent = new byte[datagramPacket.content().readableBytes()];
         datagramPacket.content().readBytes(byteContent);
@@ -89,23 +114,108 @@ public final class Utils {
         return ValueCreator.createReadonlyArrayValue(byteContent);
     }
 
-    static LinkedList<DatagramPacket> fragmentDatagram(DatagramPacket datagram) {
+    /**
+     * Splits the content of a datagram into datagrams of at most the fragment size of the channel.
+     * <p>
+     * The fragments are retained slices of the content, so the bytes are not copied. Each slice holds a reference
+     * to the content, which is released once all the fragments are written.
+     *
+     * @param datagram the datagram to be sent, its reference is transferred to the fragments
+     * @param fragmentSize the largest number of bytes in a fragment
+     * @return the fragments in the order of the content
+     */
+    public static DatagramPacket[] fragmentDatagram(DatagramPacket datagram, int fragmentSize) {
         ByteBuf content = datagram.content();
         int contentSize = content.readableBytes();
-        LinkedList<DatagramPacket> fragments = new LinkedList<>();
-
-        while (contentSize > 0) {
-            if (contentSize > Constants.DATAGRAM_DATA_SIZE) {
-                fragments.add(datagram.replace(content.readBytes(Constants.DATAGRAM_DATA_SIZE)));
-                contentSize -= Constants.DATAGRAM_DATA_SIZE;
-            } else {
-                fragments.add(datagram.replace(datagram.content().readBytes(contentSize)));
-                contentSize = 0;
+        if (contentSize <= fragmentSize) {
+            if (contentSize > 0) {
+                // a datagram which fits in a single fragment is sent as it is
+                return new DatagramPacket[]{datagram};
             }
+            datagram.release();
+            return new DatagramPacket[0];
         }
+
+        DatagramPacket[] fragments = new DatagramPacket[(contentSize + fragmentSize - 1) / fragmentSize];
+        FragmentationEvent.commit(datagram.recipient(), contentSize, fragmentSize, fragments.length);
+        int readerIndex = content.readerIndex();
+        for (int i = 0; i < fragments.length; i++) {
+            int length = Math.min(fragmentSize, contentSize - i * fragmentSize);
+            fragments[i] = datagram.replace(content.retainedSlice(readerIndex + i * fragmentSize, length));
+        }
+        datagram.release();
         return fragments;
     }
 
+    // the configured fragment size, or the smaller one which fits the path MTU to the recipient if it is derived
+    public static int getFragmentSize(Channel channel, InetSocketAddress recipient) {
+        Integer fragmentSize = channel.attr(Constants.FRAGMENT_SIZE).get();
+        int maxFragmentSize = fragmentSize == null ? Constants.DATAGRAM_DATA_SIZE : fragmentSize;
+        PathMtuHandler pathMtuHandler = (PathMtuHandler) channel.pipeline().get(Constants.PATH_MTU_HANDLER);
+        int size = pathMtuHandler == null ? maxFragmentSize
+                : pathMtuHandler.getFragmentSize(recipient, maxFragmentSize);
+        // leaves room for the header the compression adds to every datagram
+        return channel.pipeline().get(Constants.COMPRESSION_HANDLER) == null ? size
+                : Math.max(1, size - CompressionHandler.HEADER_SIZE);
+    }
+
+    /**
+     * Creates the content of an outgoing datagram from a Ballerina byte array with at most a single copy.
+     * <p>
+     * The backing array of a readonly byte array can't change, so it is wrapped without copying. Otherwise the
+     * bytes are copied once into a direct buffer of the given allocator, which the transport writes without
+     * the heap to direct buffer copy it has to do for a heap buffer.
+     *
+     * @param data the Ballerina byte array
+     * @param allocator the allocator of the channel which sends the datagram
+     * @return the content of the datagram, released by the channel once it is written
+     */
+    public static ByteBuf toByteBuf(BArray data, ByteBufAllocator allocator) {
+        return toByteBuf(data.getByteArray(), data.size(), data.isFrozen(), allocator);
+    }
+
+    public static ByteBuf toByteBuf(byte[] bytes, int length, boolean readonly, ByteBufAllocator allocator) {
+        if (readonly) {
+            return Unpooled.wrappedBuffer(bytes, 0, length);
+        }
+        ByteBuf buffer = allocator.directBuffer(length);
+        return buffer.writeBytes(bytes, 0, length);
+    }
+
+    // gathers the segments of a datagram without concatenating them. The channel copies a buffer into a single
+    // direct buffer before writing it, unless it already is one, so the segments are copied exactly once: the
+    // read-only ones by the channel from a composite buffer wrapping them, and the others directly into a single
+    // direct buffer here, rather than into a buffer per segment which the channel would copy again
+    public static ByteBuf segmentsToByteBuf(BArray segments, ByteBufAllocator allocator) {
+        int count = segments.size();
+        if (count == 1) {
+            return toByteBuf((BArray) segments.get(0), allocator);
+        }
+        int length = 0;
+        boolean readonly = true;
+        for (int i = 0; i < count; i++) {
+            BArray segment = (BArray) segments.get(i);
+            length += segment.size();
+            readonly &= segment.isFrozen();
+        }
+        if (!readonly) {
+            ByteBuf buffer = allocator.directBuffer(length);
+            for (int i = 0; i < count; i++) {
+                BArray segment = (BArray) segments.get(i);
+                buffer.writeBytes(segment.getByteArray(), 0, segment.size());
+            }
+            return buffer;
+        }
+        CompositeByteBuf buffer = allocator.compositeBuffer(Math.max(count, 2));
+        for (int i = 0; i < count; i++) {
+            BArray segment = (BArray) segments.get(i);
+            if (segment.size() > 0) {
+                buffer.addComponent(true, Unpooled.wrappedBuffer(segment.getByteArray(), 0, segment.size()));
+            }
+        }
+        return buffer;
+    }
+
     /**
      * Gets ballerina udp package.
      *
@@ -150,4 +260,632 @@ public final class Utils {
         return localAddress;
     }
 
+    // the given timeout in seconds, or the timeout of the client configuration if it is not given
+    public static double getReadTimeout(BObject client, Object timeout) {
+        if (timeout == null) {
+            return (double) client.getNativeData(Constants.CONFIG_READ_TIMEOUT);
+        }
+        return ((BDecimal) timeout).floatValue();
+    }
+
+    // null if a file can be sent in chunks of the given size
+    public static BError validateChunkSize(long chunkSize) {
+        if (chunkSize <= 0 || chunkSize > Constants.MAX_DATAGRAM_DATA_SIZE) {
+            return createUdpError("Chunk size should be between 1 and " + Constants.MAX_DATAGRAM_DATA_SIZE
+                    + ", but found: " + chunkSize);
+        }
+        return null;
+    }
+
+    // null if a batched read can be started with the given arguments
+    public static BError validateBatchRead(long maxCount, double readTimeout) {
+        if (maxCount <= 0) {
+            return createUdpError("Maximum count should be a positive value, but found: " + maxCount);
+        }
+        if (readTimeout <= 0) {
+            return createUdpError("Read timeout should be a positive value, but found: " + readTimeout);
+        }
+        return null;
+    }
+
+    public static UdpConfig getUdpConfig(BMap<BString, Object> config) throws SocketException,
+            UnknownHostException {
+        return UdpConfig.builder(getMulticastConfig(config))
+                .pacingConfig(getPacingConfig(config))
+                .dispatchConfig(getDispatchConfig(config))
+                .replyFlushDelayNanos(getReplyFlushDelayNanos(config))
+                .asyncSendConfig(getAsyncSendConfig(config))
+                .fragmentSize(getFragmentSize(config))
+                .pathMtuConfig(getPathMtuConfig(config))
+                .captureConfig(getCaptureConfig(config))
+                .tracingConfig(getTracingConfig(config))
+                .heavyHitterConfig(getHeavyHitterConfig(config))
+                .addressFilterRules(getAddressFilterRules(config))
+                .dedupConfig(getDedupConfig(config))
+                .compressionConfig(getCompressionConfig(config))
+                .sessionConfig(getSessionConfig(config))
+                .relayConfig(getRelayConfig(config))
+                .build();
+    }
+
+    private static RelayConfig getRelayConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> relay = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_RELAY));
+        if (relay == null) {
+            return null;
+        }
+        // the relayed datagrams never reach the decompression or the sessions, which come later in the pipeline
+        if (config.getMapValue(StringUtils.fromString(Constants.CONFIG_COMPRESSION)) != null
+                || config.getMapValue(StringUtils.fromString(Constants.CONFIG_SESSIONS)) != null) {
+            throw new SocketException("Relay can't be configured along with the compression or the sessions");
+        }
+        BArray backends = relay.getArrayValue(StringUtils.fromString(Constants.CONFIG_BACKENDS));
+        double idleTimeout = ((BDecimal) relay.get(StringUtils.fromString(Constants.CONFIG_IDLE_TIMEOUT)))
+                .floatValue();
+        long maxMappings = relay.getIntValue(StringUtils.fromString(Constants.CONFIG_MAX_MAPPINGS));
+        long maxFailures = relay.getIntValue(StringUtils.fromString(Constants.CONFIG_MAX_FAILURES));
+        double retryInterval = ((BDecimal) relay.get(StringUtils.fromString(Constants.CONFIG_RETRY_INTERVAL)))
+                .floatValue();
+        if (backends.size() == 0) {
+            throw new SocketException("Relay backends should not be empty");
+        }
+        if (idleTimeout <= 0) {
+            throw new SocketException("Relay idleTimeout should be a positive value");
+        }
+        if (maxMappings <= 0 || maxMappings > Constants.MAX_RELAY_MAPPINGS) {
+            throw new SocketException("Relay maxMappings should be between 1 and " + Constants.MAX_RELAY_MAPPINGS
+                    + ", but found: " + maxMappings);
+        }
+        if (maxFailures <= 0) {
+            throw new SocketException("Relay maxFailures should be a positive value, but found: " + maxFailures);
+        }
+        if (retryInterval <= 0) {
+            throw new SocketException("Relay retryInterval should be a positive value");
+        }
+        List<InetSocketAddress> addresses = new ArrayList<>(backends.size());
+        for (int i = 0; i < backends.size(); i++) {
+            BMap<BString, Object> backend = (BMap<BString, Object>) backends.get(i);
+            String host = backend.getStringValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_HOST)).getValue();
+            long port = backend.getIntValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_PORT));
+            if (port <= 0 || port > 65535) {
+                throw new SocketException("Invalid relay backend port: " + port);
+            }
+            InetSocketAddress address = new InetSocketAddress(host, (int) port);
+            if (address.isUnresolved()) {
+                throw new SocketException("Unable to resolve the relay backend: " + host);
+            }
+            addresses.add(address);
+        }
+        RelayConfig.Strategy strategy = RelayConfig.Strategy.valueOf(
+                relay.getStringValue(StringUtils.fromString(Constants.CONFIG_STRATEGY)).getValue());
+        return new RelayConfig(addresses, strategy, (long) (idleTimeout * 1_000_000_000), (int) maxMappings,
+                (int) maxFailures, (long) (retryInterval * 1_000_000_000));
+    }
+
+    private static SessionConfig getSessionConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> sessions = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_SESSIONS));
+        if (sessions == null) {
+            return null;
+        }
+        double idleTimeout = ((BDecimal) sessions.get(StringUtils.fromString(Constants.CONFIG_IDLE_TIMEOUT)))
+                .floatValue();
+        long maxSessions = sessions.getIntValue(StringUtils.fromString(Constants.CONFIG_MAX_SESSIONS));
+        if (idleTimeout <= 0) {
+            throw new SocketException("Session idleTimeout should be a positive value");
+        }
+        if (maxSessions <= 0 || maxSessions > Constants.MAX_SESSIONS) {
+            throw new SocketException("Session maxSessions should be between 1 and " + Constants.MAX_SESSIONS
+                    + ", but found: " + maxSessions);
+        }
+        return new SessionConfig((long) (idleTimeout * 1_000_000_000), (int) maxSessions);
+    }
+
+    private static CompressionConfig getCompressionConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> compression = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_COMPRESSION));
+        if (compression == null) {
+            return null;
+        }
+        long threshold = compression.getIntValue(StringUtils.fromString(Constants.CONFIG_THRESHOLD));
+        long level = compression.getIntValue(StringUtils.fromString(Constants.CONFIG_LEVEL));
+        byte[] dictionary = compression.getArrayValue(StringUtils.fromString(Constants.CONFIG_DICTIONARY))
+                .getBytes();
+        if (threshold < 0 || threshold > Constants.MAX_DATAGRAM_DATA_SIZE) {
+            throw new SocketException("Compression threshold should be between 0 and "
+                    + Constants.MAX_DATAGRAM_DATA_SIZE + ", but found: " + threshold);
+        }
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new SocketException("Compression level should be between " + Deflater.DEFAULT_COMPRESSION
+                    + " and " + Deflater.BEST_COMPRESSION + ", but found: " + level);
+        }
+        if (dictionary.length > Constants.MAX_COMPRESSION_DICTIONARY_SIZE) {
+            throw new SocketException("Compression dictionary should be at most "
+                    + Constants.MAX_COMPRESSION_DICTIONARY_SIZE + " bytes, but found: " + dictionary.length);
+        }
+        return new CompressionConfig((int) threshold, (int) level, dictionary);
+    }
+
+    private static DedupConfig getDedupConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> dedup = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_DEDUP));
+        if (dedup == null) {
+            return null;
+        }
+        double window = ((BDecimal) dedup.get(StringUtils.fromString(Constants.CONFIG_WINDOW))).floatValue();
+        long expectedDatagrams = dedup.getIntValue(StringUtils.fromString(Constants.CONFIG_EXPECTED_DATAGRAMS));
+        double falsePositiveRate = dedup.getFloatValue(StringUtils.fromString(Constants.CONFIG_FALSE_POSITIVE_RATE));
+        long idOffset = dedup.getIntValue(StringUtils.fromString(Constants.CONFIG_ID_OFFSET));
+        long idLength = dedup.getIntValue(StringUtils.fromString(Constants.CONFIG_ID_LENGTH));
+        if (window <= 0) {
+            throw new SocketException("Dedup window should be a positive value");
+        }
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new SocketException("Dedup falsePositiveRate should be greater than 0 and less than 1, but found: "
+                    + falsePositiveRate);
+        }
+        if (expectedDatagrams <= 0 || RotatingBloomFilter.getBits(expectedDatagrams, falsePositiveRate)
+                > Constants.MAX_DEDUP_FILTER_BITS) {
+            throw new SocketException("Dedup expectedDatagrams should be a positive value which fits the filters in "
+                    + Constants.MAX_DEDUP_FILTER_BITS + " bits, but found: " + expectedDatagrams);
+        }
+        if (idOffset < 0 || idLength < 0 || idOffset + idLength > Constants.MAX_DATAGRAM_DATA_SIZE) {
+            throw new SocketException("Dedup idOffset and idLength should not be negative and should be within "
+                    + Constants.MAX_DATAGRAM_DATA_SIZE + " bytes");
+        }
+        return new DedupConfig((long) (window * 1_000_000_000), (int) expectedDatagrams, falsePositiveRate,
+                (int) idOffset, (int) idLength);
+    }
+
+    private static AddressFilterRules getAddressFilterRules(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> addressFilter = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_ADDRESS_FILTER));
+        return addressFilter == null ? null : createAddressFilterRules(addressFilter);
+    }
+
+    public static AddressFilterRules createAddressFilterRules(BMap<BString, Object> addressFilter)
+            throws SocketException {
+        String[] allow = addressFilter.getArrayValue(StringUtils.fromString(Constants.CONFIG_ALLOW)).getStringArray();
+        String[] deny = addressFilter.getArrayValue(StringUtils.fromString(Constants.CONFIG_DENY)).getStringArray();
+        return AddressFilterRules.compile(Arrays.asList(allow), Arrays.asList(deny));
+    }
+
+    private static HeavyHitterConfig getHeavyHitterConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> heavyHitters = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_HEAVY_HITTERS));
+        if (heavyHitters == null) {
+            return null;
+        }
+        long topK = heavyHitters.getIntValue(StringUtils.fromString(Constants.CONFIG_TOP_K));
+        long width = heavyHitters.getIntValue(StringUtils.fromString(Constants.CONFIG_WIDTH));
+        long depth = heavyHitters.getIntValue(StringUtils.fromString(Constants.CONFIG_DEPTH));
+        double decayInterval = ((BDecimal) heavyHitters.get(
+                StringUtils.fromString(Constants.CONFIG_DECAY_INTERVAL))).floatValue();
+        double decayFactor = heavyHitters.getFloatValue(StringUtils.fromString(Constants.CONFIG_DECAY_FACTOR));
+        if (topK <= 0 || topK > Constants.MAX_TOP_K) {
+            throw new SocketException("Heavy hitters topK should be between 1 and " + Constants.MAX_TOP_K
+                    + ", but found: " + topK);
+        }
+        if (width <= 0 || width > Constants.MAX_SKETCH_WIDTH) {
+            throw new SocketException("Heavy hitters width should be between 1 and " + Constants.MAX_SKETCH_WIDTH
+                    + ", but found: " + width);
+        }
+        if (depth <= 0 || depth > Constants.MAX_SKETCH_DEPTH) {
+            throw new SocketException("Heavy hitters depth should be between 1 and " + Constants.MAX_SKETCH_DEPTH
+                    + ", but found: " + depth);
+        }
+        if (decayInterval < 0) {
+            throw new SocketException("Heavy hitters decayInterval should not be negative");
+        }
+        if (decayFactor < 0 || decayFactor >= 1) {
+            throw new SocketException("Heavy hitters decayFactor should be at least 0 and less than 1, but found: "
+                    + decayFactor);
+        }
+        // the width is rounded up to a power of two, so that the columns are picked with a mask
+        int roundedWidth = Integer.highestOneBit((int) width - 1) << 1;
+        return new HeavyHitterConfig((int) topK, Math.max(1, roundedWidth), (int) depth,
+                (long) (decayInterval * 1_000_000_000), decayFactor);
+    }
+
+    private static TracingConfig getTracingConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> tracing = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_TRACING));
+        if (tracing == null) {
+            return null;
+        }
+        double samplingRate = ((BDecimal) tracing.get(
+                StringUtils.fromString(Constants.CONFIG_SAMPLING_RATE))).floatValue();
+        if (samplingRate <= 0 || samplingRate > 1) {
+            throw new SocketException("Tracing samplingRate should be greater than 0 and at most 1, but found: "
+                    + samplingRate);
+        }
+        return new TracingConfig(samplingRate);
+    }
+
+    private static CaptureConfig getCaptureConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> capture = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_CAPTURE));
+        if (capture == null) {
+            return null;
+        }
+        String path = capture.getStringValue(StringUtils.fromString(Constants.CONFIG_CAPTURE_PATH)).getValue();
+        String format = capture.getStringValue(StringUtils.fromString(Constants.CONFIG_CAPTURE_FORMAT)).getValue();
+        long maxFileSize = capture.getIntValue(StringUtils.fromString(Constants.CONFIG_MAX_FILE_SIZE));
+        long maxFiles = capture.getIntValue(StringUtils.fromString(Constants.CONFIG_MAX_FILES));
+        if (maxFileSize < Constants.MIN_CAPTURE_FILE_SIZE || maxFileSize > Integer.MAX_VALUE) {
+            throw new SocketException("Capture maxFileSize should be between " + Constants.MIN_CAPTURE_FILE_SIZE
+                    + " and " + Integer.MAX_VALUE + ", but found: " + maxFileSize);
+        }
+        if (maxFiles <= 0 || maxFiles > Integer.MAX_VALUE) {
+            throw new SocketException("Capture maxFiles should be a positive value, but found: " + maxFiles);
+        }
+        return new CaptureConfig(Path.of(path), CaptureConfig.Format.valueOf(format), (int) maxFileSize,
+                (int) maxFiles);
+    }
+
+    private static PathMtuConfig getPathMtuConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> pathMtu = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_PATH_MTU));
+        if (pathMtu == null) {
+            return null;
+        }
+        long fallbackMtu = pathMtu.getIntValue(StringUtils.fromString(Constants.CONFIG_FALLBACK_MTU));
+        double probeInterval = ((BDecimal) pathMtu.get(
+                StringUtils.fromString(Constants.CONFIG_PROBE_INTERVAL))).floatValue();
+        if (fallbackMtu < Constants.MIN_MTU || fallbackMtu > Constants.MAX_MTU) {
+            throw new SocketException("Fallback MTU should be between " + Constants.MIN_MTU + " and "
+                    + Constants.MAX_MTU + ", but found: " + fallbackMtu);
+        }
+        if (probeInterval <= 0) {
+            throw new SocketException("Path MTU probeInterval should be a positive value");
+        }
+        return new PathMtuConfig((int) fallbackMtu, (long) (probeInterval * 1_000_000_000));
+    }
+
+    private static int getFragmentSize(BMap<BString, Object> config) throws SocketException {
+        Long fragmentSize = config.getIntValue(StringUtils.fromString(Constants.CONFIG_FRAGMENT_SIZE));
+        if (fragmentSize == null) {
+            return Constants.DATAGRAM_DATA_SIZE;
+        }
+        if (fragmentSize <= 0 || fragmentSize > Constants.MAX_DATAGRAM_DATA_SIZE) {
+            throw new SocketException("Fragment size should be between 1 and " + Constants.MAX_DATAGRAM_DATA_SIZE
+                    + ", but found: " + fragmentSize);
+        }
+        return fragmentSize.intValue();
+    }
+
+    private static AsyncSendConfig getAsyncSendConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> asyncSend = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_ASYNC_SEND));
+        if (asyncSend == null) {
+            return null;
+        }
+        long maxErrorLogSize = asyncSend.getIntValue(StringUtils.fromString(Constants.CONFIG_MAX_ERROR_LOG_SIZE));
+        if (maxErrorLogSize < 0 || maxErrorLogSize > Integer.MAX_VALUE) {
+            throw new SocketException("Async send maxErrorLogSize should not be negative");
+        }
+        return new AsyncSendConfig((int) maxErrorLogSize);
+    }
+
+    private static long getReplyFlushDelayNanos(BMap<BString, Object> config) throws SocketException {
+        BDecimal replyFlushDelay = (BDecimal) config.get(StringUtils.fromString(Constants.CONFIG_REPLY_FLUSH_DELAY));
+        if (replyFlushDelay == null) {
+            return 0;
+        }
+        double delay = replyFlushDelay.floatValue();
+        if (delay < 0) {
+            throw new SocketException("Reply flush delay should not be negative");
+        }
+        return (long) (delay * 1_000_000_000);
+    }
+
+    private static DispatchConfig getDispatchConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> dispatch = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_DISPATCH));
+        if (dispatch == null) {
+            return null;
+        }
+        double inlineThreshold = ((BDecimal) dispatch.get(
+                StringUtils.fromString(Constants.CONFIG_INLINE_THRESHOLD))).floatValue();
+        long maxBatchSize = dispatch.getIntValue(StringUtils.fromString(Constants.CONFIG_MAX_BATCH_SIZE));
+        if (inlineThreshold < 0 || maxBatchSize <= 0) {
+            throw new SocketException("Dispatch inlineThreshold should not be negative and maxBatchSize should be "
+                    + "a positive value");
+        }
+        return new DispatchConfig((long) (inlineThreshold * 1_000_000_000), (int) maxBatchSize);
+    }
+
+    private static PacingConfig getPacingConfig(BMap<BString, Object> config) throws SocketException {
+        BMap<BString, Object> pacing = (BMap<BString, Object>) config.getMapValue(
+                StringUtils.fromString(Constants.CONFIG_PACING));
+        if (pacing == null) {
+            return null;
+        }
+        long rate = pacing.getIntValue(StringUtils.fromString(Constants.CONFIG_PACING_RATE));
+        long burst = pacing.getIntValue(StringUtils.fromString(Constants.CONFIG_PACING_BURST));
+        if (rate <= 0 || burst <= 0) {
+            throw new SocketException("Pacing rate and burst should be positive values");
+        }
+        boolean perDestination = pacing.getBooleanValue(
+                StringUtils.fromString(Constants.CONFIG_PACING_PER_DESTINATION));
+        return new PacingConfig(rate, burst, perDestination);
+    }
+
+    public static BMap<BString, Object> createPacingStats(PacingHandler pacingHandler) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.PACED_DATAGRAMS, pacingHandler.getPacedDatagrams());
+        stats.put(Constants.HELD_DATAGRAMS, pacingHandler.getHeldDatagrams());
+        stats.put(Constants.PENDING_DATAGRAMS, pacingHandler.getPendingDatagrams());
+        stats.put(Constants.TOTAL_HOLD_TIME, nanosToSeconds(pacingHandler.getTotalHoldTimeNanos()));
+        stats.put(Constants.MAX_HOLD_TIME, nanosToSeconds(pacingHandler.getMaxHoldTimeNanos()));
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.PACING_STATS, stats);
+    }
+
+    public static BMap<BString, Object> createDispatchStats(AdaptiveDispatcher adaptiveDispatcher,
+                                                            String dataMethod) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.BATCHED_DISPATCHES, adaptiveDispatcher.getBatchedDispatches());
+        stats.put(Constants.OFFLOADED_DISPATCHES, adaptiveDispatcher.getOffloadedDispatches());
+        stats.put(Constants.BATCHES, adaptiveDispatcher.getBatches());
+        stats.put(Constants.AVERAGE_HANDLER_TIME,
+                nanosToSeconds(adaptiveDispatcher.getAverageHandlerTimeNanos(dataMethod)));
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.DISPATCH_STATS, stats);
+    }
+
+    public static BMap<BString, Object> createReplyStats(ReplyFlushHandler replyFlushHandler) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.REPLIES, replyFlushHandler.getReplies());
+        stats.put(Constants.FLUSHES, replyFlushHandler.getFlushes());
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.REPLY_STATS, stats);
+    }
+
+    public static BMap<BString, Object> createSendStats(SendTracker sendTracker) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.PENDING_SENDS, sendTracker.getPendingSends());
+        stats.put(Constants.COMPLETED_SENDS, sendTracker.getCompletedSends());
+        stats.put(Constants.FAILED_SENDS, sendTracker.getFailedSends());
+        stats.put(Constants.RECENT_ERRORS, StringUtils.fromStringArray(sendTracker.getRecentErrors()));
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.SEND_STATS, stats);
+    }
+
+    public static List<Broadcast.Target> getBroadcastTargets(BArray targets,
+                                                             ToIntFunction<InetSocketAddress> fragmentSizes) {
+        List<Broadcast.Target> resolved = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            BMap<BString, Object> target = (BMap<BString, Object>) targets.get(i);
+            resolved.add(Broadcast.Target.resolve(
+                    target.getStringValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_HOST)).getValue(),
+                    target.getIntValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_PORT)), fragmentSizes));
+        }
+        return resolved;
+    }
+
+    // a mutable record is created for the array type, so that the type is found even if there are no failures
+    public static BArray createBroadcastFailures(List<Broadcast.Failure> failures) {
+        Type recordType = TypeUtils.getType(ValueCreator.createRecordValue(getUdpPackage(),
+                Constants.BROADCAST_FAILURE));
+        Object[] values = new Object[failures.size()];
+        for (int i = 0; i < values.length; i++) {
+            Broadcast.Failure failure = failures.get(i);
+            Map<String, Object> fields = new HashMap<>();
+            fields.put(Constants.DATAGRAM_REMOTE_HOST, StringUtils.fromString(failure.getHost()));
+            fields.put(Constants.DATAGRAM_REMOTE_PORT, failure.getPort());
+            fields.put(Constants.BROADCAST_FAILURE_MESSAGE, StringUtils.fromString(failure.getMessage()));
+            values[i] = ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.BROADCAST_FAILURE, fields);
+        }
+        return ValueCreator.createArrayValue(values, TypeCreator.createArrayType(recordType));
+    }
+
+    // a mutable record is created for the array type, so that the type is found even if there are no transfers
+    public static BArray createFileTransfers(Collection<FileTransfer> transfers) {
+        Type recordType = TypeUtils.getType(ValueCreator.createRecordValue(getUdpPackage(),
+                Constants.FILE_TRANSFER_PROGRESS));
+        List<Object> values = new ArrayList<>();
+        for (FileTransfer transfer : transfers) {
+            Map<String, Object> progress = new HashMap<>();
+            progress.put(Constants.FILE_TRANSFER_PATH, StringUtils.fromString(transfer.getPath().toString()));
+            progress.put(Constants.DATAGRAM_REMOTE_HOST,
+                    StringUtils.fromString(transfer.getRecipient().getHostString()));
+            progress.put(Constants.DATAGRAM_REMOTE_PORT, (long) transfer.getRecipient().getPort());
+            progress.put(Constants.TOTAL_BYTES, transfer.getTotalBytes());
+            progress.put(Constants.SENT_BYTES, transfer.getSentBytes());
+            progress.put(Constants.SENT_CHUNKS, transfer.getSentChunks());
+            values.add(ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.FILE_TRANSFER_PROGRESS,
+                    progress));
+        }
+        return ValueCreator.createArrayValue(values.toArray(), TypeCreator.createArrayType(recordType));
+    }
+
+    public static BArray createEventLoopStats(List<EventLoopWatchdog.LoopState> loops) {
+        Type recordType = TypeUtils.getType(ValueCreator.createRecordValue(getUdpPackage(),
+                Constants.EVENT_LOOP_STATS));
+        Object[] values = new Object[loops.size()];
+        for (int i = 0; i < values.length; i++) {
+            EventLoopWatchdog.LoopState loop = loops.get(i);
+            Map<String, Object> stats = new HashMap<>();
+            stats.put(Constants.EVENT_LOOP_NAME, StringUtils.fromString(loop.getName()));
+            stats.put(Constants.PENDING_TASKS, (long) loop.getPendingTasks());
+            stats.put(Constants.LATENCY, nanosToSeconds(loop.getLatencyNanos()));
+            stats.put(Constants.MAX_LATENCY, nanosToSeconds(loop.getMaxLatencyNanos()));
+            stats.put(Constants.STALLS, loop.getStalls());
+            values[i] = ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.EVENT_LOOP_STATS, stats);
+        }
+        return ValueCreator.createArrayValue(values, TypeCreator.createArrayType(recordType));
+    }
+
+    public static BMap<BString, Object> createCaptureStats(CaptureHandler captureHandler) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.CAPTURED, captureHandler.getCaptured());
+        stats.put(Constants.DROPPED, captureHandler.getDropped());
+        stats.put(Constants.FILES, captureHandler.getFiles());
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.CAPTURE_STATS, stats);
+    }
+
+    public static BMap<BString, Object> createHeavyHitterStats(HeavyHitterHandler heavyHitterHandler,
+                                                               HeavyHitterHandler.Metric metric) {
+        Type recordType = TypeUtils.getType(ValueCreator.createRecordValue(getUdpPackage(),
+                Constants.HEAVY_HITTER));
+        List<HeavyHitterHandler.HeavyHitter> heavyHitters = heavyHitterHandler.getHeavyHitters(metric);
+        Object[] values = new Object[heavyHitters.size()];
+        for (int i = 0; i < values.length; i++) {
+            HeavyHitterHandler.HeavyHitter heavyHitter = heavyHitters.get(i);
+            Map<String, Object> hitter = new HashMap<>();
+            hitter.put(Constants.DATAGRAM_REMOTE_HOST,
+                    StringUtils.fromString(heavyHitter.getAddress().getHostAddress()));
+            hitter.put(Constants.PACKETS, heavyHitter.getPackets());
+            hitter.put(Constants.BYTES, heavyHitter.getBytes());
+            values[i] = ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.HEAVY_HITTER, hitter);
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.TOTAL_PACKETS, heavyHitterHandler.getTotalPackets());
+        stats.put(Constants.TOTAL_BYTES, heavyHitterHandler.getTotalBytes());
+        stats.put(Constants.HITTERS, ValueCreator.createArrayValue(values, TypeCreator.createArrayType(recordType)));
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.HEAVY_HITTER_STATS, stats);
+    }
+
+    public static BMap<BString, Object> createAddressFilterStats(AddressFilterRules rules) {
+        Type recordType = TypeUtils.getType(ValueCreator.createRecordValue(getUdpPackage(),
+                Constants.ADDRESS_FILTER_RULE_STATS));
+        Object[] values = new Object[rules.getRuleCount()];
+        for (int i = 0; i < values.length; i++) {
+            Map<String, Object> rule = new HashMap<>();
+            rule.put(Constants.CIDR, StringUtils.fromString(rules.getCidr(i)));
+            rule.put(Constants.ACTION, StringUtils.fromString(rules.isDeny(i) ? Constants.DENY : Constants.ALLOW));
+            rule.put(Constants.HITS, rules.getHits(i));
+            values[i] = ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.ADDRESS_FILTER_RULE_STATS,
+                    rule);
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.ACCEPTED, rules.getAccepted());
+        stats.put(Constants.DROPPED, rules.getDropped());
+        stats.put(Constants.RULES, ValueCreator.createArrayValue(values, TypeCreator.createArrayType(recordType)));
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.ADDRESS_FILTER_STATS, stats);
+    }
+
+    public static BMap<BString, Object> createDedupStats(DedupHandler dedupHandler) {
+        long checked = dedupHandler.getChecked();
+        long suppressed = dedupHandler.getSuppressed();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.CHECKED, checked);
+        stats.put(Constants.SUPPRESSED, suppressed);
+        stats.put(Constants.SUPPRESSION_RATE, checked == 0 ? 0.0 : (double) suppressed / checked);
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.DEDUP_STATS, stats);
+    }
+
+    public static BObject createSession(PeerSession session) {
+        BObject sessionObject = ValueCreator.createObjectValue(getUdpPackage(), Constants.SESSION);
+        sessionObject.set(StringUtils.fromString(Constants.SESSION_REMOTE_HOST),
+                StringUtils.fromString(session.getAddress().getHostString()));
+        sessionObject.set(StringUtils.fromString(Constants.SESSION_REMOTE_PORT), session.getAddress().getPort());
+        sessionObject.addNativeData(Constants.PEER_SESSION, session);
+        return sessionObject;
+    }
+
+    public static BMap<BString, Object> createSessionStats(SessionTable sessionTable) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.ACTIVE, sessionTable.getActive());
+        stats.put(Constants.CREATED, sessionTable.getCreated());
+        stats.put(Constants.EXPIRED, sessionTable.getExpired());
+        stats.put(Constants.EVICTED, sessionTable.getEvicted());
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.SESSION_STATS, stats);
+    }
+
+    // a mutable record is created for the array type, the relay always has at least one backend
+    public static BMap<BString, Object> createRelayStats(RelayHandler relayHandler) {
+        Type recordType = TypeUtils.getType(ValueCreator.createRecordValue(getUdpPackage(),
+                Constants.RELAY_BACKEND_STATS));
+        RelayBackend[] backends = relayHandler.getBackends();
+        Object[] values = new Object[backends.length];
+        for (int i = 0; i < values.length; i++) {
+            RelayBackend backend = backends[i];
+            Map<String, Object> fields = new HashMap<>();
+            fields.put(Constants.DATAGRAM_REMOTE_HOST, StringUtils.fromString(backend.getAddress().getHostString()));
+            fields.put(Constants.DATAGRAM_REMOTE_PORT, (long) backend.getAddress().getPort());
+            fields.put(Constants.HEALTHY, backend.isHealthy());
+            fields.put(Constants.ACTIVE_MAPPINGS, backend.getActiveMappings());
+            fields.put(Constants.FORWARDED_DATAGRAMS, backend.getForwardedDatagrams());
+            fields.put(Constants.FORWARDED_BYTES, backend.getForwardedBytes());
+            fields.put(Constants.RETURNED_DATAGRAMS, backend.getReturnedDatagrams());
+            fields.put(Constants.RETURNED_BYTES, backend.getReturnedBytes());
+            fields.put(Constants.FAILURES, backend.getFailures());
+            values[i] = ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.RELAY_BACKEND_STATS,
+                    fields);
+        }
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.ACTIVE_MAPPINGS, (long) relayHandler.getActiveMappings());
+        stats.put(Constants.CREATED_MAPPINGS, relayHandler.getCreatedMappings());
+        stats.put(Constants.EXPIRED_MAPPINGS, relayHandler.getExpiredMappings());
+        stats.put(Constants.EVICTED_MAPPINGS, relayHandler.getEvictedMappings());
+        stats.put(Constants.DROPPED_DATAGRAMS, relayHandler.getDroppedDatagrams());
+        stats.put(Constants.FAILED_REPLIES, relayHandler.getFailedReplies());
+        stats.put(Constants.BACKENDS, ValueCreator.createArrayValue(values, TypeCreator.createArrayType(recordType)));
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.RELAY_STATS, stats);
+    }
+
+    public static BMap<BString, Object> createCompressionStats(CompressionHandler compressionHandler) {
+        long originalBytes = compressionHandler.getOriginalBytes();
+        long compressedBytes = compressionHandler.getCompressedBytes();
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.COMPRESSED, compressionHandler.getCompressed());
+        stats.put(Constants.UNCOMPRESSED, compressionHandler.getUncompressed());
+        stats.put(Constants.ORIGINAL_BYTES, originalBytes);
+        stats.put(Constants.COMPRESSED_BYTES, compressedBytes);
+        stats.put(Constants.RATIO, originalBytes == 0 ? 1.0 : (double) compressedBytes / originalBytes);
+        stats.put(Constants.COMPRESSION_TIME, nanosToSeconds(compressionHandler.getCompressionTimeNanos()));
+        stats.put(Constants.DECOMPRESSED, compressionHandler.getDecompressed());
+        stats.put(Constants.DECOMPRESSION_TIME, nanosToSeconds(compressionHandler.getDecompressionTimeNanos()));
+        stats.put(Constants.FAILURES, compressionHandler.getFailures());
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.COMPRESSION_STATS, stats);
+    }
+
+    public static BMap<BString, Object> createPathMtuStats(PathMtuHandler pathMtuHandler) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put(Constants.PROBES, pathMtuHandler.getProbes());
+        stats.put(Constants.FALLBACKS, pathMtuHandler.getFallbacks());
+        stats.put(Constants.STEP_DOWNS, pathMtuHandler.getStepDowns());
+        return ValueCreator.createReadonlyRecordValue(getUdpPackage(), Constants.PATH_MTU_STATS, stats);
+    }
+
+    static double nanosToSeconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private static MulticastConfig getMulticastConfig(BMap<BString, Object> config) throws SocketException,
+            UnknownHostException {
+        List<InetAddress> groups = new ArrayList<>();
+        BArray multicastGroups = config.getArrayValue(StringUtils.fromString(Constants.CONFIG_MULTICAST_GROUPS));
+        if (multicastGroups != null) {
+            for (String group : multicastGroups.getStringArray()) {
+                groups.add(getMulticastAddress(group));
+            }
+        }
+
+        NetworkInterface networkInterface = null;
+        BString interfaceName = config.getStringValue(StringUtils.fromString(Constants.CONFIG_MULTICAST_INTERFACE));
+        if (interfaceName != null) {
+            networkInterface = NetworkInterface.getByName(interfaceName.getValue());
+            if (networkInterface == null) {
+                throw new SocketException("No network interface found with the name: " + interfaceName.getValue());
+            }
+        }
+
+        Integer timeToLive = null;
+        Long ttl = config.getIntValue(StringUtils.fromString(Constants.CONFIG_MULTICAST_TTL));
+        if (ttl != null) {
+            if (ttl < 0 || ttl > 255) {
+                throw new SocketException("Multicast TTL should be between 0 and 255, but found: " + ttl);
+            }
+            timeToLive = ttl.intValue();
+        }
+        Boolean loopback = config.getBooleanValue(StringUtils.fromString(Constants.CONFIG_MULTICAST_LOOPBACK));
+        return new MulticastConfig(groups, networkInterface, timeToLive, loopback);
+    }
+
+    public static InetAddress getMulticastAddress(String group) throws UnknownHostException {
+        InetAddress multicastAddress = InetAddress.getByName(group);
+        if (!multicastAddress.isMulticastAddress()) {
+            throw new UnknownHostException(group + " is not a multicast address");
+        }
+        return multicastAddress;
+    }
 }
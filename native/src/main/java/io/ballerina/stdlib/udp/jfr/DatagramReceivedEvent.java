@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.udp.jfr;
+
+import io.netty.channel.socket.DatagramPacket;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * {@link DatagramReceivedEvent} is recorded for each datagram read by a udp listener. It is disabled by default
+ * since it is recorded at the rate the datagrams arrive.
+ */
+@Name(UdpEvents.NAME_PREFIX + "DatagramReceived")
+@Label("UDP Datagram Received")
+@Description("A datagram is read by a UDP listener")
+@Category({UdpEvents.CATEGORY_BALLERINA, UdpEvents.CATEGORY_UDP})
+@Enabled(false)
+@StackTrace(false)
+public class DatagramReceivedEvent extends jdk.jfr.Event {
+
+    @Label("Sender")
+    String sender;
+
+    @Label("Size")
+    @DataAmount
+    int size;
+
+    public static void commit(DatagramPacket datagramPacket) {
+        DatagramReceivedEvent event = new DatagramReceivedEvent();
+        if (event.shouldCommit()) {
+            event.sender = UdpEvents.toString(datagramPacket.sender());
+            event.size = datagramPacket.content().readableBytes();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.udp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.net.SocketAddress;
+
+/**
+ * {@link DispatchEvent} spans a remote method call of a udp service, from the start of its strand until it
+ * returns. Only the calls which take longer than the threshold, 1 ms by default, are recorded.
+ */
+@Name(UdpEvents.NAME_PREFIX + "Dispatch")
+@Label("UDP Dispatch")
+@Description("A remote method of a UDP service is called for a datagram")
+@Category({UdpEvents.CATEGORY_BALLERINA, UdpEvents.CATEGORY_UDP})
+@Threshold("1 ms")
+@StackTrace(false)
+public class DispatchEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Sender")
+    @Description("The sender of the datagram, if the method is called for a datagram")
+    String sender;
+
+    // null if the event is not enabled
+    public static DispatchEvent start() {
+        DispatchEvent event = new DispatchEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static void finish(DispatchEvent event, String method, SocketAddress sender) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.method = method;
+            event.sender = UdpEvents.toString(sender);
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * {@link EventLoopStallEvent} is recorded by the event loop watchdog when an event loop shared by the udp clients
+ * and listeners is blocked longer than the stall threshold. The stack trace of the event recorder is that of the
+ * watchdog, so the stack trace of the blocked loop is recorded as a field.
+ */
+@Name(UdpEvents.NAME_PREFIX + "EventLoopStall")
+@Label("UDP Event Loop Stall")
+@Description("An event loop of the UDP module is blocked")
+@Category({UdpEvents.CATEGORY_BALLERINA, UdpEvents.CATEGORY_UDP})
+@StackTrace(false)
+public class EventLoopStallEvent extends jdk.jfr.Event {
+
+    @Label("Event Loop")
+    String eventLoop;
+
+    @Label("Blocked For")
+    @Timespan(Timespan.NANOSECONDS)
+    long blockedFor;
+
+    @Label("Pending Tasks")
+    int pendingTasks;
+
+    @Label("Event Loop Stack Trace")
+    String eventLoopStackTrace;
+
+    public static void commit(String eventLoop, long blockedNanos, int pendingTasks, StackTraceElement[] stackTrace) {
+        EventLoopStallEvent event = new EventLoopStallEvent();
+        if (event.shouldCommit()) {
+            event.eventLoop = eventLoop;
+            event.blockedFor = blockedNanos;
+            event.pendingTasks = pendingTasks;
+            StringBuilder builder = new StringBuilder();
+            for (StackTraceElement element : stackTrace) {
+                builder.append("\tat ").append(element).append('\n');
+            }
+            event.eventLoopStackTrace = builder.toString();
+            event.commit();
+        }
+    }
+}
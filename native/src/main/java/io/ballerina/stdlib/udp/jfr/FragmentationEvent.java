@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.udp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.SocketAddress;
+
+/**
+ * {@link FragmentationEvent} is recorded when data larger than the fragment size is split into several datagrams.
+ * It is disabled by default since it is recorded at the rate of the large sends.
+ */
+@Name(UdpEvents.NAME_PREFIX + "Fragmentation")
+@Label("UDP Fragmentation")
+@Description("Data is split into several datagrams")
+@Category({UdpEvents.CATEGORY_BALLERINA, UdpEvents.CATEGORY_UDP})
+@Enabled(false)
+@StackTrace(false)
+public class FragmentationEvent extends jdk.jfr.Event {
+
+    @Label("Recipient")
+    String recipient;
+
+    @Label("Size")
+    @DataAmount
+    int size;
+
+    @Label("Fragment Size")
+    @DataAmount
+    int fragmentSize;
+
+    @Label("Fragment Count")
+    int fragmentCount;
+
+    public static void commit(SocketAddress recipient, int size, int fragmentSize, int fragmentCount) {
+        FragmentationEvent event = new FragmentationEvent();
+        if (event.shouldCommit()) {
+            event.recipient = UdpEvents.toString(recipient);
+            event.size = size;
+            event.fragmentSize = fragmentSize;
+            event.fragmentCount = fragmentCount;
+            event.commit();
+        }
+    }
+}
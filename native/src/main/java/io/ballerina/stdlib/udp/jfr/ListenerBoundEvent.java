@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.udp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.SocketAddress;
+
+/**
+ * {@link ListenerBoundEvent} is recorded once a udp listener is bound, or connected to its remote address.
+ */
+@Name(UdpEvents.NAME_PREFIX + "ListenerBound")
+@Label("UDP Listener Bound")
+@Description("A UDP listener is bound to its local address")
+@Category({UdpEvents.CATEGORY_BALLERINA, UdpEvents.CATEGORY_UDP})
+@StackTrace(false)
+public class ListenerBoundEvent extends jdk.jfr.Event {
+
+    @Label("Local Address")
+    String localAddress;
+
+    @Label("Remote Address")
+    @Description("The remote address of a connected listener")
+    String remoteAddress;
+
+    public static void commit(SocketAddress localAddress, SocketAddress remoteAddress) {
+        ListenerBoundEvent event = new ListenerBoundEvent();
+        if (event.shouldCommit()) {
+            event.localAddress = UdpEvents.toString(localAddress);
+            event.remoteAddress = UdpEvents.toString(remoteAddress);
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.udp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.net.SocketAddress;
+
+/**
+ * {@link ListenerClosedEvent} is recorded once a udp listener is closed.
+ */
+@Name(UdpEvents.NAME_PREFIX + "ListenerClosed")
+@Label("UDP Listener Closed")
+@Description("A UDP listener is closed")
+@Category({UdpEvents.CATEGORY_BALLERINA, UdpEvents.CATEGORY_UDP})
+@StackTrace(false)
+public class ListenerClosedEvent extends jdk.jfr.Event {
+
+    @Label("Local Address")
+    String localAddress;
+
+    public static void commit(SocketAddress localAddress) {
+        ListenerClosedEvent event = new ListenerClosedEvent();
+        if (event.shouldCommit()) {
+            event.localAddress = UdpEvents.toString(localAddress);
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.udp.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import java.net.SocketAddress;
+
+/**
+ * {@link ReceiveTimeoutEvent} is recorded when a receive of a udp client times out before a datagram arrives.
+ */
+@Name(UdpEvents.NAME_PREFIX + "ReceiveTimeout")
+@Label("UDP Receive Timeout")
+@Description("A receive of a UDP client times out")
+@Category({UdpEvents.CATEGORY_BALLERINA, UdpEvents.CATEGORY_UDP})
+@StackTrace(false)
+public class ReceiveTimeoutEvent extends jdk.jfr.Event {
+
+    @Label("Local Address")
+    String localAddress;
+
+    @Label("Remote Address")
+    @Description("The remote address of a connected client")
+    String remoteAddress;
+
+    @Label("Timeout")
+    @Timespan(Timespan.MILLISECONDS)
+    long timeout;
+
+    @Label("Batch")
+    @Description("Whether the receive would have returned several datagrams")
+    boolean batch;
+
+    public static void commit(SocketAddress localAddress, SocketAddress remoteAddress, long timeoutMillis,
+                              boolean batch) {
+        ReceiveTimeoutEvent event = new ReceiveTimeoutEvent();
+        if (event.shouldCommit()) {
+            event.localAddress = UdpEvents.toString(localAddress);
+            event.remoteAddress = UdpEvents.toString(remoteAddress);
+            event.timeout = timeoutMillis;
+            event.batch = batch;
+            event.commit();
+        }
+    }
+}
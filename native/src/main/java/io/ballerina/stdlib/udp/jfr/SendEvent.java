@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.udp.jfr;
+
+import io.netty.util.concurrent.Future;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.net.SocketAddress;
+
+/**
+ * {@link SendEvent} spans a send of a udp client or listener, from the time the data is handed over to the
+ * channel until all its fragments are written or the send fails. Only the sends which take longer than the
+ * threshold, 1 ms by default, are recorded.
+ */
+@Name(UdpEvents.NAME_PREFIX + "Send")
+@Label("UDP Send")
+@Description("Data is sent by a UDP client or listener")
+@Category({UdpEvents.CATEGORY_BALLERINA, UdpEvents.CATEGORY_UDP})
+@Threshold("1 ms")
+@StackTrace(false)
+public class SendEvent extends jdk.jfr.Event {
+
+    @Label("Recipient")
+    String recipient;
+
+    @Label("Size")
+    @DataAmount
+    int size;
+
+    @Label("Fragments")
+    int fragments;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    @Label("Error")
+    String error;
+
+    // null if the event is not enabled
+    public static SendEvent start() {
+        SendEvent event = new SendEvent();
+        if (!event.isEnabled()) {
+            return null;
+        }
+        event.begin();
+        return event;
+    }
+
+    public static void finish(SendEvent event, SocketAddress recipient, int size, int fragments, Future<?> future) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.recipient = UdpEvents.toString(recipient);
+            event.size = size;
+            event.fragments = fragments;
+            event.succeeded = future.isSuccess();
+            event.error = future.isSuccess() ? null : future.cause().getMessage();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.stdlib.udp.jfr;
+
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * {@link UdpEvents} holds the names shared by the Java Flight Recorder events of the udp module.
+ * <p>
+ * Each event checks whether it is enabled before any of its fields are computed, so a disabled event costs an
+ * allocation which is eliminated by the JIT. The thresholds of the duration events can be changed per recording,
+ * e.g. {@code -XX:StartFlightRecording:ballerina.udp.Dispatch#threshold=100us}.
+ */
+public final class UdpEvents {
+
+    static final String NAME_PREFIX = "ballerina.udp.";
+    static final String CATEGORY_BALLERINA = "Ballerina";
+    static final String CATEGORY_UDP = "UDP";
+
+    private UdpEvents() {}
+
+    // the literal address and port, without a reverse lookup of the host name
+    static String toString(SocketAddress address) {
+        if (address instanceof InetSocketAddress) {
+            InetSocketAddress inetAddress = (InetSocketAddress) address;
+            String host = inetAddress.getAddress() != null ? inetAddress.getAddress().getHostAddress()
+                    : inetAddress.getHostString();
+            return host + ":" + inetAddress.getPort();
+        }
+        return address == null ? null : address.toString();
+    }
+}
@@ -21,16 +21,26 @@ package io.ballerina.stdlib.udp.nativeclient;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.udp.Broadcast;
+import io.ballerina.stdlib.udp.CompressionHandler;
 import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.PacingHandler;
+import io.ballerina.stdlib.udp.PathMtuHandler;
 import io.ballerina.stdlib.udp.UdpClient;
+import io.ballerina.stdlib.udp.UdpConfig;
 import io.ballerina.stdlib.udp.UdpFactory;
-import io.netty.buffer.Unpooled;
+import io.ballerina.stdlib.udp.Utils;
 import io.netty.channel.socket.DatagramPacket;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static io.ballerina.stdlib.udp.Utils.getLocalInetSocketAddress;
@@ -48,10 +58,15 @@ public final class Client {
     public static Object init(Environment env, BObject client, BMap<BString, Object> config) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
-            BString host = config.getStringValue(StringUtils.fromString(Constants.CONFIG_LOCALHOST));
             InetSocketAddress localAddress = getLocalInetSocketAddress(client, config);
-            UdpClient udpClient = UdpFactory.getInstance().createUdpClient(localAddress, balFuture);
-            client.addNativeData(Constants.CONNECTIONLESS_CLIENT, udpClient);
+            try {
+                UdpConfig udpConfig = Utils.getUdpConfig(config);
+                UdpClient udpClient = UdpFactory.getInstance().createUdpClient(localAddress, balFuture,
+                        udpConfig);
+                client.addNativeData(Constants.CONNECTIONLESS_CLIENT, udpClient);
+            } catch (IOException e) {
+                balFuture.complete(Utils.createUdpError("Error initializing UDP Client: " + e.getMessage()));
+            }
             return getResult(balFuture);
         });
     }
@@ -66,21 +81,105 @@ public final class Client {
         });
     }
 
+    public static Object receiveBatch(Environment env, BObject client, long maxCount, Object timeout) {
+        double readTimeOut = Utils.getReadTimeout(client, timeout);
+        BError error = Utils.validateBatchRead(maxCount, readTimeOut);
+        if (error != null) {
+            return error;
+        }
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+            udpClient.receiveDataBatch(readTimeOut, (int) Math.min(maxCount, Integer.MAX_VALUE), balFuture);
+            return getResult(balFuture);
+        });
+    }
+
     public static Object send(Environment env, BObject client, BMap<BString, Object> datagram) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
             String host = datagram.getStringValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_HOST)).getValue();
             int port = datagram.getIntValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_PORT)).intValue();
             BArray data = datagram.getArrayValue(StringUtils.fromString(Constants.DATAGRAM_DATA));
-            byte[] byteContent = data.getBytes();
-            DatagramPacket datagramPacket = new DatagramPacket(Unpooled.wrappedBuffer(byteContent),
-                    new InetSocketAddress(host, port));
             UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+            DatagramPacket datagramPacket = new DatagramPacket(Utils.toByteBuf(data, udpClient.alloc()),
+                    new InetSocketAddress(host, port));
+            if (udpClient.isAsyncSend()) {
+                udpClient.sendDataAsync(datagramPacket);
+                return null;
+            }
             udpClient.sendData(datagramPacket, balFuture);
             return getResult(balFuture);
         });
     }
 
+    public static Object broadcastTo(Environment env, BObject client, BArray data, BArray targets) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<List<Broadcast.Failure>> failures = new CompletableFuture<>();
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+            udpClient.broadcast(data.getByteArray(), data.size(),
+                    Utils.getBroadcastTargets(targets, udpClient::getFragmentSize), failures);
+            return getResult(failures.<Object>thenApply(Utils::createBroadcastFailures));
+        });
+    }
+
+    public static Object getPacingStats(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+        PacingHandler pacingHandler = udpClient.getPacingHandler();
+        return pacingHandler == null ? null : Utils.createPacingStats(pacingHandler);
+    }
+
+    public static Object drain(Environment env, BObject client, BDecimal timeout) {
+        return env.yieldAndRun(() -> {
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+            return udpClient.drain(Math.max(0, (long) (timeout.floatValue() * 1_000_000_000)));
+        });
+    }
+
+    public static Object flush(Environment env, BObject client) {
+        return env.yieldAndRun(() -> {
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+            return udpClient.drain(-1);
+        });
+    }
+
+    public static Object getCompressionStats(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+        CompressionHandler compressionHandler = udpClient.getCompressionHandler();
+        return compressionHandler == null ? null : Utils.createCompressionStats(compressionHandler);
+    }
+
+    public static Object getPathMtuStats(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+        PathMtuHandler pathMtuHandler = udpClient.getPathMtuHandler();
+        return pathMtuHandler == null ? null : Utils.createPathMtuStats(pathMtuHandler);
+    }
+
+    public static Object sendFile(Environment env, BObject client, BString path, BString remoteHost,
+                                  long remotePort, long chunkSize) {
+        BError error = Utils.validateChunkSize(chunkSize);
+        if (error != null) {
+            return error;
+        }
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+            udpClient.sendFile(Path.of(path.getValue()), new InetSocketAddress(remoteHost.getValue(),
+                    (int) remotePort), (int) chunkSize, balFuture);
+            return getResult(balFuture);
+        });
+    }
+
+    public static Object getFileTransfers(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+        return Utils.createFileTransfers(udpClient.getFileTransfers());
+    }
+
+    public static Object getSendStats(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECTIONLESS_CLIENT);
+        return Utils.createSendStats(udpClient.getSendTracker());
+    }
+
     public static Object close(Environment env, BObject client) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
@@ -20,16 +20,24 @@ package io.ballerina.stdlib.udp.nativeclient;
 
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.udp.CompressionHandler;
 import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.PacingHandler;
+import io.ballerina.stdlib.udp.PathMtuHandler;
 import io.ballerina.stdlib.udp.UdpClient;
+import io.ballerina.stdlib.udp.UdpConfig;
 import io.ballerina.stdlib.udp.UdpFactory;
-import io.netty.buffer.Unpooled;
+import io.ballerina.stdlib.udp.Utils;
 import io.netty.channel.socket.DatagramPacket;
 
+import java.io.IOException;
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.util.concurrent.CompletableFuture;
 
 import static io.ballerina.stdlib.udp.Utils.getLocalInetSocketAddress;
@@ -51,8 +59,14 @@ public final class ConnectClient {
             InetSocketAddress localAddress = getLocalInetSocketAddress(client, config);
             InetSocketAddress remoteAddress = new InetSocketAddress(remoteHost.getValue(), remotePort);
             client.addNativeData(Constants.REMOTE_ADDRESS, remoteAddress);
-            UdpClient udpClient = UdpFactory.getInstance().createUdpClient(localAddress, remoteAddress, balFuture);
-            client.addNativeData(Constants.CONNECT_CLIENT, udpClient);
+            try {
+                UdpConfig udpConfig = Utils.getUdpConfig(config);
+                UdpClient udpClient = UdpFactory.getInstance().createUdpClient(localAddress, remoteAddress,
+                        balFuture, udpConfig);
+                client.addNativeData(Constants.CONNECT_CLIENT, udpClient);
+            } catch (IOException e) {
+                balFuture.complete(Utils.createUdpError("Can't connect to remote host: " + e.getMessage()));
+            }
             return getResult(balFuture);
         });
     }
@@ -67,18 +81,107 @@ public final class ConnectClient {
         });
     }
 
+    public static Object readBatch(Environment env, BObject client, long maxCount, Object timeout) {
+        double readTimeOut = Utils.getReadTimeout(client, timeout);
+        BError error = Utils.validateBatchRead(maxCount, readTimeOut);
+        if (error != null) {
+            return error;
+        }
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+            udpClient.receiveDataBatch(readTimeOut, (int) Math.min(maxCount, Integer.MAX_VALUE), balFuture);
+            return getResult(balFuture);
+        });
+    }
+
     public static Object write(Environment env, BObject client, BArray data) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
-            byte[] byteContent = data.getBytes();
             InetSocketAddress remoteAddress = (InetSocketAddress) client.getNativeData(Constants.REMOTE_ADDRESS);
-            DatagramPacket datagramPacket = new DatagramPacket(Unpooled.wrappedBuffer(byteContent), remoteAddress);
             UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+            DatagramPacket datagramPacket = new DatagramPacket(Utils.toByteBuf(data, udpClient.alloc()),
+                    remoteAddress);
+            if (udpClient.isAsyncSend()) {
+                udpClient.sendDataAsync(datagramPacket);
+                return null;
+            }
+            udpClient.sendData(datagramPacket, balFuture);
+            return getResult(balFuture);
+        });
+    }
+
+    public static Object writeSegments(Environment env, BObject client, BArray segments) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            InetSocketAddress remoteAddress = (InetSocketAddress) client.getNativeData(Constants.REMOTE_ADDRESS);
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+            DatagramPacket datagramPacket = new DatagramPacket(Utils.segmentsToByteBuf(segments, udpClient.alloc()),
+                    remoteAddress);
+            if (udpClient.isAsyncSend()) {
+                udpClient.sendDataAsync(datagramPacket);
+                return null;
+            }
             udpClient.sendData(datagramPacket, balFuture);
-            return null;
+            return getResult(balFuture);
+        });
+    }
+
+    public static Object getPacingStats(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+        PacingHandler pacingHandler = udpClient.getPacingHandler();
+        return pacingHandler == null ? null : Utils.createPacingStats(pacingHandler);
+    }
+
+    public static Object drain(Environment env, BObject client, BDecimal timeout) {
+        return env.yieldAndRun(() -> {
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+            return udpClient.drain(Math.max(0, (long) (timeout.floatValue() * 1_000_000_000)));
+        });
+    }
+
+    public static Object flush(Environment env, BObject client) {
+        return env.yieldAndRun(() -> {
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+            return udpClient.drain(-1);
+        });
+    }
+
+    public static Object getCompressionStats(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+        CompressionHandler compressionHandler = udpClient.getCompressionHandler();
+        return compressionHandler == null ? null : Utils.createCompressionStats(compressionHandler);
+    }
+
+    public static Object getPathMtuStats(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+        PathMtuHandler pathMtuHandler = udpClient.getPathMtuHandler();
+        return pathMtuHandler == null ? null : Utils.createPathMtuStats(pathMtuHandler);
+    }
+
+    public static Object sendFile(Environment env, BObject client, BString path, long chunkSize) {
+        BError error = Utils.validateChunkSize(chunkSize);
+        if (error != null) {
+            return error;
+        }
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+            udpClient.sendFile(Path.of(path.getValue()), null, (int) chunkSize, balFuture);
+            return getResult(balFuture);
         });
     }
 
+    public static Object getFileTransfers(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+        return Utils.createFileTransfers(udpClient.getFileTransfers());
+    }
+
+    public static Object getSendStats(BObject client) {
+        UdpClient udpClient = (UdpClient) client.getNativeData(Constants.CONNECT_CLIENT);
+        return Utils.createSendStats(udpClient.getSendTracker());
+    }
+
     public static Object close(Environment env, BObject client) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
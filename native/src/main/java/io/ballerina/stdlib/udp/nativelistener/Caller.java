@@ -21,16 +21,22 @@ package io.ballerina.stdlib.udp.nativelistener;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.udp.Broadcast;
 import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.DatagramTrace;
+import io.ballerina.stdlib.udp.SessionHandler;
 import io.ballerina.stdlib.udp.UdpListener;
-import io.netty.buffer.Unpooled;
+import io.ballerina.stdlib.udp.Utils;
 import io.netty.channel.Channel;
 import io.netty.channel.socket.DatagramPacket;
 
 import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import static io.ballerina.stdlib.udp.Utils.getResult;
@@ -45,15 +51,68 @@ public final class Caller {
     public static Object sendBytes(Environment env, BObject caller, BArray data) {
         return env.yieldAndRun(() -> {
             CompletableFuture<Object> balFuture = new CompletableFuture<>();
-            byte[] byteContent = data.getBytes();
             String remoteHost = caller.getStringValue(StringUtils.fromString(Constants.CALLER_REMOTE_HOST))
                     .getValue();
             int remotePort = ((Integer) caller.get(StringUtils.fromString(Constants.CALLER_REMOTE_PORT)));
             InetSocketAddress remoteAddress = new InetSocketAddress(remoteHost, remotePort);
-            DatagramPacket datagram = new DatagramPacket(Unpooled.wrappedBuffer(byteContent), remoteAddress);
             Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
+            DatagramPacket datagram = new DatagramPacket(Utils.toByteBuf(data, channel.alloc()), remoteAddress);
 
-            UdpListener.send(datagram, channel, balFuture);
+            UdpListener.send(datagram, channel, (DatagramTrace) caller.getNativeData(Constants.DATAGRAM_TRACE),
+                    balFuture);
+            return getResult(balFuture);
+        });
+    }
+
+    // the payload is written directly to the channel, the reply queue is not used for it
+    public static Object broadcastTo(Environment env, BObject caller, BArray data, BArray targets) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<List<Broadcast.Failure>> failures = new CompletableFuture<>();
+            Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
+            List<Broadcast.Target> resolved = Utils.getBroadcastTargets(targets,
+                    recipient -> Utils.getFragmentSize(channel, recipient));
+            Broadcast.send(channel, data.getByteArray(), data.size(), resolved, null, failures);
+            return getResult(failures.<Object>thenApply(Utils::createBroadcastFailures));
+        });
+    }
+
+    public static Object sendSegments(Environment env, BObject caller, BArray segments) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            InetSocketAddress remoteAddress = (InetSocketAddress) caller.getNativeData(Constants.REMOTE_ADDRESS);
+            Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
+            DatagramPacket datagram = new DatagramPacket(Utils.segmentsToByteBuf(segments, channel.alloc()),
+                    remoteAddress);
+            UdpListener.send(datagram, channel, (DatagramTrace) caller.getNativeData(Constants.DATAGRAM_TRACE),
+                    balFuture);
+            return getResult(balFuture);
+        });
+    }
+
+    // the sessions are looked up by the address the datagram was received from
+    public static Object getSession(BObject caller) {
+        Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
+        SessionHandler sessionHandler = (SessionHandler) channel.pipeline().get(Constants.SESSION_HANDLER);
+        if (sessionHandler == null) {
+            return Utils.createUdpError("Sessions are not configured for the listener");
+        }
+        InetSocketAddress remoteAddress = (InetSocketAddress) caller.getNativeData(Constants.REMOTE_ADDRESS);
+        return Utils.createSession(sessionHandler.getSessionTable().getOrCreate(remoteAddress, System.nanoTime()));
+    }
+
+    public static Object sendFile(Environment env, BObject caller, BString path, long chunkSize) {
+        BError error = Utils.validateChunkSize(chunkSize);
+        if (error != null) {
+            return error;
+        }
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            String remoteHost = caller.getStringValue(StringUtils.fromString(Constants.CALLER_REMOTE_HOST))
+                    .getValue();
+            int remotePort = ((Integer) caller.get(StringUtils.fromString(Constants.CALLER_REMOTE_PORT)));
+            Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
+            UdpListener.sendFile(Path.of(path.getValue()), new InetSocketAddress(remoteHost, remotePort),
+                    (int) chunkSize, channel, balFuture);
             return getResult(balFuture);
         });
     }
@@ -64,12 +123,11 @@ public final class Caller {
             String host = datagram.getStringValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_HOST)).getValue();
             int port = datagram.getIntValue(StringUtils.fromString(Constants.DATAGRAM_REMOTE_PORT)).intValue();
             BArray data = datagram.getArrayValue(StringUtils.fromString(Constants.DATAGRAM_DATA));
-            byte[] byteContent = data.getBytes();
-            DatagramPacket datagramPacket = new DatagramPacket(Unpooled.wrappedBuffer(byteContent),
-                    new InetSocketAddress(host, port));
-
             Channel channel = (Channel) caller.getNativeData(Constants.CHANNEL);
-            UdpListener.send(datagramPacket, channel, balFuture);
+            DatagramPacket datagramPacket = new DatagramPacket(Utils.toByteBuf(data, channel.alloc()),
+                    new InetSocketAddress(host, port));
+            UdpListener.send(datagramPacket, channel,
+                    (DatagramTrace) caller.getNativeData(Constants.DATAGRAM_TRACE), balFuture);
             return getResult(balFuture);
         });
     }
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.nativelistener;
+
+import io.ballerina.runtime.api.Environment;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.DatagramQueueHandler;
+import io.ballerina.stdlib.udp.Utils;
+
+/**
+ * Native function implementations of the stream of the datagrams received by a UDP Listener.
+ */
+public final class DatagramStream {
+
+    private DatagramStream() {}
+
+    public static Object next(Environment env, BObject datagramStream, long maxCount) {
+        return env.yieldAndRun(() -> {
+            DatagramQueueHandler datagramQueueHandler = (DatagramQueueHandler) datagramStream
+                    .getNativeData(Constants.DATAGRAM_QUEUE_HANDLER);
+            try {
+                return datagramQueueHandler.poll((int) Math.min(maxCount, Integer.MAX_VALUE));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Utils.createUdpError("Interrupted while waiting for datagrams");
+            }
+        });
+    }
+
+    public static Object close(BObject datagramStream) {
+        DatagramQueueHandler datagramQueueHandler = (DatagramQueueHandler) datagramStream
+                .getNativeData(Constants.DATAGRAM_QUEUE_HANDLER);
+        datagramQueueHandler.remove();
+        return null;
+    }
+}
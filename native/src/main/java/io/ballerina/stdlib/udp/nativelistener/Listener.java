@@ -22,7 +22,22 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.observability.ObserveUtils;
+import io.ballerina.stdlib.udp.AdaptiveDispatcher;
+import io.ballerina.stdlib.udp.AddressFilterRules;
+import io.ballerina.stdlib.udp.CaptureHandler;
+import io.ballerina.stdlib.udp.CompressionHandler;
 import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.DatagramQueueHandler;
+import io.ballerina.stdlib.udp.DatagramTracer;
+import io.ballerina.stdlib.udp.DedupHandler;
+import io.ballerina.stdlib.udp.HeavyHitterHandler;
+import io.ballerina.stdlib.udp.PacingHandler;
+import io.ballerina.stdlib.udp.PathMtuHandler;
+import io.ballerina.stdlib.udp.RelayHandler;
+import io.ballerina.stdlib.udp.ReplyFlushHandler;
+import io.ballerina.stdlib.udp.SessionHandler;
+import io.ballerina.stdlib.udp.UdpConfig;
 import io.ballerina.stdlib.udp.UdpFactory;
 import io.ballerina.stdlib.udp.UdpListener;
 import io.ballerina.stdlib.udp.UdpService;
@@ -30,6 +45,9 @@ import io.ballerina.stdlib.udp.Utils;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.net.UnknownHostException;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 
 import static io.ballerina.stdlib.udp.Utils.getResult;
@@ -72,8 +90,18 @@ public final class Listener {
             try {
                 UdpService udpService = (UdpService) listener.getNativeData(Constants.SERVICE);
                 remoteAddress = getRemoteAddress(remoteHost, remotePort);
+                UdpConfig udpConfig = Utils.getUdpConfig(config);
+                if (udpService != null && udpConfig.getRelayConfig() != null) {
+                    throw new Exception("A service can't be attached to a listener which relays the datagrams");
+                }
+                if (udpService != null && udpConfig.getDispatchConfig() != null) {
+                    udpService.setAdaptiveDispatcher(new AdaptiveDispatcher(udpConfig.getDispatchConfig()));
+                }
+                if (udpService != null && udpConfig.getTracingConfig() != null && ObserveUtils.isTracingEnabled()) {
+                    udpService.setDatagramTracer(new DatagramTracer(udpConfig.getTracingConfig()));
+                }
                 UdpListener udpListener = UdpFactory.getInstance()
-                        .createUdpListener(localAddress, remoteAddress, balFuture, udpService);
+                        .createUdpListener(localAddress, remoteAddress, balFuture, udpService, udpConfig);
                 listener.addNativeData(Constants.LISTENER, udpListener);
             } catch (Exception e) {
                 balFuture.complete(Utils.createUdpError(e.getMessage()));
@@ -108,6 +136,147 @@ public final class Listener {
         });
     }
 
+    public static Object getPacingStats(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        PacingHandler pacingHandler = udpListener == null ? null : udpListener.getPacingHandler();
+        return pacingHandler == null ? null : Utils.createPacingStats(pacingHandler);
+    }
+
+    public static Object getReplyStats(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        ReplyFlushHandler replyFlushHandler = udpListener == null ? null : udpListener.getReplyFlushHandler();
+        return replyFlushHandler == null ? null : Utils.createReplyStats(replyFlushHandler);
+    }
+
+    public static Object openDatagramStream(BObject listener, BObject datagramStream, long queueSize,
+                                            long batchSize) {
+        if (queueSize <= 0 || batchSize <= 0) {
+            return Utils.createUdpError("Datagram stream queueSize and batchSize should be positive values");
+        }
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        if (udpListener == null) {
+            return Utils.createUdpError("The listener should be started before opening a datagram stream");
+        }
+        Object result = udpListener.openDatagramStream((int) Math.min(queueSize, Integer.MAX_VALUE));
+        if (result instanceof DatagramQueueHandler) {
+            datagramStream.addNativeData(Constants.DATAGRAM_QUEUE_HANDLER, result);
+            return null;
+        }
+        return result;
+    }
+
+    public static Object getPathMtuStats(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        PathMtuHandler pathMtuHandler = udpListener == null ? null : udpListener.getPathMtuHandler();
+        return pathMtuHandler == null ? null : Utils.createPathMtuStats(pathMtuHandler);
+    }
+
+    public static Object getFileTransfers(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        return Utils.createFileTransfers(udpListener == null ? Set.of() : udpListener.getFileTransfers());
+    }
+
+    public static Object getCaptureStats(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        CaptureHandler captureHandler = udpListener == null ? null : udpListener.getCaptureHandler();
+        return captureHandler == null ? null : Utils.createCaptureStats(captureHandler);
+    }
+
+    public static Object setAddressFilter(BObject listener, Object addressFilter) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        if (udpListener == null) {
+            return Utils.createUdpError("Unable to set the address filter: listener is not started.");
+        }
+        try {
+            udpListener.getAddressFilter().setRules(addressFilter == null ? null
+                    : Utils.createAddressFilterRules((BMap<BString, Object>) addressFilter));
+        } catch (SocketException e) {
+            return Utils.createUdpError("Unable to set the address filter: " + e.getMessage());
+        }
+        return null;
+    }
+
+    public static Object getAddressFilterStats(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        AddressFilterRules rules = udpListener == null ? null : udpListener.getAddressFilter().getRules();
+        return rules == null ? null : Utils.createAddressFilterStats(rules);
+    }
+
+    public static Object getCompressionStats(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        CompressionHandler compressionHandler = udpListener == null ? null : udpListener.getCompressionHandler();
+        return compressionHandler == null ? null : Utils.createCompressionStats(compressionHandler);
+    }
+
+    public static Object getDedupStats(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        DedupHandler dedupHandler = udpListener == null ? null : udpListener.getDedupHandler();
+        return dedupHandler == null ? null : Utils.createDedupStats(dedupHandler);
+    }
+
+    public static Object getSessionStats(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        SessionHandler sessionHandler = udpListener == null ? null : udpListener.getSessionHandler();
+        return sessionHandler == null ? null : Utils.createSessionStats(sessionHandler.getSessionTable());
+    }
+
+    public static Object getRelayStats(BObject listener) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        RelayHandler relayHandler = udpListener == null ? null : udpListener.getRelayHandler();
+        return relayHandler == null ? null : Utils.createRelayStats(relayHandler);
+    }
+
+    public static Object getHeavyHitters(Environment env, BObject listener, BString metric) {
+        UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+        if (udpListener == null || udpListener.getHeavyHitterHandler() == null) {
+            return null;
+        }
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            udpListener.getHeavyHitterStats(HeavyHitterHandler.Metric.valueOf(metric.getValue()), balFuture);
+            return getResult(balFuture);
+        });
+    }
+
+    public static Object getDispatchStats(BObject listener) {
+        UdpService udpService = (UdpService) listener.getNativeData(Constants.SERVICE);
+        AdaptiveDispatcher adaptiveDispatcher = udpService == null ? null : udpService.getAdaptiveDispatcher();
+        return adaptiveDispatcher == null ? null : Utils.createDispatchStats(adaptiveDispatcher,
+                udpService.getDispatchDescriptor().getDataMethod());
+    }
+
+    public static Object joinGroup(Environment env, BObject listener, BString multicastAddress) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+            if (udpListener == null) {
+                return Utils.createUdpError("Unable to join the multicast group: listener is not started.");
+            }
+            try {
+                udpListener.joinGroup(Utils.getMulticastAddress(multicastAddress.getValue()), balFuture);
+            } catch (UnknownHostException e) {
+                balFuture.complete(Utils.createUdpError("Unable to join the multicast group: " + e.getMessage()));
+            }
+            return getResult(balFuture);
+        });
+    }
+
+    public static Object leaveGroup(Environment env, BObject listener, BString multicastAddress) {
+        return env.yieldAndRun(() -> {
+            CompletableFuture<Object> balFuture = new CompletableFuture<>();
+            UdpListener udpListener = (UdpListener) listener.getNativeData(Constants.LISTENER);
+            if (udpListener == null) {
+                return Utils.createUdpError("Unable to leave the multicast group: listener is not started.");
+            }
+            try {
+                udpListener.leaveGroup(Utils.getMulticastAddress(multicastAddress.getValue()), balFuture);
+            } catch (UnknownHostException e) {
+                balFuture.complete(Utils.createUdpError("Unable to leave the multicast group: " + e.getMessage()));
+            }
+            return getResult(balFuture);
+        });
+    }
+
     private static InetSocketAddress getRemoteAddress(BString remoteHost, Long remotePort) throws Exception {
         if (remoteHost != null && remotePort == null || remoteHost == null && remotePort != null) {
             throw new Exception("Required both remoteHost and remotePort to connect to remote address.");
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.nativelistener;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.PeerSession;
+
+/**
+ * Native function implementations of the UDP Session.
+ */
+public final class Session {
+
+    private Session() {}
+
+    public static Object get(BObject session, BString key) {
+        return getPeerSession(session).get(key.getValue());
+    }
+
+    public static void put(BObject session, BString key, Object value) {
+        getPeerSession(session).put(key.getValue(), value);
+    }
+
+    public static Object remove(BObject session, BString key) {
+        return getPeerSession(session).remove(key.getValue());
+    }
+
+    public static BArray keys(BObject session) {
+        BString[] keys = getPeerSession(session).keys().stream().map(StringUtils::fromString)
+                .toArray(BString[]::new);
+        return ValueCreator.createArrayValue(keys);
+    }
+
+    public static boolean isActive(BObject session) {
+        return getPeerSession(session).isActive();
+    }
+
+    public static void invalidate(BObject session) {
+        getPeerSession(session).invalidate();
+    }
+
+    private static PeerSession getPeerSession(BObject session) {
+        return (PeerSession) session.getNativeData(Constants.PEER_SESSION);
+    }
+}
@@ -25,5 +25,6 @@ module io.ballerina.stdlib.udp {
     requires io.netty.handler;
     requires io.netty.buffer;
     requires io.netty.common;
+    requires jdk.jfr;
     exports io.ballerina.stdlib.udp;
 }
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.testutils;
+
+import io.ballerina.stdlib.udp.CaptureHandler;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Replays the datagrams of the capture files written by the {@link CaptureHandler} of a listener, or of any pcap
+ * file of UDP traffic, to a listener at the rate they were received.
+ * <p>
+ * Each datagram is sent at the offset of its timestamp from the first one, divided by the speed. The driver parks
+ * until shortly before the deadline and spins for the rest, so that the sends are not delayed by the timer slack of
+ * the OS. The files are parsed once before the replay, which opens the sockets and warms up the parsing. The
+ * datagrams of each original sender are sent from a socket of their own, so that the listener sees as many peers
+ * as in the capture. The lateness of the sends is printed once the replay is done.
+ * <p>
+ * Run with {@code ./gradlew :udp-test-utils:captureReplay --args="<port> <file>... [--host=<host>]
+ * [--speed=<factor>] [--single-sender]"}, passing the rotated files of a capture in the order of their sequence.
+ */
+public final class CaptureReplay {
+
+    // the driver parks until this close to a deadline and spins for the rest
+    private static final long SPIN_THRESHOLD_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    // the sockets are shared by several senders beyond this many senders
+    private static final int MAX_SENDERS = 1024;
+    private static final int PCAP_MICROS_MAGIC = 0xa1b2c3d4;
+    private static final int LINKTYPE_ETHERNET = 1;
+    private static final int LINKTYPE_RAW = 101;
+    private static final int ETHERNET_HEADER_SIZE = 14;
+    private static final int IP_PROTOCOL_UDP = 17;
+
+    private final InetSocketAddress target;
+    private final double speed;
+    private final boolean singleSender;
+    private final Map<InetSocketAddress, DatagramChannel> senders = new HashMap<>();
+    private final List<DatagramChannel> channels = new ArrayList<>();
+
+    private boolean preparing;
+    private long firstTimestamp = -1;
+    private long start;
+    private long datagrams;
+    private long bytes;
+    private long totalLatenessNanos;
+    private long maxLatenessNanos;
+
+    private CaptureReplay(InetSocketAddress target, double speed, boolean singleSender) {
+        this.target = target;
+        this.speed = speed;
+        this.singleSender = singleSender;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String host = InetAddress.getLoopbackAddress().getHostAddress();
+        double speed = 1;
+        boolean singleSender = false;
+        List<Path> files = new ArrayList<>();
+        int port = -1;
+        for (String arg : args) {
+            if (arg.startsWith("--host=")) {
+                host = arg.substring("--host=".length());
+            } else if (arg.startsWith("--speed=")) {
+                speed = Double.parseDouble(arg.substring("--speed=".length()));
+            } else if (arg.equals("--single-sender")) {
+                singleSender = true;
+            } else if (port < 0) {
+                port = Integer.parseInt(arg);
+            } else {
+                files.add(Path.of(arg));
+            }
+        }
+        if (port < 0 || files.isEmpty() || speed <= 0) {
+            throw new IllegalArgumentException("Usage: CaptureReplay <port> <file>... [--host=<host>] "
+                    + "[--speed=<factor>] [--single-sender]");
+        }
+        CaptureReplay replay = new CaptureReplay(new InetSocketAddress(host, port), speed, singleSender);
+        try {
+            // a first pass opens the sockets of all the senders and warms up the parsing, so that the replay
+            // itself is not delayed by them
+            replay.preparing = true;
+            for (Path file : files) {
+                replay.replayFile(file);
+            }
+            replay.preparing = false;
+            for (Path file : files) {
+                replay.replayFile(file);
+            }
+        } finally {
+            replay.close();
+        }
+        replay.print();
+    }
+
+    private void replayFile(Path file) throws IOException {
+        try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, fileChannel.size());
+            int magic = buffer.getInt(0);
+            if (magic == CaptureHandler.BINARY_MAGIC) {
+                replayBinary(buffer);
+            } else if (magic == CaptureHandler.PCAP_MAGIC || magic == PCAP_MICROS_MAGIC) {
+                replayPcap(buffer, magic == CaptureHandler.PCAP_MAGIC);
+            } else if (magic == Integer.reverseBytes(CaptureHandler.PCAP_MAGIC)
+                    || magic == Integer.reverseBytes(PCAP_MICROS_MAGIC)) {
+                buffer.order(ByteOrder.LITTLE_ENDIAN);
+                replayPcap(buffer, magic == Integer.reverseBytes(CaptureHandler.PCAP_MAGIC));
+            } else {
+                throw new IOException("Unknown capture format: " + file);
+            }
+        }
+    }
+
+    private void replayBinary(ByteBuffer buffer) throws IOException {
+        buffer.position(CaptureHandler.BINARY_FILE_HEADER_SIZE);
+        while (buffer.remaining() >= CaptureHandler.BINARY_RECORD_HEADER_SIZE) {
+            long timestamp = buffer.getLong();
+            // the unused tail of a file which was not closed
+            if (timestamp == 0) {
+                return;
+            }
+            int length = buffer.getInt();
+            byte[] address = new byte[buffer.get()];
+            buffer.get(address);
+            int port = buffer.getShort() & 0xffff;
+            InetSocketAddress sender = new InetSocketAddress(InetAddress.getByAddress(address), port);
+            send(timestamp, sender, buffer.slice(buffer.position(), length));
+            buffer.position(buffer.position() + length);
+        }
+    }
+
+    private void replayPcap(ByteBuffer buffer, boolean nanos) throws IOException {
+        int linkType = buffer.getInt(20);
+        if (linkType != LINKTYPE_RAW && linkType != LINKTYPE_ETHERNET) {
+            throw new IOException("Unsupported pcap link type: " + linkType);
+        }
+        buffer.position(CaptureHandler.PCAP_FILE_HEADER_SIZE);
+        while (buffer.remaining() >= CaptureHandler.PCAP_RECORD_HEADER_SIZE) {
+            long seconds = Integer.toUnsignedLong(buffer.getInt());
+            long fraction = Integer.toUnsignedLong(buffer.getInt());
+            int length = buffer.getInt();
+            buffer.getInt();
+            ByteBuffer packet = buffer.slice(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            long timestamp = TimeUnit.SECONDS.toNanos(seconds) + (nanos ? fraction : fraction * 1000);
+            replayPacket(timestamp, linkType == LINKTYPE_ETHERNET
+                    ? packet.position(ETHERNET_HEADER_SIZE).slice() : packet);
+        }
+    }
+
+    // only unfragmented UDP packets are replayed
+    private void replayPacket(long timestamp, ByteBuffer packet) throws IOException {
+        int version = (packet.get(0) & 0xff) >> 4;
+        byte[] address;
+        int headerSize;
+        if (version == 4) {
+            if (packet.get(9) != IP_PROTOCOL_UDP || (packet.getShort(6) & 0x3fff) != 0) {
+                return;
+            }
+            headerSize = (packet.get(0) & 0x0f) * 4;
+            address = new byte[4];
+            packet.get(12, address);
+        } else if (version == 6) {
+            if (packet.get(6) != IP_PROTOCOL_UDP) {
+                return;
+            }
+            headerSize = 40;
+            address = new byte[16];
+            packet.get(8, address);
+        } else {
+            return;
+        }
+        int port = packet.getShort(headerSize) & 0xffff;
+        int length = Math.min((packet.getShort(headerSize + 4) & 0xffff) - 8, packet.limit() - headerSize - 8);
+        InetSocketAddress sender = new InetSocketAddress(InetAddress.getByAddress(address), port);
+        send(timestamp, sender, packet.slice(headerSize + 8, length));
+    }
+
+    private void send(long timestamp, InetSocketAddress sender, ByteBuffer data) throws IOException {
+        if (preparing) {
+            getChannel(sender);
+            return;
+        }
+        if (firstTimestamp < 0) {
+            firstTimestamp = timestamp;
+            start = System.nanoTime();
+        }
+        long deadline = start + (long) ((timestamp - firstTimestamp) / speed);
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            if (remaining > SPIN_THRESHOLD_NANOS) {
+                LockSupport.parkNanos(remaining - SPIN_THRESHOLD_NANOS);
+            } else {
+                Thread.onSpinWait();
+            }
+        }
+        long lateness = System.nanoTime() - deadline;
+        bytes += data.remaining();
+        getChannel(sender).send(data, target);
+        datagrams++;
+        totalLatenessNanos += lateness;
+        maxLatenessNanos = Math.max(maxLatenessNanos, lateness);
+    }
+
+    private DatagramChannel getChannel(InetSocketAddress sender) throws IOException {
+        DatagramChannel channel = senders.get(singleSender ? target : sender);
+        if (channel != null) {
+            return channel;
+        }
+        if (channels.size() >= MAX_SENDERS) {
+            channel = channels.get(Math.floorMod(sender.hashCode(), MAX_SENDERS));
+        } else {
+            channel = DatagramChannel.open();
+            channel.bind(null);
+            channels.add(channel);
+        }
+        senders.put(singleSender ? target : sender, channel);
+        return channel;
+    }
+
+    private void close() throws IOException {
+        for (DatagramChannel channel : channels) {
+            channel.close();
+        }
+    }
+
+    private void print() {
+        double elapsedSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        System.out.printf("datagrams: %d, bytes: %d, senders: %d, seconds: %.3f, datagrams per second: %.0f%n",
+                datagrams, bytes, senders.size(), elapsedSeconds, datagrams / elapsedSeconds);
+        System.out.printf("lateness mean: %.1f us, max: %.1f us%n",
+                datagrams == 0 ? 0 : totalLatenessNanos / 1000.0 / datagrams, maxLatenessNanos / 1000.0);
+    }
+}
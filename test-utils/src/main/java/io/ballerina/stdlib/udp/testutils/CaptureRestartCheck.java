@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.testutils;
+
+import io.ballerina.stdlib.udp.CaptureConfig;
+import io.ballerina.stdlib.udp.CaptureHandler;
+import io.ballerina.stdlib.udp.Utils;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.ReferenceCountUtil;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Captures to the same path twice, as a listener which is restarted does, and checks that the second capture
+ * continues the sequence of the files instead of overwriting the files of the first one.
+ */
+public final class CaptureRestartCheck {
+
+    private static final InetSocketAddress LISTENER = new InetSocketAddress("127.0.0.1", 48832);
+    private static final InetSocketAddress SENDER = new InetSocketAddress("127.0.0.1", 48833);
+    private static final int DATAGRAM_SIZE = 100;
+    private static final int DATAGRAMS = 3;
+
+    private CaptureRestartCheck() {}
+
+    public static Object checkCaptureRestart() throws IOException {
+        Path directory = Files.createTempDirectory("udp-capture");
+        try {
+            CaptureConfig captureConfig = new CaptureConfig(directory.resolve("listener"),
+                    CaptureConfig.Format.BINARY, 131072, 8);
+            capture(captureConfig);
+            Path firstFile = CaptureHandler.getFilePath(captureConfig, 0);
+            long firstSize = Files.size(firstFile);
+            capture(captureConfig);
+            if (Files.size(firstFile) != firstSize) {
+                return Utils.createUdpError("The file of the first capture was overwritten");
+            }
+            if (Files.size(CaptureHandler.getFilePath(captureConfig, 1)) != firstSize) {
+                return Utils.createUdpError("The second capture did not continue the sequence of the files");
+            }
+            try (Stream<Path> files = Files.list(directory)) {
+                long count = files.count();
+                if (count != 2) {
+                    return Utils.createUdpError("Expected a file per capture, found " + count);
+                }
+            }
+            return null;
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    // the file of the capture is completed once the channel is closed
+    private static void capture(CaptureConfig captureConfig) throws IOException {
+        EmbeddedChannel channel = new EmbeddedChannel(new CaptureHandler(captureConfig));
+        for (int i = 0; i < DATAGRAMS; i++) {
+            channel.writeInbound(new DatagramPacket(Unpooled.wrappedBuffer(new byte[DATAGRAM_SIZE]), LISTENER,
+                    SENDER));
+            ReferenceCountUtil.release(channel.readInbound());
+        }
+        channel.close();
+    }
+}
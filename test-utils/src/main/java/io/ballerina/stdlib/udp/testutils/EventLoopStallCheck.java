@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.testutils;
+
+import io.ballerina.stdlib.udp.EventLoopWatchdog;
+import io.ballerina.stdlib.udp.Utils;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.util.concurrent.DefaultThreadFactory;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Blocks an event loop watched by an {@link EventLoopWatchdog} before its first probe runs, and checks that the
+ * watchdog reports the stall once, against the loop thread.
+ */
+public final class EventLoopStallCheck {
+
+    private static final String THREAD_NAME = "udp-stall-check";
+    private static final long STALL_THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long PROBE_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long BLOCK_MILLIS = 500;
+
+    private EventLoopStallCheck() {}
+
+    public static Object checkEventLoopStall() throws InterruptedException {
+        EventLoopGroup group = new NioEventLoopGroup(1, new DefaultThreadFactory(THREAD_NAME));
+        EventLoopWatchdog watchdog = new EventLoopWatchdog(group, STALL_THRESHOLD_NANOS, PROBE_INTERVAL_NANOS);
+        try {
+            CountDownLatch unblocked = new CountDownLatch(1);
+            group.execute(() -> {
+                try {
+                    unblocked.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            Thread.sleep(BLOCK_MILLIS);
+            EventLoopWatchdog.LoopState loop = watchdog.getLoops().get(0);
+            if (loop.getStalls() != 1) {
+                return Utils.createUdpError("Expected one stall while blocked, found " + loop.getStalls());
+            }
+            if (!loop.getName().startsWith(THREAD_NAME)) {
+                return Utils.createUdpError("The stall was not reported against the loop thread: " + loop.getName());
+            }
+            if (loop.getLatencyNanos() < STALL_THRESHOLD_NANOS) {
+                return Utils.createUdpError("The latency of the blocked loop is below the stall threshold");
+            }
+            unblocked.countDown();
+            Thread.sleep(BLOCK_MILLIS);
+            if (loop.getStalls() != 1) {
+                return Utils.createUdpError("Expected the stall to be reported once, found " + loop.getStalls());
+            }
+            if (loop.getMaxLatencyNanos() < STALL_THRESHOLD_NANOS) {
+                return Utils.createUdpError("The completed probe did not record the stall latency");
+            }
+            return null;
+        } finally {
+            watchdog.stop();
+            group.shutdownGracefully(0, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+}
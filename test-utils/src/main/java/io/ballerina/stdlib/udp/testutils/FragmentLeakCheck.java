@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.testutils;
+
+import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.MulticastConfig;
+import io.ballerina.stdlib.udp.PacingConfig;
+import io.ballerina.stdlib.udp.ReplyFlushHandler;
+import io.ballerina.stdlib.udp.UdpClient;
+import io.ballerina.stdlib.udp.UdpConfig;
+import io.ballerina.stdlib.udp.UdpListener;
+import io.ballerina.stdlib.udp.Utils;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+import io.netty.util.ResourceLeakDetector;
+import io.netty.util.ResourceLeakDetectorFactory;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends fragmented datagrams through the client and the listener reply paths under the paranoid leak detector and
+ * fails if any of the buffers is not released.
+ * <p>
+ * The fragments are retained slices of the content, so the content is only released once every fragment is
+ * written, dropped by the pacing stage on close, or failed. A deliberately leaked buffer is used at the end to show
+ * that the detector reports leaks in this setup. Run with {@code ./gradlew :udp-test-utils:fragmentLeakCheck}.
+ */
+public final class FragmentLeakCheck {
+
+    private static final int FRAGMENT_SIZE = 1000;
+    private static final int CONTENT_SIZE = 4500;
+    private static final int DATAGRAMS = 2000;
+    private static final AtomicInteger LEAKS = new AtomicInteger();
+
+    private FragmentLeakCheck() {}
+
+    public static void main(String[] args) throws Exception {
+        // must be set before the first buffer is allocated
+        ResourceLeakDetector.setLevel(ResourceLeakDetector.Level.PARANOID);
+        ResourceLeakDetectorFactory.setResourceLeakDetectorFactory(new CountingLeakDetectorFactory());
+
+        EventLoopGroup group = new NioEventLoopGroup(1);
+        try (DatagramChannel sink = DatagramChannel.open()) {
+            sink.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            InetSocketAddress target = (InetSocketAddress) sink.getLocalAddress();
+            sendFromClient(group, target, null);
+            // the held fragments are released by the pacing stage when the client is closed
+            sendFromClient(group, target, new PacingConfig(1000, 1000, false));
+            sendReplies(group, target);
+        } finally {
+            group.shutdownGracefully().sync();
+        }
+
+        int leaks = collectLeaks();
+        System.out.println("leaks reported for the fragmented datagrams: " + leaks);
+        // the control leak shows that the detector reports an unreleased buffer
+        ByteBufAllocator.DEFAULT.directBuffer(CONTENT_SIZE);
+        int controlLeaks = collectLeaks();
+        System.out.println("leaks reported for the control buffer: " + controlLeaks);
+        if (leaks != 0 || controlLeaks == 0) {
+            System.exit(1);
+        }
+    }
+
+    private static void sendFromClient(EventLoopGroup group, InetSocketAddress target, PacingConfig pacingConfig)
+            throws Exception {
+        UdpConfig udpConfig = UdpConfig.builder(new MulticastConfig(Collections.emptyList(), null, null, null))
+                .pacingConfig(pacingConfig)
+                .fragmentSize(FRAGMENT_SIZE)
+                .build();
+        CompletableFuture<Object> initFuture = new CompletableFuture<>();
+        UdpClient udpClient = new UdpClient(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), group,
+                initFuture, udpConfig);
+        initFuture.get(10, TimeUnit.SECONDS);
+        byte[] payload = new byte[CONTENT_SIZE];
+        for (int i = 0; i < DATAGRAMS; i++) {
+            // alternates between the pooled copy of a mutable array and the wrapper of a readonly array
+            ByteBuf content = Utils.toByteBuf(payload, payload.length, i % 2 == 0, udpClient.alloc());
+            udpClient.sendDataAsync(new DatagramPacket(content, target));
+        }
+        if (pacingConfig == null && udpClient.drain(TimeUnit.SECONDS.toNanos(10)) != null) {
+            throw new IOException("Timed out while waiting for the datagrams to be written");
+        }
+        CompletableFuture<Object> closeFuture = new CompletableFuture<>();
+        udpClient.close(closeFuture);
+        closeFuture.get(10, TimeUnit.SECONDS);
+    }
+
+    private static void sendReplies(EventLoopGroup group, InetSocketAddress target) throws Exception {
+        Channel channel = new Bootstrap().group(group).channel(NioDatagramChannel.class)
+                .attr(Constants.FRAGMENT_SIZE, FRAGMENT_SIZE)
+                .handler(new ChannelInitializer<>() {
+                    @Override
+                    protected void initChannel(Channel ch) {
+                        ch.pipeline().addLast(Constants.REPLY_FLUSH_HANDLER,
+                                new ReplyFlushHandler(0));
+                    }
+                }).bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).sync().channel();
+        byte[] payload = new byte[CONTENT_SIZE];
+        List<CompletableFuture<Object>> replies = new ArrayList<>();
+        for (int i = 0; i < DATAGRAMS; i++) {
+            CompletableFuture<Object> reply = new CompletableFuture<>();
+            ByteBuf content = Utils.toByteBuf(payload, payload.length, false, channel.alloc());
+            UdpListener.send(new DatagramPacket(content, target), channel, null, reply);
+            replies.add(reply);
+        }
+        CompletableFuture.allOf(replies.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+        channel.close().sync();
+    }
+
+    // leaks are reported when a tracked buffer is allocated after the leaked ones are garbage collected
+    private static int collectLeaks() throws InterruptedException {
+        int before = LEAKS.get();
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            Thread.sleep(100);
+            ByteBufAllocator.DEFAULT.directBuffer(1).release();
+        }
+        return LEAKS.get() - before;
+    }
+
+    private static final class CountingLeakDetectorFactory extends ResourceLeakDetectorFactory {
+
+        @Override
+        public <T> ResourceLeakDetector<T> newResourceLeakDetector(Class<T> resource, int samplingInterval,
+                                                                   long maxActive) {
+            return new CountingLeakDetector<>(resource, samplingInterval);
+        }
+
+        @Override
+        public <T> ResourceLeakDetector<T> newResourceLeakDetector(Class<T> resource, int samplingInterval) {
+            return new CountingLeakDetector<>(resource, samplingInterval);
+        }
+    }
+
+    private static final class CountingLeakDetector<T> extends ResourceLeakDetector<T> {
+
+        private CountingLeakDetector(Class<T> resource, int samplingInterval) {
+            super(resource, samplingInterval);
+        }
+
+        // reports even when no logger is bound
+        @Override
+        protected boolean needReport() {
+            return true;
+        }
+
+        @Override
+        protected void reportTracedLeak(String resourceType, String records) {
+            LEAKS.incrementAndGet();
+            System.err.println("LEAK: " + resourceType + records);
+        }
+
+        @Override
+        protected void reportUntracedLeak(String resourceType) {
+            LEAKS.incrementAndGet();
+            System.err.println("LEAK: " + resourceType);
+        }
+    }
+}
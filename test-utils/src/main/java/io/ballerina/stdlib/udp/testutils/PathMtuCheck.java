@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.testutils;
+
+import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.PathMtuConfig;
+import io.ballerina.stdlib.udp.PathMtuHandler;
+import io.ballerina.stdlib.udp.Utils;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.ReferenceCountUtil;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rejects the datagrams written through a {@link PathMtuHandler} with EMSGSIZE, and checks that the MTU of the path
+ * is stepped down through the MTU plateaus to the smallest MTU of the path.
+ */
+public final class PathMtuCheck {
+
+    private static final InetSocketAddress RECIPIENT = new InetSocketAddress("127.0.0.1", 48831);
+    // the IPv4 and UDP headers
+    private static final int HEADERS_SIZE = 28;
+
+    private PathMtuCheck() {}
+
+    public static Object checkPathMtuStepDown() {
+        PathMtuHandler pathMtuHandler = new PathMtuHandler(new PathMtuConfig(1500, TimeUnit.MINUTES.toNanos(10)));
+        EmbeddedChannel channel = new EmbeddedChannel(new MessageTooLongHandler(), pathMtuHandler);
+        try {
+            pathMtuHandler.getFragmentSize(RECIPIENT, Constants.MAX_DATAGRAM_DATA_SIZE);
+            int[] expectedMtus = {1492, 1400, 1280, 576};
+            int size = 8000;
+            for (int expectedMtu : expectedMtus) {
+                channel.writeOneOutbound(new DatagramPacket(Unpooled.wrappedBuffer(new byte[size]), RECIPIENT));
+                int fragmentSize = pathMtuHandler.getFragmentSize(RECIPIENT, Constants.MAX_DATAGRAM_DATA_SIZE);
+                if (fragmentSize != expectedMtu - HEADERS_SIZE) {
+                    return Utils.createUdpError("Expected the MTU to be stepped down to " + expectedMtu
+                            + ", but the fragment size is " + fragmentSize);
+                }
+                size = fragmentSize;
+            }
+            // a datagram sized for an MTU which was already stepped down from does not step down again
+            channel.writeOneOutbound(new DatagramPacket(Unpooled.wrappedBuffer(new byte[1464]), RECIPIENT));
+            if (pathMtuHandler.getStepDowns() != expectedMtus.length) {
+                return Utils.createUdpError("Expected " + expectedMtus.length + " step downs, found "
+                        + pathMtuHandler.getStepDowns());
+            }
+            if (pathMtuHandler.getProbes() != 1) {
+                return Utils.createUdpError("The path was probed again after a step down");
+            }
+            return null;
+        } finally {
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    private static final class MessageTooLongHandler extends ChannelOutboundHandlerAdapter {
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ReferenceCountUtil.release(msg);
+            promise.setFailure(new IOException("Message too long"));
+        }
+    }
+}
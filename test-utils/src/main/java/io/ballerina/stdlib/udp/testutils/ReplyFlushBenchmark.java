@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.testutils;
+
+import io.ballerina.stdlib.udp.ReplyFlushHandler;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.channel.socket.nio.NioDatagramChannel;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.channels.DatagramChannel;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Compares the reply path which calls writeAndFlush for each reply with the {@link ReplyFlushHandler}, while many
+ * virtual threads reply concurrently, as the handlers of a listener do.
+ * <p>
+ * Every writeAndFlush from outside the event loop is a task of its own, which wakes up the selector, and a flush
+ * of its own. The consolidated path needs a task and a flush per drain. The number of flushes reaching the
+ * transport is counted for both. Run with {@code ./gradlew :udp-test-utils:replyFlushBenchmark}.
+ */
+public final class ReplyFlushBenchmark {
+
+    private static final int SENDERS = 64;
+    private static final int REPLIES_PER_SENDER = 2000;
+    private static final byte[] PAYLOAD = new byte[64];
+
+    private ReplyFlushBenchmark() {}
+
+    public static void main(String[] args) throws Exception {
+        int senders = args.length > 0 ? Integer.parseInt(args[0]) : SENDERS;
+        int repliesPerSender = args.length > 1 ? Integer.parseInt(args[1]) : REPLIES_PER_SENDER;
+        EventLoopGroup group = new NioEventLoopGroup(1);
+        try (DatagramChannel sink = DatagramChannel.open()) {
+            sink.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            InetSocketAddress target = (InetSocketAddress) sink.getLocalAddress();
+            // warm up both paths before measuring
+            run(group, target, senders, repliesPerSender, false);
+            run(group, target, senders, repliesPerSender, true);
+            print("writeAndFlush per reply", run(group, target, senders, repliesPerSender, false));
+            print("consolidated flushes", run(group, target, senders, repliesPerSender, true));
+        } finally {
+            group.shutdownGracefully().sync();
+        }
+    }
+
+    private static Result run(EventLoopGroup group, InetSocketAddress target, int senders, int repliesPerSender,
+                              boolean consolidated) throws InterruptedException, IOException {
+        FlushCounter flushCounter = new FlushCounter();
+        ReplyFlushHandler replyFlushHandler = new ReplyFlushHandler(0);
+        Channel channel = new Bootstrap().group(group).channel(NioDatagramChannel.class)
+                .handler(new ChannelInitializer<>() {
+                    @Override
+                    protected void initChannel(Channel ch) {
+                        ch.pipeline().addLast(flushCounter, replyFlushHandler);
+                    }
+                }).bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)).sync().channel();
+
+        int replies = senders * repliesPerSender;
+        CountDownLatch written = new CountDownLatch(replies);
+        long start = System.nanoTime();
+        for (int i = 0; i < senders; i++) {
+            Thread.startVirtualThread(() -> {
+                for (int j = 0; j < repliesPerSender; j++) {
+                    DatagramPacket reply = new DatagramPacket(Unpooled.wrappedBuffer(PAYLOAD), target);
+                    ChannelPromise promise = channel.newPromise();
+                    promise.addListener(future -> written.countDown());
+                    if (consolidated) {
+                        replyFlushHandler.enqueue(reply, promise);
+                    } else {
+                        channel.writeAndFlush(reply, promise);
+                    }
+                }
+            });
+        }
+        if (!written.await(1, TimeUnit.MINUTES)) {
+            throw new IOException("Timed out while waiting for the replies to be written");
+        }
+        long elapsed = System.nanoTime() - start;
+        channel.close().sync();
+        return new Result(replies, flushCounter.flushes.sum(), elapsed);
+    }
+
+    private static void print(String name, Result result) {
+        System.out.printf("%-25s replies: %d, flushes: %d, flushes per reply: %.4f, replies per second: %.0f%n",
+                name, result.replies, result.flushes, (double) result.flushes / result.replies,
+                result.replies / (result.elapsedNanos / 1_000_000_000.0));
+    }
+
+    private static final class FlushCounter extends ChannelOutboundHandlerAdapter {
+
+        private final LongAdder flushes = new LongAdder();
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushes.increment();
+            ctx.flush();
+        }
+    }
+
+    private static final class Result {
+
+        private final long replies;
+        private final long flushes;
+        private final long elapsedNanos;
+
+        private Result(long replies, long flushes, long elapsedNanos) {
+            this.replies = replies;
+            this.flushes = flushes;
+            this.elapsedNanos = elapsedNanos;
+        }
+    }
+}
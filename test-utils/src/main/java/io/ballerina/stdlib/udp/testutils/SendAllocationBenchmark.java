@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.testutils;
+
+import io.ballerina.stdlib.udp.Utils;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+/**
+ * Measures the heap allocated and the bytes copied to build the content of an outgoing datagram, per payload size.
+ * <p>
+ * The copying path is the one the clients, the caller and the dispatcher used before: the Ballerina byte array is
+ * copied by {@code BArray.getBytes()}, wrapped in a heap buffer and copied again into a direct buffer when the
+ * datagram is fragmented. The pooled path copies the bytes once into a pooled direct buffer. The readonly path
+ * wraps the array and pays the single copy when the transport moves the heap buffer into a pooled direct buffer.
+ * Run with {@code ./gradlew :udp-test-utils:sendAllocationBenchmark}.
+ */
+public final class SendAllocationBenchmark {
+
+    private static final int[] PAYLOAD_SIZES = {64, 512, 1472, 8192};
+    private static final int ITERATIONS = 200_000;
+    private static final ByteBufAllocator ALLOCATOR = PooledByteBufAllocator.DEFAULT;
+
+    private SendAllocationBenchmark() {}
+
+    public static void main(String[] args) {
+        int iterations = args.length > 0 ? Integer.parseInt(args[0]) : ITERATIONS;
+        for (int size : PAYLOAD_SIZES) {
+            byte[] payload = new byte[size];
+            Arrays.fill(payload, (byte) 'a');
+            // warm up all the paths before measuring
+            for (Path path : Path.values()) {
+                run(path, payload, iterations);
+            }
+            for (Path path : Path.values()) {
+                print(size, path, run(path, payload, iterations), iterations);
+            }
+        }
+    }
+
+    private static Result run(Path path, byte[] payload, int iterations) {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        long checksum = 0;
+        long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            ByteBuf content = path.send(payload);
+            checksum += content.getByte(content.readerIndex());
+            content.release();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+        return new Result(allocated, elapsed, checksum);
+    }
+
+    private static void print(int size, Path path, Result result, int iterations) {
+        System.out.printf("%6d bytes %-10s copies: %d, heap bytes per send: %8.1f, ns per send: %7.1f%n", size,
+                path.name().toLowerCase(), path.copies, (double) result.allocatedBytes / iterations,
+                (double) result.elapsedNanos / iterations);
+    }
+
+    private enum Path {
+
+        COPYING(2) {
+            @Override
+            ByteBuf send(byte[] payload) {
+                ByteBuf wrapped = Unpooled.wrappedBuffer(Arrays.copyOf(payload, payload.length));
+                ByteBuf fragment = wrapped.readBytes(payload.length);
+                wrapped.release();
+                return fragment;
+            }
+        },
+        POOLED(1) {
+            @Override
+            ByteBuf send(byte[] payload) {
+                return Utils.toByteBuf(payload, payload.length, false, ALLOCATOR);
+            }
+        },
+        READONLY(1) {
+            @Override
+            ByteBuf send(byte[] payload) {
+                ByteBuf wrapped = Utils.toByteBuf(payload, payload.length, true, ALLOCATOR);
+                // what the transport does with a heap buffer before writing it
+                ByteBuf direct = ALLOCATOR.directBuffer(wrapped.readableBytes()).writeBytes(wrapped);
+                wrapped.release();
+                return direct;
+            }
+        };
+
+        private final int copies;
+
+        Path(int copies) {
+            this.copies = copies;
+        }
+
+        abstract ByteBuf send(byte[] payload);
+    }
+
+    private static final class Result {
+
+        private final long allocatedBytes;
+        private final long elapsedNanos;
+        // keeps the reads of the contents alive
+        private final long checksum;
+
+        private Result(long allocatedBytes, long elapsedNanos, long checksum) {
+            this.allocatedBytes = allocatedBytes;
+            this.elapsedNanos = elapsedNanos;
+            this.checksum = checksum;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.stdlib.udp.testutils;
+
+import io.ballerina.runtime.api.concurrent.StrandMetadata;
+import io.ballerina.runtime.observability.ObservabilityConstants;
+import io.ballerina.runtime.observability.ObserverContext;
+import io.ballerina.runtime.observability.metrics.Tag;
+import io.ballerina.stdlib.udp.Constants;
+import io.ballerina.stdlib.udp.DatagramTrace;
+import io.ballerina.stdlib.udp.DatagramTracer;
+import io.ballerina.stdlib.udp.ReplyFlushHandler;
+import io.ballerina.stdlib.udp.TracingConfig;
+import io.ballerina.stdlib.udp.UdpListener;
+import io.ballerina.stdlib.udp.Utils;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.channel.socket.DatagramPacket;
+import io.netty.util.ReferenceCountUtil;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Checks the sampling of the {@link DatagramTracer} and that the trace of a datagram is held open by the replies
+ * sent through the {@code udp:Caller}, until they are flushed.
+ */
+public final class TracingCheck {
+
+    private static final InetSocketAddress LISTENER = new InetSocketAddress("127.0.0.1", 48829);
+    private static final InetSocketAddress SENDER = new InetSocketAddress("127.0.0.1", 48830);
+    private static final int DATAGRAMS = 20000;
+
+    private TracingCheck() {}
+
+    public static Object checkSampling() {
+        DatagramPacket datagram = new DatagramPacket(Unpooled.wrappedBuffer(new byte[16]), LISTENER, SENDER);
+        try {
+            if (countSampled(new DatagramTracer(new TracingConfig(1)), datagram) != DATAGRAMS) {
+                return Utils.createUdpError("Every datagram should be sampled at the sampling rate 1");
+            }
+            // a binomial count with a standard deviation of about 61, so the bounds are never crossed in practice
+            int sampled = countSampled(new DatagramTracer(new TracingConfig(0.25)), datagram);
+            if (sampled < DATAGRAMS / 4 - 600 || sampled > DATAGRAMS / 4 + 600) {
+                return Utils.createUdpError("Sampled " + sampled + " of " + DATAGRAMS
+                        + " datagrams at the sampling rate 0.25");
+            }
+            return null;
+        } finally {
+            datagram.release();
+        }
+    }
+
+    public static Object checkReplyTrace() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.pipeline().addLast(Constants.REPLY_FLUSH_HANDLER, new ReplyFlushHandler(0));
+        DatagramPacket datagram = new DatagramPacket(Unpooled.wrappedBuffer(new byte[16]), LISTENER, SENDER);
+        try {
+            DatagramTrace trace = new DatagramTracer(new TracingConfig(1)).sample(datagram);
+            ObserverContext observerContext = (ObserverContext) trace.getMetadata(new StrandMetadata(true, null))
+                    .properties().get(ObservabilityConstants.KEY_OBSERVER_CONTEXT);
+            if (!hasTag(observerContext, Constants.TAG_SENDER, "127.0.0.1:48830")
+                    || !hasTag(observerContext, Constants.TAG_BYTES, "16")) {
+                return Utils.createUdpError("The trace is not tagged with the sender and the size of the datagram");
+            }
+
+            // the caller queues a reply while the remote method runs, and the method returns before it is flushed
+            trace.dispatched();
+            CompletableFuture<Object> replyFuture = new CompletableFuture<>();
+            UdpListener.send(new DatagramPacket(Unpooled.wrappedBuffer(new byte[8]), SENDER), channel, trace,
+                    replyFuture);
+            trace.handled();
+            if (hasTag(observerContext, Constants.TAG_FLUSHED, null)) {
+                return Utils.createUdpError("The trace was closed before the reply was flushed");
+            }
+
+            channel.runPendingTasks();
+            Object reply = channel.readOutbound();
+            if (!(reply instanceof DatagramPacket) || !SENDER.equals(((DatagramPacket) reply).recipient())) {
+                ReferenceCountUtil.release(reply);
+                return Utils.createUdpError("The reply was not written to the sender");
+            }
+            ReferenceCountUtil.release(reply);
+            if (!replyFuture.isDone() || replyFuture.join() != null) {
+                return Utils.createUdpError("The reply was not completed successfully");
+            }
+            if (!hasTag(observerContext, Constants.TAG_DISPATCHED, null)
+                    || !hasTag(observerContext, Constants.TAG_HANDLED, null)
+                    || !hasTag(observerContext, Constants.TAG_FLUSHED, null)) {
+                return Utils.createUdpError("The trace is not tagged with the phases of the datagram");
+            }
+            return null;
+        } finally {
+            datagram.release();
+            channel.finishAndReleaseAll();
+        }
+    }
+
+    private static int countSampled(DatagramTracer tracer, DatagramPacket datagram) {
+        int sampled = 0;
+        for (int i = 0; i < DATAGRAMS; i++) {
+            if (tracer.sample(datagram) != null) {
+                sampled++;
+            }
+        }
+        return sampled;
+    }
+
+    // any value matches if the expected value is null
+    private static boolean hasTag(ObserverContext observerContext, String key, String value) {
+        for (Tag tag : observerContext.getAllTags()) {
+            if (tag.getKey().equals(key) && (value == null || tag.getValue().equals(value))) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
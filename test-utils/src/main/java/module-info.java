@@ -20,5 +20,9 @@ module io.ballerina.stdlib.udp.testutils {
     requires io.ballerina.runtime;
     requires org.slf4j;
     requires io.ballerina.stdlib.udp;
+    requires io.netty.buffer;
+    requires io.netty.transport;
+    requires io.netty.common;
+    requires jdk.management;
     exports io.ballerina.stdlib.udp.testutils;
 }